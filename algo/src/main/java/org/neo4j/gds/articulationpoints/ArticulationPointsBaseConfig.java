@@ -33,6 +33,11 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public interface ArticulationPointsBaseConfig extends AlgoBaseConfig {
 
+    // Use the parallel biconnectivity algorithm instead of the sequential depth first search
+    default boolean parallel() {
+        return false;
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void requireUndirectedGraph(
         GraphStore graphStore,
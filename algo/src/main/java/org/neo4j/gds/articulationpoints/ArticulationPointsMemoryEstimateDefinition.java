@@ -20,6 +20,7 @@
 package org.neo4j.gds.articulationpoints;
 
 import org.neo4j.gds.bridges.Bridges;
+import org.neo4j.gds.biconnectivity.BiconnectivityMemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.mem.Estimate;
@@ -29,8 +30,22 @@ import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
 
 public class ArticulationPointsMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final boolean parallel;
+
+    public ArticulationPointsMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public ArticulationPointsMemoryEstimateDefinition(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (parallel) {
+            return new BiconnectivityMemoryEstimateDefinition().memoryEstimation();
+        }
 
         var builder = MemoryEstimations.builder(Bridges.class);
         builder
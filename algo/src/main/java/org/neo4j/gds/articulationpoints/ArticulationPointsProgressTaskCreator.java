@@ -24,9 +24,11 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 
 public final class ArticulationPointsProgressTaskCreator {
 
+    public static final String TASK_NAME = "ArticulationPoints";
+
     private ArticulationPointsProgressTaskCreator() {}
 
     public static Task progressTask(long nodeCount) {
-        return Tasks.leaf("ArticulationPoints", nodeCount);
+        return Tasks.leaf(TASK_NAME, nodeCount);
     }
 }
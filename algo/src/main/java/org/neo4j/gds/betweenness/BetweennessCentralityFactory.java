@@ -49,14 +49,14 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
             ? new RandomDegreeSelectionStrategy(samplingSize.get(), samplingSeed)
             : new FullSelectionStrategy();
 
-        ForwardTraverser.Factory traverserFactory = parameters.hasRelationshipWeightProperty()
-            ? ForwardTraverser.Factory.weighted()
-            : ForwardTraverser.Factory.unweighted();
+        BrandesStrategy brandesStrategy = parameters.hasRelationshipWeightProperty()
+            ? BrandesStrategy.weighted()
+            : BrandesStrategy.unweighted();
 
         return new BetweennessCentrality(
             graph,
             strategy,
-            traverserFactory,
+            brandesStrategy,
             DefaultPool.INSTANCE,
             parameters.concurrency(),
             progressTracker,
@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.betweenness;
 
-import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeIntArray;
@@ -48,14 +47,21 @@ public class BetweennessCentralityMemoryEstimateDefinition implements MemoryEsti
             .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
             .perThread(
                 "compute task",
-                bcTaskMemoryEstimationBuilder(hasRelationshipWeightProperty).build()
+                hasRelationshipWeightProperty ? weightedTaskMemoryEstimation() : unweightedTaskMemoryEstimation()
             ).build();
     }
 
+    private static MemoryEstimation unweightedTaskMemoryEstimation() {
+        return MemoryEstimations.builder(UnweightedBrandes.class)
+            .perNode("reached", HugeLongArray::memoryEstimation)
+            .perNode("distances", HugeIntArray::memoryEstimation)
+            .perNode("sigmas", HugeLongArray::memoryEstimation)
+            .perNode("deltas", HugeDoubleArray::memoryEstimation)
+            .build();
+    }
 
-    @NotNull
-    private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
-        var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
+    private static MemoryEstimation weightedTaskMemoryEstimation() {
+        return MemoryEstimations.builder(WeightedBrandes.class)
             .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
                 // Predecessors are represented by LongArrayList which wrap a long[]
                 long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
@@ -65,27 +71,15 @@ public class BetweennessCentralityMemoryEstimateDefinition implements MemoryEsti
             }))
             .perNode("backwardNodes", HugeLongArray::memoryEstimation)
             .perNode("deltas", HugeDoubleArray::memoryEstimation)
-            .perNode("sigmas", HugeLongArray::memoryEstimation);
-
-        if (weighted) {
-            builder.add("ForwardTraverser", MemoryEstimations.setup(
+            .perNode("sigmas", HugeLongArray::memoryEstimation)
+            .add("ForwardTraverser", MemoryEstimations.setup(
                     "traverser",
-                    (dimensions, concurrency) -> MemoryEstimations.builder(ForwardTraverser.class)
+                    (dimensions, concurrency) -> MemoryEstimations.builder(WeightedForwardTraverser.class)
                         .add("nodeQueue", HugeLongPriorityQueue.memoryEstimation())
                         .perNode("visited", Estimate::sizeOfBitset)
                         .build()
                 )
-            );
-        } else {
-            builder.add("ForwardTraverser", MemoryEstimations.setup(
-                    "traverser",
-                    (dimensions, concurrency) -> MemoryEstimations.builder(ForwardTraverser.class)
-                        .perNode("distances", HugeIntArray::memoryEstimation)
-                        .perNode("forwardNodes", HugeLongArray::memoryEstimation)
-                        .build()
-                )
-            );
-        }
-        return builder;
+            )
+            .build();
     }
 }
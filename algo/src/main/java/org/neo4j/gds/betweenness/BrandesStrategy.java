@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+/**
+ * Creates the tasks of {@link BetweennessCentrality}, each task runs Brandes' algorithm
+ * for the sources it takes from the {@link SelectionStrategy} and adds the dependencies to the centrality.
+ */
+public interface BrandesStrategy {
+
+    Runnable create(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        HugeAtomicDoubleArray centrality,
+        double divisor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    );
+
+    static BrandesStrategy weighted() {
+        return WeightedBrandes::new;
+    }
+
+    static BrandesStrategy unweighted() {
+        return UnweightedBrandes::new;
+    }
+}
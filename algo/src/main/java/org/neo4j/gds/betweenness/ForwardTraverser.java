@@ -19,34 +19,9 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
-import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.termination.TerminationFlag;
-import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
-
 public interface ForwardTraverser {
 
     void traverse(long startNodeId);
 
     void clear();
-
-    interface Factory {
-        ForwardTraverser create(
-            Graph graph,
-            HugeObjectArray<LongArrayList> predecessors,
-            HugeLongArrayStack backwardNodes,
-            HugeLongArray sigma,
-            TerminationFlag terminationFlag
-        );
-
-        static Factory weighted() {
-            return WeightedForwardTraverser::create;
-        }
-
-        static Factory unweighted() {
-            return UnweightedForwardTraverser::create;
-        }
-    }
 }
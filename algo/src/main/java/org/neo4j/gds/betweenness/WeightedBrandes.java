@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.function.Consumer;
+
+/**
+ * Brandes' algorithm for weighted graphs, the shortest path DAG is recorded as predecessor lists
+ * by a {@link WeightedForwardTraverser}.
+ */
+final class WeightedBrandes implements Runnable {
+
+    private final SelectionStrategy selectionStrategy;
+    private final HugeAtomicDoubleArray centrality;
+    private final double divisor;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+
+    private final HugeObjectArray<LongArrayList> predecessors;
+    private final HugeCursor<LongArrayList[]> predecessorsCursor;
+    private final HugeLongArrayStack backwardNodes;
+    private final HugeDoubleArray delta;
+    private final HugeLongArray sigma;
+    private final ForwardTraverser forwardTraverser;
+
+    WeightedBrandes(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        HugeAtomicDoubleArray centrality,
+        double divisor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        var nodeCount = graph.nodeCount();
+        this.selectionStrategy = selectionStrategy;
+        this.centrality = centrality;
+        this.divisor = divisor;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
+        this.predecessorsCursor = predecessors.newCursor();
+        this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
+        this.sigma = HugeLongArray.newArray(nodeCount);
+        this.delta = HugeDoubleArray.newArray(nodeCount);
+        this.forwardTraverser = WeightedForwardTraverser.create(
+            graph,
+            predecessors,
+            backwardNodes,
+            sigma,
+            terminationFlag
+        );
+    }
+
+    @Override
+    public void run() {
+        for (;;) {
+            long startNodeId = selectionStrategy.next();
+            if (startNodeId == SelectionStrategy.NONE_SELECTED || !terminationFlag.running()) {
+                return;
+            }
+
+            // reset
+            progressTracker.logProgress();
+
+            clear();
+            forwardTraverser.clear();
+
+            sigma.addTo(startNodeId, 1);
+
+
+            forwardTraverser.traverse(startNodeId);
+
+            while (!backwardNodes.isEmpty()) {
+                long node = backwardNodes.pop();
+                LongArrayList predecessors = this.predecessors.get(node);
+
+                double dependencyNode = delta.get(node);
+                double sigmaNode = sigma.get(node);
+
+                if (null != predecessors) {
+                    predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
+                        double sigmaPredecessor = sigma.get(predecessor.value);
+                        double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
+                        delta.addTo(predecessor.value, dependency);
+                    });
+                }
+                if (node != startNodeId) {
+                    double current;
+                    do {
+                        current = centrality.get(node);
+                    } while (!centrality.compareAndSet(node, current, current + dependencyNode / divisor));
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        sigma.fill(0);
+        delta.fill(0);
+
+        predecessors.initCursor(predecessorsCursor);
+
+        while (predecessorsCursor.next()) {
+            for (int i = predecessorsCursor.offset; i < predecessorsCursor.limit; i++) {
+                if (predecessorsCursor.array[i] != null) {
+                    // We avoid using LongArrayList#clear since it would
+                    // fill the inner array with zeros. We don't need that
+                    // so we just reset the index which is cheaper
+                    predecessorsCursor.array[i].elementsCount = 0;
+                }
+            }
+        }
+    }
+}
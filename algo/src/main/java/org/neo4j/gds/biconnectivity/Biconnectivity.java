@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.biconnectivity;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.bridges.Bridge;
+import org.neo4j.gds.bridges.BridgeResult;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.biconnectivity.BiconnectivityResult.NO_COMPONENT;
+
+/**
+ * Parallel articulation points, bridges and biconnected components of an undirected graph,
+ * following Tarjan and Vishkin.
+ * <p>
+ * The algorithm does not need a depth first search, any rooted spanning forest works:
+ * <ol>
+ *     <li>The connected components are found with a disjoint set struct, and a parallel breadth first search
+ *     from one root per component yields the spanning forest level by level.</li>
+ *     <li>Subtree sizes are summed up level by level and assign every node a preorder number,
+ *     such that each subtree covers a consecutive range.
+ *     For every subtree, {@code low} and {@code high} are the smallest and largest preorder number
+ *     reachable from it by at most one non-tree relationship.</li>
+ *     <li>Tree relationships are joined into biconnected components, if a non-tree relationship connects
+ *     two unrelated subtrees, or if a subtree reaches out of the subtree of its grandparent.</li>
+ * </ol>
+ * A tree relationship is a bridge, iff no non-tree relationship leaves the subtree below it.
+ * A node is an articulation point, iff its tree relationships belong to more than one component.
+ *
+ * https://doi.org/10.1137/0214061 (Tarjan, Vishkin: An Efficient Parallel Biconnectivity Algorithm)
+ */
+public final class Biconnectivity extends Algorithm<BiconnectivityResult> {
+
+    private static final long NO_PARENT = -1L;
+    private static final long UNVISITED = -2L;
+    private static final long UNSET = -1L;
+    private static final int BATCH_SIZE = 64;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final long nodeCount;
+
+    // the spanning forest, nodes are stored in breadth first order
+    private final HugeAtomicLongArray parents;
+    private final HugeLongArray order;
+    private final HugeAtomicLongArray sizes;
+    private final HugeLongArray preorder;
+    private final HugeAtomicLongArray low;
+    private final HugeAtomicLongArray high;
+
+    public static Task progressTask(String taskName, long nodeCount) {
+        return Tasks.task(
+            taskName,
+            Tasks.leaf("Spanning forest", nodeCount),
+            Tasks.leaf("Low and high", nodeCount),
+            Tasks.leaf("Components", nodeCount)
+        );
+    }
+
+    public Biconnectivity(
+        Graph graph,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!graph.characteristics().isUndirected()) {
+            throw new IllegalArgumentException("Biconnectivity requires an undirected graph.");
+        }
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.nodeCount = graph.nodeCount();
+
+        this.parents = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.of(concurrency, index -> UNVISITED));
+        this.order = HugeLongArray.newArray(nodeCount);
+        this.sizes = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.of(concurrency, index -> 1L));
+        this.preorder = HugeLongArray.newArray(nodeCount);
+        this.low = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.high = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public BiconnectivityResult compute() {
+        progressTracker.beginSubTask();
+
+        progressTracker.beginSubTask();
+        var levels = spanningForest();
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        computeSizes(levels);
+        computePreorder(levels);
+        computeLowAndHigh(levels);
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        var components = components();
+        var bridges = bridges();
+        var articulationPoints = articulationPoints(components);
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+        return new BiconnectivityResult(articulationPoints, new BridgeResult(bridges), preorder, components);
+    }
+
+    /**
+     * @return the offsets of the levels in {@link #order}, the last offset is the node count
+     */
+    private LongArrayList spanningForest() {
+        var connectedComponents = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        forEachInParallel(0, nodeCount, (localGraph, start, end) -> {
+            for (long node = start; node < end; node++) {
+                localGraph.forEachRelationship(node, (source, target) -> {
+                    if (source < target) {
+                        connectedComponents.union(source, target);
+                    }
+                    return true;
+                });
+            }
+        });
+
+        // one root per connected component
+        long rootCount = appendLevel(0, nodeCount, node -> node, 0, (localGraph, node, appender) -> {
+            if (connectedComponents.setIdOf(node) == node) {
+                parents.set(node, NO_PARENT);
+                appender.add(node);
+            }
+        });
+
+        var levels = new LongArrayList();
+        levels.add(0);
+        long levelStart = 0;
+        long levelEnd = rootCount;
+        while (levelStart < levelEnd) {
+            levels.add(levelEnd);
+            long appended = appendLevel(levelStart, levelEnd, order::get, levelEnd, (localGraph, node, appender) ->
+                localGraph.forEachRelationship(node, (source, target) -> {
+                    if (parents.get(target) == UNVISITED && parents.compareAndSet(target, UNVISITED, source)) {
+                        appender.add(target);
+                    }
+                    return true;
+                })
+            );
+            progressTracker.logProgress(levelEnd - levelStart);
+            levelStart = levelEnd;
+            levelEnd += appended;
+        }
+        return levels;
+    }
+
+    private void computeSizes(LongArrayList levels) {
+        for (int level = levels.size() - 2; level > 0; level--) {
+            forEachInParallel(levels.get(level), levels.get(level + 1), (localGraph, start, end) -> {
+                for (long index = start; index < end; index++) {
+                    long node = order.get(index);
+                    sizes.getAndAdd(parents.get(node), sizes.get(node));
+                }
+            });
+        }
+    }
+
+    private void computePreorder(LongArrayList levels) {
+        preorder.fill(UNSET);
+        if (levels.size() < 2) {
+            return;
+        }
+
+        // the trees are numbered one after the other
+        long next = 0;
+        for (long index = 0; index < levels.get(1); index++) {
+            long root = order.get(index);
+            preorder.set(root, next);
+            next += sizes.get(root);
+        }
+
+        // every node numbers its children consecutively after itself
+        for (int level = 0; level < levels.size() - 2; level++) {
+            forEachInParallel(levels.get(level), levels.get(level + 1), (localGraph, start, end) -> {
+                for (long index = start; index < end; index++) {
+                    long node = order.get(index);
+                    var childPreorder = new long[]{preorder.get(node) + 1};
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        // parallel relationships visit a child more than once
+                        if (parents.get(target) == source && preorder.get(target) == UNSET) {
+                            preorder.set(target, childPreorder[0]);
+                            childPreorder[0] += sizes.get(target);
+                        }
+                        return true;
+                    });
+                }
+            });
+        }
+    }
+
+    private void computeLowAndHigh(LongArrayList levels) {
+        forEachInParallel(0, nodeCount, (localGraph, start, end) -> {
+            for (long node = start; node < end; node++) {
+                long parent = parents.get(node);
+                var bounds = new long[]{preorder.get(node), preorder.get(node)};
+                var parentSkipped = new boolean[]{parent == NO_PARENT};
+                localGraph.forEachRelationship(node, (source, target) -> {
+                    if (target == source) {
+                        return true;
+                    }
+                    // only one of several parallel relationships to the parent is the tree relationship
+                    if (!parentSkipped[0] && target == parent) {
+                        parentSkipped[0] = true;
+                        return true;
+                    }
+                    long targetPreorder = preorder.get(target);
+                    bounds[0] = Math.min(bounds[0], targetPreorder);
+                    bounds[1] = Math.max(bounds[1], targetPreorder);
+                    return true;
+                });
+                low.set(node, bounds[0]);
+                high.set(node, bounds[1]);
+            }
+            progressTracker.logProgress(end - start);
+        });
+
+        for (int level = levels.size() - 2; level > 0; level--) {
+            forEachInParallel(levels.get(level), levels.get(level + 1), (localGraph, start, end) -> {
+                for (long index = start; index < end; index++) {
+                    long node = order.get(index);
+                    long parent = parents.get(node);
+                    lower(low, parent, low.get(node));
+                    raise(high, parent, high.get(node));
+                }
+            });
+        }
+    }
+
+    private HugeLongArray components() {
+        // every tree relationship is represented by its child node
+        var blocks = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        forEachInParallel(0, nodeCount, (localGraph, start, end) -> {
+            for (long node = start; node < end; node++) {
+                long parent = parents.get(node);
+                if (parent == NO_PARENT) {
+                    continue;
+                }
+
+                // the subtree reaches out of the subtree of the parent, which joins both tree relationships
+                if (parents.get(parent) != NO_PARENT) {
+                    long parentPreorder = preorder.get(parent);
+                    if (low.get(node) < parentPreorder || high.get(node) >= parentPreorder + sizes.get(parent)) {
+                        blocks.union(node, parent);
+                    }
+                }
+
+                // a non-tree relationship between unrelated subtrees closes a cycle through both tree relationships
+                long nodePreorder = preorder.get(node);
+                localGraph.forEachRelationship(node, (source, target) -> {
+                    long targetPreorder = preorder.get(target);
+                    if (targetPreorder < nodePreorder && targetPreorder + sizes.get(target) <= nodePreorder) {
+                        blocks.union(source, target);
+                    }
+                    return true;
+                });
+            }
+        });
+
+        var components = HugeLongArray.newArray(nodeCount);
+        forEachInParallel(0, nodeCount, (localGraph, start, end) -> {
+            for (long node = start; node < end; node++) {
+                components.set(node, parents.get(node) == NO_PARENT ? NO_COMPONENT : blocks.setIdOf(node));
+            }
+            progressTracker.logProgress(end - start);
+        });
+        return components;
+    }
+
+    private ArrayList<Bridge> bridges() {
+        var bridges = new ConcurrentLinkedQueue<Bridge>();
+        forEachInParallel(0, nodeCount, (localGraph, start, end) -> {
+            for (long node = start; node < end; node++) {
+                long parent = parents.get(node);
+                long nodePreorder = preorder.get(node);
+                if (parent != NO_PARENT
+                    && low.get(node) >= nodePreorder
+                    && high.get(node) < nodePreorder + sizes.get(node)) {
+                    bridges.add(Bridge.create(parent, node));
+                }
+            }
+        });
+        return new ArrayList<>(bridges);
+    }
+
+    private BitSet articulationPoints(HugeLongArray components) {
+        var cuts = HugeAtomicBitSet.create(nodeCount);
+        forEachInParallel(0, nodeCount, (localGraph, start, end) -> {
+            for (long node = start; node < end; node++) {
+                long parent = parents.get(node);
+                if (parent == NO_PARENT) {
+                    // a root separates its children, if they belong to different components
+                    var firstComponent = new long[]{NO_COMPONENT};
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        if (parents.get(target) != source) {
+                            return true;
+                        }
+                        long component = components.get(target);
+                        if (firstComponent[0] == NO_COMPONENT) {
+                            firstComponent[0] = component;
+                        } else if (component != firstComponent[0]) {
+                            cuts.set(source);
+                            return false;
+                        }
+                        return true;
+                    });
+                } else if (parents.get(parent) != NO_PARENT && components.get(node) != components.get(parent)) {
+                    cuts.set(parent);
+                }
+            }
+        });
+
+        var articulationPoints = new BitSet(nodeCount);
+        cuts.forEachSetBit(articulationPoints::set);
+        return articulationPoints;
+    }
+
+    private long appendLevel(long from, long to, LongUnaryOperator nodeAt, long offset, Expansion expansion) {
+        var appended = new AtomicLong();
+        forEachInParallel(from, to, (localGraph, start, end) -> {
+            var appender = new OrderAppender(order, offset, appended);
+            for (long index = start; index < end; index++) {
+                expansion.expand(localGraph, nodeAt.applyAsLong(index), appender);
+            }
+            appender.flush();
+        });
+        return appended.get();
+    }
+
+    private void forEachInParallel(long from, long to, RangeConsumer consumer) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            to - from,
+            partition -> (Runnable) () -> consumer.accept(
+                graph.concurrentCopy(),
+                from + partition.startNode(),
+                from + partition.startNode() + partition.nodeCount()
+            ),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private static void lower(HugeAtomicLongArray values, long index, long value) {
+        long current = values.get(index);
+        while (value < current) {
+            long witness = values.compareAndExchange(index, current, value);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    private static void raise(HugeAtomicLongArray values, long index, long value) {
+        long current = values.get(index);
+        while (value > current) {
+            long witness = values.compareAndExchange(index, current, value);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeConsumer {
+        void accept(Graph localGraph, long start, long end);
+    }
+
+    @FunctionalInterface
+    private interface Expansion {
+        void expand(Graph localGraph, long node, OrderAppender appender);
+    }
+
+    /**
+     * Appends nodes to the breadth first order in batches.
+     */
+    private static final class OrderAppender {
+        private final HugeLongArray order;
+        private final long offset;
+        private final AtomicLong appended;
+        private final long[] buffer;
+        private int buffered;
+
+        OrderAppender(HugeLongArray order, long offset, AtomicLong appended) {
+            this.order = order;
+            this.offset = offset;
+            this.appended = appended;
+            this.buffer = new long[BATCH_SIZE];
+        }
+
+        void add(long node) {
+            buffer[buffered++] = node;
+            if (buffered == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            long start = offset + appended.getAndAdd(buffered);
+            for (int i = 0; i < buffered; i++) {
+                order.set(start + i, buffer[i]);
+            }
+            buffered = 0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.biconnectivity;
+
+import org.neo4j.gds.bridges.Bridge;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+public class BiconnectivityMemoryEstimateDefinition implements MemoryEstimateDefinition {
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Biconnectivity.class)
+            .perNode("parents", HugeAtomicLongArray::memoryEstimation)
+            .perNode("order", HugeLongArray::memoryEstimation)
+            .perNode("sizes", HugeAtomicLongArray::memoryEstimation)
+            .perNode("preorder", HugeLongArray::memoryEstimation)
+            .perNode("low", HugeAtomicLongArray::memoryEstimation)
+            .perNode("high", HugeAtomicLongArray::memoryEstimation)
+            .perNode("components", HugeLongArray::memoryEstimation)
+            .add("connected components", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .add("blocks", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .perNode("cuts", HugeAtomicBitSet::memoryEstimation)
+            .perNode("articulationPoints", Estimate::sizeOfBitset)
+            .perNode("bridges", (v) -> v * Estimate.sizeOfInstance(Bridge.class))
+            .build();
+    }
+}
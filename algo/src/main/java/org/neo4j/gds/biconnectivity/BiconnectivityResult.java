@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.biconnectivity;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.bridges.BridgeResult;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+/**
+ * The articulation points, bridges and biconnected components of an undirected graph.
+ * <p>
+ * Every relationship belongs to exactly one biconnected component. It is identified by the relationship's
+ * endpoint which comes later in the preorder of the spanning forest, which is why both arrays are kept.
+ */
+public record BiconnectivityResult(
+    BitSet articulationPoints,
+    BridgeResult bridges,
+    HugeLongArray preorder,
+    HugeLongArray components
+) {
+
+    public static final long NO_COMPONENT = -1L;
+
+    /**
+     * The biconnected component of the relationship between the given nodes,
+     * or {@link #NO_COMPONENT} for self-loops, which do not belong to any component.
+     */
+    public long componentId(long source, long target) {
+        if (source == target) {
+            return NO_COMPONENT;
+        }
+        return preorder.get(source) > preorder.get(target)
+            ? components.get(source)
+            : components.get(target);
+    }
+}
@@ -21,7 +21,7 @@ package org.neo4j.gds.bridges;
 
 public record Bridge(long from, long to) {
 
-    static Bridge create(long from, long to){
+    public static Bridge create(long from, long to){
         return new Bridge(Math.min(from,to), Math.max(from,to));
     }
 }
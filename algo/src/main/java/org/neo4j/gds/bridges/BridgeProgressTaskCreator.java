@@ -24,9 +24,11 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 
 public final class BridgeProgressTaskCreator {
 
+    public static final String TASK_NAME = "Bridges";
+
     private BridgeProgressTaskCreator() {}
 
     public static Task progressTask(long nodeCount) {
-        return Tasks.leaf("Bridges", nodeCount);
+        return Tasks.leaf(TASK_NAME, nodeCount);
     }
 }
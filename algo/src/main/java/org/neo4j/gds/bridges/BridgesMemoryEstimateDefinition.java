@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.bridges;
 
+import org.neo4j.gds.biconnectivity.BiconnectivityMemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.mem.Estimate;
@@ -28,8 +29,22 @@ import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
 
 public class BridgesMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final boolean parallel;
+
+    public BridgesMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public BridgesMemoryEstimateDefinition(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (parallel) {
+            return new BiconnectivityMemoryEstimateDefinition().memoryEstimation();
+        }
 
         var builder = MemoryEstimations.builder(Bridges.class);
         builder
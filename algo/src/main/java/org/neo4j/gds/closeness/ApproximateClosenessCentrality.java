@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.closeness;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.hyperball.HyperBall;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Closeness Centrality based on the farness and component sizes estimated by {@link HyperBall}.
+ */
+public final class ApproximateClosenessCentrality extends Algorithm<ClosenessCentralityResult> {
+
+    private final Graph graph;
+    private final int precision;
+    private final Concurrency concurrency;
+    private final CentralityComputer centralityComputer;
+    private final ExecutorService executorService;
+
+    public static MemoryEstimation memoryEstimation(int precision) {
+        return MemoryEstimations.builder(ApproximateClosenessCentrality.class)
+            .add("hyper ball", HyperBall.memoryEstimation(precision))
+            .perNode("closeness", HugeDoubleArray::memoryEstimation)
+            .build();
+    }
+
+    public ApproximateClosenessCentrality(
+        Graph graph,
+        int precision,
+        Concurrency concurrency,
+        CentralityComputer centralityComputer,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.precision = precision;
+        this.concurrency = concurrency;
+        this.centralityComputer = centralityComputer;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public ClosenessCentralityResult compute() {
+        progressTracker.beginSubTask();
+
+        var hyperBall = new HyperBall(
+            graph,
+            precision,
+            concurrency,
+            executorService,
+            progressTracker,
+            terminationFlag
+        ).compute();
+
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+        var farness = hyperBall.farness();
+        var reachable = hyperBall.reachable();
+        var closeness = HugeDoubleArray.newArray(nodeCount);
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                partition.consume(nodeId -> closeness.set(nodeId, centralityComputer.centrality(
+                    Math.round(farness.get(nodeId)),
+                    Math.round(reachable.get(nodeId))
+                )));
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+
+        ParallelUtil.run(tasks, executorService);
+
+        farness.release();
+        reachable.release();
+        hyperBall.harmonicSum().release();
+
+        progressTracker.endSubTask();
+        progressTracker.endSubTask();
+
+        return new ClosenessCentralityResult(closeness);
+    }
+}
@@ -21,9 +21,10 @@ package org.neo4j.gds.closeness;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.hyperball.HyperBallConfig;
 
 @Configuration
-public interface ClosenessCentralityBaseConfig extends AlgoBaseConfig {
+public interface ClosenessCentralityBaseConfig extends AlgoBaseConfig, HyperBallConfig {
 
     default boolean useWassermanFaust() {
         return false;
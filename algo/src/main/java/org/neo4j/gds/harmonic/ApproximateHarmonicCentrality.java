@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.harmonic;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.hyperball.HyperBall;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Harmonic Centrality based on the inverse distance sums estimated by {@link HyperBall}.
+ */
+public final class ApproximateHarmonicCentrality extends Algorithm<HarmonicResult> {
+
+    private final Graph graph;
+    private final int precision;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+
+    public static MemoryEstimation memoryEstimation(int precision) {
+        return MemoryEstimations.builder(ApproximateHarmonicCentrality.class)
+            .add("hyper ball", HyperBall.memoryEstimation(precision))
+            .perNode("centralities", HugeAtomicDoubleArray::memoryEstimation)
+            .build();
+    }
+
+    public ApproximateHarmonicCentrality(
+        Graph graph,
+        int precision,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.precision = precision;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public HarmonicResult compute() {
+        progressTracker.beginSubTask();
+
+        var hyperBall = new HyperBall(
+            graph,
+            precision,
+            concurrency,
+            executorService,
+            progressTracker,
+            terminationFlag
+        ).compute();
+
+        long nodeCount = graph.nodeCount();
+        var harmonicSum = hyperBall.harmonicSum();
+        var centralities = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> partition.consume(nodeId -> centralities.set(
+                nodeId,
+                harmonicSum.get(nodeId) / (double) (nodeCount - 1)
+            )),
+            Optional.empty()
+        );
+
+        ParallelUtil.run(tasks, executorService);
+
+        harmonicSum.release();
+        hyperBall.farness().release();
+        hyperBall.reachable().release();
+
+        progressTracker.endSubTask();
+
+        return new HarmonicResult(centralities);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfByteArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
+
+/**
+ * Approximates distance based centralities with HyperBall.
+ * <p>
+ * Every node has a HyperLogLog counter for the ball of nodes it can be reached from within {@code t} hops.
+ * In iteration {@code t} the counter of a node becomes the union of its own counter and the counters of the nodes
+ * with a relationship to it. The growth of a ball estimates the number of nodes at distance {@code t},
+ * from which farness and harmonic sums are accumulated. Iterations stop when no counter changes anymore,
+ * so the number of linear passes is bounded by the diameter of the graph.
+ * <p>
+ * The balls are grown over incoming relationships, which requires an undirected or an inverse indexed graph.
+ * <p>
+ * [1] Paolo Boldi, Sebastiano Vigna. "In-Core Computation of Geometric Centralities with HyperBall:
+ * A Hundred Billion Nodes and Beyond", ICDMW 2013.
+ */
+public final class HyperBall extends Algorithm<HyperBallResult> {
+
+    private final Graph graph;
+    private final int precision;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final boolean useInverseRelationships;
+
+    private HyperLogLogCounters current;
+    private HyperLogLogCounters next;
+    private HugeDoubleArray previousEstimates;
+    private HugeDoubleArray farness;
+    private HugeDoubleArray harmonicSum;
+
+    public static Task progressTask(String taskName, long nodeCount) {
+        return Tasks.iterativeOpen(taskName, () -> List.of(Tasks.leaf("Iteration", nodeCount)));
+    }
+
+    public static MemoryEstimation memoryEstimation(int precision) {
+        return MemoryEstimations.builder(HyperBall.class)
+            .perNode("current counters", nodeCount -> HyperLogLogCounters.memoryEstimation(nodeCount, precision))
+            .perNode("next counters", nodeCount -> HyperLogLogCounters.memoryEstimation(nodeCount, precision))
+            .perNode("previous estimates", HugeDoubleArray::memoryEstimation)
+            .perNode("farness", HugeDoubleArray::memoryEstimation)
+            .perNode("harmonic sums", HugeDoubleArray::memoryEstimation)
+            .perNode("reachable", HugeDoubleArray::memoryEstimation)
+            .perThread("ball grower", sizeOfInstance(BallGrower.class) + sizeOfByteArray(1 << precision))
+            .build();
+    }
+
+    public HyperBall(
+        Graph graph,
+        int precision,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "HyperBall requires an undirected graph or relationships projected with `indexInverse: true`.");
+        }
+        this.graph = graph;
+        this.precision = precision;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.useInverseRelationships = !graph.characteristics().isUndirected();
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public HyperBallResult compute() {
+        long nodeCount = graph.nodeCount();
+
+        progressTracker.beginSubTask();
+
+        current = new HyperLogLogCounters(nodeCount, precision);
+        next = new HyperLogLogCounters(nodeCount, precision);
+        previousEstimates = HugeDoubleArray.newArray(nodeCount);
+        farness = HugeDoubleArray.newArray(nodeCount);
+        harmonicSum = HugeDoubleArray.newArray(nodeCount);
+
+        var workers = PartitionUtils.rangePartition(concurrency, nodeCount, BallGrower::new, Optional.empty());
+        workers.forEach(BallGrower::initialize);
+
+        var neighbourhoodFunction = new DoubleArrayList();
+        neighbourhoodFunction.add(workers.stream().mapToDouble(worker -> worker.estimateSum).sum());
+
+        int iteration = 0;
+        boolean changed = nodeCount > 0;
+        while (changed) {
+            iteration++;
+            progressTracker.beginSubTask();
+
+            for (var worker : workers) {
+                worker.distance = iteration;
+            }
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(workers)
+                .terminationFlag(terminationFlag)
+                .executor(executorService)
+                .run();
+
+            changed = workers.stream().anyMatch(worker -> worker.changed);
+            neighbourhoodFunction.add(workers.stream().mapToDouble(worker -> worker.estimateSum).sum());
+
+            var swap = current;
+            current = next;
+            next = swap;
+
+            progressTracker.endSubTask();
+        }
+
+        var reachable = HugeDoubleArray.newArray(nodeCount);
+        reachable.setAll(nodeId -> Math.max(0, previousEstimates.get(nodeId) - 1));
+
+        current.release();
+        next.release();
+        previousEstimates.release();
+
+        progressTracker.endSubTask();
+
+        // the last iteration did not change any ball
+        var nf = neighbourhoodFunction.toArray();
+        return new HyperBallResult(
+            farness,
+            harmonicSum,
+            reachable,
+            nf.length > 1 ? Arrays.copyOf(nf, nf.length - 1) : nf,
+            iteration
+        );
+    }
+
+    private final class BallGrower implements Runnable, RelationshipConsumer {
+
+        private final Partition partition;
+        private final Graph localGraph;
+        private final byte[] buffer;
+
+        private int distance;
+        private boolean changed;
+        private boolean nodeChanged;
+        private double estimateSum;
+
+        BallGrower(Partition partition) {
+            this.partition = partition;
+            this.localGraph = graph.concurrentCopy();
+            this.buffer = new byte[1 << precision];
+        }
+
+        void initialize() {
+            estimateSum = 0;
+            partition.consume(nodeId -> {
+                current.add(nodeId, nodeId);
+                current.read(nodeId, buffer);
+                double estimate = current.estimate(buffer);
+                previousEstimates.set(nodeId, estimate);
+                estimateSum += estimate;
+            });
+        }
+
+        @Override
+        public void run() {
+            changed = false;
+            estimateSum = 0;
+
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                current.read(nodeId, buffer);
+                nodeChanged = false;
+                if (useInverseRelationships) {
+                    localGraph.forEachInverseRelationship(nodeId, this);
+                } else {
+                    localGraph.forEachRelationship(nodeId, this);
+                }
+                next.write(nodeId, buffer);
+
+                double previousEstimate = previousEstimates.get(nodeId);
+                if (nodeChanged) {
+                    changed = true;
+                    double estimate = current.estimate(buffer);
+                    // estimates of growing counters could decrease slightly when switching estimators
+                    double growth = Math.max(0, estimate - previousEstimate);
+                    farness.addTo(nodeId, growth * distance);
+                    harmonicSum.addTo(nodeId, growth / distance);
+                    previousEstimate = Math.max(estimate, previousEstimate);
+                    previousEstimates.set(nodeId, previousEstimate);
+                }
+                estimateSum += previousEstimate;
+            }
+
+            progressTracker.logProgress(partition.nodeCount());
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (current.unionInto(targetNodeId, buffer)) {
+                nodeChanged = true;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+
+/**
+ * All values are estimates and consider the nodes from which a node can be reached.
+ *
+ * @param farness               the sum of the distances to a node
+ * @param harmonicSum           the sum of the inverse distances to a node
+ * @param reachable             the number of other nodes a node can be reached from
+ * @param neighbourhoodFunction the number of node pairs within distance {@code t} at index {@code t}
+ */
+public record HyperBallResult(
+    HugeDoubleArray farness,
+    HugeDoubleArray harmonicSum,
+    HugeDoubleArray reachable,
+    double[] neighbourhoodFunction,
+    int ranIterations
+) {}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import org.neo4j.gds.collections.ha.HugeByteArray;
+import org.neo4j.gds.mem.Estimate;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * One HyperLogLog counter per node, all registers of all counters are stored in a single byte array.
+ * The registers of a counter are contiguous, counter {@code i} occupies {@code [i * m, (i + 1) * m)}
+ * where {@code m = 2^precision} is the number of registers per counter.
+ * <p>
+ * The relative standard error of an estimate is about {@code 1.04 / sqrt(m)}.
+ */
+public final class HyperLogLogCounters {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+    public static final int DEFAULT_PRECISION = 8;
+
+    private final HugeByteArray registers;
+    private final int precision;
+    private final int registerCount;
+    private final double alphaMM;
+
+    public HyperLogLogCounters(long counterCount, int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The HyperLogLog precision must be between %d and %d, but got %d",
+                MIN_PRECISION,
+                MAX_PRECISION,
+                precision
+            ));
+        }
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+        this.registers = HugeByteArray.newArray(counterCount << precision);
+        this.alphaMM = alpha(registerCount) * registerCount * registerCount;
+    }
+
+    public static long memoryEstimation(long counterCount, int precision) {
+        return Estimate.sizeOfInstance(HyperLogLogCounters.class) + HugeByteArray.memoryEstimation(
+            counterCount << precision);
+    }
+
+    public int registerCount() {
+        return registerCount;
+    }
+
+    /**
+     * Adds the element to the counter, elements are hashed internally.
+     */
+    public void add(long counter, long element) {
+        long hash = hash(element);
+        int register = (int) (hash >>> (Long.SIZE - precision));
+        // the position of the first one bit of the remaining hash, bounded by the number of remaining bits
+        int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), Long.SIZE - precision) + 1;
+
+        long index = (counter << precision) + register;
+        if (registers.get(index) < rank) {
+            registers.set(index, (byte) rank);
+        }
+    }
+
+    /**
+     * Copies the registers of the counter into the buffer, which needs to hold {@link #registerCount()} registers.
+     */
+    public void read(long counter, byte[] buffer) {
+        long offset = counter << precision;
+        for (int i = 0; i < registerCount; i++) {
+            buffer[i] = registers.get(offset + i);
+        }
+    }
+
+    public void write(long counter, byte[] buffer) {
+        long offset = counter << precision;
+        for (int i = 0; i < registerCount; i++) {
+            registers.set(offset + i, buffer[i]);
+        }
+    }
+
+    /**
+     * Merges the counter into the buffer, which then counts the union of both.
+     *
+     * @return true if the buffer was changed
+     */
+    public boolean unionInto(long counter, byte[] buffer) {
+        long offset = counter << precision;
+        boolean changed = false;
+        for (int i = 0; i < registerCount; i++) {
+            byte register = registers.get(offset + i);
+            if (register > buffer[i]) {
+                buffer[i] = register;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public double estimate(long counter) {
+        var buffer = new byte[registerCount];
+        read(counter, buffer);
+        return estimate(buffer);
+    }
+
+    /**
+     * Estimates the cardinality of the counter in the buffer.
+     */
+    public double estimate(byte[] buffer) {
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < registerCount; i++) {
+            sum += Math.scalb(1.0, -buffer[i]);
+            if (buffer[i] == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = alphaMM / sum;
+        // small cardinalities are estimated much better by linear counting
+        if (estimate <= 2.5 * registerCount && zeros > 0) {
+            return registerCount * Math.log((double) registerCount / zeros);
+        }
+        return estimate;
+    }
+
+    public long release() {
+        return registers.release();
+    }
+
+    private static double alpha(int registerCount) {
+        switch (registerCount) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1.0 + 1.079 / registerCount);
+        }
+    }
+
+    // SplitMix64 finalizer, consecutive node ids need to be spread over the whole hash space
+    private static long hash(long element) {
+        long z = element + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -25,12 +25,16 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.spanningtree.Boruvka;
 import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.DoubleUnaryOperator;
 
 /**
@@ -41,6 +45,9 @@ import java.util.function.DoubleUnaryOperator;
  * <p>
  * After calculating the MST the algorithm cuts the tree at its k weakest
  * relationships to form k spanning trees
+ * <p>
+ * Optionally, the MST is computed by the parallel {@link Boruvka} algorithm.
+ * Its forest also spans the other components, but only the tree of startNodeId is grown.
  */
 public class KSpanningTree extends Algorithm<SpanningTree> {
 
@@ -48,6 +55,7 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
     private final DoubleUnaryOperator minMax;
     private final long startNodeId;
     private final long k;
+    private final Optional<ParallelSettings> parallelSettings;
 
     public KSpanningTree(
         Graph graph,
@@ -56,6 +64,39 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         long k,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(graph, minMax, startNodeId, k, Optional.empty(), progressTracker, terminationFlag);
+    }
+
+    public KSpanningTree(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        long k,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this(
+            graph,
+            minMax,
+            startNodeId,
+            k,
+            Optional.of(new ParallelSettings(concurrency, executorService)),
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    private KSpanningTree(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        long k,
+        Optional<ParallelSettings> parallelSettings,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -63,6 +104,7 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         this.startNodeId = startNodeId;
 
         this.k = k;
+        this.parallelSettings = parallelSettings;
 
         this.terminationFlag = terminationFlag;
     }
@@ -70,15 +112,25 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
     @Override
     public SpanningTree compute() {
         progressTracker.beginSubTask();
-        Prim prim = new Prim(
-            graph,
-            minMax,
-            startNodeId,
-            progressTracker,
-            terminationFlag
-        );
-
-        SpanningTree spanningTree = prim.compute();
+        Algorithm<SpanningTree> mst = parallelSettings
+            .<Algorithm<SpanningTree>>map(settings -> new Boruvka(
+                graph,
+                minMax,
+                startNodeId,
+                settings.concurrency(),
+                settings.executorService(),
+                progressTracker,
+                terminationFlag
+            ))
+            .orElseGet(() -> new Prim(
+                graph,
+                minMax,
+                startNodeId,
+                progressTracker,
+                terminationFlag
+            ));
+
+        SpanningTree spanningTree = mst.compute();
 
         var outputTree = growApproach(spanningTree);
         progressTracker.endSubTask();
@@ -114,7 +166,8 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         //this approach grows gradually the MST found in the previous step
         //when it is about to get larger than K, we crop the current worst leaf if the new value to be added
         // is actually better
-        if (spanningTree.effectiveNodeCount() < k)
+        // a spanning forest also counts the nodes of other components, growing restricts it to the start node's tree
+        if (parallelSettings.isEmpty() && spanningTree.effectiveNodeCount() < k)
             return spanningTree;
 
         HugeLongArray outDegree = HugeLongArray.newArray(graph.nodeCount());
@@ -241,7 +294,7 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         //post-processing step: anything not touched is reset to -1
         pruneUntouchedNodes(parent, costToParent, included);
         progressTracker.endSubTask();
-        return new SpanningTree(root, graph.nodeCount(), k, parent, costToParent::get, totalCost);
+        return new SpanningTree(root, graph.nodeCount(), included.cardinality(), parent, costToParent::get, totalCost);
 
     }
 
@@ -313,4 +366,5 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         });
     }
 
+    private record ParallelSettings(Concurrency concurrency, ExecutorService executorService) {}
 }
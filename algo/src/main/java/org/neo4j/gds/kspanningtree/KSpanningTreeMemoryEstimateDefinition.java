@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kspanningtree;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.spanningtree.SpanningTreeMemoryEstimateDefinition;
+
+public class KSpanningTreeMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final boolean parallel;
+
+    public KSpanningTreeMemoryEstimateDefinition(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(KSpanningTree.class)
+            .add("Spanning tree", new SpanningTreeMemoryEstimateDefinition(parallel).memoryEstimation())
+            .perNode("outDegree", HugeLongArray::memoryEstimation)
+            .perNode("parent", HugeLongArray::memoryEstimation)
+            .perNode("costToParent", HugeDoubleArray::memoryEstimation)
+            .add("Priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .add("Trimming queue", HugeLongPriorityQueue.memoryEstimation())
+            .perNode("exterior", Estimate::sizeOfBitset)
+            .perNode("rootNodeAdjacent", Estimate::sizeOfBitset)
+            .perNode("included", Estimate::sizeOfBitset)
+            .build();
+    }
+}
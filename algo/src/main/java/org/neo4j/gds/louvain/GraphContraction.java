@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.louvain;
+
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphCharacteristics;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchema;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.HugeGraphBuilder;
+import org.neo4j.gds.core.loading.ArrayIdMap;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.RadixSort;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+
+/**
+ * Contracts every community of a graph into a single node, summing up the weights of all relationships
+ * between two communities.
+ * <p>
+ * The contracted graph is written directly into an uncompressed CSR, without going through
+ * the generic relationship import:
+ * <ol>
+ *     <li>Relationships are bucketed by their source community, using parallel prefix sums over the
+ *     relationship counts per community.</li>
+ *     <li>Each bucket is radix sorted by target community and parallel relationships are summed up.
+ *     Buckets larger than {@link #MAX_SORTED_BUCKET_SIZE} are summed up in a hash map first,
+ *     so that the sort buffers stay bounded.</li>
+ *     <li>The aggregated buckets are copied into adjacency and property pages.</li>
+ * </ol>
+ * Node ids of the contracted graph are ordered by community id, and the community ids are its original ids.
+ */
+final class GraphContraction {
+
+    private static final RelationshipType RELATIONSHIP_TYPE = RelationshipType.of("IGNORED");
+    private static final String PROPERTY_KEY = "property";
+    static final int MAX_SORTED_BUCKET_SIZE = 1 << 12;
+
+    private final Graph workingGraph;
+    private final LongUnaryOperator communityOf;
+    private final long maxCommunityId;
+    private final Direction direction;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+
+    GraphContraction(
+        Graph workingGraph,
+        LongUnaryOperator communityOf,
+        long maxCommunityId,
+        Direction direction,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        this.workingGraph = workingGraph;
+        this.communityOf = communityOf;
+        this.maxCommunityId = maxCommunityId;
+        this.direction = direction;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(GraphContraction.class)
+            .perGraphDimension(
+                "targets",
+                (dimensions, concurrency) -> MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .perGraphDimension(
+                "weights",
+                (dimensions, concurrency) -> MemoryRange.of(HugeDoubleArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .perThread("bucket aggregator", BucketAggregator.memoryEstimation())
+            .build();
+    }
+
+    Graph run() {
+        long nodeCount = workingGraph.nodeCount();
+
+        var idMap = buildIdMap(nodeCount);
+        long communityCount = idMap.nodeCount();
+
+        var nodeCommunities = HugeLongArray.newArray(nodeCount);
+        runInParallel(nodeCount, (start, end) -> {
+            for (long node = start; node < end; node++) {
+                nodeCommunities.set(node, idMap.toMappedNodeId(communityOf.applyAsLong(node)));
+            }
+        });
+
+        terminationFlag.assertRunning();
+
+        // bucket all relationships by their source community
+        var relationshipCounts = HugeAtomicLongArray.of(
+            communityCount,
+            ParalleLongPageCreator.passThrough(concurrency)
+        );
+        runInParallel(nodeCount, (start, end) -> {
+            for (long node = start; node < end; node++) {
+                relationshipCounts.getAndAdd(nodeCommunities.get(node), workingGraph.degree(node));
+            }
+        });
+        var bucketOffsets = prefixSum(relationshipCounts, communityCount);
+        long bucketedCount = bucketOffsets.get(communityCount);
+
+        var bucketPositions = HugeAtomicLongArray.of(
+            communityCount,
+            ParalleLongPageCreator.of(concurrency, bucketOffsets::get)
+        );
+        var targets = HugeLongArray.newArray(bucketedCount);
+        var weights = HugeDoubleArray.newArray(bucketedCount);
+        runInParallel(nodeCount, (start, end) -> {
+            var localGraph = workingGraph.concurrentCopy();
+            var position = new MutableLong();
+            for (long node = start; node < end; node++) {
+                position.setValue(bucketPositions.getAndAdd(nodeCommunities.get(node), localGraph.degree(node)));
+                localGraph.forEachRelationship(node, 1.0, (source, target, weight) -> {
+                    long index = position.getAndIncrement();
+                    targets.set(index, nodeCommunities.get(target));
+                    weights.set(index, weight);
+                    return true;
+                });
+            }
+        });
+
+        terminationFlag.assertRunning();
+
+        // sort every bucket by target community and sum up the weights of parallel relationships
+        var degrees = HugeIntArray.newArray(communityCount);
+        runInParallel(communityCount, (start, end) -> {
+            var aggregator = new BucketAggregator(targets, weights);
+            for (long community = start; community < end; community++) {
+                degrees.set(community, aggregator.aggregate(
+                    bucketOffsets.get(community),
+                    bucketOffsets.get(community + 1)
+                ));
+            }
+        });
+
+        terminationFlag.assertRunning();
+
+        return buildGraph(idMap, degrees, bucketOffsets, targets, weights);
+    }
+
+    private IdMap buildIdMap(long nodeCount) {
+        var communities = HugeAtomicBitSet.create(maxCommunityId + 1);
+        runInParallel(nodeCount, (start, end) -> {
+            for (long node = start; node < end; node++) {
+                communities.set(communityOf.applyAsLong(node));
+            }
+        });
+
+        long communityCount = communities.cardinality();
+        var internalToOriginalIds = HugeLongArray.newArray(communityCount);
+        var originalToInternalIdsBuilder = HugeSparseLongArray.builder(IdMap.NOT_FOUND, maxCommunityId + 1);
+        var nextId = new long[]{0L};
+        communities.forEachSetBit(community -> {
+            internalToOriginalIds.set(nextId[0], community);
+            originalToInternalIdsBuilder.set(community, nextId[0]);
+            nextId[0]++;
+        });
+        var originalToInternalIds = originalToInternalIdsBuilder.build();
+
+        return new ArrayIdMap(
+            internalToOriginalIds,
+            originalToInternalIds,
+            LabelInformationBuilders.allNodes().build(communityCount, originalToInternalIds::get),
+            communityCount,
+            maxCommunityId
+        );
+    }
+
+    private Graph buildGraph(
+        IdMap idMap,
+        HugeIntArray degrees,
+        HugeLongArray bucketOffsets,
+        HugeLongArray targets,
+        HugeDoubleArray weights
+    ) {
+        long communityCount = idMap.nodeCount();
+
+        // every adjacency list has to fit into a single page, larger lists get a page of their own
+        var pageLengths = new IntArrayList();
+        var offsets = HugeLongArray.newArray(communityCount);
+        int currentPage = -1;
+        long relationshipCount = 0;
+        for (long community = 0; community < communityCount; community++) {
+            int degree = degrees.get(community);
+            relationshipCount += degree;
+            if (degree == 0) {
+                continue;
+            }
+            if (degree > BumpAllocator.PAGE_SIZE) {
+                offsets.set(community, (long) pageLengths.size() << BumpAllocator.PAGE_SHIFT);
+                pageLengths.add(degree);
+                continue;
+            }
+            if (currentPage == -1 || pageLengths.get(currentPage) + degree > BumpAllocator.PAGE_SIZE) {
+                currentPage = pageLengths.size();
+                pageLengths.add(0);
+            }
+            offsets.set(community, ((long) currentPage << BumpAllocator.PAGE_SHIFT) | pageLengths.get(currentPage));
+            pageLengths.set(currentPage, pageLengths.get(currentPage) + degree);
+        }
+
+        var targetPages = new long[pageLengths.size()][];
+        var propertyPages = new long[pageLengths.size()][];
+        for (int page = 0; page < pageLengths.size(); page++) {
+            targetPages[page] = new long[pageLengths.get(page)];
+            propertyPages[page] = new long[pageLengths.get(page)];
+        }
+
+        runInParallel(communityCount, (start, end) -> {
+            for (long community = start; community < end; community++) {
+                int degree = degrees.get(community);
+                if (degree == 0) {
+                    continue;
+                }
+                long offset = offsets.get(community);
+                var targetPage = targetPages[pageIndex(offset, BumpAllocator.PAGE_SHIFT)];
+                var propertyPage = propertyPages[pageIndex(offset, BumpAllocator.PAGE_SHIFT)];
+                int indexInPage = indexInPage(offset, BumpAllocator.PAGE_MASK);
+                long bucketStart = bucketOffsets.get(community);
+                for (int i = 0; i < degree; i++) {
+                    targetPage[indexInPage + i] = targets.get(bucketStart + i);
+                    propertyPage[indexInPage + i] = Double.doubleToRawLongBits(weights.get(bucketStart + i));
+                }
+            }
+        });
+
+        var adjacencyList = UncompressedAdjacencyList.of(targetPages, degrees, offsets);
+        var propertyList = UncompressedAdjacencyList.of(propertyPages, degrees, offsets);
+
+        var nodeSchema = MutableNodeSchema.empty();
+        nodeSchema.getOrCreateLabel(NodeLabel.ALL_NODES);
+        var relationshipSchema = MutableRelationshipSchema.empty();
+        relationshipSchema.addProperty(
+            RELATIONSHIP_TYPE,
+            direction,
+            PROPERTY_KEY,
+            ValueType.DOUBLE,
+            PropertyState.TRANSIENT
+        );
+
+        return new HugeGraphBuilder()
+            .nodes(idMap)
+            .schema(MutableGraphSchema.of(nodeSchema, relationshipSchema, Map.of()))
+            .characteristics(GraphCharacteristics.builder().withDirection(direction).build())
+            .nodeProperties(Map.of())
+            .topology(ImmutableTopology.of(adjacencyList, relationshipCount, false))
+            .relationshipProperties(ImmutableProperties.of(
+                propertyList,
+                relationshipCount,
+                DefaultValue.DOUBLE_DEFAULT_FALLBACK
+            ))
+            .build();
+    }
+
+    /**
+     * Exclusive prefix sums of the given counts, with the total at index {@code size}.
+     * Each partition first sums up its own range, then the ranges are offset by the sums of all previous ones.
+     */
+    private HugeLongArray prefixSum(HugeAtomicLongArray counts, long size) {
+        var prefixSums = HugeLongArray.newArray(size + 1);
+        List<Partition> partitions = PartitionUtils.rangePartition(
+            concurrency,
+            size,
+            partition -> partition,
+            Optional.empty()
+        );
+
+        var partitionSums = new long[partitions.size()];
+        runTasks(partitions.size(), index -> {
+            var partition = partitions.get(index);
+            long sum = 0;
+            for (long i = partition.startNode(); i < partition.startNode() + partition.nodeCount(); i++) {
+                sum += counts.get(i);
+            }
+            partitionSums[index] = sum;
+        });
+
+        long total = 0;
+        for (int index = 0; index < partitionSums.length; index++) {
+            long sum = partitionSums[index];
+            partitionSums[index] = total;
+            total += sum;
+        }
+
+        runTasks(partitions.size(), index -> {
+            var partition = partitions.get(index);
+            long sum = partitionSums[index];
+            for (long i = partition.startNode(); i < partition.startNode() + partition.nodeCount(); i++) {
+                prefixSums.set(i, sum);
+                sum += counts.get(i);
+            }
+        });
+        prefixSums.set(size, total);
+
+        return prefixSums;
+    }
+
+    private void runInParallel(long count, RangeTask task) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            count,
+            partition -> (Runnable) () -> task.run(
+                partition.startNode(),
+                partition.startNode() + partition.nodeCount()
+            ),
+            Optional.empty()
+        );
+        run(tasks);
+    }
+
+    private void runTasks(int count, IndexTask task) {
+        var tasks = new ArrayList<Runnable>(count);
+        for (int index = 0; index < count; index++) {
+            int taskIndex = index;
+            tasks.add(() -> task.run(taskIndex));
+        }
+        run(tasks);
+    }
+
+    private void run(List<Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    /**
+     * Sorts a bucket by target with {@link RadixSort} and sums up the weights of equal targets in place.
+     * The buffers are reused across the buckets of one task and hold at most {@link #MAX_SORTED_BUCKET_SIZE} entries,
+     * larger buckets are summed up per target in a hash map, which only grows with the number of distinct targets.
+     */
+    private static final class BucketAggregator {
+
+        private final HugeLongArray targets;
+        private final HugeDoubleArray weights;
+        private final int[] histogram = RadixSort.newHistogram(0);
+
+        // pairs of target and weight bits, as expected by RadixSort
+        private long[] pairs = new long[0];
+        private long[] pairsCopy = new long[0];
+        private long[] unused = new long[0];
+        private long[] unusedCopy = new long[0];
+        private Object[] unusedObjects = new Object[0];
+        private Object[] unusedObjectsCopy = new Object[0];
+
+        static MemoryEstimation memoryEstimation() {
+            return MemoryEstimations.builder(BucketAggregator.class)
+                .fixed("histogram", Estimate.sizeOfIntArray(RadixSort.newHistogram(0).length))
+                .fixed("pairs", 2 * Estimate.sizeOfLongArray(2L * MAX_SORTED_BUCKET_SIZE))
+                .fixed("unused", 2 * Estimate.sizeOfLongArray(MAX_SORTED_BUCKET_SIZE))
+                .fixed("unused objects", 2 * Estimate.sizeOfObjectArray(MAX_SORTED_BUCKET_SIZE))
+                .build();
+        }
+
+        BucketAggregator(HugeLongArray targets, HugeDoubleArray weights) {
+            this.targets = targets;
+            this.weights = weights;
+        }
+
+        int aggregate(long start, long end) {
+            long bucketSize = end - start;
+            if (bucketSize <= 1) {
+                return (int) bucketSize;
+            }
+            if (bucketSize > MAX_SORTED_BUCKET_SIZE) {
+                return aggregateUnsorted(start, end);
+            }
+            int length = (int) bucketSize;
+            ensureCapacity(length);
+
+            for (int i = 0; i < length; i++) {
+                pairs[2 * i] = targets.get(start + i);
+                pairs[2 * i + 1] = Double.doubleToRawLongBits(weights.get(start + i));
+            }
+            RadixSort.radixSort(
+                pairs,
+                pairsCopy,
+                unused,
+                unusedCopy,
+                unusedObjects,
+                unusedObjectsCopy,
+                histogram,
+                2 * length
+            );
+
+            int degree = 0;
+            long previousTarget = -1L;
+            for (int i = 0; i < length; i++) {
+                long target = pairs[2 * i];
+                double weight = Double.longBitsToDouble(pairs[2 * i + 1]);
+                if (target == previousTarget) {
+                    weights.addTo(start + degree - 1, weight);
+                } else {
+                    targets.set(start + degree, target);
+                    weights.set(start + degree, weight);
+                    previousTarget = target;
+                    degree++;
+                }
+            }
+            return degree;
+        }
+
+        private int aggregateUnsorted(long start, long end) {
+            var weightsByTarget = new LongDoubleHashMap();
+            for (long index = start; index < end; index++) {
+                weightsByTarget.addTo(targets.get(index), weights.get(index));
+            }
+
+            var sortedTargets = weightsByTarget.keys().toArray();
+            Arrays.sort(sortedTargets);
+            for (int i = 0; i < sortedTargets.length; i++) {
+                targets.set(start + i, sortedTargets[i]);
+                weights.set(start + i, weightsByTarget.get(sortedTargets[i]));
+            }
+            return sortedTargets.length;
+        }
+
+        private void ensureCapacity(int length) {
+            if (unused.length >= length) {
+                return;
+            }
+            pairs = new long[2 * length];
+            pairsCopy = new long[pairs.length];
+            unused = new long[length];
+            unusedCopy = new long[length];
+            unusedObjects = new Object[length];
+            unusedObjectsCopy = new Object[length];
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeTask {
+        void run(long start, long end);
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run(int index);
+    }
+}
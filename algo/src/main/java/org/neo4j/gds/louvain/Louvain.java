@@ -19,21 +19,17 @@
  */
 package org.neo4j.gds.louvain;
 
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
-import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.algorithms.community.CommunityCompanion;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.loading.construction.GraphFactory;
-import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.OriginalIdNodePropertyValues;
-import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.modularityoptimization.ModularityOptimization;
@@ -43,6 +39,7 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.neo4j.gds.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
 
@@ -66,6 +63,39 @@ public final class Louvain extends Algorithm<LouvainResult> {
 
     private final boolean trackIntermediateCommunities;
 
+    private final boolean prunedLocalMoving;
+
+    private final boolean vertexFollowing;
+
+    // the node every root node was contracted into by vertex following, null if no node was
+    private @Nullable HugeLongArray leaders;
+
+    public Louvain(
+        Graph graph,
+        Concurrency concurrency,
+        int maxIterations,
+        double tolerance,
+        int maxLevels,
+        boolean trackIntermediateCommunities,
+        String seedProperty,
+        ProgressTracker progressTracker,
+        ExecutorService executorService
+    ) {
+        this(
+            graph,
+            concurrency,
+            maxIterations,
+            tolerance,
+            maxLevels,
+            trackIntermediateCommunities,
+            seedProperty,
+            false,
+            false,
+            progressTracker,
+            executorService
+        );
+    }
+
     public Louvain(
         Graph graph,
         Concurrency concurrency,
@@ -74,10 +104,14 @@ public final class Louvain extends Algorithm<LouvainResult> {
         int maxLevels,
         boolean trackIntermediateCommunities,
         String seedProperty,
+        boolean prunedLocalMoving,
+        boolean vertexFollowing,
         ProgressTracker progressTracker,
         ExecutorService executorService
     ) {
         super(progressTracker);
+        this.prunedLocalMoving = prunedLocalMoving;
+        this.vertexFollowing = vertexFollowing;
         this.rootGraph = graph;
         this.maxIterations = maxIterations;
         this.concurrency = concurrency;
@@ -103,9 +137,24 @@ public final class Louvain extends Algorithm<LouvainResult> {
         Graph workingGraph = rootGraph;
         NodePropertyValues nextSeedingValues = seedingValues;
 
+        leaders = seedingValues == null && vertexFollowing && rootGraph.schema().isUndirected()
+            ? vertexFollowingLeaders()
+            : null;
+        if (leaders != null) {
+            workingGraph = new GraphContraction(
+                rootGraph,
+                leaders::get,
+                rootGraph.nodeCount() - 1,
+                rootGraph.schema().direction(),
+                concurrency,
+                executorService,
+                terminationFlag
+            ).run();
+        }
+
         boolean resized = false;
 
-        long oldNodeCount = rootGraph.nodeCount();
+        long oldNodeCount = workingGraph.nodeCount();
         for (ranLevels = 0; ranLevels < maxLevels; ranLevels++) {
 
             terminationFlag.assertRunning();
@@ -174,9 +223,14 @@ public final class Louvain extends Algorithm<LouvainResult> {
     ) {
         AtomicLong maxCommunityId = new AtomicLong(0L);
         ParallelUtil.parallelForEachNode(rootGraph.nodeCount(), concurrency, terminationFlag, nodeId -> {
-            long prevId = level == 0
-                ? nodeId
-                : workingGraph.toMappedNodeId(dendrogramManager.getPrevious(nodeId));
+            long prevId;
+            if (level > 0) {
+                prevId = workingGraph.toMappedNodeId(dendrogramManager.getPrevious(nodeId));
+            } else if (leaders != null) {
+                prevId = workingGraph.toMappedNodeId(leaders.get(nodeId));
+            } else {
+                prevId = nodeId;
+            }
 
             long communityId = modularityOptimizationResult.communityId(prevId);
 
@@ -204,6 +258,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
             seed,
             concurrency,
             DEFAULT_BATCH_SIZE,
+            prunedLocalMoving,
             DefaultPool.INSTANCE,
             progressTracker,
             terminationFlag
@@ -212,54 +267,61 @@ public final class Louvain extends Algorithm<LouvainResult> {
         return modularityOptimization.compute();
     }
 
+    /**
+     * Vertex following: a node with a single neighbour always ends up in the community of that neighbour,
+     * so it is contracted into that neighbour before the first level. Of two nodes that only have each other,
+     * the lower node id leads.
+     *
+     * @return the leader of every node, or {@code null} if no node follows another one
+     */
+    private @Nullable HugeLongArray vertexFollowingLeaders() {
+        var leaders = HugeLongArray.newArray(rootGraph.nodeCount());
+        var followers = new LongAdder();
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            rootGraph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = rootGraph.concurrentCopy();
+                var neighbour = new MutableLong();
+                partition.consume(nodeId -> {
+                    leaders.set(nodeId, nodeId);
+                    if (localGraph.degree(nodeId) != 1) {
+                        return;
+                    }
+                    localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        neighbour.setValue(target);
+                        return false;
+                    });
+                    long target = neighbour.longValue();
+                    if (target != nodeId && (localGraph.degree(target) != 1 || target < nodeId)) {
+                        leaders.set(nodeId, target);
+                        followers.increment();
+                    }
+                });
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executorService);
+
+        return followers.sum() == 0 ? null : leaders;
+    }
+
     private Graph summarizeGraph(
         Graph workingGraph,
         ModularityOptimizationResult modularityOptimizationResult,
         long maxCommunityId
     ) {
-        var nodesBuilder = GraphFactory.initNodesBuilder()
-            .maxOriginalId(maxCommunityId)
-            .concurrency(concurrency)
-            .build();
-
-        terminationFlag.assertRunning();
-
-        workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimizationResult.communityId(nodeId));
-            return true;
-        });
-
         terminationFlag.assertRunning();
 
-        IdMap idMap = nodesBuilder.build().idMap();
-        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
-            .nodes(idMap)
-            .relationshipType(RelationshipType.of("IGNORED"))
-            .orientation(rootGraph.schema().direction().toOrientation())
-            .addPropertyConfig(GraphFactory.PropertyConfig.builder()
-                .propertyKey("property")
-                .aggregation(Aggregation.SUM)
-                .build())
-            .executorService(executorService)
-            .build();
-
-        // using degreePartitioning did not show an improvement -- assuming as tasks are too small
-        var relationshipCreators = PartitionUtils.rangePartition(
+        return new GraphContraction(
+            workingGraph,
+            modularityOptimizationResult::communityId,
+            maxCommunityId,
+            rootGraph.schema().direction(),
             concurrency,
-            workingGraph.nodeCount(),
-            partition ->
-                new RelationshipCreator(
-                    relationshipsBuilder,
-                    modularityOptimizationResult,
-                    workingGraph.concurrentCopy(),
-                    partition
-                ),
-            Optional.empty()
-        );
-
-        ParallelUtil.run(relationshipCreators, executorService);
-
-        return GraphFactory.create(idMap, relationshipsBuilder.build());
+            executorService,
+            terminationFlag
+        ).run();
     }
 
     private boolean hasConverged() {
@@ -275,45 +337,4 @@ public final class Louvain extends Algorithm<LouvainResult> {
     private int levels() {
         return this.ranLevels == 0 ? 1 : this.ranLevels;
     }
-
-    static final class RelationshipCreator implements Runnable {
-
-        private final RelationshipsBuilder relationshipsBuilder;
-
-        private final ModularityOptimizationResult modularityOptimizationResult;
-
-        private final RelationshipIterator relationshipIterator;
-
-        private final Partition partition;
-
-        private RelationshipCreator(
-            RelationshipsBuilder relationshipsBuilder,
-            ModularityOptimizationResult modularityOptimizationResult,
-            RelationshipIterator relationshipIterator,
-            Partition partition
-        ) {
-            this.relationshipsBuilder = relationshipsBuilder;
-            this.modularityOptimizationResult = modularityOptimizationResult;
-            this.relationshipIterator = relationshipIterator;
-            this.partition = partition;
-        }
-
-        @Override
-        public void run() {
-            partition.consume(nodeId -> {
-                long communityId = modularityOptimizationResult.communityId(nodeId);
-                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                    //ignore scaling alltogether
-                        relationshipsBuilder.add(
-                            communityId,
-                            modularityOptimizationResult.communityId(target),
-                            property
-                        );
-
-
-                    return true;
-                });
-            });
-        }
-    }
 }
@@ -40,6 +40,8 @@ public class LouvainAlgorithmFactory<CONFIG extends LouvainBaseConfig> extends G
             parameters.maxLevels(),
             parameters.includeIntermediateCommunities(),
             parameters.seedProperty(),
+            parameters.prunedLocalMoving(),
+            parameters.vertexFollowing(),
             progressTracker,
             DefaultPool.INSTANCE
         );
@@ -55,6 +55,16 @@ public interface LouvainBaseConfig extends
         return false;
     }
 
+    // Only revisit nodes whose neighbourhood changed in the previous iteration
+    default boolean prunedLocalMoving() {
+        return false;
+    }
+
+    // Contract every node with a single neighbour into that neighbour before the first level
+    default boolean vertexFollowing() {
+        return false;
+    }
+
     @Configuration.Check
     default void validate() {
         if (includeIntermediateCommunities() && consecutiveIds()) {
@@ -70,12 +80,19 @@ public interface LouvainBaseConfig extends
             tolerance(),
             maxLevels(),
             includeIntermediateCommunities(),
-            seedProperty()
+            seedProperty(),
+            prunedLocalMoving(),
+            vertexFollowing()
         );
     }
 
     @Configuration.Ignore
     default LouvainMemoryEstimationParameters toMemoryEstimationParameters() {
-        return new LouvainMemoryEstimationParameters(maxLevels(), includeIntermediateCommunities());
+        return new LouvainMemoryEstimationParameters(
+            maxLevels(),
+            includeIntermediateCommunities(),
+            prunedLocalMoving(),
+            vertexFollowing()
+        );
     }
 }
@@ -32,6 +32,7 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
@@ -48,11 +49,13 @@ public class LouvainMemoryEstimateDefinition implements MemoryEstimateDefinition
     @Override
     public MemoryEstimation memoryEstimation() {
         int maxLevels = parameters.maxLevels();
-        return MemoryEstimations.builder(Louvain.class)
+        var builder = MemoryEstimations.builder(Louvain.class)
             .add(
                 "modularityOptimization()",
                 new ModularityOptimizationMemoryEstimateDefinition().memoryEstimation()
             )
+            // the bucketed relationships of one level, before they are copied into the contracted graph
+            .add("graphContraction()", GraphContraction.memoryEstimation())
             .rangePerGraphDimension("subGraph", (graphDimensions, concurrency) -> {
                 ImmutableGraphDimensions.Builder dimensionsBuilder = ImmutableGraphDimensions
                     .builder()
@@ -85,8 +88,17 @@ public class LouvainMemoryEstimateDefinition implements MemoryEstimateDefinition
                 HugeLongArray.memoryEstimation(nodeCount),
                 HugeLongArray.memoryEstimation(nodeCount) * (parameters.includeIntermediateCommunities()
                     ? maxLevels : Math.min(2, maxLevels))
-            ))
-            .build();
+            ));
+
+        if (parameters.prunedLocalMoving()) {
+            // the active nodes of the current and of the next iteration
+            builder.perNode("activeNodes", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount));
+        }
+        if (parameters.vertexFollowing()) {
+            builder.perNode("leaders", HugeLongArray::memoryEstimation);
+        }
+
+        return builder.build();
     }
 
 }
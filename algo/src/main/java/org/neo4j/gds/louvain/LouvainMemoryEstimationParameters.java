@@ -22,5 +22,14 @@ package org.neo4j.gds.louvain;
 import org.neo4j.gds.annotation.Parameters;
 
 @Parameters
-public record LouvainMemoryEstimationParameters(int maxLevels, boolean includeIntermediateCommunities) {
+public record LouvainMemoryEstimationParameters(
+    int maxLevels,
+    boolean includeIntermediateCommunities,
+    boolean prunedLocalMoving,
+    boolean vertexFollowing
+) {
+
+    public LouvainMemoryEstimationParameters(int maxLevels, boolean includeIntermediateCommunities) {
+        this(maxLevels, includeIntermediateCommunities, false, false);
+    }
 }
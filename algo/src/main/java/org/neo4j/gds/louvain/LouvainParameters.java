@@ -30,6 +30,8 @@ public record LouvainParameters(
     double tolerance,
     int maxLevels,
     boolean includeIntermediateCommunities,
-    @Nullable String seedProperty
+    @Nullable String seedProperty,
+    boolean prunedLocalMoving,
+    boolean vertexFollowing
 ) {
 }
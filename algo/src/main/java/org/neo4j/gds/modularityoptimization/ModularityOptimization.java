@@ -33,6 +33,7 @@ import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -58,6 +59,11 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
  * "Parallel heuristics for scalable community detection."
  * Parallel Computing 47 (2015): 19-37.
  * https://arxiv.org/pdf/1410.1237.pdf
+ * <p>
+ * In pruned mode, only nodes whose neighbourhood changed are revisited in the next iteration,
+ * as in the queue based local moving of Leiden:
+ * when a node moves, its neighbours outside of its new community are activated again.
+ * The optimization also stops once no node is active anymore.
  */
 public final class ModularityOptimization extends Algorithm<ModularityOptimizationResult> {
 
@@ -86,6 +92,10 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
 
     private ModularityColorArray modularityColorArray;
 
+    private final boolean pruned;
+    private HugeAtomicBitSet activeNodes;
+    private HugeAtomicBitSet nextActiveNodes;
+
     public ModularityOptimization(
         final Graph graph,
         int maxIterations,
@@ -96,8 +106,35 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         ExecutorService executor,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(
+            graph,
+            maxIterations,
+            tolerance,
+            seedProperty,
+            concurrency,
+            minBatchSize,
+            false,
+            executor,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    public ModularityOptimization(
+        final Graph graph,
+        int maxIterations,
+        double tolerance,
+        @Nullable NodePropertyValues seedProperty,
+        Concurrency concurrency,
+        int minBatchSize,
+        boolean pruned,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
+        this.pruned = pruned;
         this.graph = graph;
         this.nodeCount = graph.nodeCount();
         this.maxIterations = maxIterations;
@@ -146,6 +183,9 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
             }
 
             hasConverged = !updateModularity();
+            if (pruned) {
+                hasConverged |= activateNextNodes();
+            }
 
             progressTracker.endSubTask();
 
@@ -247,6 +287,25 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         totalNodeWeight = initTasks.stream().mapToDouble(InitTask::localSum).sum();
         currentCommunities.copyTo(nextCommunities, nodeCount);
         modularityManager.totalWeight(totalNodeWeight);
+
+        if (pruned) {
+            this.activeNodes = HugeAtomicBitSet.create(nodeCount);
+            this.nextActiveNodes = HugeAtomicBitSet.create(nodeCount);
+            activeNodes.set(0, nodeCount);
+        }
+    }
+
+    /**
+     * Makes the nodes activated during this iteration the active nodes of the next one.
+     *
+     * @return true if no node is active anymore
+     */
+    private boolean activateNextNodes() {
+        var previouslyActive = activeNodes;
+        activeNodes = nextActiveNodes;
+        nextActiveNodes = previouslyActive;
+        nextActiveNodes.clear();
+        return activeNodes.isEmpty();
     }
 
     private static final class InitTask implements Runnable {
@@ -372,6 +431,8 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
                 communityWeightUpdates,
                 modularityManager,
                 modularityColorArray,
+                activeNodes,
+                nextActiveNodes,
                 progressTracker
             ),
             Optional.of(minBatchSize)
@@ -24,10 +24,12 @@ import com.carrotsearch.hppc.LongDoubleMap;
 import com.carrotsearch.hppc.cursors.LongDoubleCursor;
 import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -46,6 +48,10 @@ final class ModularityOptimizationTask implements Runnable {
 
     private final ModularityColorArray modularityColorArray;
 
+    // only set in pruned mode
+    private final @Nullable HugeAtomicBitSet activeNodes;
+    private final @Nullable HugeAtomicBitSet nextActiveNodes;
+
     ModularityOptimizationTask(
         Graph graph,
         Partition partition,
@@ -57,9 +63,13 @@ final class ModularityOptimizationTask implements Runnable {
         HugeAtomicDoubleArray communityWeightUpdates,
         ModularityManager modularityManager,
         ModularityColorArray modularityColorArray,
+        @Nullable HugeAtomicBitSet activeNodes,
+        @Nullable HugeAtomicBitSet nextActiveNodes,
         ProgressTracker progressTracker
     ) {
         this.modularityColorArray = modularityColorArray;
+        this.activeNodes = activeNodes;
+        this.nextActiveNodes = nextActiveNodes;
         this.partition = partition;
         this.currentStartingPosition = currentStartingPosition;
         this.localGraph = graph.concurrentCopy();
@@ -83,6 +93,11 @@ final class ModularityOptimizationTask implements Runnable {
             long currentCommunity = currentCommunities.get(nodeId);
             final int degree = localGraph.degree(nodeId);
 
+            if (activeNodes != null && !activeNodes.get(nodeId)) {
+                relationshipsProcessed.add(degree);
+                return;
+            }
+
             LongDoubleMap communityInfluences;
             if (degree < 50) {
                 reuseCommunityInfluences.clear();
@@ -137,6 +152,16 @@ final class ModularityOptimizationTask implements Runnable {
             communityWeightUpdates.update(currentCommunity, agg -> agg - cumulativeNodeWeight);
             communityWeightUpdates.update(nextCommunity, agg -> agg + cumulativeNodeWeight);
 
+            if (nextActiveNodes != null && nextCommunity != currentCommunity) {
+                long movedTo = nextCommunity;
+                localGraph.forEachRelationship(nodeId, (s, t) -> {
+                    if (s != t && currentCommunities.get(t) != movedTo) {
+                        nextActiveNodes.set(t);
+                    }
+                    return true;
+                });
+            }
+
             relationshipsProcessed.add(degree);
         });
 
@@ -21,11 +21,14 @@ package org.neo4j.gds.pagerank;
 
 import com.carrotsearch.hppc.LongScatterSet;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelComputation;
+import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
@@ -40,6 +43,7 @@ import java.util.function.LongToDoubleFunction;
 
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.ARTICLE_RANK;
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.EIGENVECTOR;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends GraphAlgorithmFactory<PageRankAlgorithm, CONFIG> {
 
@@ -55,6 +59,25 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
         return (double) degreeSum.sum() / graph.nodeCount();
     }
 
+    /**
+     * Resolves the scores to warm-start from. Only PageRank supports seeding,
+     * as the residual propagation relies on its linear update rule.
+     */
+    public static @Nullable NodePropertyValues seedValues(Graph graph, PageRankConfig configuration, Mode mode) {
+        var seedProperty = configuration.seedProperty();
+        if (seedProperty == null) {
+            return null;
+        }
+        if (mode != Mode.PAGE_RANK) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` parameter is not supported by %s.",
+                SeedConfig.SEED_PROPERTY_KEY,
+                mode.taskName()
+            ));
+        }
+        return graph.nodeProperties(seedProperty);
+    }
+
     public enum Mode {
         PAGE_RANK("PageRank"),
         ARTICLE_RANK("ArticleRank"),
@@ -94,6 +117,8 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
     ) {
         PregelComputation<PageRankConfig> computation;
 
+        var seedValues = seedValues(graph, configuration, mode);
+
         var degreeFunction = degreeFunction(
             graph,
             configuration
@@ -119,7 +144,7 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
 
             computation = new EigenvectorComputation(graph.nodeCount(), configuration, mappedSourceNodes, degreeFunction);
         } else {
-            computation = new PageRankComputation(configuration, mappedSourceNodes, degreeFunction);
+            computation = new PageRankComputation(configuration, mappedSourceNodes, degreeFunction, seedValues);
         }
 
         return new PageRankAlgorithm(
@@ -20,8 +20,10 @@
 package org.neo4j.gds.pagerank;
 
 import com.carrotsearch.hppc.LongSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.beta.pregel.Messages;
 import org.neo4j.gds.beta.pregel.PregelComputation;
 import org.neo4j.gds.beta.pregel.PregelSchema;
@@ -39,6 +41,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     private final boolean hasSourceNodes;
     private final LongSet sourceNodes;
     private final LongToDoubleFunction degreeFunction;
+    private final @Nullable NodePropertyValues seedValues;
 
     private final double dampingFactor;
     private final double tolerance;
@@ -48,6 +51,23 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         PageRankConfig config,
         LongSet sourceNodes,
         LongToDoubleFunction degreeFunction
+    ) {
+        this(config, sourceNodes, degreeFunction, null);
+    }
+
+    /**
+     * Creates a computation that warm-starts from previously computed scores.
+     * Instead of propagating the full rank from the initial value, the ranks
+     * are seeded from {@code seedValues} and only the residuals between the
+     * seeded and the recomputed ranks are pushed to the neighbours. Nodes whose
+     * score did not change by more than the tolerance stay silent, which makes
+     * the computation converge within a few supersteps after small graph changes.
+     */
+    public PageRankComputation(
+        PageRankConfig config,
+        LongSet sourceNodes,
+        LongToDoubleFunction degreeFunction,
+        @Nullable NodePropertyValues seedValues
     ) {
         this.dampingFactor = config.dampingFactor();
         this.tolerance = config.tolerance();
@@ -55,6 +75,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
         this.degreeFunction = degreeFunction;
+        this.seedValues = seedValues;
     }
 
     @Override
@@ -64,18 +85,33 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        context.setNodeValue(PAGE_RANK, seedValue(context.nodeId()));
     }
 
-    private double initialValue(InitContext<PageRankConfig> context) {
-        if (!hasSourceNodes || sourceNodes.contains(context.nodeId())) {
+    private double initialValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
             return alpha;
         }
         return 0;
     }
 
+    private double seedValue(long nodeId) {
+        if (seedValues != null) {
+            double seed = seedValues.doubleValue(nodeId);
+            if (!Double.isNaN(seed)) {
+                return seed;
+            }
+        }
+        return initialValue(nodeId);
+    }
+
     @Override
     public void compute(ComputeContext<PageRankConfig> context, Messages messages) {
+        if (seedValues != null) {
+            computeResidual(context, messages);
+            return;
+        }
+
         double rank = context.doubleNodeValue(PAGE_RANK);
         double delta = rank;
 
@@ -98,6 +134,40 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         }
     }
 
+    private void computeResidual(ComputeContext<PageRankConfig> context, Messages messages) {
+        double rank = context.doubleNodeValue(PAGE_RANK);
+        double delta = rank;
+
+        if (context.superstep() == 1) {
+            // recompute the rank from the seeded neighbour ranks,
+            // the difference to the seed is the residual to propagate
+            double newRank = initialValue(context.nodeId()) + dampingFactor * sum(messages);
+            delta = newRank - rank;
+            context.setNodeValue(PAGE_RANK, newRank);
+        } else if (!context.isInitialSuperstep()) {
+            delta = dampingFactor * sum(messages);
+            context.setNodeValue(PAGE_RANK, rank + delta);
+        }
+
+        // residuals can be negative if a node lost incoming rank
+        if (context.isInitialSuperstep() || Math.abs(delta) > tolerance) {
+            var degree = degreeFunction.applyAsDouble(context.nodeId());
+            if (degree > 0) {
+                context.sendToNeighbors(delta / degree);
+            }
+        } else {
+            context.voteToHalt();
+        }
+    }
+
+    private static double sum(Messages messages) {
+        double sum = 0;
+        for (var message : messages) {
+            sum += message;
+        }
+        return sum;
+    }
+
     @Override
     public Optional<Reducer> reducer() {
         return Optional.of(new Reducer.Sum());
@@ -22,6 +22,7 @@ package org.neo4j.gds.pagerank;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.beta.pregel.Partitioning;
 import org.neo4j.gds.beta.pregel.PregelConfig;
+import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.config.SourceNodesConfig;
 import org.neo4j.gds.config.ToleranceConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -32,7 +33,8 @@ import org.neo4j.gds.scaling.ScalerFactory;
 public interface PageRankConfig extends
     PregelConfig,
     ToleranceConfig,
-    SourceNodesConfig
+    SourceNodesConfig,
+    SeedConfig
 {
     @Override
     @Configuration.DoubleRange(min = 0D)
@@ -62,29 +62,20 @@ public final class AStar extends Algorithm<PathFindingResult> {
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
-        var latitudeProperty = config.latitudeProperty();
-        var longitudeProperty = config.longitudeProperty();
-
-        if (!graph.availableNodeProperties().contains(latitudeProperty)) {
-            throw new IllegalArgumentException(formatWithLocale(
-                "The property `%s` has not been loaded",
-                latitudeProperty
-            ));
-        }
-        if (!graph.availableNodeProperties().contains(longitudeProperty)) {
-            throw new IllegalArgumentException(formatWithLocale(
-                "The property `%s` has not been loaded",
-                longitudeProperty
-            ));
-        }
-
-        var latitudeProperties = graph.nodeProperties(latitudeProperty);
-        var longitudeProperties = graph.nodeProperties(longitudeProperty);
-
         var sourceNode = graph.toMappedNodeId(config.sourceNode());
         var targetNode = graph.toMappedNodeId(config.targetNode());
 
-        var heuristic = new HaversineHeuristic(latitudeProperties, longitudeProperties, targetNode);
+        Dijkstra.HeuristicFunction heuristic = config.landmarkProperty().isPresent()
+            ? new LandmarkHeuristic(
+                loadedNodeProperty(graph, config.landmarkProperty().get()),
+                targetNode,
+                graph.characteristics().isUndirected()
+            )
+            : new HaversineHeuristic(
+                loadedNodeProperty(graph, config.latitudeProperty().orElseThrow()),
+                loadedNodeProperty(graph, config.longitudeProperty().orElseThrow()),
+                targetNode
+            );
 
         // Init dijkstra algorithm for computing shortest paths
         var dijkstra = new Dijkstra(
@@ -92,19 +83,65 @@ public final class AStar extends Algorithm<PathFindingResult> {
             sourceNode,
             new SingleTarget(targetNode),
             false,
-            Optional.of(heuristic),
+            config.searchQueue().pooledSearchState(graph.nodeCount(), Optional.of(heuristic)),
             progressTracker,
             terminationFlag
         );
         return new AStar(dijkstra, terminationFlag);
     }
 
-    
+    private static NodePropertyValues loadedNodeProperty(Graph graph, String property) {
+        if (!graph.availableNodeProperties().contains(property)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded",
+                property
+            ));
+        }
+        return graph.nodeProperties(property);
+    }
+
     @Override
     public PathFindingResult compute() {
         return dijkstra.compute();
     }
 
+    /**
+     * Lower bounds the distance to the target with the triangle inequality over precomputed landmark distances.
+     * For a landmark {@code L}, {@code d(L, t) - d(L, v) <= d(v, t)} holds in any graph.
+     * In undirected graphs {@code d(L, v) - d(L, t) <= d(v, t)} holds as well.
+     * Landmarks that cannot reach {@code v} or {@code t} contribute no bound.
+     */
+    public static class LandmarkHeuristic implements Dijkstra.HeuristicFunction {
+
+        private final NodePropertyValues landmarkDistances;
+        private final double[] targetDistances;
+        private final boolean undirected;
+
+        LandmarkHeuristic(NodePropertyValues landmarkDistances, long targetNode, boolean undirected) {
+            this.landmarkDistances = landmarkDistances;
+            this.targetDistances = landmarkDistances.doubleArrayValue(targetNode);
+            this.undirected = undirected;
+        }
+
+        @Override
+        public double applyAsDouble(long node) {
+            var distances = landmarkDistances.doubleArrayValue(node);
+            double bound = 0;
+            for (int i = 0; i < targetDistances.length; i++) {
+                double toTarget = targetDistances[i];
+                double toNode = distances[i];
+                if (Double.isInfinite(toTarget) || Double.isInfinite(toNode)) {
+                    continue;
+                }
+                bound = Math.max(bound, toTarget - toNode);
+                if (undirected) {
+                    bound = Math.max(bound, toNode - toTarget);
+                }
+            }
+            return bound;
+        }
+    }
+
     public static class HaversineHeuristic implements Dijkstra.HeuristicFunction {
 
         static final double DEFAULT_DISTANCE = Double.NaN;
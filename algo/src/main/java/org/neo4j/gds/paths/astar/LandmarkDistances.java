@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.astar;
+
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+
+/**
+ * The distances from every landmark to every node, unreachable nodes have an infinite distance.
+ * The i-th entry of the array of a node belongs to the i-th landmark.
+ */
+public record LandmarkDistances(long[] landmarks, HugeObjectArray<double[]> distances) {
+
+    /**
+     * The distances as node property values, to be stored as a node property
+     * and passed to A* as {@code landmarkProperty}.
+     */
+    public DoubleArrayNodePropertyValues nodePropertyValues() {
+        return new DoubleArrayNodePropertyValues() {
+            @Override
+            public long nodeCount() {
+                return distances.size();
+            }
+
+            @Override
+            public double[] doubleArrayValue(long nodeId) {
+                return distances.get(nodeId);
+            }
+        };
+    }
+}
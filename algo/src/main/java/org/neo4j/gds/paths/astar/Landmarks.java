@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.astar;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.paths.delta.DeltaStepping;
+import org.neo4j.gds.paths.delta.TentativeDistances;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Selects landmarks by farthest point sampling and computes the distances from each of them to all nodes.
+ * <p>
+ * A first search from an arbitrary node finds the first landmark, the node farthest away from it.
+ * Every further landmark is the node farthest away from all landmarks chosen so far,
+ * where nodes that no landmark reaches count as the farthest, so that every component gets a landmark.
+ * Each search is a parallel Delta-Stepping with an adaptive bucket width.
+ * <p>
+ * The distances serve as A* heuristic on graphs without coordinates, see {@link AStar.LandmarkHeuristic}.
+ * <p>
+ * [1] Andrew V. Goldberg, Chris Harrelson. "Computing the Shortest Path: A* Search Meets Graph Theory", SODA 2005.
+ */
+public final class Landmarks extends Algorithm<LandmarkDistances> {
+
+    private final Graph graph;
+    private final int landmarkCount;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+
+    public static Task progressTask(int landmarkCount) {
+        // one additional search to find the first landmark
+        var searches = IntStream
+            .rangeClosed(0, landmarkCount)
+            .mapToObj(search -> DeltaStepping.progressTask("Search"))
+            .collect(Collectors.toList());
+        return Tasks.task("Landmarks", searches);
+    }
+
+    public Landmarks(
+        Graph graph,
+        int landmarkCount,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (landmarkCount < 1 || landmarkCount > graph.nodeCount()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of landmarks must be between 1 and the number of nodes %d, but was %d.",
+                graph.nodeCount(),
+                landmarkCount
+            ));
+        }
+        this.graph = graph;
+        this.landmarkCount = landmarkCount;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public LandmarkDistances compute() {
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+        var distances = HugeObjectArray.newArray(double[].class, nodeCount);
+        distances.setAll(nodeId -> new double[landmarkCount]);
+        // distance to the closest landmark, or to the initial node before the first landmark has been chosen
+        var closestDistances = HugeDoubleArray.newArray(nodeCount);
+
+        var initialDistances = distancesFrom(0);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            terminationFlag,
+            nodeId -> closestDistances.set(nodeId, initialDistances.distance(nodeId))
+        );
+
+        var landmarks = new long[landmarkCount];
+        for (int i = 0; i < landmarkCount; i++) {
+            terminationFlag.assertRunning();
+
+            long landmark = farthestNode(closestDistances);
+            landmarks[i] = landmark;
+
+            var landmarkDistances = distancesFrom(landmark);
+            int landmarkIndex = i;
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+                double distance = landmarkDistances.distance(nodeId);
+                distances.get(nodeId)[landmarkIndex] = distance;
+                if (landmarkIndex == 0 || distance < closestDistances.get(nodeId)) {
+                    closestDistances.set(nodeId, distance);
+                }
+            });
+        }
+
+        closestDistances.release();
+        progressTracker.endSubTask();
+
+        return new LandmarkDistances(landmarks, distances);
+    }
+
+    private Distances distancesFrom(long startNode) {
+        if (graph.relationshipCount() == 0) {
+            progressTracker.beginSubTask();
+            progressTracker.endSubTask();
+            return nodeId -> nodeId == startNode ? 0 : Double.POSITIVE_INFINITY;
+        }
+        var tentativeDistances = DeltaStepping
+            .distancesFrom(graph, startNode, concurrency, executorService, progressTracker, terminationFlag)
+            .computeDistances();
+        return nodeId -> {
+            double distance = tentativeDistances.distance(nodeId);
+            return distance == TentativeDistances.DIST_INF ? Double.POSITIVE_INFINITY : distance;
+        };
+    }
+
+    private static long farthestNode(HugeDoubleArray closestDistances) {
+        long farthestNode = 0;
+        double farthestDistance = -1;
+        for (long nodeId = 0; nodeId < closestDistances.size(); nodeId++) {
+            double distance = closestDistances.get(nodeId);
+            if (distance > farthestDistance) {
+                farthestNode = nodeId;
+                farthestDistance = distance;
+            }
+        }
+        return farthestNode;
+    }
+
+    @FunctionalInterface
+    private interface Distances {
+        double distance(long nodeId);
+    }
+}
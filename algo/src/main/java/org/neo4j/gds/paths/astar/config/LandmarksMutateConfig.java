@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.astar.config;
+
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.MutateNodePropertyConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+/**
+ * Stores the distances computed by {@link org.neo4j.gds.paths.astar.Landmarks} as a node property,
+ * to be passed to A* as {@code landmarkProperty}.
+ */
+@Configuration
+public interface LandmarksMutateConfig extends RelationshipWeightConfig, MutateNodePropertyConfig {
+
+    @Configuration.IntegerRange(min = 1)
+    default int landmarkCount() {
+        return 16;
+    }
+
+    static LandmarksMutateConfig of(CypherMapWrapper userInput) {
+        return new LandmarksMutateConfigImpl(userInput);
+    }
+}
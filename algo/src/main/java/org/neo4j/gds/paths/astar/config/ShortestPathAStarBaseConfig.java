@@ -19,20 +19,117 @@
  */
 package org.neo4j.gds.paths.astar.config;
 
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.config.SourceNodeConfig;
 import org.neo4j.gds.config.TargetNodeConfig;
+import org.neo4j.gds.paths.contraction.ContractionHierarchyConfig;
+import org.neo4j.gds.paths.dijkstra.config.SearchQueueConfig;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public interface ShortestPathAStarBaseConfig extends TargetNodeConfig,
     AlgoBaseConfig,
     SourceNodeConfig,
-    RelationshipWeightConfig {
+    RelationshipWeightConfig,
+    SearchQueueConfig,
+    ContractionHierarchyConfig {
 
     String LONGITUDE_PROPERTY_KEY = "longitudeProperty";
     String LATITUDE_PROPERTY_KEY = "latitudeProperty";
+    String LANDMARK_PROPERTY_KEY = "landmarkProperty";
+
+    Optional<String> longitudeProperty();
+
+    Optional<String> latitudeProperty();
+
+    /**
+     * A node array property holding the distances from a set of landmarks, as computed by
+     * {@link org.neo4j.gds.paths.astar.Landmarks}. If given, it replaces the haversine heuristic.
+     */
+    Optional<String> landmarkProperty();
+
+    @Configuration.Check
+    default void validateHeuristicProperties() {
+        boolean coordinates = latitudeProperty().isPresent() && longitudeProperty().isPresent();
+        if (landmarkProperty().isEmpty() && !coordinates) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Either `%s` or both `%s` and `%s` must be specified",
+                LANDMARK_PROPERTY_KEY,
+                LATITUDE_PROPERTY_KEY,
+                LONGITUDE_PROPERTY_KEY
+            ));
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateLandmarkProperty(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (landmarkProperty().isEmpty()) {
+            return;
+        }
+        var landmarkProperty = landmarkProperty().get();
+        if (!graphStore.hasNodeProperty(selectedLabels, landmarkProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` `%s` is not present for all requested labels.",
+                LANDMARK_PROPERTY_KEY,
+                landmarkProperty
+            ));
+        }
 
-    String longitudeProperty();
+        var values = graphStore.nodeProperty(landmarkProperty).values();
+        if (values.valueType() != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` `%s` must hold values of type [%s], but holds [%s].",
+                LANDMARK_PROPERTY_KEY,
+                landmarkProperty,
+                ValueType.DOUBLE_ARRAY.cypherName(),
+                values.valueType().cypherName()
+            ));
+        }
 
-    String latitudeProperty();
+        // the heuristic compares the distances of two nodes entry by entry
+        var nodes = graphStore.nodes();
+        int landmarkCount = -1;
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            long node = nodeId;
+            if (selectedLabels.stream().noneMatch(label -> nodes.hasLabel(node, label))) {
+                continue;
+            }
+            var distances = values.doubleArrayValue(nodeId);
+            int length = distances == null ? 0 : distances.length;
+            if (length == 0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The `%s` `%s` has no distances for node %d.",
+                    LANDMARK_PROPERTY_KEY,
+                    landmarkProperty,
+                    nodes.toOriginalNodeId(nodeId)
+                ));
+            }
+            if (landmarkCount == -1) {
+                landmarkCount = length;
+            } else if (length != landmarkCount) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The `%s` `%s` must hold the same number of distances for every node, " +
+                    "but node %d has %d distances instead of %d.",
+                    LANDMARK_PROPERTY_KEY,
+                    landmarkProperty,
+                    nodes.toOriginalNodeId(nodeId),
+                    length,
+                    landmarkCount
+                ));
+            }
+        }
+    }
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.paths.dijkstra.SearchQueue;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Preprocesses a graph into a {@link ContractionHierarchy}.
+ * <p>
+ * Nodes are contracted one at a time, least important first. Contracting a node removes it from the graph
+ * and adds a shortcut between two of its neighbours whenever the path through the node is the only
+ * shortest path between them. A bounded local Dijkstra search, the witness search, looks for other paths.
+ * When it gives up early, an unnecessary shortcut is added, which costs space but never correctness.
+ * <p>
+ * The importance of a node is its edge difference, the number of shortcuts its contraction would add
+ * minus the number of relationships it removes, plus the number of neighbours contracted before it.
+ * Initial importances are computed in parallel and updated lazily when a node reaches the top of the queue.
+ * <p>
+ * [1] Robert Geisberger, Peter Sanders, Dominik Schultes, Daniel Delling.
+ * "Contraction Hierarchies: Faster and Simpler Hierarchical Routing in Road Networks", WEA 2008.
+ */
+public final class ContractionHierarchies extends Algorithm<ContractionHierarchy> {
+
+    public static final int DEFAULT_WITNESS_SEARCH_LIMIT = 64;
+
+    private final Graph graph;
+    private final int witnessSearchLimit;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+
+    private HugeObjectArray<OverlayEdges> outgoing;
+    private HugeObjectArray<OverlayEdges> incoming;
+    private HugeIntArray contractedNeighbours;
+
+    public static Task progressTask(long nodeCount) {
+        return Tasks.task(
+            "ContractionHierarchies",
+            Tasks.leaf("Load relationships", nodeCount),
+            Tasks.leaf("Order nodes", nodeCount),
+            Tasks.leaf("Contract nodes", nodeCount)
+        );
+    }
+
+    /**
+     * @param witnessSearchLimit the maximum number of nodes a single witness search settles
+     */
+    public ContractionHierarchies(
+        Graph graph,
+        int witnessSearchLimit,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.witnessSearchLimit = witnessSearchLimit;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public ContractionHierarchy compute() {
+        progressTracker.beginSubTask();
+
+        loadRelationships();
+
+        var queue = HugeLongPriorityQueue.min(graph.nodeCount());
+        orderNodes(queue);
+        contractNodes(queue);
+
+        var hierarchy = new ContractionHierarchy(HierarchyEdges.of(outgoing), HierarchyEdges.of(incoming));
+
+        outgoing.release();
+        incoming.release();
+        contractedNeighbours.release();
+
+        progressTracker.endSubTask();
+
+        return hierarchy;
+    }
+
+    private void loadRelationships() {
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+        outgoing = HugeObjectArray.newArray(OverlayEdges.class, nodeCount);
+        incoming = HugeObjectArray.newArray(OverlayEdges.class, nodeCount);
+        outgoing.setAll(node -> new OverlayEdges());
+        incoming.setAll(node -> new OverlayEdges());
+        contractedNeighbours = HugeIntArray.newArray(nodeCount);
+
+        for (long node = 0; node < nodeCount; node++) {
+            terminationFlag.assertRunning();
+            graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                if (weight < 0) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Contraction hierarchies require non-negative relationship weights, found %f between nodes %d and %d.",
+                        weight,
+                        graph.toOriginalNodeId(source),
+                        graph.toOriginalNodeId(target)
+                    ));
+                }
+                if (source != target) {
+                    outgoing.get(source).relax(target, weight, OverlayEdges.NO_MIDDLE);
+                    incoming.get(target).relax(source, weight, OverlayEdges.NO_MIDDLE);
+                }
+                return true;
+            });
+            progressTracker.logProgress();
+        }
+
+        progressTracker.endSubTask();
+    }
+
+    private void orderNodes(HugeLongPriorityQueue queue) {
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+        var priorities = HugeDoubleArray.newArray(nodeCount);
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var witnessSearch = new WitnessSearch();
+                partition.consume(node -> priorities.set(node, priority(node, witnessSearch)));
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        for (long node = 0; node < nodeCount; node++) {
+            queue.add(node, priorities.get(node));
+        }
+        priorities.release();
+
+        progressTracker.endSubTask();
+    }
+
+    private void contractNodes(HugeLongPriorityQueue queue) {
+        progressTracker.beginSubTask();
+
+        var witnessSearch = new WitnessSearch();
+        var shortcuts = new Shortcuts();
+
+        while (!queue.isEmpty()) {
+            terminationFlag.assertRunning();
+
+            long node = queue.pop();
+            // Contracting other nodes may have changed the priority since it was queued.
+            double priority = priority(node, witnessSearch);
+            if (!queue.isEmpty() && priority > queue.cost(queue.top())) {
+                queue.add(node, priority);
+                continue;
+            }
+
+            contract(node, witnessSearch, shortcuts);
+            progressTracker.logProgress();
+        }
+
+        progressTracker.endSubTask();
+    }
+
+    private double priority(long node, WitnessSearch witnessSearch) {
+        var shortcutCount = new long[1];
+        forEachShortcut(node, witnessSearch, (source, target, weight) -> shortcutCount[0]++);
+
+        long removedRelationships = outgoing.get(node).size() + incoming.get(node).size();
+        return shortcutCount[0] - removedRelationships + contractedNeighbours.get(node);
+    }
+
+    private void contract(long node, WitnessSearch witnessSearch, Shortcuts shortcuts) {
+        shortcuts.clear();
+        forEachShortcut(node, witnessSearch, shortcuts);
+        for (int i = 0; i < shortcuts.size(); i++) {
+            long source = shortcuts.sources.get(i);
+            long target = shortcuts.targets.get(i);
+            double weight = shortcuts.weights.get(i);
+            outgoing.get(source).relax(target, weight, node);
+            incoming.get(target).relax(source, weight, node);
+        }
+
+        // The remaining relationships of the node become part of the hierarchy.
+        var outgoingEdges = outgoing.get(node);
+        for (int i = 0; i < outgoingEdges.size(); i++) {
+            long target = outgoingEdges.node(i);
+            incoming.get(target).remove(node);
+            contractedNeighbours.addTo(target, 1);
+        }
+        var incomingEdges = incoming.get(node);
+        for (int i = 0; i < incomingEdges.size(); i++) {
+            long source = incomingEdges.node(i);
+            outgoing.get(source).remove(node);
+            contractedNeighbours.addTo(source, 1);
+        }
+    }
+
+    private void forEachShortcut(long node, WitnessSearch witnessSearch, ShortcutConsumer consumer) {
+        var incomingEdges = incoming.get(node);
+        var outgoingEdges = outgoing.get(node);
+        if (incomingEdges.size() == 0 || outgoingEdges.size() == 0) {
+            return;
+        }
+
+        double maxOutgoingWeight = 0;
+        for (int i = 0; i < outgoingEdges.size(); i++) {
+            maxOutgoingWeight = Math.max(maxOutgoingWeight, outgoingEdges.weight(i));
+        }
+
+        for (int i = 0; i < incomingEdges.size(); i++) {
+            long source = incomingEdges.node(i);
+            double incomingWeight = incomingEdges.weight(i);
+
+            witnessSearch.run(source, node, incomingWeight + maxOutgoingWeight);
+
+            for (int j = 0; j < outgoingEdges.size(); j++) {
+                long target = outgoingEdges.node(j);
+                if (target == source) {
+                    continue;
+                }
+                double weight = incomingWeight + outgoingEdges.weight(j);
+                if (witnessSearch.distance(target) > weight) {
+                    consumer.accept(source, target, weight);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ShortcutConsumer {
+        void accept(long source, long target, double weight);
+    }
+
+    private static final class Shortcuts implements ShortcutConsumer {
+        private final LongArrayList sources = new LongArrayList();
+        private final LongArrayList targets = new LongArrayList();
+        private final DoubleArrayList weights = new DoubleArrayList();
+
+        @Override
+        public void accept(long source, long target, double weight) {
+            sources.add(source);
+            targets.add(target);
+            weights.add(weight);
+        }
+
+        int size() {
+            return sources.size();
+        }
+
+        void clear() {
+            sources.clear();
+            targets.clear();
+            weights.clear();
+        }
+    }
+
+    /**
+     * A Dijkstra search over the not yet contracted nodes that avoids the node being contracted.
+     * It stops once it exceeds the given cost or has settled {@code witnessSearchLimit} nodes.
+     */
+    private final class WitnessSearch {
+        private final SearchQueue queue = SearchQueue.sparse();
+
+        void run(long source, long ignoredNode, double maxCost) {
+            queue.clear();
+            queue.add(source, 0.0);
+
+            int settled = 0;
+            while (!queue.isEmpty() && settled < witnessSearchLimit) {
+                long node = queue.pop();
+                double cost = queue.cost(node);
+                if (cost > maxCost) {
+                    return;
+                }
+                settled++;
+
+                var edges = outgoing.get(node);
+                for (int i = 0; i < edges.size(); i++) {
+                    long next = edges.node(i);
+                    if (next == ignoredNode) {
+                        continue;
+                    }
+                    double nextCost = cost + edges.weight(i);
+                    if (!queue.containsElement(next)) {
+                        queue.add(next, nextCost);
+                    } else if (nextCost < queue.cost(next)) {
+                        queue.set(next, nextCost);
+                    }
+                }
+            }
+        }
+
+        /**
+         * The length of some path from the source, or infinity if the search has not seen the node.
+         */
+        double distance(long node) {
+            return queue.containsElement(node) ? queue.cost(node) : Double.POSITIVE_INFINITY;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.ElementIdentifier;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A node ordering together with the shortcuts that preserve shortest path distances
+ * when the nodes are contracted in that order.
+ * <p>
+ * Every relationship is stored at the endpoint that was contracted first.
+ * Upward relationships are traversed by the forward search of a {@link ContractionHierarchyQuery},
+ * downward relationships are reversed and traversed by its backward search.
+ * <p>
+ * Node ids are the mapped ids of the graph the hierarchy was computed on.
+ */
+public final class ContractionHierarchy {
+
+    private final HierarchyEdges upward;
+    private final HierarchyEdges downward;
+
+    ContractionHierarchy(HierarchyEdges upward, HierarchyEdges downward) {
+        this.upward = upward;
+        this.downward = downward;
+    }
+
+    /**
+     * The key under which the hierarchy of the graph projected with the given node labels,
+     * relationship types and weight property is kept as resident state of a catalog graph.
+     */
+    public static String residentStateKey(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> weightProperty
+    ) {
+        return formatWithLocale(
+            "%s[%s|%s|%s]",
+            ContractionHierarchy.class.getSimpleName(),
+            sortedNames(nodeLabels),
+            sortedNames(relationshipTypes),
+            weightProperty.orElse("")
+        );
+    }
+
+    public long nodeCount() {
+        return upward.nodeCount();
+    }
+
+    public long relationshipCount() {
+        return upward.relationshipCount() + downward.relationshipCount();
+    }
+
+    public long shortcutCount() {
+        return upward.shortcutCount() + downward.shortcutCount();
+    }
+
+    HierarchyEdges upward() {
+        return upward;
+    }
+
+    HierarchyEdges downward() {
+        return downward;
+    }
+
+    private static String sortedNames(Collection<? extends ElementIdentifier> identifiers) {
+        return identifiers.stream().map(ElementIdentifier::name).sorted().collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+import org.neo4j.gds.paths.dijkstra.SearchQueue;
+
+import java.util.stream.Stream;
+
+/**
+ * Answers source-target shortest path queries on a {@link ContractionHierarchy}.
+ * <p>
+ * A forward search from the source follows upward relationships and a backward search from the target
+ * follows reversed downward relationships, so both only ever move to nodes contracted later.
+ * The searches alternate and stop once neither can improve the best meeting point anymore.
+ * Shortcuts on the resulting path are unpacked into the relationships of the original graph.
+ * <p>
+ * The search state grows with the explored part of the hierarchy and is reused across queries.
+ * A query instance is not thread-safe, the hierarchy can be shared by many of them.
+ */
+public final class ContractionHierarchyQuery {
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final HierarchyEdges upward;
+    private final HierarchyEdges downward;
+
+    private final Search forward;
+    private final Search backward;
+
+    private double bestCost;
+    private long meetingNode;
+
+    public ContractionHierarchyQuery(ContractionHierarchy hierarchy) {
+        this.upward = hierarchy.upward();
+        this.downward = hierarchy.downward();
+        this.forward = new Search(upward);
+        this.backward = new Search(downward);
+    }
+
+    /**
+     * Computes a shortest path between the two mapped node ids.
+     * The result is empty if the target is not reachable from the source.
+     * Paths do not contain relationship ids, as those are not tracked through shortcuts.
+     */
+    public PathFindingResult sourceTarget(long sourceNode, long targetNode) {
+        forward.start(sourceNode);
+        backward.start(targetNode);
+        bestCost = Double.POSITIVE_INFINITY;
+        meetingNode = -1L;
+
+        boolean forwardDone = false;
+        boolean backwardDone = false;
+        while (!forwardDone || !backwardDone) {
+            if (!forwardDone) {
+                forwardDone = forward.step(backward);
+            }
+            if (!backwardDone) {
+                backwardDone = backward.step(forward);
+            }
+        }
+
+        if (meetingNode == -1L) {
+            return new PathFindingResult(Stream.empty());
+        }
+        return new PathFindingResult(Stream.of(pathResult(sourceNode, targetNode)));
+    }
+
+    private PathResult pathResult(long sourceNode, long targetNode) {
+        var pathNodeIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+        pathNodeIds.add(sourceNode);
+        costs.add(0.0);
+
+        // The forward search tree leads from the meeting node back to the source.
+        var forwardEdges = new LongArrayList();
+        for (long node = meetingNode; node != sourceNode; node = forward.predecessors.getOrDefault(node, -1L)) {
+            forwardEdges.add(forward.relationships.getOrDefault(node, -1L));
+        }
+
+        var unpacker = new Unpacker(pathNodeIds, costs);
+        for (int i = forwardEdges.size() - 1; i >= 0; i--) {
+            long index = forwardEdges.get(i);
+            unpacker.unpack(upward.middle(index), upward.neighbour(index), upward.weight(index));
+        }
+
+        // The backward search tree leads from the meeting node to the target.
+        for (long node = meetingNode; node != targetNode; ) {
+            long next = backward.predecessors.getOrDefault(node, -1L);
+            long index = backward.relationships.getOrDefault(node, -1L);
+            unpacker.unpack(downward.middle(index), next, downward.weight(index));
+            node = next;
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(pathNodeIds.toArray())
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    private final class Search {
+        private final HierarchyEdges edges;
+        private final SearchQueue queue;
+        // the node a node has been reached from and the index of the relationship used
+        private final HugeLongLongMap predecessors;
+        private final HugeLongLongMap relationships;
+
+        Search(HierarchyEdges edges) {
+            this.edges = edges;
+            this.queue = SearchQueue.sparse();
+            this.predecessors = new HugeLongLongMap();
+            this.relationships = new HugeLongLongMap();
+        }
+
+        void start(long node) {
+            queue.clear();
+            predecessors.clear();
+            relationships.clear();
+            queue.add(node, 0.0);
+        }
+
+        /**
+         * Settles the next node.
+         *
+         * @return true, iff this search cannot improve the best path anymore
+         */
+        boolean step(Search other) {
+            if (queue.isEmpty()) {
+                return true;
+            }
+            long node = queue.pop();
+            double cost = queue.cost(node);
+            if (cost >= bestCost) {
+                return true;
+            }
+
+            if (other.queue.containsElement(node)) {
+                double pathCost = cost + other.queue.cost(node);
+                if (pathCost < bestCost) {
+                    bestCost = pathCost;
+                    meetingNode = node;
+                }
+            }
+
+            long end = edges.end(node);
+            for (long index = edges.start(node); index < end; index++) {
+                long next = edges.neighbour(index);
+                double nextCost = cost + edges.weight(index);
+                if (!queue.containsElement(next)) {
+                    queue.add(next, nextCost);
+                } else if (nextCost < queue.cost(next)) {
+                    queue.set(next, nextCost);
+                } else {
+                    continue;
+                }
+                predecessors.put(next, node);
+                relationships.put(next, index);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Appends the nodes of a hierarchy relationship to a path, replacing shortcuts by the two relationships
+     * they bypass. A shortcut between {@code u} and {@code w} over {@code v} consists of the downward
+     * relationship from {@code u} to {@code v} and the upward relationship from {@code v} to {@code w},
+     * both stored at {@code v}, which has been contracted before {@code u} and {@code w}.
+     */
+    private final class Unpacker {
+        private final LongArrayList pathNodeIds;
+        private final DoubleArrayList costs;
+        // relationships still to be appended, the last one comes next
+        private final LongArrayList pendingNodes = new LongArrayList();
+        private final LongArrayList pendingMiddles = new LongArrayList();
+        private final DoubleArrayList pendingWeights = new DoubleArrayList();
+
+        Unpacker(LongArrayList pathNodeIds, DoubleArrayList costs) {
+            this.pathNodeIds = pathNodeIds;
+            this.costs = costs;
+        }
+
+        void unpack(long middle, long target, double weight) {
+            push(middle, target, weight);
+
+            while (!pendingNodes.isEmpty()) {
+                int last = pendingNodes.size() - 1;
+                long node = pendingNodes.removeAt(last);
+                long via = pendingMiddles.removeAt(last);
+                double relationshipWeight = pendingWeights.removeAt(last);
+
+                if (via == OverlayEdges.NO_MIDDLE) {
+                    pathNodeIds.add(node);
+                    costs.add(costs.get(costs.size() - 1) + relationshipWeight);
+                    continue;
+                }
+
+                long source = pathNodeIds.get(pathNodeIds.size() - 1);
+                long second = upward.find(via, node);
+                long first = downward.find(via, source);
+                push(upward.middle(second), node, upward.weight(second));
+                push(downward.middle(first), via, downward.weight(first));
+            }
+        }
+
+        private void push(long middle, long target, double weight) {
+            pendingNodes.add(target);
+            pendingMiddles.add(middle);
+            pendingWeights.add(weight);
+        }
+    }
+}
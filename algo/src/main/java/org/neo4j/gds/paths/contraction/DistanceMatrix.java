@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Shortest path distances between every source and every target, stored row by row.
+ * Unreachable targets have a distance of {@link Double#POSITIVE_INFINITY}.
+ */
+public record DistanceMatrix(HugeDoubleArray distances, int sourceCount, int targetCount) {
+
+    public double distance(int sourceIndex, int targetIndex) {
+        return distances.get((long) sourceIndex * targetCount + targetIndex);
+    }
+
+    public double[] row(int sourceIndex) {
+        var row = new double[targetCount];
+        long offset = (long) sourceIndex * targetCount;
+        for (int targetIndex = 0; targetIndex < targetCount; targetIndex++) {
+            row[targetIndex] = distances.get(offset + targetIndex);
+        }
+        return row;
+    }
+
+    public Stream<double[]> rows() {
+        return IntStream.range(0, sourceCount).mapToObj(this::row);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+
+/**
+ * One half of a contraction hierarchy in compressed sparse row layout.
+ * Every relationship of a node leads to a node that has been contracted later.
+ * Shortcuts remember the node they bypass, original relationships have no middle node.
+ */
+final class HierarchyEdges {
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray neighbours;
+    private final HugeDoubleArray weights;
+    private final HugeLongArray middles;
+
+    static HierarchyEdges of(HugeObjectArray<OverlayEdges> edges) {
+        long nodeCount = edges.size();
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        long relationshipCount = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            offsets.set(node, relationshipCount);
+            relationshipCount += edges.get(node).size();
+        }
+        offsets.set(nodeCount, relationshipCount);
+
+        var neighbours = HugeLongArray.newArray(relationshipCount);
+        var weights = HugeDoubleArray.newArray(relationshipCount);
+        var middles = HugeLongArray.newArray(relationshipCount);
+        for (long node = 0; node < nodeCount; node++) {
+            var nodeEdges = edges.get(node);
+            long offset = offsets.get(node);
+            for (int i = 0; i < nodeEdges.size(); i++) {
+                neighbours.set(offset + i, nodeEdges.node(i));
+                weights.set(offset + i, nodeEdges.weight(i));
+                middles.set(offset + i, nodeEdges.middle(i));
+            }
+        }
+
+        return new HierarchyEdges(offsets, neighbours, weights, middles);
+    }
+
+    private HierarchyEdges(
+        HugeLongArray offsets,
+        HugeLongArray neighbours,
+        HugeDoubleArray weights,
+        HugeLongArray middles
+    ) {
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+        this.weights = weights;
+        this.middles = middles;
+    }
+
+    long nodeCount() {
+        return offsets.size() - 1;
+    }
+
+    long relationshipCount() {
+        return neighbours.size();
+    }
+
+    long start(long node) {
+        return offsets.get(node);
+    }
+
+    long end(long node) {
+        return offsets.get(node + 1);
+    }
+
+    long neighbour(long index) {
+        return neighbours.get(index);
+    }
+
+    double weight(long index) {
+        return weights.get(index);
+    }
+
+    long middle(long index) {
+        return middles.get(index);
+    }
+
+    /**
+     * @return the index of the relationship between the two nodes or -1 if there is none
+     */
+    long find(long node, long neighbour) {
+        long end = end(node);
+        for (long index = start(node); index < end; index++) {
+            if (neighbours.get(index) == neighbour) {
+                return index;
+            }
+        }
+        return -1L;
+    }
+
+    long shortcutCount() {
+        long count = 0;
+        for (long index = 0; index < middles.size(); index++) {
+            if (middles.get(index) != OverlayEdges.NO_MIDDLE) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
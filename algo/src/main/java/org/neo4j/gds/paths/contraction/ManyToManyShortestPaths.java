@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Computes the shortest path distances between all pairs of the given sources and targets
+ * on a {@link ContractionHierarchy}.
+ * <p>
+ * One backward search from every target leaves its distance in a bucket at every node it settles.
+ * One forward search from every source then scans the buckets of the nodes it settles.
+ * The distance of a pair is the minimum over all nodes in both search spaces.
+ * There are only |S| + |T| searches, each confined to the small upward search space of its node,
+ * instead of one full Dijkstra per source. The bucket scans still touch every source-target pair
+ * meeting at a node, so the join is O(|S|·|T|) in the worst case, just as the matrix it fills.
+ * <p>
+ * Both phases are parallel. Each thread owns one search and, while scanning, one row of the matrix,
+ * so the memory per thread depends on the search spaces and the number of targets, not on the graph size.
+ * <p>
+ * [1] Sebastian Knopp, Peter Sanders, Dominik Schultes, Frank Schulz, Dorothea Wagner.
+ * "Computing Many-to-Many Shortest Paths Using Highway Hierarchies", ALENEX 2007.
+ */
+public final class ManyToManyShortestPaths extends Algorithm<DistanceMatrix> {
+
+    private final ContractionHierarchy hierarchy;
+    private final long[] sourceNodes;
+    private final long[] targetNodes;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+
+    public static Task progressTask(int sourceCount, int targetCount) {
+        return Tasks.task(
+            "ManyToManyShortestPaths",
+            Tasks.leaf("Fill buckets", targetCount),
+            Tasks.leaf("Scan buckets", sourceCount)
+        );
+    }
+
+    public ManyToManyShortestPaths(
+        ContractionHierarchy hierarchy,
+        long[] sourceNodes,
+        long[] targetNodes,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.hierarchy = hierarchy;
+        this.sourceNodes = sourceNodes;
+        this.targetNodes = targetNodes;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public DistanceMatrix compute() {
+        progressTracker.beginSubTask();
+
+        var buckets = fillBuckets();
+
+        progressTracker.beginSubTask();
+        var distances = HugeDoubleArray.newArray((long) sourceNodes.length * targetNodes.length);
+        var scanners = PartitionUtils.rangePartition(
+            concurrency,
+            sourceNodes.length,
+            partition -> new BucketScanner(partition, buckets, distances),
+            Optional.empty()
+        );
+        run(scanners);
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+
+        return new DistanceMatrix(distances, sourceNodes.length, targetNodes.length);
+    }
+
+    private Buckets fillBuckets() {
+        progressTracker.beginSubTask();
+
+        var collectors = PartitionUtils.rangePartition(
+            concurrency,
+            targetNodes.length,
+            BucketCollector::new,
+            Optional.empty()
+        );
+        run(collectors);
+        var buckets = Buckets.of(hierarchy.nodeCount(), collectors);
+
+        progressTracker.endSubTask();
+        return buckets;
+    }
+
+    private void run(List<? extends Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    /**
+     * The target distances left by the backward searches, grouped by the node they have been left at.
+     */
+    private static final class Buckets {
+        private final HugeLongArray offsets;
+        private final HugeIntArray targetIndices;
+        private final HugeDoubleArray distances;
+
+        static Buckets of(long nodeCount, List<BucketCollector> collectors) {
+            var offsets = HugeLongArray.newArray(nodeCount + 1);
+            for (var collector : collectors) {
+                for (int i = 0; i < collector.nodes.size(); i++) {
+                    offsets.addTo(collector.nodes.get(i) + 1, 1);
+                }
+            }
+            for (long node = 0; node < nodeCount; node++) {
+                offsets.addTo(node + 1, offsets.get(node));
+            }
+
+            long entryCount = offsets.get(nodeCount);
+            var targetIndices = HugeIntArray.newArray(entryCount);
+            var distances = HugeDoubleArray.newArray(entryCount);
+            var positions = offsets.copyOf(nodeCount);
+            for (var collector : collectors) {
+                for (int i = 0; i < collector.nodes.size(); i++) {
+                    long position = positions.get(collector.nodes.get(i));
+                    positions.addTo(collector.nodes.get(i), 1);
+                    targetIndices.set(position, collector.targetIndices.get(i));
+                    distances.set(position, collector.distances.get(i));
+                }
+                collector.release();
+            }
+            positions.release();
+
+            return new Buckets(offsets, targetIndices, distances);
+        }
+
+        private Buckets(HugeLongArray offsets, HugeIntArray targetIndices, HugeDoubleArray distances) {
+            this.offsets = offsets;
+            this.targetIndices = targetIndices;
+            this.distances = distances;
+        }
+    }
+
+    private final class BucketCollector implements Runnable, UpwardSearch.SettledNodeConsumer {
+        private final Partition partition;
+        private final UpwardSearch search;
+
+        private LongArrayList nodes;
+        private IntArrayList targetIndices;
+        private DoubleArrayList distances;
+        private int targetIndex;
+
+        BucketCollector(Partition partition) {
+            this.partition = partition;
+            this.search = new UpwardSearch(hierarchy.downward());
+            this.nodes = new LongArrayList();
+            this.targetIndices = new IntArrayList();
+            this.distances = new DoubleArrayList();
+        }
+
+        @Override
+        public void run() {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long index = partition.startNode(); index < end; index++) {
+                terminationFlag.assertRunning();
+                targetIndex = (int) index;
+                search.run(targetNodes[targetIndex], this);
+                progressTracker.logProgress();
+            }
+        }
+
+        @Override
+        public void accept(long node, double distance) {
+            nodes.add(node);
+            targetIndices.add(targetIndex);
+            distances.add(distance);
+        }
+
+        void release() {
+            nodes = null;
+            targetIndices = null;
+            distances = null;
+        }
+    }
+
+    private final class BucketScanner implements Runnable, UpwardSearch.SettledNodeConsumer {
+        private final Partition partition;
+        private final Buckets buckets;
+        private final HugeDoubleArray matrix;
+        private final UpwardSearch search;
+        private final double[] row;
+
+        BucketScanner(Partition partition, Buckets buckets, HugeDoubleArray matrix) {
+            this.partition = partition;
+            this.buckets = buckets;
+            this.matrix = matrix;
+            this.search = new UpwardSearch(hierarchy.upward());
+            this.row = new double[targetNodes.length];
+        }
+
+        @Override
+        public void run() {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long index = partition.startNode(); index < end; index++) {
+                terminationFlag.assertRunning();
+                Arrays.fill(row, Double.POSITIVE_INFINITY);
+                search.run(sourceNodes[(int) index], this);
+
+                long offset = index * row.length;
+                for (int targetIndex = 0; targetIndex < row.length; targetIndex++) {
+                    matrix.set(offset + targetIndex, row[targetIndex]);
+                }
+                progressTracker.logProgress();
+            }
+        }
+
+        @Override
+        public void accept(long node, double distance) {
+            long end = buckets.offsets.get(node + 1);
+            for (long entry = buckets.offsets.get(node); entry < end; entry++) {
+                int targetIndex = buckets.targetIndices.get(entry);
+                row[targetIndex] = Math.min(row[targetIndex], distance + buckets.distances.get(entry));
+            }
+        }
+    }
+}
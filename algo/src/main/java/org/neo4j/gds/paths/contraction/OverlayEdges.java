@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import java.util.Arrays;
+
+/**
+ * The relationships of a single node in the graph that is being contracted.
+ * Holds at most one relationship per neighbour, the one with the lowest weight.
+ */
+final class OverlayEdges {
+
+    static final long NO_MIDDLE = -1L;
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] nodes;
+    private double[] weights;
+    private long[] middles;
+    private int size;
+
+    OverlayEdges() {
+        this.nodes = new long[INITIAL_CAPACITY];
+        this.weights = new double[INITIAL_CAPACITY];
+        this.middles = new long[INITIAL_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long node(int index) {
+        return nodes[index];
+    }
+
+    double weight(int index) {
+        return weights[index];
+    }
+
+    long middle(int index) {
+        return middles[index];
+    }
+
+    /**
+     * Adds a relationship to the given neighbour or lowers the weight of the existing one.
+     *
+     * @return true, iff there was no relationship to the neighbour before
+     */
+    boolean relax(long node, double weight, long middle) {
+        for (int i = 0; i < size; i++) {
+            if (nodes[i] == node) {
+                if (weight < weights[i]) {
+                    weights[i] = weight;
+                    middles[i] = middle;
+                }
+                return false;
+            }
+        }
+
+        if (size == nodes.length) {
+            int capacity = size + (size >> 1) + 1;
+            nodes = Arrays.copyOf(nodes, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            middles = Arrays.copyOf(middles, capacity);
+        }
+        nodes[size] = node;
+        weights[size] = weight;
+        middles[size] = middle;
+        size++;
+        return true;
+    }
+
+    void remove(long node) {
+        for (int i = 0; i < size; i++) {
+            if (nodes[i] == node) {
+                size--;
+                nodes[i] = nodes[size];
+                weights[i] = weights[size];
+                middles[i] = middles[size];
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.paths.dijkstra.SearchQueue;
+
+/**
+ * A Dijkstra search that settles every node reachable over one half of a {@link ContractionHierarchy}.
+ * The search space of such a search is small, as it only ever moves to nodes contracted later.
+ */
+final class UpwardSearch {
+
+    @FunctionalInterface
+    interface SettledNodeConsumer {
+        void accept(long node, double distance);
+    }
+
+    private final HierarchyEdges edges;
+    private final SearchQueue queue;
+
+    UpwardSearch(HierarchyEdges edges) {
+        this.edges = edges;
+        this.queue = SearchQueue.sparse();
+    }
+
+    void run(long startNode, SettledNodeConsumer consumer) {
+        queue.clear();
+        queue.add(startNode, 0.0);
+
+        while (!queue.isEmpty()) {
+            long node = queue.pop();
+            double distance = queue.cost(node);
+            consumer.accept(node, distance);
+
+            long end = edges.end(node);
+            for (long index = edges.start(node); index < end; index++) {
+                long next = edges.neighbour(index);
+                double nextDistance = distance + edges.weight(index);
+                if (!queue.containsElement(next)) {
+                    queue.add(next, nextDistance);
+                } else if (nextDistance < queue.cost(next)) {
+                    queue.set(next, nextDistance);
+                }
+            }
+        }
+    }
+}
@@ -34,14 +34,19 @@ import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.paths.PathResult;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaBaseConfig;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -53,11 +58,18 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
     private static final int NO_BIN = Integer.MAX_VALUE;
     private static final int BIN_SIZE_THRESHOLD = 1000;
     private static final int BATCH_SIZE = 64;
-
+    // Adaptive delta widens the bins while the next bin cannot keep all threads busy
+    // and narrows them when a bin is so large that nodes are likely relaxed repeatedly.
+    private static final int MAX_BATCHES_PER_THREAD = 256;
+    private static final double MAX_DELTA_SCALE = 64;
+    private static final int WEIGHT_SAMPLE_SIZE = 1 << 14;
+    // used by adaptive delta if the sampled relationships have no positive weights
+    private static final double FALLBACK_DELTA = 2.0;
 
     private final Graph graph;
     private final long startNode;
     private final double delta;
+    private final boolean adaptiveDelta;
     private final Concurrency concurrency;
 
     private final HugeLongArray frontier;
@@ -75,6 +87,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             graph,
             graph.toMappedNodeId(config.sourceNode()),
             config.delta(),
+            config.adaptiveDelta(),
             config.concurrency(),
             true,
             executorService,
@@ -87,6 +100,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         Graph graph,
         long startNode,
         double delta,
+        boolean adaptiveDelta,
         Concurrency concurrency,
         boolean storePredecessors,
         ExecutorService executorService,
@@ -96,6 +110,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         this.graph = graph;
         this.startNode = startNode;
         this.delta = delta;
+        this.adaptiveDelta = adaptiveDelta;
         this.concurrency = concurrency;
         this.executorService = executorService;
 
@@ -113,29 +128,100 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         }
     }
 
+    /**
+     * Configure Delta-Stepping to compute only the distances from the start node, using an adaptive delta.
+     */
+    public static DeltaStepping distancesFrom(
+        Graph graph,
+        long startNode,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        var deltaStepping = new DeltaStepping(
+            graph,
+            startNode,
+            FALLBACK_DELTA,
+            true,
+            concurrency,
+            false,
+            executorService,
+            progressTracker
+        );
+        deltaStepping.setTerminationFlag(terminationFlag);
+        return deltaStepping;
+    }
+
+    /**
+     * The progress task of a single run, with one relax and one sync phase per bin.
+     */
+    public static Task progressTask(String taskName) {
+        return Tasks.iterativeOpen(
+            taskName,
+            () -> List.of(
+                Tasks.leaf(Phase.RELAX.name()),
+                Tasks.leaf(Phase.SYNC.name())
+            )
+        );
+    }
+
     @Override
     public PathFindingResult compute() {
         progressTracker.beginSubTask();
+
+        relaxBins();
+
+        return new PathFindingResult(pathResults(distances, startNode, concurrency), progressTracker::endSubTask);
+    }
+
+    /**
+     * Computes the distances from the start node without building paths.
+     * Unreachable nodes have a distance of {@link TentativeDistances#DIST_INF}.
+     */
+    public TentativeDistances computeDistances() {
+        progressTracker.beginSubTask();
+        relaxBins();
+        progressTracker.endSubTask();
+        return distances;
+    }
+
+    private void relaxBins() {
         int currentBin = 0;
+        // bin i holds the nodes with a tentative distance in [origin + i * delta, origin + (i + 1) * delta)
+        double origin = 0;
+        double initialBinWidth = adaptiveDelta ? initialDelta() : delta;
+        double binWidth = initialBinWidth;
 
         var frontierIndex = new AtomicLong(0);
         var frontierSize = new AtomicLong(1);
+        var frontierRanges = new FrontierRanges(concurrency.value());
 
         this.frontier.set(currentBin, startNode);
         this.distances.set(startNode, -1, 0);
 
         var relaxTasks = IntStream
             .range(0, concurrency.value())
-            .mapToObj(i -> new DeltaSteppingTask(graph, frontier, distances, delta, frontierIndex))
+            .mapToObj(i -> new DeltaSteppingTask(
+                i,
+                graph,
+                frontier,
+                distances,
+                initialBinWidth,
+                frontierIndex,
+                frontierRanges
+            ))
             .collect(Collectors.toList());
 
         while (currentBin != NO_BIN) {
+            terminationFlag.assertRunning();
+
             // Phase 1
             progressTracker.beginSubTask();
+            frontierRanges.reset(frontierSize.longValue());
             for (var task : relaxTasks) {
                 task.setPhase(Phase.RELAX);
                 task.setBinIndex(currentBin);
-                task.setFrontierLength(frontierSize.longValue());
             }
             ParallelUtil.run(relaxTasks, executorService);
             progressTracker.endSubTask();
@@ -144,10 +230,28 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             // Find smallest non-empty bin across all tasks
             currentBin = relaxTasks.stream().mapToInt(DeltaSteppingTask::minNonEmptyBin).min().orElseThrow();
 
+            if (adaptiveDelta && currentBin != NO_BIN) {
+                double adaptedWidth = adaptedBinWidth(relaxTasks, currentBin, binWidth, initialBinWidth);
+                if (adaptedWidth != binWidth) {
+                    // Everything below the lower bound of the current bin has been settled,
+                    // the remaining nodes are distributed over bins of the new width.
+                    int rebinnedFrom = currentBin;
+                    double rebinnedOrigin = origin + currentBin * binWidth;
+                    var rebinTasks = relaxTasks
+                        .stream()
+                        .map(task -> (Runnable) () -> task.rebin(rebinnedFrom, rebinnedOrigin, adaptedWidth))
+                        .collect(Collectors.toList());
+                    ParallelUtil.run(rebinTasks, executorService);
+
+                    origin = rebinnedOrigin;
+                    binWidth = adaptedWidth;
+                    currentBin = relaxTasks.stream().mapToInt(DeltaSteppingTask::minNonEmptyBin).min().orElseThrow();
+                }
+            }
+
             // Phase 2
             progressTracker.beginSubTask();
             frontierIndex.set(0);
-            relaxTasks.forEach(task -> task.setPhase(Phase.SYNC));
 
             for (var task : relaxTasks) {
                 task.setPhase(Phase.SYNC);
@@ -159,8 +263,44 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             frontierSize.set(frontierIndex.longValue());
             frontierIndex.set(0);
         }
+    }
 
-        return new PathFindingResult(pathResults(distances, startNode, concurrency), progressTracker::endSubTask);
+    /**
+     * Estimates a bin width from the mean weight of the relationships of evenly spaced sample nodes.
+     * Falls back to the configured delta if the sample has no relationships.
+     */
+    private double initialDelta() {
+        long nodeCount = graph.nodeCount();
+        long stride = Math.max(1, nodeCount / WEIGHT_SAMPLE_SIZE);
+        var weightSum = new double[1];
+        var relationshipCount = new long[1];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId += stride) {
+            graph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, weight) -> {
+                weightSum[0] += weight;
+                relationshipCount[0]++;
+                return true;
+            });
+        }
+        double meanWeight = relationshipCount[0] == 0 ? 0 : weightSum[0] / relationshipCount[0];
+        return meanWeight > 0 ? meanWeight : delta;
+    }
+
+    private double adaptedBinWidth(
+        List<DeltaSteppingTask> tasks,
+        int currentBin,
+        double binWidth,
+        double initialWidth
+    ) {
+        long binSize = tasks.stream().mapToLong(task -> task.binSize(currentBin)).sum();
+        long threads = concurrency.value();
+
+        if (binSize < threads * BATCH_SIZE && binWidth * 2 <= initialWidth * MAX_DELTA_SCALE) {
+            return binWidth * 2;
+        }
+        if (binSize > threads * BATCH_SIZE * MAX_BATCHES_PER_THREAD && binWidth / 2 >= initialWidth / MAX_DELTA_SCALE) {
+            return binWidth / 2;
+        }
+        return binWidth;
     }
 
     public enum Phase {
@@ -169,13 +309,15 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
     }
 
     private static class DeltaSteppingTask implements Runnable {
+        private final int taskId;
         private final Graph graph;
         private final HugeLongArray frontier;
         private final TentativeDistances distances;
-        private final double delta;
+        private double origin;
+        private double delta;
         private int binIndex;
         private final AtomicLong frontierIndex;
-        private long frontierLength;
+        private final FrontierRanges frontierRanges;
 
         // Although there is a probability that a local bin exceeds
         // 2^31 entries, it is very unlikely and if it happens, we
@@ -186,18 +328,22 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         private Phase phase = Phase.RELAX;
 
         DeltaSteppingTask(
+            int taskId,
             Graph graph,
             HugeLongArray frontier,
             TentativeDistances distances,
             double delta,
-            AtomicLong frontierIndex
+            AtomicLong frontierIndex,
+            FrontierRanges frontierRanges
         ) {
-
+            this.taskId = taskId;
             this.graph = graph.concurrentCopy();
             this.frontier = frontier;
             this.distances = distances;
+            this.origin = 0;
             this.delta = delta;
             this.frontierIndex = frontierIndex;
+            this.frontierRanges = frontierRanges;
 
             this.localBins = new LongArrayList[0];
         }
@@ -220,8 +366,29 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             this.binIndex = binIndex;
         }
 
-        void setFrontierLength(long frontierLength) {
-            this.frontierLength = frontierLength;
+        long binSize(int bin) {
+            return bin < localBins.length && localBins[bin] != null ? localBins[bin].size() : 0;
+        }
+
+        /**
+         * Moves the nodes of the bins from {@code fromBin} on into bins of the new width, numbered from the new origin.
+         * Outdated entries below the origin go to the first bin, relaxing them again does not change any distance.
+         */
+        void rebin(int fromBin, double newOrigin, double newDelta) {
+            var oldBins = localBins;
+            this.localBins = new LongArrayList[0];
+            this.origin = newOrigin;
+            this.delta = newDelta;
+            this.binIndex = 0;
+
+            for (int i = fromBin; i < oldBins.length; i++) {
+                if (oldBins[i] == null) {
+                    continue;
+                }
+                for (LongCursor longCursor : oldBins[i]) {
+                    addToBin(Math.max(0, binOf(distances.distance(longCursor.value))), longCursor.value);
+                }
+            }
         }
 
         int minNonEmptyBin() {
@@ -234,14 +401,21 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         }
 
         private void relaxGlobalBin() {
-            long offset;
-            while ((offset = frontierIndex.getAndAdd(BATCH_SIZE)) < frontierLength) {
-                long limit = Math.min(offset + BATCH_SIZE, frontierLength);
-
-                for (long idx = offset; idx < limit; idx++) {
-                    var nodeId = frontier.get(idx);
-                    if (distances.distance(nodeId) >= delta * binIndex) {
-                        relaxNode(nodeId);
+            double lowerBound = origin + delta * binIndex;
+            int rangeCount = frontierRanges.rangeCount();
+            // Start with the own range, then steal from the others.
+            for (int i = 0; i < rangeCount; i++) {
+                int range = (taskId + i) % rangeCount;
+                long rangeEnd = frontierRanges.end(range);
+                long offset;
+                while ((offset = frontierRanges.claim(range, BATCH_SIZE)) < rangeEnd) {
+                    long limit = Math.min(offset + BATCH_SIZE, rangeEnd);
+
+                    for (long idx = offset; idx < limit; idx++) {
+                        var nodeId = frontier.get(idx);
+                        if (distances.distance(nodeId) >= lowerBound) {
+                            relaxNode(nodeId);
+                        }
                     }
                 }
             }
@@ -267,16 +441,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
                     var witness = distances.compareAndExchange(targetNodeId, oldDist, newDist, sourceNodeId);
 
                     if (Double.compare(witness, oldDist) == 0) {
-                        int destBin = (int) (newDist / delta);
-
-                        if (destBin >= localBins.length) {
-                            this.localBins = Arrays.copyOf(localBins, destBin + 1);
-                        }
-                        if (localBins[destBin] == null) {
-                            this.localBins[destBin] = new LongArrayList();
-                        }
-
-                        this.localBins[destBin].add(targetNodeId);
+                        addToBin(binOf(newDist), targetNodeId);
                         break;
                     }
                     // CAX failed, retry
@@ -288,6 +453,20 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             });
         }
 
+        private int binOf(double distance) {
+            return (int) ((distance - origin) / delta);
+        }
+
+        private void addToBin(int bin, long nodeId) {
+            if (bin >= localBins.length) {
+                this.localBins = Arrays.copyOf(localBins, bin + 1);
+            }
+            if (localBins[bin] == null) {
+                this.localBins[bin] = new LongArrayList();
+            }
+            this.localBins[bin].add(nodeId);
+        }
+
         private void updateFrontier() {
             if (binIndex < localBins.length && localBins[binIndex] != null && !localBins[binIndex].isEmpty()) {
                 var size = localBins[binIndex].size();
@@ -303,6 +482,51 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         }
     }
 
+    /**
+     * Splits the frontier into one range per task. Every task consumes its own range first and then steals
+     * batches from the ranges of the others, so threads rarely contend on the same counter.
+     */
+    private static final class FrontierRanges {
+        // keeps the counters of different ranges on different cache lines
+        private static final int PADDING = 8;
+
+        private final AtomicLongArray cursors;
+        private final long[] ends;
+
+        FrontierRanges(int rangeCount) {
+            this.cursors = new AtomicLongArray(rangeCount * PADDING);
+            this.ends = new long[rangeCount];
+        }
+
+        void reset(long frontierLength) {
+            int rangeCount = ends.length;
+            for (int range = 0; range < rangeCount; range++) {
+                cursors.set(range * PADDING, frontierLength * range / rangeCount);
+                ends[range] = frontierLength * (range + 1) / rangeCount;
+            }
+        }
+
+        int rangeCount() {
+            return ends.length;
+        }
+
+        long end(int range) {
+            return ends[range];
+        }
+
+        /**
+         * Returns the start of the next batch of the range, or its end if the range has been consumed.
+         */
+        long claim(int range, int batchSize) {
+            int index = range * PADDING;
+            // avoid writing to the counter of a consumed range, others are likely reading it too
+            if (cursors.get(index) >= ends[range]) {
+                return ends[range];
+            }
+            return Math.min(cursors.getAndAdd(index, batchSize), ends[range]);
+        }
+    }
+
     private static Stream<PathResult> pathResults(
         TentativeDistances tentativeDistances,
         long sourceNode,
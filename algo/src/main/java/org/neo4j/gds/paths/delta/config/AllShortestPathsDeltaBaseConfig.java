@@ -30,4 +30,12 @@ public interface AllShortestPathsDeltaBaseConfig extends AlgoBaseConfig, SourceN
     default double delta() {
         return 2.0;
     }
+
+    /**
+     * Derives the bucket width from the relationship weights and adapts it to the bucket sizes,
+     * ignoring {@link #delta()}.
+     */
+    default boolean adaptiveDelta() {
+        return false;
+    }
 }
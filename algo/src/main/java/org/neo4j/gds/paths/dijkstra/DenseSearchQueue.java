@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.Optional;
+
+/**
+ * A binary heap with an index over the whole node id space, allocated up front.
+ */
+final class DenseSearchQueue implements SearchQueue {
+
+    private final HugeLongPriorityQueue queue;
+
+    DenseSearchQueue(long nodeCount, Optional<Dijkstra.HeuristicFunction> heuristicFunction) {
+        this.queue = heuristicFunction
+            .map(fn -> minPriorityQueue(nodeCount, fn))
+            .orElseGet(() -> HugeLongPriorityQueue.min(nodeCount));
+    }
+
+    @Override
+    public void add(long node, double cost) {
+        queue.add(node, cost);
+    }
+
+    @Override
+    public void set(long node, double cost) {
+        queue.set(node, cost);
+    }
+
+    @Override
+    public boolean containsElement(long node) {
+        return queue.containsElement(node);
+    }
+
+    @Override
+    public long pop() {
+        return queue.pop();
+    }
+
+    @Override
+    public double cost(long node) {
+        return queue.cost(node);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        queue.clear();
+    }
+
+    private static HugeLongPriorityQueue minPriorityQueue(long capacity, Dijkstra.HeuristicFunction heuristicFunction) {
+        return new HugeLongPriorityQueue(capacity) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                return heuristicFunction.applyAsDouble(a) + costValues.get(a) < heuristicFunction.applyAsDouble(b) + costValues.get(b);
+            }
+        };
+    }
+}
@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.paths.dijkstra;
 
-import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.DoubleArrayDeque;
 import com.carrotsearch.hppc.LongArrayDeque;
 import org.apache.commons.lang3.mutable.MutableInt;
@@ -27,7 +26,6 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.paths.ImmutablePathResult;
 import org.neo4j.gds.paths.PathResult;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -52,8 +50,10 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     private TraversalState traversalState;
 
     private long sourceNode;
+    // queue, predecessors, relationship ids and visited set
+    private final SearchState searchState;
     // priority queue
-    private final HugeLongPriorityQueue queue;
+    private final SearchQueue queue;
     // predecessor map
     private final HugeLongLongMap predecessors;
     // True, iff the algo should track relationship ids.
@@ -62,8 +62,6 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     private final boolean trackRelationships;
     // relationship ids (null, if trackRelationships is false)
     private final HugeLongLongMap relationships;
-    // visited set
-    private final BitSet visited;
     // path id increasing in order of exploration
     private long pathIndex;
     // returns true if the given relationship should be traversed
@@ -103,6 +101,32 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
         Optional<HeuristicFunction> heuristicFunction,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        return sourceTarget(
+            graph,
+            originalNodeId,
+            targetsList,
+            trackRelationships,
+            heuristicFunction,
+            SearchQueueType.BINARY_HEAP,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    /**
+     * Configure Dijkstra to compute at most one source-target shortest path,
+     * using a search state that matches the given queue type.
+     */
+    public static Dijkstra sourceTarget(
+        Graph graph,
+        long originalNodeId,
+        Collection<Long> targetsList,
+        boolean trackRelationships,
+        Optional<HeuristicFunction> heuristicFunction,
+        SearchQueueType searchQueueType,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         long sourceNode = graph.toMappedNodeId(originalNodeId);
         var targets = targetsList.stream().map(graph::toMappedNodeId).collect(Collectors.toList());
@@ -111,7 +135,7 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
             sourceNode,
             Targets.of(targets),
             trackRelationships,
-            heuristicFunction,
+            searchQueueType.pooledSearchState(graph.nodeCount(), heuristicFunction),
             progressTracker,
             terminationFlag
         );
@@ -167,18 +191,36 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
         Optional<HeuristicFunction> heuristicFunction,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag) {
+        this(
+            graph,
+            sourceNode,
+            targets,
+            trackRelationships,
+            SearchState.dense(graph.nodeCount(), heuristicFunction),
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    public Dijkstra(
+        Graph graph,
+        long sourceNode,
+        Targets targets,
+        boolean trackRelationships,
+        SearchState searchState,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
         super(progressTracker);
         this.graph = graph;
         this.sourceNode = sourceNode;
         this.targets = targets;
         this.traversalState = CONTINUE;
         this.trackRelationships = trackRelationships;
-        this.queue = heuristicFunction
-            .map(fn -> minPriorityQueue(graph.nodeCount(), fn))
-            .orElseGet(() -> HugeLongPriorityQueue.min(graph.nodeCount()));
-        this.predecessors = new HugeLongLongMap();
-        this.relationships = trackRelationships ? new HugeLongLongMap() : null;
-        this.visited = new BitSet();
+        this.searchState = searchState;
+        this.queue = searchState.queue();
+        this.predecessors = searchState.predecessors();
+        this.relationships = trackRelationships ? searchState.relationships() : null;
         this.pathIndex = 0L;
         this.terminationFlag = terminationFlag;
     }
@@ -189,7 +231,7 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     }
 
     public Dijkstra withVisited(long node) {
-        visited.set(node);
+        searchState.markVisited(node);
         return this;
     }
     
@@ -205,7 +247,7 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     public void resetTraversalState() {
         traversalState = CONTINUE;
         queue.clear();
-        visited.clear();
+        searchState.clearVisited();
         if (trackRelationships) {
             relationships.clear();
         }
@@ -223,7 +265,10 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
             .generate(() -> next(targets, pathResultBuilder))
             .takeWhile(pathResult -> pathResult != PathResult.EMPTY);
 
-        return new PathFindingResult(paths, progressTracker::endSubTask);
+        return new PathFindingResult(paths, () -> {
+            progressTracker.endSubTask();
+            searchState.release();
+        });
     }
 
     private PathResult next(Targets targets, ImmutablePathResult.Builder pathResultBuilder) {
@@ -232,7 +277,7 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
         while (!queue.isEmpty() && terminationFlag.running() && traversalState != EMIT_AND_STOP) {
             var node = queue.pop();
             var cost = queue.cost(node);
-            visited.set(node);
+            searchState.markVisited(node);
 
             // For disconnected graphs, this will not reach 100%.
             progressTracker.logProgress(graph.degree(node));
@@ -263,7 +308,7 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
 
     private void updateCost(long source, long target, long relationshipId, double newCost) {
         // target has been visited, we already have a shortest path
-        if (visited.get(target)) {
+        if (searchState.isVisited(target)) {
             return;
         }
 
@@ -339,15 +384,6 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
         }
     }
 
-    private static HugeLongPriorityQueue minPriorityQueue(long capacity, HeuristicFunction heuristicFunction) {
-        return new HugeLongPriorityQueue(capacity) {
-            @Override
-            protected boolean lessThan(long a, long b) {
-                return heuristicFunction.applyAsDouble(a) + costValues.get(a) < heuristicFunction.applyAsDouble(b) + costValues.get(b);
-            }
-        };
-    }
-
     @FunctionalInterface
     public interface HeuristicFunction extends LongToDoubleFunction {}
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+
+/**
+ * A monotone priority queue for non-negative costs, which is all Dijkstra needs:
+ * no node is ever added with a cost below the cost of the last popped node.
+ * <p>
+ * The raw bits of non-negative doubles order like the doubles themselves, so they serve as integer keys.
+ * Bucket {@code i > 0} holds the keys whose highest bit that differs from the last popped key is {@code i - 1},
+ * bucket {@code 0} the keys equal to it. Popping from an empty bucket {@code 0} moves the smallest key of the
+ * first non-empty bucket into the last popped position and redistributes that bucket into lower ones.
+ * Every key moves down at most 64 times.
+ * <p>
+ * Lowering a cost adds a second entry, outdated entries are skipped when they surface.
+ * All storage grows with the explored part of the graph and is kept when the queue is cleared.
+ * <p>
+ * [1] Ravindra K. Ahuja, Kurt Mehlhorn, James B. Orlin, Robert E. Tarjan. "Faster Algorithms for the
+ * Shortest Path Problem", Journal of the ACM, 1990.
+ */
+final class RadixHeap implements SearchQueue {
+
+    private static final int BUCKET_COUNT = Long.SIZE + 1;
+
+    private final LongArrayList[] nodes;
+    private final LongArrayList[] keys;
+    // the current cost of every node seen since the last clear, as raw double bits
+    private final HugeLongLongMap costs;
+
+    private long lastKey;
+    private long size;
+
+    RadixHeap() {
+        this.nodes = new LongArrayList[BUCKET_COUNT];
+        this.keys = new LongArrayList[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            nodes[i] = new LongArrayList();
+            keys[i] = new LongArrayList();
+        }
+        this.costs = new HugeLongLongMap();
+    }
+
+    @Override
+    public void add(long node, double cost) {
+        long key = key(cost);
+        costs.put(node, key);
+        push(node, key);
+        size++;
+    }
+
+    @Override
+    public void set(long node, double cost) {
+        long key = key(cost);
+        if (costs.getOrDefault(node, key) != key) {
+            costs.put(node, key);
+            push(node, key);
+        }
+    }
+
+    @Override
+    public boolean containsElement(long node) {
+        return costs.containsKey(node);
+    }
+
+    @Override
+    public long pop() {
+        while (true) {
+            var bucketNodes = nodes[0];
+            if (bucketNodes.isEmpty()) {
+                redistribute();
+                continue;
+            }
+
+            int last = bucketNodes.size() - 1;
+            long node = bucketNodes.removeAt(last);
+            long key = keys[0].removeAt(last);
+            if (isCurrent(node, key)) {
+                size--;
+                return node;
+            }
+        }
+    }
+
+    @Override
+    public double cost(long node) {
+        return Double.longBitsToDouble(costs.getOrDefault(node, 0L));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            nodes[i].clear();
+            keys[i].clear();
+        }
+        costs.clear();
+        lastKey = 0;
+        size = 0;
+    }
+
+    long exploredNodes() {
+        return costs.size();
+    }
+
+    private static long key(double cost) {
+        assert cost >= 0 : "The radix heap only supports non-negative costs";
+        // +0.0 turns -0.0 into +0.0, which has the same ordering as every other non-negative double
+        return Double.doubleToRawLongBits(cost + 0.0);
+    }
+
+    private boolean isCurrent(long node, long key) {
+        return costs.getOrDefault(node, -1L) == key;
+    }
+
+    private int bucket(long key) {
+        return key == lastKey ? 0 : Long.SIZE - Long.numberOfLeadingZeros(key ^ lastKey);
+    }
+
+    private void push(long node, long key) {
+        assert key >= lastKey : "Costs must not be lower than the cost of the last popped node";
+        int bucket = bucket(key);
+        nodes[bucket].add(node);
+        keys[bucket].add(key);
+    }
+
+    private void redistribute() {
+        for (int bucket = 1; bucket < BUCKET_COUNT; bucket++) {
+            var bucketNodes = nodes[bucket];
+            var bucketKeys = keys[bucket];
+            if (bucketNodes.isEmpty()) {
+                continue;
+            }
+
+            long minKey = Long.MAX_VALUE;
+            for (int i = 0; i < bucketNodes.size(); i++) {
+                long key = bucketKeys.get(i);
+                if (key < minKey && isCurrent(bucketNodes.get(i), key)) {
+                    minKey = key;
+                }
+            }
+
+            if (minKey != Long.MAX_VALUE) {
+                lastKey = minKey;
+                // all keys in this bucket share their prefix with the new last key above the bucket's bit
+                for (int i = 0; i < bucketNodes.size(); i++) {
+                    long node = bucketNodes.get(i);
+                    long key = bucketKeys.get(i);
+                    if (isCurrent(node, key)) {
+                        push(node, key);
+                    }
+                }
+            }
+
+            bucketNodes.clear();
+            bucketKeys.clear();
+
+            if (minKey != Long.MAX_VALUE) {
+                return;
+            }
+        }
+        throw new IllegalStateException("The queue is empty");
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+/**
+ * The frontier of a shortest path search.
+ * Costs of popped nodes remain available until the queue is cleared, they are used to build the paths.
+ */
+public interface SearchQueue {
+
+    /**
+     * A queue whose memory grows with the number of nodes seen since the last {@link #clear()}.
+     * It does not require the costs of popped nodes to be monotone.
+     */
+    static SearchQueue sparse() {
+        return new SparseBinaryHeap();
+    }
+
+    /**
+     * Adds a node that has not been seen since the last {@link #clear()}.
+     */
+    void add(long node, double cost);
+
+    /**
+     * Lowers the cost of a node that is still in the queue.
+     */
+    void set(long node, double cost);
+
+    boolean containsElement(long node);
+
+    long pop();
+
+    double cost(long node);
+
+    boolean isEmpty();
+
+    void clear();
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * How the frontier of a shortest path search is stored.
+ * <p>
+ * A binary heap indexed over all nodes is allocated up front, for every search.
+ * A radix heap grows with the explored part of the graph and its state is pooled per thread,
+ * which suits many point-to-point searches on large graphs.
+ * Searches guided by a heuristic use a lazily sized binary heap instead of the radix heap,
+ * as a heuristic does not guarantee monotone keys.
+ * Both find shortest paths of the same cost, but may return different paths among several of equal cost.
+ */
+public enum SearchQueueType {
+    BINARY_HEAP,
+    RADIX_HEAP;
+
+    private static final List<String> VALUES = Arrays
+        .stream(SearchQueueType.values())
+        .map(SearchQueueType::name)
+        .collect(Collectors.toList());
+
+    /**
+     * A search state for a single search, which is returned to its pool once the paths have been consumed.
+     */
+    public SearchState pooledSearchState(long nodeCount, Optional<Dijkstra.HeuristicFunction> heuristicFunction) {
+        return this == RADIX_HEAP
+            ? SearchState.pooled(heuristicFunction)
+            : SearchState.dense(nodeCount, heuristicFunction);
+    }
+
+    /**
+     * A search state that is owned by the caller and can be reused across searches.
+     */
+    public SearchState searchState(long nodeCount, Optional<Dijkstra.HeuristicFunction> heuristicFunction) {
+        return this == RADIX_HEAP
+            ? SearchState.sparse(heuristicFunction)
+            : SearchState.dense(nodeCount, heuristicFunction);
+    }
+
+    public static SearchQueueType parse(Object input) {
+        if (input instanceof String) {
+            var inputString = (String) input;
+            // accept the camel case spelling of the other configuration keys, e.g. `radixHeap`
+            var constantName = inputString.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ENGLISH);
+            if (VALUES.contains(constantName)) {
+                return SearchQueueType.valueOf(constantName);
+            }
+
+            throw new IllegalArgumentException(String.format(
+                Locale.ENGLISH,
+                "Search queue `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        }
+        else if (input instanceof SearchQueueType) {
+            return (SearchQueueType) input;
+        }
+
+        throw new IllegalArgumentException(String.format(
+            Locale.ENGLISH,
+            "Expected SearchQueueType or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(SearchQueueType searchQueueType) {
+        return searchQueueType.toString();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+
+import java.util.Optional;
+
+/**
+ * The mutable state of a single {@link Dijkstra} traversal: the queue, the predecessor and relationship maps
+ * and the visited set.
+ * <p>
+ * A dense state sizes the queue by the node count before the search starts. A sparse state grows with the
+ * explored part of the graph instead, which makes point-to-point searches on large graphs independent of their
+ * size. Sparse states can be pooled per thread, a released state is reused by the next search on that thread
+ * unless it grew beyond {@link #RETAIN_LIMIT} nodes, which would make clearing it more expensive than
+ * allocating a new one.
+ */
+public final class SearchState {
+
+    static final long RETAIN_LIMIT = 1L << 16;
+
+    private static final ThreadLocal<SearchState> POOL = new ThreadLocal<>();
+
+    private final HugeLongLongMap predecessors;
+    private final HugeLongLongMap relationships;
+    private final @Nullable BitSet visitedBits;
+    private final @Nullable LongHashSet visitedNodes;
+    private final @Nullable RadixHeap radixHeap;
+    private final @Nullable SparseBinaryHeap binaryHeap;
+    private final boolean pooled;
+
+    private SearchQueue queue;
+
+    public static SearchState dense(long nodeCount, Optional<Dijkstra.HeuristicFunction> heuristicFunction) {
+        return new SearchState(new DenseSearchQueue(nodeCount, heuristicFunction));
+    }
+
+    /**
+     * A lazily sized state, which uses a radix heap unless a heuristic is given.
+     */
+    public static SearchState sparse(Optional<Dijkstra.HeuristicFunction> heuristicFunction) {
+        return new SearchState(false).prepare(heuristicFunction);
+    }
+
+    /**
+     * A lazily sized state that is returned to the pool of the current thread by {@link #release()}.
+     */
+    public static SearchState pooled(Optional<Dijkstra.HeuristicFunction> heuristicFunction) {
+        var state = POOL.get();
+        if (state == null) {
+            state = new SearchState(true);
+        } else {
+            POOL.remove();
+        }
+        return state.prepare(heuristicFunction);
+    }
+
+    private SearchState(DenseSearchQueue queue) {
+        this.predecessors = new HugeLongLongMap();
+        this.relationships = new HugeLongLongMap();
+        this.visitedBits = new BitSet();
+        this.visitedNodes = null;
+        this.radixHeap = null;
+        this.binaryHeap = null;
+        this.pooled = false;
+        this.queue = queue;
+    }
+
+    private SearchState(boolean pooled) {
+        this.predecessors = new HugeLongLongMap();
+        this.relationships = new HugeLongLongMap();
+        this.visitedBits = null;
+        this.visitedNodes = new LongHashSet();
+        this.radixHeap = new RadixHeap();
+        this.binaryHeap = new SparseBinaryHeap();
+        this.pooled = pooled;
+    }
+
+    private SearchState prepare(Optional<Dijkstra.HeuristicFunction> heuristicFunction) {
+        if (heuristicFunction.isPresent()) {
+            binaryHeap.heuristic(heuristicFunction.get());
+            queue = binaryHeap;
+        } else {
+            queue = radixHeap;
+        }
+        return this;
+    }
+
+    SearchQueue queue() {
+        return queue;
+    }
+
+    HugeLongLongMap predecessors() {
+        return predecessors;
+    }
+
+    HugeLongLongMap relationships() {
+        return relationships;
+    }
+
+    void markVisited(long node) {
+        if (visitedBits != null) {
+            visitedBits.set(node);
+        } else {
+            visitedNodes.add(node);
+        }
+    }
+
+    boolean isVisited(long node) {
+        return visitedBits != null ? visitedBits.get(node) : visitedNodes.contains(node);
+    }
+
+    void clearVisited() {
+        if (visitedBits != null) {
+            visitedBits.clear();
+        } else {
+            visitedNodes.clear();
+        }
+    }
+
+    /**
+     * Returns a pooled state to the pool of the current thread, the state must not be used afterwards.
+     * Does nothing for states that are not pooled.
+     */
+    public void release() {
+        if (!pooled || exploredNodes() > RETAIN_LIMIT) {
+            return;
+        }
+        queue.clear();
+        predecessors.clear();
+        relationships.clear();
+        clearVisited();
+        POOL.set(this);
+    }
+
+    private long exploredNodes() {
+        return Math.max(
+            Math.max(radixHeap.exploredNodes(), binaryHeap.exploredNodes()),
+            Math.max(predecessors.size(), visitedNodes.size())
+        );
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+
+import java.util.Arrays;
+
+/**
+ * A binary heap whose storage grows with the explored part of the graph.
+ * Lowering a cost adds a second entry, outdated entries are skipped when they surface.
+ * <p>
+ * Entries are ordered by their cost plus an optional heuristic. Unlike the {@link RadixHeap},
+ * this does not require the order of popped entries to be monotone, which heuristics do not guarantee.
+ */
+final class SparseBinaryHeap implements SearchQueue {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // the current cost of every node seen since the last clear, as raw double bits
+    private final HugeLongLongMap costs;
+
+    private Dijkstra.HeuristicFunction heuristic;
+
+    private long[] heapNodes;
+    private long[] heapCosts;
+    private double[] heapPriorities;
+    private int heapSize;
+    private long size;
+
+    SparseBinaryHeap() {
+        this.costs = new HugeLongLongMap();
+        this.heuristic = node -> 0.0;
+        this.heapNodes = new long[INITIAL_CAPACITY];
+        this.heapCosts = new long[INITIAL_CAPACITY];
+        this.heapPriorities = new double[INITIAL_CAPACITY];
+    }
+
+    void heuristic(Dijkstra.HeuristicFunction heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    @Override
+    public void add(long node, double cost) {
+        long bits = Double.doubleToRawLongBits(cost);
+        costs.put(node, bits);
+        push(node, bits, cost + heuristic.applyAsDouble(node));
+        size++;
+    }
+
+    @Override
+    public void set(long node, double cost) {
+        long bits = Double.doubleToRawLongBits(cost);
+        if (costs.getOrDefault(node, bits) != bits) {
+            costs.put(node, bits);
+            push(node, bits, cost + heuristic.applyAsDouble(node));
+        }
+    }
+
+    @Override
+    public boolean containsElement(long node) {
+        return costs.containsKey(node);
+    }
+
+    @Override
+    public long pop() {
+        while (true) {
+            if (heapSize == 0) {
+                throw new IllegalStateException("The queue is empty");
+            }
+            long node = heapNodes[0];
+            long bits = heapCosts[0];
+            removeTop();
+            if (costs.getOrDefault(node, ~bits) == bits) {
+                size--;
+                return node;
+            }
+        }
+    }
+
+    @Override
+    public double cost(long node) {
+        return Double.longBitsToDouble(costs.getOrDefault(node, 0L));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        costs.clear();
+        heapSize = 0;
+        size = 0;
+    }
+
+    long exploredNodes() {
+        return costs.size();
+    }
+
+    private void push(long node, long costBits, double priority) {
+        if (heapSize == heapNodes.length) {
+            int capacity = heapSize + (heapSize >> 1);
+            heapNodes = Arrays.copyOf(heapNodes, capacity);
+            heapCosts = Arrays.copyOf(heapCosts, capacity);
+            heapPriorities = Arrays.copyOf(heapPriorities, capacity);
+        }
+
+        int position = heapSize++;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heapPriorities[parent] <= priority) {
+                break;
+            }
+            move(parent, position);
+            position = parent;
+        }
+        heapNodes[position] = node;
+        heapCosts[position] = costBits;
+        heapPriorities[position] = priority;
+    }
+
+    private void removeTop() {
+        int last = --heapSize;
+        if (last == 0) {
+            return;
+        }
+
+        long node = heapNodes[last];
+        long costBits = heapCosts[last];
+        double priority = heapPriorities[last];
+
+        int position = 0;
+        int child;
+        while ((child = 2 * position + 1) < last) {
+            if (child + 1 < last && heapPriorities[child + 1] < heapPriorities[child]) {
+                child++;
+            }
+            if (priority <= heapPriorities[child]) {
+                break;
+            }
+            move(child, position);
+            position = child;
+        }
+        heapNodes[position] = node;
+        heapCosts[position] = costBits;
+        heapPriorities[position] = priority;
+    }
+
+    private void move(int from, int to) {
+        heapNodes[to] = heapNodes[from];
+        heapCosts[to] = heapCosts[from];
+        heapPriorities[to] = heapPriorities[from];
+    }
+}
@@ -22,11 +22,16 @@ package org.neo4j.gds.paths.dijkstra.config;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.OptionalTargetNodeConfig;
 import org.neo4j.gds.config.TargetNodesConfig;
+import org.neo4j.gds.paths.contraction.ContractionHierarchyConfig;
 import org.neo4j.gds.paths.dijkstra.DijkstraMemoryEstimateParameters;
 
 import java.util.List;
 
-public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfig, TargetNodesConfig, DijkstraBaseConfig {
+public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfig,
+    TargetNodesConfig,
+    DijkstraBaseConfig,
+    SearchQueueConfig,
+    ContractionHierarchyConfig {
 
     @Configuration.Ignore
     default List<Long> targetsList() {
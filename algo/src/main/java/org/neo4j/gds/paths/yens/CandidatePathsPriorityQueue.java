@@ -22,33 +22,55 @@ package org.neo4j.gds.paths.yens;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
  class CandidatePathsPriorityQueue {
 
     private final ReentrantLock candidateLock;
     private final PriorityQueue<MutablePathResult> candidates;
+    // the paths in the queue, to reject duplicates without scanning the heap
+    private final Set<MutablePathResult> queuedPaths;
 
     CandidatePathsPriorityQueue(){
         this.candidateLock = new ReentrantLock();
         this.candidates = initCandidatesQueue();
+        this.queuedPaths = new HashSet<>();
      }
 
     void addPath(MutablePathResult rootPath){
         candidateLock.lock();
-        if (!candidates.contains(rootPath)) {
-            candidates.add(rootPath);
+        try {
+            if (queuedPaths.add(rootPath)) {
+                candidates.add(rootPath);
+            }
+        } finally {
+            candidateLock.unlock();
         }
-        candidateLock.unlock();
     }
 
     MutablePathResult pop(){
-        return candidates.poll();
+        candidateLock.lock();
+        try {
+            var path = candidates.poll();
+            if (path != null) {
+                queuedPaths.remove(path);
+            }
+            return path;
+        } finally {
+            candidateLock.unlock();
+        }
     }
 
     boolean isEmpty(){
-        return candidates.isEmpty();
+        candidateLock.lock();
+        try {
+            return candidates.isEmpty();
+        } finally {
+            candidateLock.unlock();
+        }
     }
 
      @NotNull
@@ -57,6 +57,11 @@ class RelationshipFilterer {
     void prepare(){
         Arrays.sort(neighbors,0,allNeighbors);
     }
+
+    // allows the relationships of the spur node to be filtered again, in the same order
+    void rewind(){
+        this.neighborIndex = 0;
+    }
      boolean validRelationship(long source, long target, long relationshipId) {
         if (source == filteringSpurNode) {
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.yens;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.termination.TerminationFlag;
+
+/**
+ * The shortest path tree towards a single target node.
+ * For every node it stores the cost of a shortest path to the target
+ * and the next node and relationship weight on that path.
+ * The tree is computed once by a Dijkstra search that follows relationships backwards,
+ * which requires the graph to be either undirected or inverse indexed.
+ */
+final class ShortestPathTree {
+
+    static final long NO_NEXT = -1L;
+
+    private final long target;
+    private final HugeDoubleArray distances;
+    private final HugeLongArray nextNodes;
+    private final HugeDoubleArray nextWeights;
+
+    static boolean supports(Graph graph) {
+        var characteristics = graph.characteristics();
+        return characteristics.isUndirected() || characteristics.isInverseIndexed();
+    }
+
+    static ShortestPathTree towards(Graph graph, long target, TerminationFlag terminationFlag) {
+        assert supports(graph);
+
+        long nodeCount = graph.nodeCount();
+        var distances = HugeDoubleArray.newArray(nodeCount);
+        distances.fill(Double.POSITIVE_INFINITY);
+        var nextNodes = HugeLongArray.newArray(nodeCount);
+        nextNodes.fill(NO_NEXT);
+        var nextWeights = HugeDoubleArray.newArray(nodeCount);
+
+        var settled = new BitSet(nodeCount);
+        var queue = HugeLongPriorityQueue.min(nodeCount);
+        boolean undirected = graph.characteristics().isUndirected();
+
+        distances.set(target, 0.0D);
+        queue.add(target, 0.0D);
+
+        while (!queue.isEmpty()) {
+            terminationFlag.assertRunning();
+
+            long node = queue.pop();
+            settled.set(node);
+            double distance = distances.get(node);
+
+            // for inverse relationships, `other` is the source of a relationship that ends in `node`
+            RelationshipWithPropertyConsumer relax = (ignored, other, weight) -> {
+                if (!settled.get(other)) {
+                    double cost = distance + weight;
+                    if (cost < distances.get(other)) {
+                        if (queue.containsElement(other)) {
+                            queue.set(other, cost);
+                        } else {
+                            queue.add(other, cost);
+                        }
+                        distances.set(other, cost);
+                        nextNodes.set(other, node);
+                        nextWeights.set(other, weight);
+                    }
+                }
+                return true;
+            };
+
+            if (undirected) {
+                graph.forEachRelationship(node, 1.0D, relax);
+            } else {
+                graph.forEachInverseRelationship(node, 1.0D, relax);
+            }
+        }
+        queue.release();
+
+        return new ShortestPathTree(target, distances, nextNodes, nextWeights);
+    }
+
+    private ShortestPathTree(
+        long target,
+        HugeDoubleArray distances,
+        HugeLongArray nextNodes,
+        HugeDoubleArray nextWeights
+    ) {
+        this.target = target;
+        this.distances = distances;
+        this.nextNodes = nextNodes;
+        this.nextWeights = nextWeights;
+    }
+
+    long target() {
+        return target;
+    }
+
+    /**
+     * The cost of a shortest path from the given node to the target, or infinity if the target is unreachable.
+     */
+    double distance(long node) {
+        return distances.get(node);
+    }
+
+    /**
+     * The successor of the given node on its shortest path to the target, or {@link #NO_NEXT}.
+     */
+    long next(long node) {
+        return nextNodes.get(node);
+    }
+
+    /**
+     * The weight of the relationship from the given node to its successor.
+     */
+    double nextWeight(long node) {
+        return nextWeights.get(node);
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.yens;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Concurrency;
@@ -100,7 +101,8 @@ public final class Yens extends Algorithm<PathFindingResult> {
 
         AtomicInteger currentSpurIndexId = new AtomicInteger(0);
 
-        var tasks = createTasks(kShortestPaths, candidatePathsQueue, currentSpurIndexId);
+        var shortestPathTree = shortestPathTree();
+        var tasks = createTasks(kShortestPaths, candidatePathsQueue, currentSpurIndexId, shortestPathTree);
 
         progressTracker.beginSubTask("Path growing");
 
@@ -148,7 +150,8 @@ public final class Yens extends Algorithm<PathFindingResult> {
     private ArrayList<YensTask> createTasks(
         ArrayList<MutablePathResult> kShortestPaths,
         CandidatePathsPriorityQueue candidatePathsQueue,
-        AtomicInteger currentSpurIndexId
+        AtomicInteger currentSpurIndexId,
+        @Nullable ShortestPathTree shortestPathTree
     ) {
         var tasks = new ArrayList<YensTask>();
         for (int concurrentId = 0; concurrentId < concurrency.value(); ++concurrentId) {
@@ -160,19 +163,32 @@ public final class Yens extends Algorithm<PathFindingResult> {
                 currentSpurIndexId,
                 trackRelationships,
                 config.k(),
+                config.searchQueue(),
+                shortestPathTree,
                 terminationFlag
             ));
         }
         return tasks;
     }
 
+    /**
+     * The shortest path tree towards the target, if spur paths should be derived from it.
+     * Multi-graphs are not supported, as the tree does not record which of the parallel relationships it follows.
+     */
+    private @Nullable ShortestPathTree shortestPathTree() {
+        if (!config.reuseShortestPathTree() || config.k() == 1 || trackRelationships || !ShortestPathTree.supports(graph)) {
+            return null;
+        }
+        return ShortestPathTree.towards(graph, graph.toMappedNodeId(config.targetNode()), terminationFlag);
+    }
+
     private Optional<PathResult> findFirstPath() {
         var dijkstra = new Dijkstra(
             graph,
             graph.toMappedNodeId(config.sourceNode()),
             new SingleTarget(graph.toMappedNodeId(config.targetNode())),
             trackRelationships,
-            Optional.empty(),
+            config.searchQueue().pooledSearchState(graph.nodeCount(), Optional.empty()),
             progressTracker,
             terminationFlag
         );
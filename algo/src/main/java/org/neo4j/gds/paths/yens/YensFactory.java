@@ -33,7 +33,10 @@ public class YensFactory<CONFIG extends ShortestPathYensBaseConfig> extends Grap
 
     @Override
     public MemoryEstimation memoryEstimation(ShortestPathYensBaseConfig configuration) {
-        return new YensMemoryEstimateDefinition(configuration.k()).memoryEstimation();
+        return new YensMemoryEstimateDefinition(
+            configuration.k(),
+            configuration.reuseShortestPathTree()
+        ).memoryEstimation();
     }
 
     @Override
@@ -19,6 +19,9 @@
  */
 package org.neo4j.gds.paths.yens;
 
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
@@ -29,21 +32,49 @@ import org.neo4j.gds.paths.dijkstra.DijkstraMemoryEstimateParameters;
 public class YensMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
     private final int numberOfShortestPathsToFind;
+    private final boolean reuseShortestPathTree;
 
     public YensMemoryEstimateDefinition(int numberOfShortestPathsToFind) {
+        this(numberOfShortestPathsToFind, false);
+    }
+
+    public YensMemoryEstimateDefinition(int numberOfShortestPathsToFind, boolean reuseShortestPathTree) {
         this.numberOfShortestPathsToFind = numberOfShortestPathsToFind;
+        this.reuseShortestPathTree = reuseShortestPathTree;
     }
 
     @Override
     public MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(Yens.class)
-            .perThread("Yens Task", MemoryEstimations.builder(YensTask.class)
-                .fixed("neighbors", Estimate.sizeOfLongArray(numberOfShortestPathsToFind))
-                .add(
-                    "Dijkstra",
-                    new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(true, false))
-                        .memoryEstimation()
-                ).build())
+        // the tree is only built when there are spur paths to derive from it
+        boolean buildsShortestPathTree = reuseShortestPathTree && numberOfShortestPathsToFind > 1;
+
+        var taskBuilder = MemoryEstimations.builder(YensTask.class)
+            .fixed("neighbors", Estimate.sizeOfLongArray(numberOfShortestPathsToFind))
+            .add(
+                "Dijkstra",
+                new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(true, false))
+                    .memoryEstimation()
+            );
+        if (buildsShortestPathTree) {
+            taskBuilder.perNode("root path nodes", Estimate::sizeOfBitset);
+        }
+
+        var builder = MemoryEstimations.builder(Yens.class);
+        if (buildsShortestPathTree) {
+            builder.add("Shortest path tree", shortestPathTreeEstimation());
+        }
+        return builder
+            .perThread("Yens Task", taskBuilder.build())
+            .build();
+    }
+
+    private static MemoryEstimation shortestPathTreeEstimation() {
+        return MemoryEstimations.builder(ShortestPathTree.class)
+            .perNode("distances", HugeDoubleArray::memoryEstimation)
+            .perNode("next nodes", HugeLongArray::memoryEstimation)
+            .perNode("next weights", HugeDoubleArray::memoryEstimation)
+            .perNode("settled", Estimate::sizeOfBitset)
+            .add("queue", HugeLongPriorityQueue.memoryEstimation())
             .build();
     }
 
@@ -19,11 +19,20 @@
  */
 package org.neo4j.gds.paths.yens;
 
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.apache.commons.lang3.mutable.MutableLong;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ImmutablePathResult;
 import org.neo4j.gds.paths.PathResult;
 import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.SearchQueueType;
+import org.neo4j.gds.paths.dijkstra.Targets;
 import org.neo4j.gds.paths.dijkstra.config.DijkstraSourceTargetsBaseConfig;
 import org.neo4j.gds.termination.TerminationFlag;
 
@@ -31,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 public class YensTask implements Runnable {
     private final Graph localGraph;
@@ -48,7 +58,12 @@ public class YensTask implements Runnable {
     private final ArrayList<MutablePathResult> kShortestPaths;
     private final CandidatePathsPriorityQueue candidatePathsQueue;
     private final BiConsumer<MutablePathResult, PathResult> pathAppender;
+    private final SearchQueueType searchQueueType;
     private final TerminationFlag terminationFlag;
+    // Shortest path tree towards the target, shared by all tasks.
+    // Spur paths are derived from it where possible and it guides the remaining Dijkstra searches.
+    private final @Nullable ShortestPathTree shortestPathTree;
+    private @Nullable BitSet rootPathNodes;
 
     YensTask(
         Graph graph,
@@ -58,6 +73,8 @@ public class YensTask implements Runnable {
         AtomicInteger currentSpurIndexId,
         boolean trackRelationships,
         int k,
+        SearchQueueType searchQueueType,
+        @Nullable ShortestPathTree shortestPathTree,
         TerminationFlag terminationFlag
     ) {
         this.currentSpurIndexId = currentSpurIndexId;
@@ -69,6 +86,8 @@ public class YensTask implements Runnable {
         this.kShortestPaths = kShortestPaths;
         this.candidatePathsQueue = candidatePathsQueue;
 
+        this.searchQueueType = searchQueueType;
+        this.shortestPathTree = shortestPathTree;
         this.terminationFlag = terminationFlag;
 
         this.relationshipFilterer = new RelationshipFilterer(k, trackRelationships);
@@ -103,6 +122,10 @@ public class YensTask implements Runnable {
 
         createFilters(rootPath, spurNode, indexId);
 
+        if (shortestPathTree != null && deviateFromTree(rootPath, spurNode, indexId)) {
+            return;
+        }
+
         // Calculate the spur path from the spur node to the sink.
         var spurPath = computeDijkstra(spurNode);
 
@@ -130,6 +153,90 @@ public class YensTask implements Runnable {
         }
     }
 
+    /**
+     * Tries to find the spur path by looking only at the relationships of the spur node.
+     * Following a relationship to a neighbour and then the shortest path tree is never cheaper than
+     * the neighbour's distance to the target, so the best of these is a shortest spur path,
+     * provided that its tree part avoids the root path.
+     *
+     * @return true, iff the spur node has been resolved, either by storing a candidate or by
+     *     proving that there is none; false, if a Dijkstra search is required
+     */
+    private boolean deviateFromTree(MutablePathResult rootPath, long spurNode, int indexId) {
+        var tree = shortestPathTree;
+        var blocked = rootPathNodes;
+        for (int j = 0; j <= indexId; j++) {
+            blocked.set(rootPath.node(j));
+        }
+
+        var bestCost = new MutableDouble(Double.POSITIVE_INFINITY);
+        var bestNeighbour = new MutableLong(ShortestPathTree.NO_NEXT);
+        var bestWeight = new MutableDouble();
+        var relationshipId = new MutableInt();
+        localGraph.forEachRelationship(spurNode, 1.0D, (source, target, weight) -> {
+            if (relationshipFilterer.validRelationship(source, target, relationshipId.getAndIncrement())
+                && !blocked.get(target)) {
+                double cost = weight + tree.distance(target);
+                if (cost < bestCost.doubleValue()) {
+                    bestCost.setValue(cost);
+                    bestNeighbour.setValue(target);
+                    bestWeight.setValue(weight);
+                }
+            }
+            return true;
+        });
+        relationshipFilterer.rewind();
+
+        boolean resolved;
+        if (bestNeighbour.longValue() == ShortestPathTree.NO_NEXT) {
+            // no unfiltered neighbour reaches the target at all
+            resolved = true;
+        } else {
+            var spurPath = treePath(spurNode, bestNeighbour.longValue(), bestWeight.doubleValue(), blocked);
+            if (spurPath != null) {
+                storePath(indexId, rootPath, spurPath);
+            }
+            resolved = spurPath != null;
+        }
+
+        for (int j = 0; j <= indexId; j++) {
+            blocked.clear(rootPath.node(j));
+        }
+        return resolved;
+    }
+
+    private @Nullable PathResult treePath(long spurNode, long neighbour, double weight, BitSet blocked) {
+        var tree = shortestPathTree;
+        var nodeIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+        nodeIds.add(spurNode);
+        costs.add(0.0D);
+
+        long node = neighbour;
+        double cost = weight;
+        while (true) {
+            if (blocked.get(node)) {
+                return null;
+            }
+            nodeIds.add(node);
+            costs.add(cost);
+            if (node == tree.target()) {
+                break;
+            }
+            cost += tree.nextWeight(node);
+            node = tree.next(node);
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(spurNode)
+            .targetNode(node)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(new long[0])
+            .costs(costs.toArray())
+            .build();
+    }
+
     private Optional<PathResult> computeDijkstra(long spurNode) {
         localDijkstra.withSourceNode(spurNode);
         return localDijkstra.compute().findFirst();
@@ -153,12 +260,21 @@ public class YensTask implements Runnable {
     private void setupDijkstra() {
 
         DijkstraSourceTargetsBaseConfig config = Yens.dijkstraConfig(targetNode);
-        this.localDijkstra = Dijkstra.sourceTarget(
+        // The distances in the shortest path tree are exact in the unfiltered graph,
+        // so they are a consistent lower bound for the filtered searches.
+        Optional<Dijkstra.HeuristicFunction> heuristic = shortestPathTree == null
+            ? Optional.empty()
+            : Optional.<Dijkstra.HeuristicFunction>of(shortestPathTree::distance);
+        if (shortestPathTree != null) {
+            this.rootPathNodes = new BitSet(localGraph.nodeCount());
+        }
+        // the task owns its search state and reuses it for every spur node
+        this.localDijkstra = new Dijkstra(
             localGraph,
-            config.sourceNode(),
-            config.targetsList(),
+            localGraph.toMappedNodeId(config.sourceNode()),
+            Targets.of(config.targetsList().stream().map(localGraph::toMappedNodeId).collect(Collectors.toList())),
             trackRelationships,
-            Optional.empty(),
+            searchQueueType.searchState(localGraph.nodeCount(), heuristic),
             ProgressTracker.NULL_TRACKER,
             terminationFlag
         );
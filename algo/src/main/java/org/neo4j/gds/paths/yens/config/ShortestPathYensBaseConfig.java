@@ -24,13 +24,20 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.config.SourceNodeConfig;
 import org.neo4j.gds.config.TargetNodeConfig;
+import org.neo4j.gds.paths.dijkstra.config.SearchQueueConfig;
 
 public interface ShortestPathYensBaseConfig extends TargetNodeConfig,
     AlgoBaseConfig,
     SourceNodeConfig,
-    RelationshipWeightConfig {
+    RelationshipWeightConfig,
+    SearchQueueConfig {
 
     // Number of shortest paths to compute
     @Configuration.IntegerRange(min = 1)
     int k();
+
+    // Derive spur paths from the shortest path tree towards the target where possible
+    default boolean reuseShortestPathTree() {
+        return false;
+    }
 }
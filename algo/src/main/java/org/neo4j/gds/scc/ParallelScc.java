@@ -0,0 +1,592 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Parallel strongly connected components, producing the same components as {@link Scc}.
+ * <p>
+ * The computation runs in three phases:
+ * <ol>
+ *     <li>Trimming: nodes without open incoming or outgoing relationships are components on their own,
+ *     as are pairs of nodes which are each other's only open in- or out-neighbour.
+ *     Trimming a node may make its neighbours trimmable, so they are checked again until no node is left to trim.</li>
+ *     <li>Forward-backward: the component of a high degree pivot, usually the giant component,
+ *     is the intersection of the nodes reachable from the pivot and the nodes reaching it.
+ *     Both are found by level synchronous parallel breadth first searches.</li>
+ *     <li>Coloring: the largest node id reaching a node is propagated along relationships in parallel.
+ *     Every node that keeps its own id as color is the root of a component, which consists of the nodes
+ *     of that color which reach the root. The roots are resolved in parallel and coloring is repeated
+ *     on the remaining nodes. Once only few nodes remain, their components are computed by {@link Scc},
+ *     as a coloring round scans all nodes no matter how few of them are still open.</li>
+ * </ol>
+ * Every component is identified by the id of one of its nodes.
+ * The backward searches follow inverse relationships, so directed graphs must be inverse indexed.
+ *
+ * https://www.osti.gov/servlets/purl/1115145 (Slota, Rajamanickam, Madduri: BFS and Coloring-based
+ * Parallel Algorithms for Strongly Connected Components and Related Problems)
+ */
+public final class ParallelScc extends Algorithm<HugeLongArray> {
+
+    private static final long UNASSIGNED = Scc.UNORDERED;
+    private static final int BATCH_SIZE = 64;
+    static final long DEFAULT_SEQUENTIAL_THRESHOLD = 10_000;
+    private static final long NONE = -1L;
+    private static final long MANY = -2L;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final boolean undirected;
+    private final long nodeCount;
+    private final long sequentialThreshold;
+    private final HugeLongArray components;
+
+    public static Task progressTask(String taskName, long nodeCount) {
+        return Tasks.task(
+            taskName,
+            Tasks.leaf("Trim", nodeCount),
+            Tasks.leaf("Forward-backward", nodeCount),
+            Tasks.leaf("Coloring", nodeCount)
+        );
+    }
+
+    public ParallelScc(
+        Graph graph,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this(graph, concurrency, executorService, DEFAULT_SEQUENTIAL_THRESHOLD, progressTracker, terminationFlag);
+    }
+
+    /**
+     * @param sequentialThreshold the number of open nodes below which coloring stops and {@link Scc} takes over
+     */
+    ParallelScc(
+        Graph graph,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        long sequentialThreshold,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "Parallel SCC requires an undirected graph or relationships projected with `indexInverse: true`.");
+        }
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.undirected = graph.characteristics().isUndirected();
+        this.nodeCount = graph.nodeCount();
+        this.sequentialThreshold = sequentialThreshold;
+        this.components = HugeLongArray.newArray(nodeCount);
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public HugeLongArray compute() {
+        progressTracker.beginSubTask();
+        components.fill(UNASSIGNED);
+
+        var current = HugeLongArray.newArray(nodeCount);
+        var next = HugeLongArray.newArray(nodeCount);
+
+        progressTracker.beginSubTask();
+        trim(current, next);
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        forwardBackward(current, next);
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        coloring(current, next);
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+        return components;
+    }
+
+    /**
+     * A node is only assigned once its whole component is known, so nodes which are
+     * already assigned can be ignored while trimming the remaining ones concurrently.
+     */
+    private void trim(HugeLongArray current, HugeLongArray next) {
+        var partners = current;
+        var queued = HugeAtomicBitSet.create(nodeCount);
+        var trimmed = new LongAdder();
+        // a node can only become trimmable once one of its neighbours is trimmed,
+        // so after checking all nodes once, only the open neighbours of trimmed nodes are checked again
+        Expansion expansion = (localGraph, node, emit) -> {
+            if (isOpen(node) && (openNeighbour(localGraph, node, false) == NONE
+                                 || openNeighbour(localGraph, node, true) == NONE)) {
+                assign(node, node);
+                trimmed.increment();
+                NeighbourConsumer enqueue = other -> {
+                    if (isOpen(other) && !queued.getAndSet(other)) {
+                        emit.accept(other);
+                    }
+                    return true;
+                };
+                forEachNeighbour(localGraph, node, false, enqueue);
+                if (!undirected) {
+                    forEachNeighbour(localGraph, node, true, enqueue);
+                }
+            }
+        };
+
+        long size = step(node -> node, nodeCount, current, expansion);
+        while (size > 0) {
+            progressTracker.logProgress(trimmed.sumThenReset());
+            var frontier = current;
+            forEachInParallel(size, (localGraph, start, end) -> {
+                for (long index = start; index < end; index++) {
+                    queued.clear(frontier.get(index));
+                }
+            });
+            size = step(frontier::get, size, next, expansion);
+            current = next;
+            next = frontier;
+        }
+        progressTracker.logProgress(trimmed.sum());
+
+        // pairs are found first and assigned afterwards, so that no pair is ever seen half assigned
+        forEachInParallel(nodeCount, (localGraph, start, end) -> {
+            for (long node = start; node < end; node++) {
+                partners.set(node, isOpen(node) ? partner(localGraph, node) : NONE);
+            }
+        });
+        var pairNodes = new LongAdder();
+        forEachInParallel(nodeCount, (localGraph, start, end) -> {
+            for (long node = start; node < end; node++) {
+                long partner = partners.get(node);
+                if (partner != NONE) {
+                    assign(node, node);
+                    assign(partner, node);
+                    pairNodes.add(2);
+                }
+            }
+        });
+        progressTracker.logProgress(pairNodes.sum());
+    }
+
+    /**
+     * The other node, if the given node and its only open in- or out-neighbour have each other
+     * as only open in- or out-neighbour, in which case they form a component.
+     * Only the smaller node of such a pair reports it.
+     */
+    private long partner(Graph localGraph, long node) {
+        for (boolean inverse : new boolean[]{false, true}) {
+            long other = openNeighbour(localGraph, node, inverse);
+            if (other > node && openNeighbour(localGraph, other, inverse) == node) {
+                return other;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * The only open neighbour of the given node other than itself,
+     * {@link #NONE} if it has no open neighbours or {@link #MANY} if it has more than one.
+     */
+    private long openNeighbour(Graph localGraph, long node, boolean inverse) {
+        var neighbour = new long[]{NONE};
+        forEachNeighbour(localGraph, node, inverse, other -> {
+            if (other == node || other == neighbour[0] || !isOpen(other)) {
+                return true;
+            }
+            if (neighbour[0] != NONE) {
+                neighbour[0] = MANY;
+                return false;
+            }
+            neighbour[0] = other;
+            return true;
+        });
+        return neighbour[0];
+    }
+
+    private void forwardBackward(HugeLongArray current, HugeLongArray next) {
+        long pivot = pivot();
+        if (pivot == NONE) {
+            return;
+        }
+
+        var forward = HugeAtomicBitSet.create(nodeCount);
+        forward.set(pivot);
+        current.set(0, pivot);
+        long size = 1;
+        while (size > 0) {
+            var frontier = current;
+            size = step(frontier::get, size, next, (localGraph, node, emit) -> forEachNeighbour(localGraph, node, false, other -> {
+                if (isOpen(other) && !forward.getAndSet(other)) {
+                    emit.accept(other);
+                }
+                return true;
+            }));
+            current = next;
+            next = frontier;
+        }
+
+        // the nodes reaching the pivot among those reachable from it form its component
+        var backward = HugeAtomicBitSet.create(nodeCount);
+        backward.set(pivot);
+        assign(pivot, pivot);
+        current.set(0, pivot);
+        size = 1;
+        long componentSize = 1;
+        while (size > 0) {
+            var frontier = current;
+            size = step(frontier::get, size, next, (localGraph, node, emit) -> forEachNeighbour(localGraph, node, true, other -> {
+                if (forward.get(other) && !backward.getAndSet(other)) {
+                    assign(other, pivot);
+                    emit.accept(other);
+                }
+                return true;
+            }));
+            componentSize += size;
+            current = next;
+            next = frontier;
+        }
+        progressTracker.logProgress(componentSize);
+    }
+
+    /**
+     * The open node with the largest product of in- and out-degree, which likely belongs to the largest component.
+     */
+    private long pivot() {
+        var candidates = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> new PivotTask(partition.startNode(), partition.startNode() + partition.nodeCount()),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(candidates)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        long pivot = NONE;
+        long bestScore = -1;
+        for (var candidate : candidates) {
+            if (candidate.score > bestScore) {
+                bestScore = candidate.score;
+                pivot = candidate.pivot;
+            }
+        }
+        return pivot;
+    }
+
+    private void coloring(HugeLongArray current, HugeLongArray next) {
+        var colors = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        var queued = HugeAtomicBitSet.create(nodeCount);
+
+        long size;
+        while ((size = step(node -> node, nodeCount, current, (localGraph, node, emit) -> {
+            if (isOpen(node)) {
+                colors.set(node, node);
+                emit.accept(node);
+            }
+        })) > 0) {
+            if (size < sequentialThreshold) {
+                sequential(current, size);
+                return;
+            }
+
+            // propagate the largest color to all reachable open nodes
+            while (size > 0) {
+                var frontier = current;
+                var nextFrontier = next;
+                size = step(frontier::get, size, nextFrontier, (localGraph, node, emit) -> {
+                    long color = colors.get(node);
+                    forEachNeighbour(localGraph, node, false, other -> {
+                        if (isOpen(other) && raise(colors, other, color) && !queued.getAndSet(other)) {
+                            emit.accept(other);
+                        }
+                        return true;
+                    });
+                });
+                forEachInParallel(size, (localGraph, start, end) -> {
+                    for (long index = start; index < end; index++) {
+                        queued.clear(nextFrontier.get(index));
+                    }
+                });
+                current = nextFrontier;
+                next = frontier;
+            }
+
+            long rootCount = step(node -> node, nodeCount, current, (localGraph, node, emit) -> {
+                if (isOpen(node) && colors.get(node) == node) {
+                    emit.accept(node);
+                }
+            });
+
+            // roots have distinct colors, so their components are resolved independently
+            var roots = current;
+            forEachInParallel(rootCount, (localGraph, start, end) -> {
+                var queue = new LongArrayDeque();
+                long resolved = 0;
+                for (long index = start; index < end; index++) {
+                    resolved += resolveRoot(localGraph, roots.get(index), colors, queue);
+                }
+                progressTracker.logProgress(resolved);
+            });
+        }
+    }
+
+    /**
+     * Assigns the components of the given open nodes using {@link Scc} on the subgraph they induce.
+     * As assigned nodes form complete components, the components of the subgraph are those of the graph.
+     */
+    private void sequential(HugeLongArray openNodes, long size) {
+        var sequentialComponents = new Scc(graph, this::isOpen, ProgressTracker.NULL_TRACKER, terminationFlag).compute();
+        forEachInParallel(size, (localGraph, start, end) -> {
+            for (long index = start; index < end; index++) {
+                long node = openNodes.get(index);
+                assign(node, sequentialComponents.get(node));
+            }
+        });
+        progressTracker.logProgress(size);
+    }
+
+    /**
+     * Assigns the component of the given root, that is all nodes of its color which reach it.
+     *
+     * @return the size of the component
+     */
+    private long resolveRoot(Graph localGraph, long root, HugeAtomicLongArray colors, LongArrayDeque queue) {
+        long size = 1;
+        assign(root, root);
+        queue.addLast(root);
+        while (!queue.isEmpty()) {
+            long node = queue.removeFirst();
+            var found = new long[]{0};
+            forEachNeighbour(localGraph, node, true, other -> {
+                if (isOpen(other) && colors.get(other) == root) {
+                    assign(other, root);
+                    queue.addLast(other);
+                    found[0]++;
+                }
+                return true;
+            });
+            size += found[0];
+        }
+        return size;
+    }
+
+    private static boolean raise(HugeAtomicLongArray colors, long node, long color) {
+        long current = colors.get(node);
+        while (color > current) {
+            long witness = colors.compareAndExchange(node, current, color);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * Runs the expansion for the given number of source nodes in parallel and
+     * collects the emitted nodes into the next frontier.
+     *
+     * @return the size of the next frontier
+     */
+    private long step(LongUnaryOperator source, long size, HugeLongArray next, Expansion expansion) {
+        var cursor = new AtomicLong();
+        var nextSize = new AtomicLong();
+        var tasks = new ArrayList<FrontierTask>(concurrency.value());
+        for (int i = 0; i < concurrency.value(); i++) {
+            tasks.add(new FrontierTask(graph.concurrentCopy(), source, size, cursor, next, nextSize, expansion));
+        }
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+        return nextSize.get();
+    }
+
+    private void forEachInParallel(long count, RangeConsumer consumer) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            count,
+            partition -> (Runnable) () -> consumer.accept(
+                graph.concurrentCopy(),
+                partition.startNode(),
+                partition.startNode() + partition.nodeCount()
+            ),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private void forEachNeighbour(Graph localGraph, long node, boolean inverse, NeighbourConsumer consumer) {
+        if (inverse && !undirected) {
+            localGraph.forEachInverseRelationship(node, (source, target) -> consumer.accept(target));
+        } else {
+            localGraph.forEachRelationship(node, (source, target) -> consumer.accept(target));
+        }
+    }
+
+    private boolean isOpen(long node) {
+        return components.get(node) == UNASSIGNED;
+    }
+
+    private void assign(long node, long component) {
+        components.set(node, component);
+    }
+
+    @FunctionalInterface
+    private interface NeighbourConsumer {
+        boolean accept(long neighbour);
+    }
+
+    @FunctionalInterface
+    private interface Expansion {
+        void expand(Graph localGraph, long node, LongConsumer emit);
+    }
+
+    @FunctionalInterface
+    private interface RangeConsumer {
+        void accept(Graph localGraph, long start, long end);
+    }
+
+    private final class PivotTask implements Runnable {
+        private final long start;
+        private final long end;
+        private long pivot;
+        private long score;
+
+        PivotTask(long start, long end) {
+            this.start = start;
+            this.end = end;
+            this.pivot = NONE;
+            this.score = -1;
+        }
+
+        @Override
+        public void run() {
+            for (long node = start; node < end; node++) {
+                if (isOpen(node)) {
+                    long outDegree = graph.degree(node);
+                    long inDegree = undirected ? outDegree : graph.degreeInverse(node);
+                    long nodeScore = outDegree * inDegree;
+                    if (nodeScore > score) {
+                        score = nodeScore;
+                        pivot = node;
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class FrontierTask implements Runnable, LongConsumer {
+        private final Graph localGraph;
+        private final LongUnaryOperator source;
+        private final long size;
+        private final AtomicLong cursor;
+        private final HugeLongArray next;
+        private final AtomicLong nextSize;
+        private final Expansion expansion;
+        private final long[] buffer;
+        private int buffered;
+
+        FrontierTask(
+            Graph localGraph,
+            LongUnaryOperator source,
+            long size,
+            AtomicLong cursor,
+            HugeLongArray next,
+            AtomicLong nextSize,
+            Expansion expansion
+        ) {
+            this.localGraph = localGraph;
+            this.source = source;
+            this.size = size;
+            this.cursor = cursor;
+            this.next = next;
+            this.nextSize = nextSize;
+            this.expansion = expansion;
+            this.buffer = new long[BATCH_SIZE];
+        }
+
+        @Override
+        public void run() {
+            long start;
+            while ((start = cursor.getAndAdd(BATCH_SIZE)) < size) {
+                long end = Math.min(start + BATCH_SIZE, size);
+                for (long index = start; index < end; index++) {
+                    expansion.expand(localGraph, source.applyAsLong(index), this);
+                }
+            }
+            flush();
+        }
+
+        @Override
+        public void accept(long node) {
+            buffer[buffered++] = node;
+            if (buffered == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            long offset = nextSize.getAndAdd(buffered);
+            for (int i = 0; i < buffered; i++) {
+                next.set(offset + i, buffer[i]);
+            }
+            buffered = 0;
+        }
+    }
+}
@@ -28,6 +28,8 @@ import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.function.LongPredicate;
+
 /**
  * huge iterative (non recursive) sequential strongly connected components algorithm.
  *
@@ -44,15 +46,30 @@ public class Scc extends Algorithm<HugeLongArray> {
     private final HugeLongArrayStack stack;
     private final PagedLongStack todo; // stores nodeIds either positive (edge visit) or negative (node visit)
     private final BitSet visited;
+    private final LongPredicate nodeFilter;
 
     public Scc(
         Graph graph,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(graph, node -> true, progressTracker, terminationFlag);
+    }
+
+    /**
+     * Computes the components of the subgraph induced by the nodes accepted by the filter.
+     * Nodes which are not accepted keep {@link #UNORDERED} as component.
+     */
+    Scc(
+        Graph graph,
+        LongPredicate nodeFilter,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
 
         this.graph = graph;
+        this.nodeFilter = nodeFilter;
         var nodeCount = this.graph.nodeCount();
 
         this.boundaries = HugeLongArrayStack.newStack(nodeCount);
@@ -83,7 +100,7 @@ public class Scc extends Algorithm<HugeLongArray> {
             return false;
         }
 
-        if (index.get(nodeId) != UNORDERED) {
+        if (index.get(nodeId) != UNORDERED || !nodeFilter.test(nodeId)) {
             return true;
         }
 
@@ -125,7 +142,9 @@ public class Scc extends Algorithm<HugeLongArray> {
         boundaries.push(stackSize); // push to stack (at most one entry per vertex)
         todo.push(-nodeId);
         graph.forEachRelationship(nodeId, (s, t) -> {
-            todo.push(t);
+            if (nodeFilter.test(t)) {
+                todo.push(t);
+            }
             return true;
         });
     }
@@ -51,6 +51,6 @@ public class SccAlgorithmFactory<CONFIG extends SccCommonBaseConfig> extends Gra
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
 
-        return new SccMemoryEstimateDefinition().memoryEstimation();
+        return new SccMemoryEstimateDefinition(configuration.parallel()).memoryEstimation();
     }
 }
@@ -23,4 +23,8 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 
 public interface SccCommonBaseConfig extends AlgoBaseConfig {
 
+    // Use the parallel trim, forward-backward and coloring algorithm instead of the sequential one
+    default boolean parallel() {
+        return false;
+    }
 }
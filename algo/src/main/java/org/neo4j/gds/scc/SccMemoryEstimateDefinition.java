@@ -21,6 +21,8 @@ package org.neo4j.gds.scc;
 
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
@@ -30,8 +32,36 @@ import org.neo4j.gds.mem.Estimate;
 
 public class SccMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final boolean parallel;
+
+    public SccMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public SccMemoryEstimateDefinition(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (parallel) {
+            // the remaining nodes are handed to the sequential algorithm while the parallel state is still alive
+            return MemoryEstimations.builder(ParallelScc.class)
+                .perNode("components", HugeLongArray::memoryEstimation)
+                .perNode("current frontier", HugeLongArray::memoryEstimation)
+                .perNode("next frontier", HugeLongArray::memoryEstimation)
+                .perNode("colors", HugeAtomicLongArray::memoryEstimation)
+                .perNode("trim queue", HugeAtomicBitSet::memoryEstimation)
+                .perNode("forward", HugeAtomicBitSet::memoryEstimation)
+                .perNode("backward", HugeAtomicBitSet::memoryEstimation)
+                .perNode("coloring queue", HugeAtomicBitSet::memoryEstimation)
+                .add("sequential", sequentialMemoryEstimation())
+                .build();
+        }
+        return sequentialMemoryEstimation();
+    }
+
+    private static MemoryEstimation sequentialMemoryEstimation() {
         var builder = MemoryEstimations.builder(Scc.class);
         builder
             .perNode("index", HugeLongArray::memoryEstimation)
@@ -25,6 +25,7 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.similarity.filtering.NodeFilterSpec;
 import org.neo4j.gds.similarity.knn.KnnBaseConfig;
+import org.neo4j.gds.similarity.knn.KnnEngine;
 
 import java.util.Collection;
 
@@ -47,6 +48,13 @@ public interface FilteredKnnBaseConfig extends KnnBaseConfig {
         return false;
     }
 
+    @Configuration.Check
+    default void validateEngine() {
+        if (engine() != KnnEngine.NN_DESCENT) {
+            throw new IllegalArgumentException("Filtered KNN only supports the `NN_DESCENT` engine.");
+        }
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void validateSourceNodeFilter(
         GraphStore graphStore,
@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongPredicate;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongHashSet;
+import static org.neo4j.gds.mem.Estimate.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Hierarchical navigable small world graph over the nodes of a graph, used for approximate nearest neighbour search.
+ * <p>
+ * Every node is assigned to a random number of layers, with exponentially decreasing probability for higher layers.
+ * On each layer a node keeps links to its most similar nodes, selected by the neighbour heuristic of the paper,
+ * so that the sparse upper layers allow long jumps and the dense bottom layer a fine-grained search.
+ * Similarities are provided by a {@link SimilarityComputer}, higher values are more similar.
+ * <p>
+ * Nodes can be added concurrently and at any time, as long as their id is below the capacity of the index.
+ * Link lists are guarded by striped locks, which are only held to read or publish a link list.
+ * Searches can run alongside insertions.
+ * <p>
+ * [1] Yu. A. Malkov, D. A. Yashunin. "Efficient and robust approximate nearest neighbor search using
+ * Hierarchical Navigable Small World graphs", IEEE Transactions on Pattern Analysis and Machine Intelligence, 2018.
+ */
+public final class HnswIndex {
+
+    private static final int LOCK_STRIPES = 1 << 12;
+    // an index built for n nodes can take n / GROWTH_DIVISOR more nodes without being rebuilt
+    private static final int GROWTH_DIVISOR = 4;
+    private static final long NO_ENTRY_POINT = -1;
+    private static final long[] NO_NEIGHBORS = new long[0];
+
+    private static final Comparator<Candidate> MOST_SIMILAR_FIRST = Comparator
+        .comparingDouble(Candidate::similarity)
+        .reversed();
+    private static final Comparator<Candidate> LEAST_SIMILAR_FIRST = Comparator.comparingDouble(Candidate::similarity);
+
+    private final SimilarityComputer similarityComputer;
+    private final int maxConnections;
+    private final int maxBottomConnections;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final long seed;
+
+    // links[node][layer] are the neighbours of a node on a layer, null for nodes not in the index
+    private final HugeObjectArray<long[][]> links;
+    private final Object[] locks;
+
+    private final Object entryPointLock = new Object();
+    private volatile long entryPoint = NO_ENTRY_POINT;
+    private volatile int topLayer = -1;
+
+    private final LongAdder size = new LongAdder();
+    private final LongAdder similarityComputations = new LongAdder();
+
+    public static MemoryEstimation memoryEstimation(HnswParameters parameters) {
+        int maxConnections = parameters.maxConnections();
+        int ef = parameters.efConstruction();
+        // every node is on the bottom layer, only one in maxConnections nodes reaches the next layer
+        long minLinksPerNode = sizeOfObjectArray(1) + sizeOfLongArray(maxConnections);
+        long maxLinksPerNode = sizeOfObjectArray(2)
+                               + sizeOfLongArray(2L * maxConnections)
+                               + sizeOfLongArray(maxConnections);
+        long searchState = sizeOfLongHashSet((long) ef * 2 * maxConnections)
+                           + 2 * sizeOfObjectArray(ef)
+                           + 2L * ef * sizeOfInstance(Candidate.class);
+
+        return MemoryEstimations.builder(HnswIndex.class)
+            .rangePerNode("links", nodeCount -> MemoryRange.of(
+                HugeObjectArray.memoryEstimation(capacityFor(nodeCount), 0) + nodeCount * minLinksPerNode,
+                HugeObjectArray.memoryEstimation(capacityFor(nodeCount), 0) + nodeCount * maxLinksPerNode
+            ))
+            .fixed("locks", sizeOfObjectArray(LOCK_STRIPES) + LOCK_STRIPES * sizeOfInstance(Object.class))
+            .perThread("search state", searchState)
+            .build();
+    }
+
+    /**
+     * @return the capacity of an index for the given number of nodes, leaving room for nodes that are added later
+     */
+    public static long capacityFor(long nodeCount) {
+        return nodeCount + nodeCount / GROWTH_DIVISOR;
+    }
+
+    public static HnswIndex build(
+        SimilarityComputer similarityComputer,
+        long nodeCount,
+        HnswParameters parameters,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        return build(
+            similarityComputer,
+            nodeCount,
+            nodeId -> true,
+            parameters,
+            concurrency,
+            executorService,
+            terminationFlag,
+            progressTracker
+        );
+    }
+
+    /**
+     * @param include only nodes matching the predicate are added, e.g. the nodes that have the compared properties
+     */
+    public static HnswIndex build(
+        SimilarityComputer similarityComputer,
+        long nodeCount,
+        LongPredicate include,
+        HnswParameters parameters,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        var index = new HnswIndex(similarityComputer, capacityFor(nodeCount), parameters);
+        index.addAll(0, nodeCount, include, concurrency, executorService, terminationFlag, progressTracker);
+        return index;
+    }
+
+    public HnswIndex(SimilarityComputer similarityComputer, long capacity, HnswParameters parameters) {
+        this.similarityComputer = similarityComputer;
+        this.maxConnections = parameters.maxConnections();
+        this.maxBottomConnections = 2 * parameters.maxConnections();
+        this.efConstruction = parameters.efConstruction();
+        this.levelMultiplier = 1 / Math.log(parameters.maxConnections());
+        this.seed = parameters.randomSeed().orElseGet(() -> new SplittableRandom().nextLong());
+        this.links = HugeObjectArray.newArray(long[][].class, capacity);
+        this.locks = new Object[LOCK_STRIPES];
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    /**
+     * Adds the nodes in {@code [startNode, endNode)} in parallel, nodes that are already contained are skipped.
+     */
+    public void addAll(
+        long startNode,
+        long endNode,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        addAll(startNode, endNode, nodeId -> true, concurrency, executorService, terminationFlag, progressTracker);
+    }
+
+    /**
+     * Adds the nodes in {@code [startNode, endNode)} that match the predicate in parallel,
+     * nodes that are already contained are skipped.
+     */
+    public void addAll(
+        long startNode,
+        long endNode,
+        LongPredicate include,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        ParallelUtil.readParallel(
+            concurrency,
+            endNode - startNode,
+            executorService,
+            (start, end) -> {
+                for (long offset = start; offset < end; offset++) {
+                    long nodeId = startNode + offset;
+                    if (include.test(nodeId) && !contains(nodeId)) {
+                        add(nodeId);
+                    }
+                }
+                terminationFlag.assertRunning();
+                progressTracker.logProgress(end - start);
+            }
+        );
+    }
+
+    /**
+     * @return false if the node was already contained in the index
+     */
+    public boolean add(long nodeId) {
+        checkCapacity(nodeId);
+
+        int level = randomLevel(nodeId);
+        var nodeLinks = new long[level + 1][];
+        Arrays.fill(nodeLinks, NO_NEIGHBORS);
+        synchronized (lock(nodeId)) {
+            if (links.get(nodeId) != null) {
+                return false;
+            }
+            links.set(nodeId, nodeLinks);
+        }
+        size.increment();
+
+        long entry;
+        int entryLayer;
+        synchronized (entryPointLock) {
+            if (entryPoint == NO_ENTRY_POINT) {
+                topLayer = level;
+                entryPoint = nodeId;
+                return true;
+            }
+            entry = entryPoint;
+            entryLayer = topLayer;
+        }
+
+        var closest = new Candidate(entry, similarity(nodeId, entry));
+        for (int layer = entryLayer; layer > level; layer--) {
+            closest = greedySearch(nodeId, closest, layer);
+        }
+
+        for (int layer = Math.min(level, entryLayer); layer >= 0; layer--) {
+            var candidates = searchLayer(nodeId, closest, efConstruction, layer);
+            var neighbors = selectNeighbors(candidates, maxConnections);
+
+            var neighborIds = new long[neighbors.size()];
+            for (int i = 0; i < neighborIds.length; i++) {
+                neighborIds[i] = neighbors.get(i).nodeId();
+            }
+            synchronized (lock(nodeId)) {
+                nodeLinks[layer] = neighborIds;
+            }
+
+            int maxLinks = layer == 0 ? maxBottomConnections : maxConnections;
+            for (var neighbor : neighbors) {
+                connect(neighbor.nodeId(), nodeId, neighbor.similarity(), layer, maxLinks);
+            }
+
+            closest = candidates.get(0);
+        }
+
+        if (level > entryLayer) {
+            synchronized (entryPointLock) {
+                if (level > topLayer) {
+                    topLayer = level;
+                    entryPoint = nodeId;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds approximately the {@code k} most similar nodes to the given node, excluding the node itself.
+     * The node does not need to be contained in the index.
+     *
+     * @param ef the size of the candidate list, larger values increase the recall at the cost of speed
+     * @return the found neighbours, most similar first
+     */
+    public List<SimilarityResult> search(long queryNodeId, int k, int ef) {
+        long entry;
+        int entryLayer;
+        synchronized (entryPointLock) {
+            entry = entryPoint;
+            entryLayer = topLayer;
+        }
+        if (entry == NO_ENTRY_POINT) {
+            return List.of();
+        }
+
+        var closest = new Candidate(entry, similarity(queryNodeId, entry));
+        for (int layer = entryLayer; layer > 0; layer--) {
+            closest = greedySearch(queryNodeId, closest, layer);
+        }
+
+        // the query node itself might be found, so we need one more candidate
+        var candidates = searchLayer(queryNodeId, closest, Math.max(ef, k + 1), 0);
+
+        var result = new ArrayList<SimilarityResult>(k);
+        for (var candidate : candidates) {
+            if (result.size() == k) {
+                break;
+            }
+            if (candidate.nodeId() != queryNodeId) {
+                result.add(new SimilarityResult(queryNodeId, candidate.nodeId(), candidate.similarity()));
+            }
+        }
+        return result;
+    }
+
+    public boolean contains(long nodeId) {
+        if (nodeId < 0 || nodeId >= links.size()) {
+            return false;
+        }
+        synchronized (lock(nodeId)) {
+            return links.get(nodeId) != null;
+        }
+    }
+
+    public long size() {
+        return size.sum();
+    }
+
+    public long capacity() {
+        return links.size();
+    }
+
+    /**
+     * @return the number of similarities computed while building and searching the index
+     */
+    public long similarityComputations() {
+        return similarityComputations.sum();
+    }
+
+    private Candidate greedySearch(long queryNodeId, Candidate start, int layer) {
+        var closest = start;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (long neighbor : neighbors(closest.nodeId(), layer)) {
+                double similarity = similarity(queryNodeId, neighbor);
+                if (similarity > closest.similarity()) {
+                    closest = new Candidate(neighbor, similarity);
+                    changed = true;
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * @return up to {@code ef} nodes found on the layer, most similar first
+     */
+    private List<Candidate> searchLayer(long queryNodeId, Candidate start, int ef, int layer) {
+        var visited = new LongHashSet();
+        visited.add(start.nodeId());
+
+        var candidates = new PriorityQueue<>(MOST_SIMILAR_FIRST);
+        var found = new PriorityQueue<>(LEAST_SIMILAR_FIRST);
+        candidates.add(start);
+        found.add(start);
+
+        while (!candidates.isEmpty()) {
+            var current = candidates.poll();
+            if (found.size() >= ef && current.similarity() < found.peek().similarity()) {
+                break;
+            }
+            for (long neighbor : neighbors(current.nodeId(), layer)) {
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                double similarity = similarity(queryNodeId, neighbor);
+                if (found.size() < ef || similarity > found.peek().similarity()) {
+                    var candidate = new Candidate(neighbor, similarity);
+                    candidates.add(candidate);
+                    found.add(candidate);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+
+        var result = new ArrayList<>(found);
+        result.sort(MOST_SIMILAR_FIRST);
+        return result;
+    }
+
+    /**
+     * Prefers candidates that are more similar to the new node than to any already selected neighbour,
+     * which keeps links towards other clusters. Remaining slots are filled with the most similar discarded candidates.
+     */
+    private List<Candidate> selectNeighbors(List<Candidate> candidates, int maxNeighbors) {
+        if (candidates.size() <= maxNeighbors) {
+            return candidates;
+        }
+
+        var selected = new ArrayList<Candidate>(maxNeighbors);
+        var discarded = new ArrayList<Candidate>();
+        for (var candidate : candidates) {
+            if (selected.size() == maxNeighbors) {
+                break;
+            }
+            boolean isDiverse = true;
+            for (var neighbor : selected) {
+                if (similarity(candidate.nodeId(), neighbor.nodeId()) > candidate.similarity()) {
+                    isDiverse = false;
+                    break;
+                }
+            }
+            if (isDiverse) {
+                selected.add(candidate);
+            } else {
+                discarded.add(candidate);
+            }
+        }
+        for (int i = 0; selected.size() < maxNeighbors && i < discarded.size(); i++) {
+            selected.add(discarded.get(i));
+        }
+        return selected;
+    }
+
+    /**
+     * Adds a link from {@code nodeId} to {@code newNeighbor}, replacing the least similar link if the list is full.
+     * The similarities are computed on a snapshot of the link list without holding its lock.
+     * The new list is only published if the list has not changed in the meantime, otherwise we start over.
+     */
+    private void connect(long nodeId, long newNeighbor, double newSimilarity, int layer, int maxLinks) {
+        while (true) {
+            var neighbors = neighbors(nodeId, layer);
+            for (long neighbor : neighbors) {
+                if (neighbor == newNeighbor) {
+                    return;
+                }
+            }
+
+            long[] updated;
+            if (neighbors.length < maxLinks) {
+                updated = Arrays.copyOf(neighbors, neighbors.length + 1);
+                updated[neighbors.length] = newNeighbor;
+            } else {
+                int weakestIndex = -1;
+                double weakestSimilarity = newSimilarity;
+                for (int i = 0; i < neighbors.length; i++) {
+                    double similarity = similarity(nodeId, neighbors[i]);
+                    if (similarity < weakestSimilarity) {
+                        weakestSimilarity = similarity;
+                        weakestIndex = i;
+                    }
+                }
+                if (weakestIndex == -1) {
+                    return;
+                }
+                updated = neighbors.clone();
+                updated[weakestIndex] = newNeighbor;
+            }
+
+            synchronized (lock(nodeId)) {
+                var nodeLinks = links.get(nodeId);
+                if (nodeLinks[layer] == neighbors) {
+                    nodeLinks[layer] = updated;
+                    return;
+                }
+            }
+        }
+    }
+
+    private long[] neighbors(long nodeId, int layer) {
+        synchronized (lock(nodeId)) {
+            var nodeLinks = links.get(nodeId);
+            return nodeLinks != null && layer < nodeLinks.length ? nodeLinks[layer] : NO_NEIGHBORS;
+        }
+    }
+
+    private double similarity(long firstNodeId, long secondNodeId) {
+        similarityComputations.increment();
+        return similarityComputer.safeSimilarity(firstNodeId, secondNodeId);
+    }
+
+    private int randomLevel(long nodeId) {
+        // derived from the node id, so that the layers do not depend on the insertion order
+        double uniform = new SplittableRandom(seed + nodeId).nextDouble();
+        return (int) (-Math.log(1 - uniform) * levelMultiplier);
+    }
+
+    private Object lock(long nodeId) {
+        return locks[(int) (nodeId & (LOCK_STRIPES - 1))];
+    }
+
+    private void checkCapacity(long nodeId) {
+        if (nodeId < 0 || nodeId >= links.size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node id %d is outside of the index capacity of %d nodes",
+                nodeId,
+                links.size()
+            ));
+        }
+    }
+
+    private record Candidate(long nodeId, double similarity) {}
+}
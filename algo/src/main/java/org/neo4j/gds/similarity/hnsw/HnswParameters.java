@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * @param maxConnections  the number of neighbours a node keeps per layer, twice as many on the bottom layer
+ * @param efConstruction  the size of the candidate list while inserting a node
+ * @param randomSeed      seeds the layer assignment of the nodes
+ */
+public record HnswParameters(int maxConnections, int efConstruction, Optional<Long> randomSeed) {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 16;
+    public static final int DEFAULT_EF_CONSTRUCTION = 100;
+
+    public HnswParameters {
+        if (maxConnections < 2) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of connections per node must be at least 2, but got %d",
+                maxConnections
+            ));
+        }
+        if (efConstruction < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The construction candidate list size must be positive, but got %d",
+                efConstruction
+            ));
+        }
+    }
+
+    public static HnswParameters defaults(Optional<Long> randomSeed) {
+        return new HnswParameters(DEFAULT_MAX_CONNECTIONS, DEFAULT_EF_CONSTRUCTION, randomSeed);
+    }
+}
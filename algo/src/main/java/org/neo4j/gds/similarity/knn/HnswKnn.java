@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * KNN on top of an {@link HnswIndex}: all nodes that have the compared properties are inserted into the index,
+ * which is then queried for every node, or only for a single query node.
+ * Unlike NN-Descent this is not iterative, the result is reported as converged after a single iteration.
+ * <p>
+ * The index can be kept with a catalog graph through {@link #residentIndex}, later runs then only add missing nodes.
+ */
+public final class HnswKnn extends Algorithm<KnnResult> {
+
+    private static final NeighborList NO_NEIGHBORS = new NeighborList(1, NeighbourConsumer.EMPTY_CONSUMER);
+
+    private final Graph graph;
+    private final HnswIndex index;
+    private final LongPredicate hasProperties;
+    private final Optional<Long> queryNode;
+    private final HnswParameters hnswParameters;
+    private final int k;
+    private final Concurrency concurrency;
+    private final double similarityCutoff;
+    private final NeighborFilterFactory neighborFilterFactory;
+    private final ExecutorService executorService;
+
+    public static HnswKnn create(
+        Graph graph,
+        KnnParameters parameters,
+        HnswParameters hnswParameters,
+        SimilarityComputer similarityComputer,
+        NeighborFilterFactory neighborFilterFactory,
+        KnnContext context,
+        TerminationFlag terminationFlag
+    ) {
+        return create(
+            graph,
+            parameters,
+            hnswParameters,
+            new HnswIndex(similarityComputer, HnswIndex.capacityFor(graph.nodeCount()), hnswParameters),
+            Optional.empty(),
+            neighborFilterFactory,
+            context,
+            terminationFlag
+        );
+    }
+
+    /**
+     * @param index     an index built with a similarity computer for the given parameters, missing nodes are added
+     * @param queryNode a mapped node id, if present only the neighbours of this node are computed
+     */
+    public static HnswKnn create(
+        Graph graph,
+        KnnParameters parameters,
+        HnswParameters hnswParameters,
+        HnswIndex index,
+        Optional<Long> queryNode,
+        NeighborFilterFactory neighborFilterFactory,
+        KnnContext context,
+        TerminationFlag terminationFlag
+    ) {
+        if (index.capacity() < graph.nodeCount()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The index has a capacity of %d nodes, but the graph has %d nodes",
+                index.capacity(),
+                graph.nodeCount()
+            ));
+        }
+        return new HnswKnn(
+            graph,
+            index,
+            hasProperties(graph, parameters.nodePropertySpecs()),
+            queryNode,
+            hnswParameters,
+            parameters.kHolder().value,
+            parameters.concurrency(),
+            parameters.similarityCutoff(),
+            neighborFilterFactory,
+            context.executor(),
+            context.progressTracker(),
+            terminationFlag
+        );
+    }
+
+    /**
+     * Returns the index that is kept resident with the given catalog graph, creating an empty one on the first call.
+     * A separate index is kept for every combination of node labels, compared properties and index parameters.
+     * The index is dropped together with the graph and created anew once the graph store is modified.
+     */
+    public static HnswIndex residentIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        Graph graph,
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        SimilarityComputer similarityComputer,
+        HnswParameters hnswParameters
+    ) {
+        var key = formatWithLocale(
+            "%s %s %s %s",
+            HnswIndex.class.getSimpleName(),
+            graph.schema().nodeSchema().availableLabels(),
+            // the metrics are resolved by creating the similarity computer
+            nodePropertySpecs.stream().map(spec -> spec.name() + ":" + spec.metric()).collect(Collectors.toList()),
+            hnswParameters
+        );
+        return GraphStoreCatalog.residentState(
+            username,
+            databaseId,
+            graphName,
+            key,
+            HnswIndex.class,
+            () -> new HnswIndex(similarityComputer, HnswIndex.capacityFor(graph.nodeCount()), hnswParameters)
+        );
+    }
+
+    public static Task progressTask(String taskName, long nodeCount) {
+        return progressTask(taskName, nodeCount, nodeCount);
+    }
+
+    public static Task progressTask(String taskName, long nodeCount, long queryNodeCount) {
+        return Tasks.task(
+            taskName,
+            Tasks.leaf("Build index", nodeCount),
+            Tasks.leaf("Query index", queryNodeCount)
+        );
+    }
+
+    private HnswKnn(
+        Graph graph,
+        HnswIndex index,
+        LongPredicate hasProperties,
+        Optional<Long> queryNode,
+        HnswParameters hnswParameters,
+        int k,
+        Concurrency concurrency,
+        double similarityCutoff,
+        NeighborFilterFactory neighborFilterFactory,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.index = index;
+        this.hasProperties = hasProperties;
+        this.queryNode = queryNode;
+        this.hnswParameters = hnswParameters;
+        this.k = k;
+        this.concurrency = concurrency;
+        this.similarityCutoff = similarityCutoff;
+        this.neighborFilterFactory = neighborFilterFactory;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public KnnResult compute() {
+        long nodeCount = graph.nodeCount();
+        var neighbors = HugeObjectArray.newArray(NeighborList.class, nodeCount);
+        long similarityComputationsBefore = index.similarityComputations();
+
+        progressTracker.beginSubTask();
+
+        progressTracker.beginSubTask();
+        // nodes without the compared properties are left out, they would only be linked with similarity 0
+        index.addAll(0, nodeCount, hasProperties, concurrency, executorService, terminationFlag, progressTracker);
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        long seed = hnswParameters.randomSeed().orElseGet(() -> new SplittableRandom().nextLong());
+        if (queryNode.isPresent()) {
+            neighbors.setAll(nodeId -> NO_NEIGHBORS);
+            long nodeId = queryNode.get();
+            neighbors.set(nodeId, query(nodeId, neighborFilterFactory.create(), new SplittableRandom(seed)));
+            progressTracker.logProgress(1);
+        } else {
+            ParallelUtil.readParallel(
+                concurrency,
+                nodeCount,
+                executorService,
+                (start, end) -> {
+                    var neighborFilter = neighborFilterFactory.create();
+                    var random = new SplittableRandom(seed + start);
+                    for (long nodeId = start; nodeId < end; nodeId++) {
+                        neighbors.set(nodeId, query(nodeId, neighborFilter, random));
+                    }
+                    terminationFlag.assertRunning();
+                    progressTracker.logProgress(end - start);
+                }
+            );
+        }
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+
+        return ImmutableKnnResult.of(
+            neighbors,
+            1,
+            true,
+            index.similarityComputations() - similarityComputationsBefore,
+            nodeCount
+        );
+    }
+
+    private NeighborList query(long nodeId, NeighborFilter neighborFilter, SplittableRandom random) {
+        if (!hasProperties.test(nodeId)) {
+            return NO_NEIGHBORS;
+        }
+        // the candidate list needs to be at least as large as the result
+        int ef = Math.max(hnswParameters.efConstruction(), k);
+        var neighborList = new NeighborList(Math.max(k, 1), NeighbourConsumer.EMPTY_CONSUMER);
+        for (var result : index.search(nodeId, k, ef)) {
+            if (!neighborFilter.excludeNodePair(nodeId, result.targetNodeId())) {
+                neighborList.add(result.targetNodeId(), result.similarity, random, 0.0);
+            }
+        }
+        if (similarityCutoff > 0) {
+            neighborList.filterHighSimilarityResults(similarityCutoff);
+        }
+        return neighborList;
+    }
+
+    private static LongPredicate hasProperties(Graph graph, List<KnnNodePropertySpec> nodePropertySpecs) {
+        var properties = nodePropertySpecs
+            .stream()
+            .map(spec -> graph.nodeProperties(spec.name()))
+            .toArray(NodePropertyValues[]::new);
+        return nodeId -> {
+            for (var values : properties) {
+                if (!hasValue(values, nodeId)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static boolean hasValue(NodePropertyValues values, long nodeId) {
+        if (!values.hasValue(nodeId)) {
+            return false;
+        }
+        return switch (values.valueType()) {
+            case DOUBLE -> !Double.isNaN(values.doubleValue(nodeId));
+            case LONG -> values.longValue(nodeId) != DefaultValue.LONG_DEFAULT_FALLBACK;
+            case DOUBLE_ARRAY -> values.doubleArrayValue(nodeId) != null;
+            case FLOAT_ARRAY -> values.floatArrayValue(nodeId) != null;
+            case LONG_ARRAY -> values.longArrayValue(nodeId) != null;
+            default -> true;
+        };
+    }
+}
@@ -23,6 +23,7 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.config.SingleThreadedRandomSeedConfig;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
 
 import java.util.List;
 
@@ -75,6 +76,27 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
         return KnnSampler.SamplerType.UNIFORM;
     }
 
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.knn.KnnEngine#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.knn.KnnEngine#toString")
+    default KnnEngine engine() {
+        return KnnEngine.NN_DESCENT;
+    }
+
+    @Configuration.IntegerRange(min = 2)
+    default int hnswMaxConnections() {
+        return HnswParameters.DEFAULT_MAX_CONNECTIONS;
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    default int hnswEfConstruction() {
+        return HnswParameters.DEFAULT_EF_CONSTRUCTION;
+    }
+
+    @Configuration.Ignore
+    default HnswParameters toHnswParameters() {
+        return new HnswParameters(hnswMaxConnections(), hnswEfConstruction(), randomSeed());
+    }
+
     @Configuration.Ignore
     default K k(long nodeCount) {
         return K.create(topK(), nodeCount, sampleRate(), deltaThreshold());
@@ -100,6 +122,12 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
 
     @Configuration.Ignore
     default KnnMemoryEstimationParametersBuilder toMemoryEstimationParameters() {
-        return new KnnMemoryEstimationParametersBuilder(sampleRate(), topK(), initialSampler());
+        return new KnnMemoryEstimationParametersBuilder(
+            sampleRate(),
+            topK(),
+            initialSampler(),
+            engine(),
+            toHnswParameters()
+        );
     }
 }
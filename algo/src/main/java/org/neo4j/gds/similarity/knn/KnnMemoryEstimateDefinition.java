@@ -25,6 +25,7 @@ import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
 
 import java.util.function.LongFunction;
 
@@ -65,6 +66,14 @@ public class KnnMemoryEstimateDefinition implements MemoryEstimateDefinition {
                     HugeObjectArray.memoryEstimation(nodeCount, neighborListEstimate.max)
                 );
 
+                if (parameters.engine() == KnnEngine.HNSW) {
+                    return MemoryEstimations
+                        .builder(HnswKnn.class)
+                        .rangePerNode("top-k-neighbors-list", perNodeNeighborListEstimate)
+                        .add("index", HnswIndex.memoryEstimation(parameters.hnswParameters()))
+                        .build();
+                }
+
                 return MemoryEstimations
                     .builder(Knn.class)
                     .rangePerNode("top-k-neighbors-list", perNodeNeighborListEstimate)
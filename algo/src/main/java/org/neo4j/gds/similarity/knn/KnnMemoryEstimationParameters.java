@@ -20,7 +20,13 @@
 package org.neo4j.gds.similarity.knn;
 
 import org.neo4j.gds.annotation.Parameters;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
 
 @Parameters
-public record KnnMemoryEstimationParameters(K k, KnnSampler.SamplerType samplerType) {
+public record KnnMemoryEstimationParameters(
+    K k,
+    KnnSampler.SamplerType samplerType,
+    KnnEngine engine,
+    HnswParameters hnswParameters
+) {
 }
@@ -19,20 +19,43 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
+
+import java.util.Optional;
+
 public class KnnMemoryEstimationParametersBuilder {
 
     private final double sampleRate;
     private final int rawK;
     private final KnnSampler.SamplerType samplerType;
+    private final KnnEngine engine;
+    private final HnswParameters hnswParameters;
 
     public KnnMemoryEstimationParametersBuilder(double sampleRate, int rawK, KnnSampler.SamplerType samplerType) {
+        this(sampleRate, rawK, samplerType, KnnEngine.NN_DESCENT, HnswParameters.defaults(Optional.empty()));
+    }
+
+    public KnnMemoryEstimationParametersBuilder(
+        double sampleRate,
+        int rawK,
+        KnnSampler.SamplerType samplerType,
+        KnnEngine engine,
+        HnswParameters hnswParameters
+    ) {
         this.sampleRate = sampleRate;
         this.rawK = rawK;
         this.samplerType = samplerType;
+        this.engine = engine;
+        this.hnswParameters = hnswParameters;
     }
 
     public KnnMemoryEstimationParameters build(long nodeCount) {
-        return new KnnMemoryEstimationParameters(K.create(rawK, nodeCount, sampleRate, 0.5), samplerType);
+        return new KnnMemoryEstimationParameters(
+            K.create(rawK, nodeCount, sampleRate, 0.5),
+            samplerType,
+            engine,
+            hnswParameters
+        );
     }
 
 }
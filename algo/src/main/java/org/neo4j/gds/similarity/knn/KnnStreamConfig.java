@@ -19,12 +19,51 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.CypherMapWrapper;
 
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.neo4j.gds.config.ConfigNodesValidations.nodesExistInGraph;
+import static org.neo4j.gds.config.ConfigNodesValidations.nodesNotNegative;
+import static org.neo4j.gds.config.NodeIdParser.parseToSingleNodeId;
+
 @Configuration
 public interface KnnStreamConfig extends KnnBaseConfig {
 
+    String QUERY_NODE_KEY = "queryNode";
+
+    // If set, only the neighbours of this node are streamed, answered by the resident HNSW index of the graph
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.knn.KnnStreamConfig#parseQueryNode")
+    Optional<Long> queryNode();
+
+    static long parseQueryNode(Object input) {
+        var node = parseToSingleNodeId(input, QUERY_NODE_KEY);
+        nodesNotNegative(Set.of(node), QUERY_NODE_KEY);
+        return node;
+    }
+
+    @Configuration.Check
+    default void validateQueryNodeEngine() {
+        if (queryNode().isPresent() && engine() != KnnEngine.HNSW) {
+            throw new IllegalArgumentException("The `queryNode` parameter requires the `HNSW` engine.");
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateQueryNode(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        queryNode().ifPresent(node -> nodesExistInGraph(graphStore, selectedLabels, Set.of(node), QUERY_NODE_KEY));
+    }
+
     static KnnStreamConfig of(CypherMapWrapper config) {
         return new KnnStreamConfigImpl(config);
     }
@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
-import java.util.function.IntToDoubleFunction;
+import org.neo4j.gds.core.utils.Intersections;
 
 /**
  * Here we calculate Euclidean similarity metrics using Euclidean dictance as described in e.g.
@@ -34,29 +34,45 @@ import java.util.function.IntToDoubleFunction;
 public final class Euclidean {
     private Euclidean() {}
 
+    /**
+     * Accumulates in double precision, which is why this cannot delegate to the float kernel of {@link Intersections}.
+     */
     public static double floatMetric(float[] left, float[] right) {
-        return compute(
-            Math.min(left.length, right.length),
-            i -> left[i],
-            i -> right[i]
-        );
+        int len = Math.min(left.length, right.length);
+        if (len < Intersections.UNROLL_THRESHOLD) {
+            double result = 0;
+            for (int i = 0; i < len; i++) {
+                double delta = (double) left[i] - right[i];
+                result += delta * delta;
+            }
+            return normalise(result);
+        }
+
+        double result0 = 0, result1 = 0, result2 = 0, result3 = 0;
+        int bound = len & ~3;
+        for (int i = 0; i < bound; i += 4) {
+            double delta0 = (double) left[i] - right[i];
+            double delta1 = (double) left[i + 1] - right[i + 1];
+            double delta2 = (double) left[i + 2] - right[i + 2];
+            double delta3 = (double) left[i + 3] - right[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (int i = bound; i < len; i++) {
+            double delta = (double) left[i] - right[i];
+            result0 += delta * delta;
+        }
+        return normalise((result0 + result1) + (result2 + result3));
     }
 
     public static double doubleMetric(double[] left, double[] right) {
-        return compute(
-            Math.min(left.length, right.length),
-            i -> left[i],
-            i -> right[i]
-        );
+        int len = Math.min(left.length, right.length);
+        return normalise(Intersections.sumSquareDelta(left, right, len));
     }
 
-    private static double compute(int len, IntToDoubleFunction left, IntToDoubleFunction right) {
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
-            double delta = left.applyAsDouble(i) - right.applyAsDouble(i);
-            result += delta * delta;
-        }
-
-        return 1.0 / (1.0 + Math.sqrt(result));
+    private static double normalise(double squaredDistance) {
+        return 1.0 / (1.0 + Math.sqrt(squaredDistance));
     }
 }
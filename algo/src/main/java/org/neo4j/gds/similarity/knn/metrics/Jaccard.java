@@ -25,7 +25,7 @@ public final class Jaccard {
     private Jaccard() {}
 
     public static double metric(long[] left, long[] right) {
-        long intersection = Intersections.intersection3(left, right);
+        long intersection = Intersections.sortedIntersection(left, right);
         long union = left.length + right.length - intersection;
         return union == 0 ? 0 : intersection / (double) union;
     }
@@ -23,7 +23,7 @@ import org.neo4j.gds.core.utils.Intersections;
 
 public final class Overlap {
     public static double metric(long[] left, long[] right) {
-        long intersection = Intersections.intersection3(left, right);
+        long intersection = Intersections.sortedIntersection(left, right);
         long denominator = Math.min(left.length, right.length);
         return denominator == 0 ? 0 : intersection / (double) denominator;
     }
@@ -30,10 +30,18 @@ package org.neo4j.gds.similarity.knn.metrics;
  * In the end we turn Pearson's r into a metric moving it to the range 0..1
  */
 public final class Pearson {
+    /**
+     * Vectors of at least this length are summed up in four independent lanes.
+     */
+    private static final int UNROLL_THRESHOLD = 16;
+
     private Pearson() {}
 
     public static double floatMetric(float[] a, float[] b) {
         int n = Math.min(a.length, b.length);
+        if (n >= UNROLL_THRESHOLD) {
+            return unrolledMetric(a, b, n);
+        }
 
         // compute sample means
         double sumA = 0d;
@@ -67,6 +75,9 @@ public final class Pearson {
 
     public static double doubleMetric(double[] a, double[] b) {
         int n = Math.min(a.length, b.length);
+        if (n >= UNROLL_THRESHOLD) {
+            return unrolledMetric(a, b, n);
+        }
 
         // compute sample means
         double sumA = 0d;
@@ -97,4 +108,118 @@ public final class Pearson {
         // now turn it into a metric; Pearson's r is in the range -1..1 and we want to land it in 0..1
         return (r+1)/ 2;
     }
+
+    private static double unrolledMetric(float[] a, float[] b, int n) {
+        int bound = n & ~3;
+
+        double sumA0 = 0, sumA1 = 0, sumA2 = 0, sumA3 = 0;
+        double sumB0 = 0, sumB1 = 0, sumB2 = 0, sumB3 = 0;
+        for (int i = 0; i < bound; i += 4) {
+            sumA0 += a[i];
+            sumA1 += a[i + 1];
+            sumA2 += a[i + 2];
+            sumA3 += a[i + 3];
+            sumB0 += b[i];
+            sumB1 += b[i + 1];
+            sumB2 += b[i + 2];
+            sumB3 += b[i + 3];
+        }
+        for (int i = bound; i < n; i++) {
+            sumA0 += a[i];
+            sumB0 += b[i];
+        }
+        double meanA = ((sumA0 + sumA1) + (sumA2 + sumA3)) / n;
+        double meanB = ((sumB0 + sumB1) + (sumB2 + sumB3)) / n;
+
+        double product0 = 0, product1 = 0, product2 = 0, product3 = 0;
+        double squaredA0 = 0, squaredA1 = 0, squaredA2 = 0, squaredA3 = 0;
+        double squaredB0 = 0, squaredB1 = 0, squaredB2 = 0, squaredB3 = 0;
+        for (int i = 0; i < bound; i += 4) {
+            double aDelta0 = a[i] - meanA, aDelta1 = a[i + 1] - meanA, aDelta2 = a[i + 2] - meanA, aDelta3 = a[i + 3] - meanA;
+            double bDelta0 = b[i] - meanB, bDelta1 = b[i + 1] - meanB, bDelta2 = b[i + 2] - meanB, bDelta3 = b[i + 3] - meanB;
+            product0 += aDelta0 * bDelta0;
+            product1 += aDelta1 * bDelta1;
+            product2 += aDelta2 * bDelta2;
+            product3 += aDelta3 * bDelta3;
+            squaredA0 += aDelta0 * aDelta0;
+            squaredA1 += aDelta1 * aDelta1;
+            squaredA2 += aDelta2 * aDelta2;
+            squaredA3 += aDelta3 * aDelta3;
+            squaredB0 += bDelta0 * bDelta0;
+            squaredB1 += bDelta1 * bDelta1;
+            squaredB2 += bDelta2 * bDelta2;
+            squaredB3 += bDelta3 * bDelta3;
+        }
+        for (int i = bound; i < n; i++) {
+            double aDelta = a[i] - meanA;
+            double bDelta = b[i] - meanB;
+            product0 += aDelta * bDelta;
+            squaredA0 += aDelta * aDelta;
+            squaredB0 += bDelta * bDelta;
+        }
+
+        double sumOfProductOfADeltaBDelta = (product0 + product1) + (product2 + product3);
+        double sumOfADeltaSquared = (squaredA0 + squaredA1) + (squaredA2 + squaredA3);
+        double sumOfBDeltaSquared = (squaredB0 + squaredB1) + (squaredB2 + squaredB3);
+
+        double r = sumOfProductOfADeltaBDelta / (Math.sqrt(sumOfADeltaSquared * sumOfBDeltaSquared));
+        return (r + 1) / 2;
+    }
+
+    private static double unrolledMetric(double[] a, double[] b, int n) {
+        int bound = n & ~3;
+
+        double sumA0 = 0, sumA1 = 0, sumA2 = 0, sumA3 = 0;
+        double sumB0 = 0, sumB1 = 0, sumB2 = 0, sumB3 = 0;
+        for (int i = 0; i < bound; i += 4) {
+            sumA0 += a[i];
+            sumA1 += a[i + 1];
+            sumA2 += a[i + 2];
+            sumA3 += a[i + 3];
+            sumB0 += b[i];
+            sumB1 += b[i + 1];
+            sumB2 += b[i + 2];
+            sumB3 += b[i + 3];
+        }
+        for (int i = bound; i < n; i++) {
+            sumA0 += a[i];
+            sumB0 += b[i];
+        }
+        double meanA = ((sumA0 + sumA1) + (sumA2 + sumA3)) / n;
+        double meanB = ((sumB0 + sumB1) + (sumB2 + sumB3)) / n;
+
+        double product0 = 0, product1 = 0, product2 = 0, product3 = 0;
+        double squaredA0 = 0, squaredA1 = 0, squaredA2 = 0, squaredA3 = 0;
+        double squaredB0 = 0, squaredB1 = 0, squaredB2 = 0, squaredB3 = 0;
+        for (int i = 0; i < bound; i += 4) {
+            double aDelta0 = a[i] - meanA, aDelta1 = a[i + 1] - meanA, aDelta2 = a[i + 2] - meanA, aDelta3 = a[i + 3] - meanA;
+            double bDelta0 = b[i] - meanB, bDelta1 = b[i + 1] - meanB, bDelta2 = b[i + 2] - meanB, bDelta3 = b[i + 3] - meanB;
+            product0 += aDelta0 * bDelta0;
+            product1 += aDelta1 * bDelta1;
+            product2 += aDelta2 * bDelta2;
+            product3 += aDelta3 * bDelta3;
+            squaredA0 += aDelta0 * aDelta0;
+            squaredA1 += aDelta1 * aDelta1;
+            squaredA2 += aDelta2 * aDelta2;
+            squaredA3 += aDelta3 * aDelta3;
+            squaredB0 += bDelta0 * bDelta0;
+            squaredB1 += bDelta1 * bDelta1;
+            squaredB2 += bDelta2 * bDelta2;
+            squaredB3 += bDelta3 * bDelta3;
+        }
+        for (int i = bound; i < n; i++) {
+            double aDelta = a[i] - meanA;
+            double bDelta = b[i] - meanB;
+            product0 += aDelta * bDelta;
+            squaredA0 += aDelta * aDelta;
+            squaredB0 += bDelta * bDelta;
+        }
+
+        double sumOfProductOfADeltaBDelta = (product0 + product1) + (product2 + product3);
+        double sumOfADeltaSquared = (squaredA0 + squaredA1) + (squaredA2 + squaredA3);
+        double sumOfBDeltaSquared = (squaredB0 + squaredB1) + (squaredB2 + squaredB3);
+
+        double r = sumOfProductOfADeltaBDelta / (Math.sqrt(sumOfADeltaSquared * sumOfBDeltaSquared));
+        return (r + 1) / 2;
+    }
 }
@@ -30,7 +30,7 @@ public class CosineSimilarityComputer implements MetricSimilarityComputer {
 
     @Override
     public double computeSimilarity(long[] vector1, long[] vector2) {
-        var intersection = Intersections.intersection3(vector1, vector2);
+        var intersection = Intersections.sortedIntersection(vector1, vector2);
         var similarity = intersection / (Math.sqrt(vector1.length) * Math.sqrt(vector2.length));
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
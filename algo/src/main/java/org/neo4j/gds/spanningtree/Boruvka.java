@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Parallel minimum weight spanning forest algorithm (Borůvka).
+ * <p>
+ * In every round, each component picks its lightest relationship to another component.
+ * Every node scans its own relationships in parallel and proposes its lightest one to its component,
+ * the component keeps the lightest proposal with a compare and swap. All picked relationships are then
+ * added to the forest at once and their components are merged in a {@link HugeAtomicDisjointSetStruct}.
+ * The number of components at least halves per round, so there are at most log(n) rounds.
+ * <p>
+ * Ties are broken by the node ids of the relationship, such that all relationships are totally ordered
+ * and the picked relationships cannot form a cycle, apart from two components picking the same relationship.
+ * <p>
+ * Unlike {@link Prim}, the result spans all connected components of the graph.
+ * The tree containing the start node is rooted at it, every other tree is rooted at its lowest node id.
+ */
+public class Boruvka extends Algorithm<SpanningTree> {
+
+    private static final long NONE = -1L;
+
+    private final Graph graph;
+    private final DoubleUnaryOperator minMax;
+    private final long startNodeId;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final long nodeCount;
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.minMax = minMax;
+        this.startNodeId = startNodeId;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.nodeCount = graph.nodeCount();
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask("SpanningTree");
+
+        var disjointSets = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        var component = HugeLongArray.newArray(nodeCount);
+        var componentBest = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        // the lightest relationship of every node, with its weight already turned into a minimization objective
+        var bestTarget = HugeLongArray.newArray(nodeCount);
+        var bestWeight = HugeDoubleArray.newArray(nodeCount);
+
+        // a forest has less relationships than nodes
+        var forestSources = HugeLongArray.newArray(nodeCount);
+        var forestTargets = HugeLongArray.newArray(nodeCount);
+        var forestWeights = HugeDoubleArray.newArray(nodeCount);
+        var forestSize = new AtomicLong();
+
+        boolean firstRound = true;
+        long merged;
+        do {
+            terminationFlag.assertRunning();
+
+            forEachInParallel((localGraph, start, end) -> {
+                for (long node = start; node < end; node++) {
+                    component.set(node, disjointSets.setIdOf(node));
+                    componentBest.set(node, NONE);
+                }
+            });
+
+            boolean logProgress = firstRound;
+            forEachInParallel((localGraph, start, end) -> {
+                for (long node = start; node < end; node++) {
+                    proposeLightestRelationship(localGraph, node, component, componentBest, bestTarget, bestWeight);
+                    // later rounds scan the same relationships again, the task volume covers a single scan
+                    if (logProgress) {
+                        progressTracker.logProgress(localGraph.degree(node));
+                    }
+                }
+            });
+
+            var mergedInRound = new AtomicLong();
+            forEachInParallel((localGraph, start, end) -> {
+                long localMerged = 0;
+                for (long node = start; node < end; node++) {
+                    if (component.get(node) != node || componentBest.get(node) == NONE) {
+                        continue;
+                    }
+                    long source = componentBest.get(node);
+                    long target = bestTarget.get(source);
+                    long otherComponent = component.get(target);
+                    long otherSource = componentBest.get(otherComponent);
+                    // both components picked the same relationship, only the one with the higher id adds it
+                    if (otherSource == target && bestTarget.get(otherSource) == source && node < otherComponent) {
+                        continue;
+                    }
+                    long index = forestSize.getAndIncrement();
+                    forestSources.set(index, source);
+                    forestTargets.set(index, target);
+                    forestWeights.set(index, minMax.applyAsDouble(bestWeight.get(source)));
+                    disjointSets.union(node, otherComponent);
+                    localMerged++;
+                }
+                mergedInRound.addAndGet(localMerged);
+            });
+
+            merged = mergedInRound.get();
+            firstRound = false;
+        } while (merged > 0);
+
+        var spanningTree = rootForest(forestSources, forestTargets, forestWeights, forestSize.get());
+        progressTracker.endSubTask("SpanningTree");
+        return spanningTree;
+    }
+
+    private void proposeLightestRelationship(
+        Graph localGraph,
+        long node,
+        HugeLongArray component,
+        HugeAtomicLongArray componentBest,
+        HugeLongArray bestTarget,
+        HugeDoubleArray bestWeight
+    ) {
+        long nodeComponent = component.get(node);
+        bestTarget.set(node, NONE);
+        localGraph.forEachRelationship(node, 0.0D, (source, target, weight) -> {
+            if (component.get(target) == nodeComponent) {
+                return true;
+            }
+            // invert weight to calculate maximum
+            double objective = minMax.applyAsDouble(weight);
+            long currentTarget = bestTarget.get(source);
+            if (currentTarget == NONE || lighter(
+                objective,
+                source,
+                target,
+                bestWeight.get(source),
+                source,
+                currentTarget
+            )) {
+                bestTarget.set(source, target);
+                bestWeight.set(source, objective);
+            }
+            return true;
+        });
+
+        if (bestTarget.get(node) == NONE) {
+            return;
+        }
+
+        long current = componentBest.get(nodeComponent);
+        while (current == NONE || lighter(
+            bestWeight.get(node),
+            node,
+            bestTarget.get(node),
+            bestWeight.get(current),
+            current,
+            bestTarget.get(current)
+        )) {
+            long witness = componentBest.compareAndExchange(nodeComponent, current, node);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    private SpanningTree rootForest(
+        HugeLongArray forestSources,
+        HugeLongArray forestTargets,
+        HugeDoubleArray forestWeights,
+        long forestSize
+    ) {
+        // adjacency of the forest, the forest is small enough to be rooted sequentially
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long i = 0; i < forestSize; i++) {
+            offsets.addTo(forestSources.get(i) + 1, 1);
+            offsets.addTo(forestTargets.get(i) + 1, 1);
+        }
+        for (long node = 0; node < nodeCount; node++) {
+            offsets.addTo(node + 1, offsets.get(node));
+        }
+        var positions = HugeLongArray.newArray(nodeCount);
+        positions.setAll(offsets::get);
+        var adjacency = HugeLongArray.newArray(2 * forestSize);
+        for (long i = 0; i < forestSize; i++) {
+            append(adjacency, positions, forestSources.get(i), i);
+            append(adjacency, positions, forestTargets.get(i), i);
+        }
+
+        var parent = HugeLongArray.newArray(nodeCount);
+        var costToParent = HugeDoubleArray.newArray(nodeCount);
+        parent.fill(NONE);
+        var visited = new BitSet(nodeCount);
+        var queue = HugeLongArray.newArray(nodeCount);
+        double totalWeight = 0;
+
+        long root = startNodeId;
+        long nextRoot = 0;
+        while (root != NONE) {
+            visited.set(root);
+            queue.set(0, root);
+            long head = 0;
+            long tail = 1;
+            while (head < tail) {
+                long node = queue.get(head++);
+                for (long offset = offsets.get(node); offset < offsets.get(node + 1); offset++) {
+                    long relationship = adjacency.get(offset);
+                    long other = forestSources.get(relationship) == node
+                        ? forestTargets.get(relationship)
+                        : forestSources.get(relationship);
+                    if (visited.get(other)) {
+                        continue;
+                    }
+                    visited.set(other);
+                    parent.set(other, node);
+                    costToParent.set(other, forestWeights.get(relationship));
+                    totalWeight += forestWeights.get(relationship);
+                    queue.set(tail++, other);
+                }
+            }
+            while (nextRoot < nodeCount && visited.get(nextRoot)) {
+                nextRoot++;
+            }
+            root = nextRoot < nodeCount ? nextRoot : NONE;
+        }
+
+        return new SpanningTree(
+            startNodeId,
+            nodeCount,
+            nodeCount,
+            parent,
+            costToParent::get,
+            totalWeight
+        );
+    }
+
+    private static void append(HugeLongArray adjacency, HugeLongArray positions, long node, long relationship) {
+        long position = positions.get(node);
+        adjacency.set(position, relationship);
+        positions.set(node, position + 1);
+    }
+
+    private void forEachInParallel(RangeConsumer consumer) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> consumer.accept(
+                graph.concurrentCopy(),
+                partition.startNode(),
+                partition.startNode() + partition.nodeCount()
+            ),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    /**
+     * Orders relationships by weight, then by their lower and higher node id.
+     */
+    private static boolean lighter(
+        double weight,
+        long source,
+        long target,
+        double otherWeight,
+        long otherSource,
+        long otherTarget
+    ) {
+        int comparison = Double.compare(weight, otherWeight);
+        if (comparison != 0) {
+            return comparison < 0;
+        }
+        long lower = Math.min(source, target);
+        long otherLower = Math.min(otherSource, otherTarget);
+        if (lower != otherLower) {
+            return lower < otherLower;
+        }
+        return Math.max(source, target) < Math.max(otherSource, otherTarget);
+    }
+
+    @FunctionalInterface
+    private interface RangeConsumer {
+        void accept(Graph localGraph, long start, long end);
+    }
+}
@@ -37,6 +37,11 @@ public interface SpanningTreeBaseConfig extends
         return Prim.MIN_OPERATOR;
     }
 
+    // Compute a spanning forest over all components with the parallel Borůvka algorithm instead of Prim
+    default boolean parallel() {
+        return false;
+    }
+
     @Configuration.Ignore
     default SpanningTreeParameters toParameters() {
         return new SpanningTreeParameters(objective(), sourceNode());
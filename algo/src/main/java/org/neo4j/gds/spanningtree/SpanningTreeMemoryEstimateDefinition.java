@@ -19,6 +19,9 @@
  */
 package org.neo4j.gds.spanningtree;
 
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.mem.MemoryEstimation;
@@ -28,13 +31,46 @@ import org.neo4j.gds.mem.Estimate;
 
 public class SpanningTreeMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final boolean parallel;
+
+    public SpanningTreeMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public SpanningTreeMemoryEstimateDefinition(boolean parallel) {
+        this.parallel = parallel;
+    }
 
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (parallel) {
+            return boruvka();
+        }
         return MemoryEstimations.builder(Prim.class)
             .perNode("Parent array", HugeLongArray::memoryEstimation)
             .add("Priority queue", HugeLongPriorityQueue.memoryEstimation())
             .perNode("visited", Estimate::sizeOfBitset)
             .build();
     }
+
+    private static MemoryEstimation boruvka() {
+        return MemoryEstimations.builder(Boruvka.class)
+            .add("disjoint sets", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .perNode("component", HugeLongArray::memoryEstimation)
+            .perNode("componentBest", HugeAtomicLongArray::memoryEstimation)
+            .perNode("bestTarget", HugeLongArray::memoryEstimation)
+            .perNode("bestWeight", HugeDoubleArray::memoryEstimation)
+            .perNode("forestSources", HugeLongArray::memoryEstimation)
+            .perNode("forestTargets", HugeLongArray::memoryEstimation)
+            .perNode("forestWeights", HugeDoubleArray::memoryEstimation)
+            // the forest is rooted through its adjacency, which holds every forest relationship twice
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("positions", HugeLongArray::memoryEstimation)
+            .perNode("adjacency", nodeCount -> HugeLongArray.memoryEstimation(2 * nodeCount))
+            .perNode("parent", HugeLongArray::memoryEstimation)
+            .perNode("costToParent", HugeDoubleArray::memoryEstimation)
+            .perNode("visited", Estimate::sizeOfBitset)
+            .perNode("queue", HugeLongArray::memoryEstimation)
+            .build();
+    }
 }
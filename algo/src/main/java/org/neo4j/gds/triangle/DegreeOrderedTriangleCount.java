@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
+
+/**
+ * Counts triangles on a degree ordered orientation of the graph.
+ * <p>
+ * Nodes are ranked by their degree, ties are broken by node id. Every relationship is kept once,
+ * pointing from the lower to the higher ranked node, which bounds the out-degree of every node
+ * by {@code O(sqrt(m))} and takes the high-degree hubs out of most intersections.
+ * Each triangle {@code u < v < w} is then found exactly once as {@code w} in the intersection of the
+ * out-neighbours of {@code u} and {@code v}.
+ * <p>
+ * The oriented adjacency is a temporary CSR of distinct, sorted target ids. Intersections adapt to the
+ * shape of the input: large out-neighbourhoods are marked in a bitmap and probed,
+ * skewed pairs are galloped and similar sized pairs are merged.
+ * Work is handed out in small batches that are balanced by the estimated intersection cost.
+ * <p>
+ * Nodes with a degree above {@code maxDegree} are excluded, as in {@link IntersectingTriangleCount}.
+ *
+ * http://www.cse.cuhk.edu.hk/~jcheng/papers/triangle_kdd11.pdf
+ * https://i11www.iti.kit.edu/extra/publications/sw-fclt-05_t.pdf
+ */
+public final class DegreeOrderedTriangleCount extends Algorithm<TriangleCountResult> {
+
+    // out-neighbourhoods of at least this size are marked in a bitmap instead of being merged
+    static final int BITMAP_THRESHOLD = 256;
+    // galloping pays off once one list is this many times longer than the other
+    static final int GALLOP_RATIO = 32;
+    private static final int BATCHES_PER_THREAD = 16;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final long maxDegree;
+    private final ExecutorService executorService;
+
+    private final HugeAtomicLongArray triangleCounts;
+    private final LongAdder globalTriangleCounter;
+
+    private HugeLongArray offsets;
+    private HugeLongArray targets;
+    private HugeIntArray outDegrees;
+
+    public static Task progressTask(String taskName, long nodeCount) {
+        return Tasks.task(
+            taskName,
+            Tasks.leaf("Orientation", 2 * nodeCount),
+            Tasks.leaf("Intersection", nodeCount)
+        );
+    }
+
+    public DegreeOrderedTriangleCount(
+        Graph graph,
+        Concurrency concurrency,
+        long maxDegree,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.maxDegree = maxDegree;
+        this.executorService = executorService;
+        this.triangleCounts = HugeAtomicLongArray.of(graph.nodeCount(), ParalleLongPageCreator.passThrough(concurrency));
+        this.globalTriangleCounter = new LongAdder();
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public TriangleCountResult compute() {
+        progressTracker.beginSubTask();
+
+        progressTracker.beginSubTask();
+        orient();
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        intersect();
+        progressTracker.endSubTask();
+
+        offsets.release();
+        targets.release();
+        outDegrees.release();
+
+        progressTracker.endSubTask();
+
+        return new TriangleCountResult(triangleCounts, globalTriangleCounter.longValue());
+    }
+
+    private void orient() {
+        long nodeCount = graph.nodeCount();
+        // offsets.get(node + 1) holds the number of candidates until the prefix sum turns it into the end offset
+        offsets = HugeLongArray.newArray(nodeCount + 1);
+        outDegrees = HugeIntArray.newArray(nodeCount);
+
+        runPartitioned(partition -> new OrientationTask(partition, false));
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.addTo(nodeId + 1, offsets.get(nodeId));
+        }
+        targets = HugeLongArray.newArray(offsets.get(nodeCount));
+
+        runPartitioned(partition -> new OrientationTask(partition, true));
+    }
+
+    private void intersect() {
+        long nodeCount = graph.nodeCount();
+
+        // a merge of out(u) and out(v) for every v in out(u) dominates the work of u
+        PartitionUtils.DegreeFunction estimatedCost = nodeId -> {
+            long outDegree = outDegree(nodeId);
+            return (int) Math.min(Integer.MAX_VALUE, outDegree * outDegree + 1);
+        };
+        long totalCost = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            totalCost += estimatedCost.degree(nodeId);
+        }
+
+        long batchSize = Math.max(1, BitUtil.ceilDiv(totalCost, (long) concurrency.value() * BATCHES_PER_THREAD));
+        List<DegreePartition> batches = PartitionUtils.degreePartitionWithBatchSize(
+            nodeCount,
+            estimatedCost,
+            batchSize,
+            Function.identity()
+        );
+
+        var nextBatch = new AtomicInteger();
+        var tasks = ParallelUtil.tasks(concurrency, () -> new IntersectionTask(batches, nextBatch));
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private void runPartitioned(Function<Partition, Runnable> taskCreator) {
+        var tasks = PartitionUtils.rangePartition(concurrency, graph.nodeCount(), taskCreator, Optional.empty());
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private boolean isExcluded(long nodeId) {
+        return graph.degree(nodeId) > maxDegree;
+    }
+
+    private int outDegree(long nodeId) {
+        return outDegrees.get(nodeId);
+    }
+
+    private final class OrientationTask implements Runnable, RelationshipConsumer {
+
+        private final Partition partition;
+        private final boolean writeTargets;
+        private final Graph localGraph;
+
+        private long[] buffer;
+        private int sourceDegree;
+        private int count;
+
+        OrientationTask(Partition partition, boolean writeTargets) {
+            this.partition = partition;
+            this.writeTargets = writeTargets;
+            this.localGraph = graph.concurrentCopy();
+            this.buffer = new long[16];
+        }
+
+        @Override
+        public void run() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                if (isExcluded(nodeId)) {
+                    if (!writeTargets) {
+                        triangleCounts.set(nodeId, EXCLUDED_NODE_TRIANGLE_COUNT);
+                    }
+                    continue;
+                }
+
+                sourceDegree = localGraph.degree(nodeId);
+                count = 0;
+                localGraph.forEachRelationship(nodeId, this);
+
+                if (writeTargets) {
+                    store(nodeId);
+                } else {
+                    offsets.set(nodeId + 1, count);
+                }
+            }
+            progressTracker.logProgress(partition.nodeCount());
+        }
+
+        @Override
+        public boolean accept(long source, long target) {
+            if (target == source || isExcluded(target)) {
+                return true;
+            }
+            int targetDegree = localGraph.degree(target);
+            if (targetDegree > sourceDegree || (targetDegree == sourceDegree && target > source)) {
+                if (writeTargets) {
+                    if (count == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, count + (count >> 1));
+                    }
+                    buffer[count] = target;
+                }
+                count++;
+            }
+            return true;
+        }
+
+        /**
+         * Not every graph returns sorted adjacency lists, e.g. union graphs return one list per relationship type.
+         * Sorting also moves parallel relationships next to each other, so that they can be skipped.
+         */
+        private void store(long source) {
+            Arrays.sort(buffer, 0, count);
+            long offset = offsets.get(source);
+            int distinct = 0;
+            for (int i = 0; i < count; i++) {
+                if (i == 0 || buffer[i] != buffer[i - 1]) {
+                    targets.set(offset + distinct, buffer[i]);
+                    distinct++;
+                }
+            }
+            outDegrees.set(source, distinct);
+        }
+    }
+
+    private final class IntersectionTask implements Runnable {
+
+        private final List<DegreePartition> batches;
+        private final AtomicInteger nextBatch;
+
+        private long[] outOfU;
+        private long[] outOfV;
+        private BitSet marked;
+        private long triangles;
+
+        IntersectionTask(List<DegreePartition> batches, AtomicInteger nextBatch) {
+            this.batches = batches;
+            this.nextBatch = nextBatch;
+            this.outOfU = new long[16];
+            this.outOfV = new long[16];
+        }
+
+        @Override
+        public void run() {
+            int batchIndex;
+            while ((batchIndex = nextBatch.getAndIncrement()) < batches.size()) {
+                var batch = batches.get(batchIndex);
+                long endNode = batch.startNode() + batch.nodeCount();
+                for (long u = batch.startNode(); u < endNode; u++) {
+                    countTriangles(u);
+                }
+                progressTracker.logProgress(batch.nodeCount());
+                terminationFlag.assertRunning();
+            }
+            globalTriangleCounter.add(triangles);
+        }
+
+        private void countTriangles(long u) {
+            int degreeOfU = load(u, true);
+            if (degreeOfU < 2) {
+                return;
+            }
+
+            boolean useBitmap = degreeOfU >= BITMAP_THRESHOLD;
+            if (useBitmap) {
+                if (marked == null) {
+                    marked = new BitSet(graph.nodeCount());
+                }
+                for (int i = 0; i < degreeOfU; i++) {
+                    marked.set(outOfU[i]);
+                }
+            }
+
+            for (int i = 0; i < degreeOfU; i++) {
+                long v = outOfU[i];
+                int degreeOfV = load(v, false);
+                if (degreeOfV == 0) {
+                    continue;
+                }
+
+                if (useBitmap) {
+                    probe(u, v, degreeOfV);
+                } else if (degreeOfU >= GALLOP_RATIO * degreeOfV) {
+                    gallop(u, v, outOfV, degreeOfV, outOfU, degreeOfU);
+                } else if (degreeOfV >= GALLOP_RATIO * degreeOfU) {
+                    gallop(u, v, outOfU, degreeOfU, outOfV, degreeOfV);
+                } else {
+                    merge(u, v, degreeOfU, degreeOfV);
+                }
+            }
+
+            if (useBitmap) {
+                for (int i = 0; i < degreeOfU; i++) {
+                    marked.clear(outOfU[i]);
+                }
+            }
+        }
+
+        private int load(long nodeId, boolean intoU) {
+            long start = offsets.get(nodeId);
+            int degree = outDegree(nodeId);
+            long[] buffer = intoU ? outOfU : outOfV;
+            if (buffer.length < degree) {
+                buffer = new long[Math.max(degree, buffer.length + (buffer.length >> 1))];
+                if (intoU) {
+                    outOfU = buffer;
+                } else {
+                    outOfV = buffer;
+                }
+            }
+            for (int i = 0; i < degree; i++) {
+                buffer[i] = targets.get(start + i);
+            }
+            return degree;
+        }
+
+        private void probe(long u, long v, int degreeOfV) {
+            for (int i = 0; i < degreeOfV; i++) {
+                long w = outOfV[i];
+                if (marked.get(w)) {
+                    emit(u, v, w);
+                }
+            }
+        }
+
+        private void merge(long u, long v, int degreeOfU, int degreeOfV) {
+            int i = 0;
+            int j = 0;
+            while (i < degreeOfU && j < degreeOfV) {
+                long a = outOfU[i];
+                long b = outOfV[j];
+                if (a < b) {
+                    i++;
+                } else if (a > b) {
+                    j++;
+                } else {
+                    emit(u, v, a);
+                    i++;
+                    j++;
+                }
+            }
+        }
+
+        /**
+         * Looks up every element of the small list with an exponential search in the large list.
+         */
+        private void gallop(long u, long v, long[] small, int smallLength, long[] large, int largeLength) {
+            int low = 0;
+            for (int i = 0; i < smallLength && low < largeLength; i++) {
+                long target = small[i];
+
+                int bound = 1;
+                while (low + bound < largeLength && large[low + bound] < target) {
+                    bound <<= 1;
+                }
+                int high = Math.min(low + bound, largeLength - 1);
+                low += bound >> 1;
+
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (large[mid] < target) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                if (large[low] == target) {
+                    emit(u, v, target);
+                    low++;
+                }
+            }
+        }
+
+        private void emit(long u, long v, long w) {
+            triangleCounts.getAndAdd(u, 1);
+            triangleCounts.getAndAdd(v, 1);
+            triangleCounts.getAndAdd(w, 1);
+            triangles++;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+public class DegreeOrderedTriangleCountMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        // the initial out-neighbour buffers, they grow up to the largest out-degree
+        long buffers = 2 * Estimate.sizeOfLongArray(16);
+
+        return MemoryEstimations
+            .builder(DegreeOrderedTriangleCount.class)
+            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("out-degrees", HugeIntArray::memoryEstimation)
+            // an undirected relationship is stored in both directions, the orientation keeps one of them
+            .perGraphDimension("targets", (dimensions, concurrency) -> MemoryRange.of(
+                HugeLongArray.memoryEstimation(dimensions.relCountUpperBound() / 2)
+            ))
+            // the bitmap is only allocated by threads that see an out-degree of at least BITMAP_THRESHOLD
+            .rangePerGraphDimension("intersection", (dimensions, concurrency) -> MemoryRange.of(
+                buffers,
+                buffers + Estimate.sizeOfBitset(dimensions.nodeCount())
+            ).times(concurrency.value()))
+            .build();
+    }
+}
@@ -21,7 +21,21 @@ package org.neo4j.gds.triangle;
 
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 
+import java.util.Optional;
+
+/**
+ * @param sampled the estimates and their margins of error if the average coefficient was sampled
+ */
 public record LocalClusteringCoefficientResult(
+        HugeDoubleArray localClusteringCoefficients,
+        double averageClusteringCoefficient,
+        Optional<SampledTriangleCountResult> sampled
+    ){
+
+    public LocalClusteringCoefficientResult(
         HugeDoubleArray localClusteringCoefficients,
         double averageClusteringCoefficient
-    ){}
+    ) {
+        this(localClusteringCoefficients, averageClusteringCoefficient, Optional.empty());
+    }
+}
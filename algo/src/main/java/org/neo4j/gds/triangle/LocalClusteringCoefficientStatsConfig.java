@@ -22,8 +22,20 @@ package org.neo4j.gds.triangle;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.core.CypherMapWrapper;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Configuration
-public interface LocalClusteringCoefficientStatsConfig extends LocalClusteringCoefficientBaseConfig {
+public interface LocalClusteringCoefficientStatsConfig extends LocalClusteringCoefficientBaseConfig, TriangleSamplingConfig {
+
+    @Configuration.Check
+    default void validateSampling() {
+        if (sampleSize().isPresent() && seedProperty() != null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The 'sampleSize' parameter cannot be combined with '%s'.",
+                SEED_PROPERTY_KEY
+            ));
+        }
+    }
 
     static LocalClusteringCoefficientStatsConfig of(CypherMapWrapper userInput) {
         return new LocalClusteringCoefficientStatsConfigImpl(userInput);
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Estimates the global triangle count and clustering coefficients by wedge sampling.
+ * <p>
+ * A wedge is a path of length two; it is closed if its end points are connected.
+ * Sampling wedges uniformly estimates the fraction of closed wedges, i.e. the global clustering coefficient,
+ * and every triangle closes exactly three wedges. Sampling one wedge of a uniformly chosen node estimates
+ * the local clustering coefficient of that node, their mean estimates the average clustering coefficient.
+ * <p>
+ * The node id space is split into strata, one per thread, and each stratum receives a share of the
+ * samples proportional to its weight. The margins of error follow from Hoeffding's inequality
+ * and hold for any graph, without assumptions on the degree distribution.
+ * <p>
+ * Neighbours are drawn by position, so parallel relationships and self loops skew the estimates;
+ * the graph should be projected with {@code aggregation: SINGLE}.
+ * <p>
+ * [1] C. Seshadhri, Ali Pinar, Tamara G. Kolda. "Wedge Sampling for Computing Clustering Coefficients
+ * and Triangle Counts on Large Graphs", Statistical Analysis and Data Mining, 2014.
+ */
+public final class SampledTriangleCount extends Algorithm<SampledTriangleCountResult> {
+
+    static final double DEFAULT_CONFIDENCE = 0.95;
+
+    private final Graph graph;
+    private final SampledTriangleCountParameters parameters;
+    private final ExecutorService executorService;
+
+    public static Task progressTask(String taskName, long nodeCount, long sampleSize) {
+        return Tasks.task(
+            taskName,
+            Tasks.leaf("Wedge counting", nodeCount),
+            Tasks.leaf("Wedge sampling", 2 * sampleSize)
+        );
+    }
+
+    public SampledTriangleCount(
+        Graph graph,
+        SampledTriangleCountParameters parameters,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.parameters = parameters;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public SampledTriangleCountResult compute() {
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+        long sampleSize = parameters.sampleSize();
+        // inclusive prefix sums of wedge counts, restarting at the beginning of every stratum
+        var cumulativeWedges = HugeDoubleArray.newArray(nodeCount);
+
+        var random = parameters.randomSeed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        var strata = PartitionUtils.rangePartition(
+            parameters.concurrency(),
+            nodeCount,
+            partition -> new Stratum(partition, cumulativeWedges, random.split()),
+            Optional.empty()
+        );
+
+        progressTracker.beginSubTask();
+        run(strata.stream().map(stratum -> (Runnable) stratum::countWedges).collect(Collectors.toList()));
+        progressTracker.endSubTask();
+
+        double totalWedges = strata.stream().mapToDouble(stratum -> stratum.wedges).sum();
+        for (var stratum : strata) {
+            // rounding up leaves no stratum with wedges unsampled
+            stratum.wedgeSamples = stratum.wedges > 0
+                ? (long) Math.ceil(sampleSize * (stratum.wedges / totalWedges))
+                : 0;
+            stratum.nodeSamples = (long) Math.ceil(sampleSize * ((double) stratum.partition.nodeCount() / nodeCount));
+        }
+
+        progressTracker.beginSubTask();
+        run(strata.stream().map(stratum -> (Runnable) stratum::sample).collect(Collectors.toList()));
+        progressTracker.endSubTask();
+
+        cumulativeWedges.release();
+
+        // Hoeffding: P(|X - E[X]| >= t) <= 2 exp(-2t^2 / sum (b_i - a_i)^2)
+        double logTerm = Math.log(2 / (1 - parameters.confidence())) / 2;
+
+        double closedWedges = 0;
+        double closedWedgesVariance = 0;
+        double averageCoefficient = 0;
+        double averageCoefficientVariance = 0;
+        for (var stratum : strata) {
+            if (stratum.wedgeSamples > 0) {
+                closedWedges += stratum.wedges * stratum.closedWedgeSamples / stratum.wedgeSamples;
+                closedWedgesVariance += stratum.wedges * stratum.wedges / stratum.wedgeSamples;
+            }
+            if (stratum.nodeSamples > 0) {
+                double weight = (double) stratum.partition.nodeCount() / nodeCount;
+                averageCoefficient += weight * stratum.closedNodeSamples / stratum.nodeSamples;
+                averageCoefficientVariance += weight * weight / stratum.nodeSamples;
+            }
+        }
+        double closedWedgesMargin = Math.sqrt(logTerm * closedWedgesVariance);
+
+        progressTracker.endSubTask();
+
+        return new SampledTriangleCountResult(
+            closedWedges / 3,
+            closedWedgesMargin / 3,
+            totalWedges > 0 ? closedWedges / totalWedges : 0,
+            totalWedges > 0 ? Math.min(1, closedWedgesMargin / totalWedges) : 0,
+            averageCoefficient,
+            Math.min(1, Math.sqrt(logTerm * averageCoefficientVariance)),
+            parameters.confidence()
+        );
+    }
+
+    private void run(List<Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(parameters.concurrency())
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private final class Stratum {
+
+        private final Partition partition;
+        private final HugeDoubleArray cumulativeWedges;
+        private final SplittableRandom random;
+        private final Graph localGraph;
+
+        private double wedges;
+        private long wedgeSamples;
+        private long nodeSamples;
+        private long closedWedgeSamples;
+        private long closedNodeSamples;
+
+        Stratum(Partition partition, HugeDoubleArray cumulativeWedges, SplittableRandom random) {
+            this.partition = partition;
+            this.cumulativeWedges = cumulativeWedges;
+            this.random = random;
+            this.localGraph = graph.concurrentCopy();
+        }
+
+        void countWedges() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            double sum = 0;
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                long degree = localGraph.degree(nodeId);
+                sum += degree * (degree - 1) / 2.0;
+                cumulativeWedges.set(nodeId, sum);
+            }
+            wedges = sum;
+            progressTracker.logProgress(partition.nodeCount());
+        }
+
+        void sample() {
+            for (long i = 0; i < wedgeSamples; i++) {
+                if (isClosed(wedgeCenter(random.nextDouble(wedges)))) {
+                    closedWedgeSamples++;
+                }
+                if ((i & 0xFFF) == 0) {
+                    terminationFlag.assertRunning();
+                }
+            }
+            progressTracker.logProgress(wedgeSamples);
+
+            for (long i = 0; i < nodeSamples; i++) {
+                long center = partition.startNode() + random.nextLong(partition.nodeCount());
+                if (localGraph.degree(center) > 1 && isClosed(center)) {
+                    closedNodeSamples++;
+                }
+                if ((i & 0xFFF) == 0) {
+                    terminationFlag.assertRunning();
+                }
+            }
+            progressTracker.logProgress(nodeSamples);
+        }
+
+        /**
+         * Finds the node whose wedges cover the given position, nodes without wedges cover nothing.
+         */
+        private long wedgeCenter(double position) {
+            long low = partition.startNode();
+            long high = partition.startNode() + partition.nodeCount() - 1;
+            while (low < high) {
+                long mid = (low + high) >>> 1;
+                if (cumulativeWedges.get(mid) > position) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Samples a wedge centered at the given node and checks whether it is closed.
+         */
+        private boolean isClosed(long center) {
+            int degree = localGraph.degree(center);
+            int first = random.nextInt(degree);
+            int second = random.nextInt(degree - 1);
+            if (second >= first) {
+                second++;
+            }
+
+            long a = localGraph.nthTarget(center, first);
+            long b = localGraph.nthTarget(center, second);
+            if (a == b || a == center || b == center) {
+                return false;
+            }
+
+            // the lookup scans the adjacency list of the source, start from the smaller one
+            return localGraph.degree(a) <= localGraph.degree(b)
+                ? localGraph.exists(a, b)
+                : localGraph.exists(b, a);
+        }
+    }
+}
@@ -39,6 +39,10 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
         return Long.MAX_VALUE;
     }
 
+    default boolean degreeOrdered() {
+        return false;
+    }
+
     @Configuration.Check
     default void validateMaxDegree() {
         if (maxDegree() < 2) {
@@ -67,6 +71,6 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
 
     @Configuration.Ignore
     default TriangleCountParameters toParameters() {
-        return new TriangleCountParameters(concurrency(), maxDegree());
+        return new TriangleCountParameters(concurrency(), maxDegree(), degreeOrdered());
     }
 }
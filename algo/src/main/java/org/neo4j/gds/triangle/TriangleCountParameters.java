@@ -23,5 +23,5 @@ import org.neo4j.gds.annotation.Parameters;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
 @Parameters
-public record TriangleCountParameters(Concurrency concurrency, long maxDegree) {
+public record TriangleCountParameters(Concurrency concurrency, long maxDegree, boolean degreeOrdered) {
 }
@@ -21,7 +21,18 @@ package org.neo4j.gds.triangle;
 
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 
+import java.util.Optional;
+
+/**
+ * @param sampled the estimates and their margins of error if the global count was sampled
+ */
 public record TriangleCountResult(
         HugeAtomicLongArray localTriangles,
-        long globalTriangles
-    ) {}
+        long globalTriangles,
+        Optional<SampledTriangleCountResult> sampled
+    ) {
+
+    public TriangleCountResult(HugeAtomicLongArray localTriangles, long globalTriangles) {
+        this(localTriangles, globalTriangles, Optional.empty());
+    }
+}
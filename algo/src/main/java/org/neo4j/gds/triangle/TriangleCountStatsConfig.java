@@ -23,7 +23,15 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @Configuration
-public interface TriangleCountStatsConfig extends TriangleCountBaseConfig {
+public interface TriangleCountStatsConfig extends TriangleCountBaseConfig, TriangleSamplingConfig {
+
+    @Configuration.Check
+    default void validateSampling() {
+        if (sampleSize().isPresent() && (maxDegree() != Long.MAX_VALUE || degreeOrdered())) {
+            throw new IllegalArgumentException(
+                "The 'sampleSize' parameter cannot be combined with 'maxDegree' or 'degreeOrdered'.");
+        }
+    }
 
     static TriangleCountStatsConfig of(CypherMapWrapper userInput) {
         return new TriangleCountStatsConfigImpl(userInput);
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stats modes that only report global values can estimate them with {@link SampledTriangleCount}
+ * instead of counting every triangle.
+ */
+public interface TriangleSamplingConfig extends AlgoBaseConfig, RandomSeedConfig {
+
+    /**
+     * The number of sampled wedges, separately for the global and the average clustering coefficient.
+     * Triangles are counted exactly if absent.
+     */
+    Optional<Long> sampleSize();
+
+    @Configuration.Check
+    default void validateSampleSize() {
+        sampleSize().ifPresent(sampleSize -> {
+            if (sampleSize < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'sampleSize' must be a positive number, got %d.",
+                    sampleSize
+                ));
+            }
+        });
+    }
+
+    /**
+     * The probability with which the exact values lie within the reported margins of error.
+     */
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double confidence() {
+        return SampledTriangleCount.DEFAULT_CONFIDENCE;
+    }
+
+    @Configuration.Ignore
+    default Optional<SampledTriangleCountParameters> toSampledParameters() {
+        return sampleSize().map(sampleSize -> new SampledTriangleCountParameters(
+            concurrency(),
+            sampleSize,
+            confidence(),
+            randomSeed()
+        ));
+    }
+}
@@ -37,6 +37,7 @@ import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
 public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements RelationshipIntersect {
 
     private final IntPredicate degreeFilter;
+    // the nesting depth of an intersection is fixed, so these three cursors are reused for every node
     private CURSOR origNeighborsOfa;
     private CURSOR helpingCursorOfa;
     private CURSOR helpingCursorOfb;
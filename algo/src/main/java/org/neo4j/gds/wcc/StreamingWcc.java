@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.delta.RelationshipUpdates;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Maintains the weakly connected components of a graph under streamed relationship insertions.
+ * <p>
+ * The disjoint set struct of an initial {@link Wcc} run is kept resident and every
+ * inserted relationship is unioned into it, without rescanning the existing relationships.
+ * The current components can be read at any time through {@link #components()}, which is a
+ * view on the disjoint set struct and does not copy any data.
+ * <p>
+ * Use {@link #resident} to keep the components of a catalog graph alive between calls.
+ * <p>
+ * Removing a relationship can split a component, which cannot be expressed by union
+ * operations. Batches containing deletions are therefore rejected and require a full
+ * {@link Wcc} run.
+ */
+public final class StreamingWcc {
+
+    private final IdMap idMap;
+    private final HugeAtomicDisjointSetStruct disjointSetStruct;
+    private final WccParameters parameters;
+    private final ExecutorService executorService;
+
+    public static StreamingWcc initialize(
+        Graph graph,
+        WccParameters parameters,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        var disjointSetStruct = new Wcc(
+            graph,
+            executorService,
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            parameters,
+            ProgressTracker.NULL_TRACKER,
+            terminationFlag
+        ).compute();
+
+        return new StreamingWcc(graph, disjointSetStruct, parameters, executorService);
+    }
+
+    /**
+     * Returns the streaming components that are kept resident with the given catalog graph,
+     * running the initial {@link Wcc} computation on the first call.
+     * A separate instance is kept for every combination of node labels, relationship types and parameters.
+     * Once the graph store is modified, e.g. by incremental relationship updates, the next call recomputes it.
+     */
+    public static StreamingWcc resident(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        Graph graph,
+        WccParameters parameters,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        var key = formatWithLocale(
+            "%s %s %s %s",
+            StreamingWcc.class.getSimpleName(),
+            graph.schema().nodeSchema().availableLabels(),
+            graph.schema().relationshipSchema().availableTypes(),
+            parameters
+        );
+        return GraphStoreCatalog.residentState(
+            username,
+            databaseId,
+            graphName,
+            key,
+            StreamingWcc.class,
+            () -> initialize(graph, parameters, executorService, terminationFlag)
+        );
+    }
+
+    /**
+     * @param disjointSetStruct the result of a {@link Wcc} run on the given id map, it is modified in place
+     */
+    public StreamingWcc(
+        IdMap idMap,
+        HugeAtomicDisjointSetStruct disjointSetStruct,
+        WccParameters parameters,
+        ExecutorService executorService
+    ) {
+        if (disjointSetStruct.size() != idMap.nodeCount()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The disjoint set struct has %d elements, but the graph has %d nodes",
+                disjointSetStruct.size(),
+                idMap.nodeCount()
+            ));
+        }
+        this.idMap = idMap;
+        this.disjointSetStruct = disjointSetStruct;
+        this.parameters = parameters;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Joins the components of the end nodes of all inserted relationships.
+     * If the components were computed with a threshold, the first relationship
+     * property of the batch is used as weight and only relationships with a
+     * weight above the threshold are considered.
+     */
+    public synchronized void apply(RelationshipUpdates updates) {
+        if (updates.deleteCount() > 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot apply %d relationship deletions of type `%s` incrementally, components need to be recomputed",
+                updates.deleteCount(),
+                updates.relationshipType().name()
+            ));
+        }
+        if (parameters.hasThreshold() && updates.propertyKeys().isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Components were computed with threshold %f, but the relationships of type `%s` have no weight",
+                parameters.threshold(),
+                updates.relationshipType().name()
+            ));
+        }
+
+        ParallelUtil.readParallel(
+            parameters.concurrency(),
+            updates.insertCount(),
+            executorService,
+            (start, end) -> {
+                for (long i = start; i < end; i++) {
+                    int index = (int) i;
+                    if (parameters.hasThreshold() && updates.insertedProperty(index, 0) <= parameters.threshold()) {
+                        continue;
+                    }
+                    disjointSetStruct.union(
+                        mappedNodeId(updates.insertedSource(index)),
+                        mappedNodeId(updates.insertedTarget(index))
+                    );
+                }
+            }
+        );
+    }
+
+    /**
+     * Joins the components of the given nodes.
+     *
+     * @param sourceNodeId an original node id
+     * @param targetNodeId an original node id
+     */
+    public void union(long sourceNodeId, long targetNodeId) {
+        disjointSetStruct.union(mappedNodeId(sourceNodeId), mappedNodeId(targetNodeId));
+    }
+
+    /**
+     * @param nodeId an original node id
+     * @return the id of the component the node currently belongs to
+     */
+    public long componentOf(long nodeId) {
+        return disjointSetStruct.setIdOf(mappedNodeId(nodeId));
+    }
+
+    /**
+     * @return a live view of the current component ids, indexed by mapped node id
+     */
+    public LongNodePropertyValues components() {
+        return disjointSetStruct.asNodeProperties();
+    }
+
+    public HugeAtomicDisjointSetStruct disjointSetStruct() {
+        return disjointSetStruct;
+    }
+
+    private long mappedNodeId(long originalNodeId) {
+        long mappedNodeId = idMap.safeToMappedNodeId(originalNodeId);
+        if (mappedNodeId == IdMap.NOT_FOUND) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id %d does not exist in the graph",
+                originalNodeId
+            ));
+        }
+        return mappedNodeId;
+    }
+}
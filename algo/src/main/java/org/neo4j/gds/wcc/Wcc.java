@@ -115,7 +115,7 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
     }
 
     @Override
-    public DisjointSetStruct compute() {
+    public HugeAtomicDisjointSetStruct compute() {
         progressTracker.beginSubTask();
 
         long nodeCount = graph.nodeCount();
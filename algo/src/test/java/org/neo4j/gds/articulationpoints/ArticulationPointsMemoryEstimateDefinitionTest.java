@@ -21,6 +21,8 @@ package org.neo4j.gds.articulationpoints;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.biconnectivity.BiconnectivityMemoryEstimateDefinition;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
 class ArticulationPointsMemoryEstimateDefinitionTest {
@@ -32,4 +34,18 @@ class ArticulationPointsMemoryEstimateDefinitionTest {
             .memoryRange(100, 6000, new Concurrency(1))
             .hasSameMinAndMaxEqualTo(218752);
     }
+
+    @Test
+    void shouldEstimateTheParallelBiconnectivity() {
+        var memoryEstimation = new ArticulationPointsMemoryEstimateDefinition(true).memoryEstimation();
+
+        var expected = new BiconnectivityMemoryEstimateDefinition().memoryEstimation()
+            .estimate(GraphDimensions.of(100, 6000), new Concurrency(1))
+            .memoryUsage()
+            .max;
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(100, 6000, new Concurrency(1))
+            .hasSameMinAndMaxEqualTo(expected);
+    }
 }
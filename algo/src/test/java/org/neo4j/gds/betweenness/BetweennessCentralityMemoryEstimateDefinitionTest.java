@@ -29,9 +29,9 @@ class BetweennessCentralityMemoryEstimateDefinitionTest {
 
     @ParameterizedTest(name = "Concurrency: {0}")
     @CsvSource({
-        "1, 6_000_376",
-        "4, 21_601_192",
-        "42, 219_211_528"
+        "1, 3_600_360",
+        "4, 12_001_128",
+        "42, 118_410_856"
     })
     void testMemoryEstimation(int concurrency, long expectedBytes) {
         var memoryEstimation = new BetweennessCentralityMemoryEstimateDefinition(false).memoryEstimation();
@@ -25,8 +25,12 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
@@ -40,6 +44,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.TestSupport.crossArguments;
@@ -137,7 +142,7 @@ class BetweennessCentralityTest {
         HugeAtomicDoubleArray actualResult = new BetweennessCentrality(
             graph,
             new RandomDegreeSelectionStrategy(samplingSize, Optional.of(42L)),
-            ForwardTraverser.Factory.unweighted(),
+            BrandesStrategy.unweighted(),
             DefaultPool.INSTANCE,
             new Concurrency(concurrency),
             ProgressTracker.NULL_TRACKER,
@@ -157,7 +162,7 @@ class BetweennessCentralityTest {
         var actualResult = new BetweennessCentrality(
             graph,
             new FullSelectionStrategy(),
-            ForwardTraverser.Factory.unweighted(),
+            BrandesStrategy.unweighted(),
             DefaultPool.INSTANCE,
             new Concurrency(concurrency),
             ProgressTracker.NULL_TRACKER,
@@ -172,6 +177,43 @@ class BetweennessCentralityTest {
         assertEquals(0.0, actualResult.get((int) graph.toMappedNodeId("e")));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void unweightedShouldMatchWeightedTraversalWithUnitWeights(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(200)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .aggregation(Aggregation.SINGLE)
+            .direction(Direction.DIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var unweighted = new BetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            BrandesStrategy.unweighted(),
+            DefaultPool.INSTANCE,
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().centralities();
+        var weighted = new BetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            BrandesStrategy.weighted(),
+            DefaultPool.INSTANCE,
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().centralities();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(unweighted.get(nodeId)).isCloseTo(weighted.get(nodeId), within(1e-9));
+        }
+    }
+
     @Test
     void testShouldLogProgress() {
         Concurrency concurrency = new Concurrency(4);
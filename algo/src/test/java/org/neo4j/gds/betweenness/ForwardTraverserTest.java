@@ -61,46 +61,6 @@ class ForwardTraverserTest {
     @Inject
     private Graph weightedGraph;
 
-    @Test
-    void shouldWorkOnUnWeightedGraphs() {
-        var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
-        var predecessors = HugeObjectArray.newArray(LongArrayList.class, equallyWeightedGraph.nodeCount());
-        var sigma = HugeLongArray.newArray(equallyWeightedGraph.nodeCount());
-        UnweightedForwardTraverser unweightedForwardTraverser = UnweightedForwardTraverser.create(
-            equallyWeightedGraph,
-            predecessors,
-            backwardNodes,
-            sigma,
-            TerminationFlag.RUNNING_TRUE
-        );
-        unweightedForwardTraverser.clear();
-
-        sigma.addTo(0, 1);
-        unweightedForwardTraverser.traverse(0);
-
-        SoftAssertions softAssertions = new SoftAssertions();
-
-        softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 0, 1, 1, 2, 2});
-        softAssertions.assertThat(predecessors.get(0)).isNull();
-        softAssertions.assertThat(predecessors.get(1).toArray()).containsExactly(0);
-        softAssertions.assertThat(predecessors.get(2)).isNull();
-        softAssertions.assertThat(predecessors.get(3).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(4).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(5).toArray()).containsExactly(3, 4);
-        softAssertions.assertThat(predecessors.get(6).toArray()).containsExactly(5);
-
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(6);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(5);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(4);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(3);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(1);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(0);
-
-        softAssertions.assertThat(backwardNodes.isEmpty()).isTrue();
-
-        softAssertions.assertAll();
-    }
-
     @Test
     void shouldWorkOnWeightedGraphs() {
         var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
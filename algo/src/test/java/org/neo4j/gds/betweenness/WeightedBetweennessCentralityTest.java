@@ -78,7 +78,7 @@ class WeightedBetweennessCentralityTest {
         var algoWeighted = new BetweennessCentrality(
             equallyWeightedGraph,
             new RandomDegreeSelectionStrategy(7, Optional.of(42L)),
-            ForwardTraverser.Factory.weighted(),
+            BrandesStrategy.weighted(),
             DefaultPool.INSTANCE,
             new Concurrency(8),
             ProgressTracker.NULL_TRACKER,
@@ -87,7 +87,7 @@ class WeightedBetweennessCentralityTest {
         var algoUnweighted = new BetweennessCentrality(
             equallyWeightedGraph,
             new RandomDegreeSelectionStrategy(7, Optional.of(42L)),
-            ForwardTraverser.Factory.unweighted(),
+            BrandesStrategy.unweighted(),
             DefaultPool.INSTANCE,
             new Concurrency(8),
             ProgressTracker.NULL_TRACKER,
@@ -114,7 +114,7 @@ class WeightedBetweennessCentralityTest {
          var bc = new BetweennessCentrality(
              weightedGraph,
              new RandomDegreeSelectionStrategy(7, Optional.of(42L)),
-             ForwardTraverser.Factory.weighted(),
+             BrandesStrategy.weighted(),
              DefaultPool.INSTANCE,
              new Concurrency(8),
              ProgressTracker.NULL_TRACKER,
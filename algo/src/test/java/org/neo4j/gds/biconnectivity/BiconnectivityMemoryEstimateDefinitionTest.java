@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.biconnectivity;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.bridges.Bridge;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.mem.Estimate;
+
+class BiconnectivityMemoryEstimateDefinitionTest {
+
+    @Test
+    void shouldEstimateMemoryAccurately() {
+        var memoryEstimation = new BiconnectivityMemoryEstimateDefinition().memoryEstimation();
+
+        // parents, sizes, low and high, as well as both disjoint set structs hold one atomic long per node
+        long atomicLongArrays = 4 * HugeAtomicLongArray.memoryEstimation(100)
+            + 2 * (Estimate.sizeOfInstance(HugeAtomicDisjointSetStruct.class) + HugeAtomicLongArray.memoryEstimation(100));
+        // order, preorder and components
+        long longArrays = 3 * HugeLongArray.memoryEstimation(100);
+        long outputs = HugeAtomicBitSet.memoryEstimation(100)
+            + Estimate.sizeOfBitset(100)
+            + 100 * Estimate.sizeOfInstance(Bridge.class);
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(100, 6000, new Concurrency(1))
+            .hasSameMinAndMaxEqualTo(
+                Estimate.sizeOfInstance(Biconnectivity.class) + atomicLongArrays + longArrays + outputs
+            );
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.biconnectivity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.articulationpoints.ArticulationPoints;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.bridges.Bridge;
+import org.neo4j.gds.bridges.Bridges;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class BiconnectivityTest {
+
+    // two triangles sharing c, a pendant f at e and the isolated node g
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String GRAPH =
+        """
+            CREATE
+               (a:Node),
+               (b:Node),
+               (c:Node),
+               (d:Node),
+               (e:Node),
+               (f:Node),
+               (g:Node),
+               (a)-[:R]->(b),
+               (b)-[:R]->(c),
+               (c)-[:R]->(a),
+               (c)-[:R]->(d),
+               (d)-[:R]->(e),
+               (e)-[:R]->(c),
+               (e)-[:R]->(f)
+            """;
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldFindArticulationPointsAndBridges() {
+        var result = biconnectivity(graph, 4);
+
+        assertThat(result.articulationPoints().cardinality()).isEqualTo(2L);
+        assertThat(result.articulationPoints().get(graph.toMappedNodeId("c"))).isTrue();
+        assertThat(result.articulationPoints().get(graph.toMappedNodeId("e"))).isTrue();
+
+        assertThat(result.bridges().bridges())
+            .containsExactly(Bridge.create(graph.toMappedNodeId("e"), graph.toMappedNodeId("f")));
+    }
+
+    @Test
+    void shouldAssignRelationshipsToBiconnectedComponents() {
+        var result = biconnectivity(graph, 4);
+
+        long first = componentId(result, "a", "b");
+        assertThat(componentId(result, "b", "c")).isEqualTo(first);
+        assertThat(componentId(result, "c", "a")).isEqualTo(first);
+
+        long second = componentId(result, "c", "d");
+        assertThat(componentId(result, "d", "e")).isEqualTo(second);
+        assertThat(componentId(result, "e", "c")).isEqualTo(second);
+
+        long third = componentId(result, "e", "f");
+
+        assertThat(first).isNotEqualTo(second).isNotEqualTo(third);
+        assertThat(second).isNotEqualTo(third);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchSequentialAlgorithms(int concurrency) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.UNDIRECTED)
+            .aggregation(Aggregation.SINGLE)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .nodeCount(10_000)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var expectedArticulationPoints = new ArticulationPoints(randomGraph, ProgressTracker.NULL_TRACKER).compute();
+        var expectedBridges = new Bridges(randomGraph, ProgressTracker.NULL_TRACKER).compute().bridges().stream()
+            .map(bridge -> Bridge.create(bridge.from(), bridge.to()))
+            .toList();
+
+        var result = biconnectivity(randomGraph, concurrency);
+
+        assertThat(result.articulationPoints()).isEqualTo(expectedArticulationPoints);
+        assertThat(result.bridges().bridges()).containsExactlyInAnyOrderElementsOf(expectedBridges);
+    }
+
+    @Test
+    void shouldRequireUndirectedGraph() {
+        var directedGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodeCount(10)
+            .build()
+            .generate();
+
+        assertThatThrownBy(() -> biconnectivity(directedGraph, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("undirected");
+    }
+
+    private long componentId(BiconnectivityResult result, String source, String target) {
+        long id = result.componentId(graph.toMappedNodeId(source), graph.toMappedNodeId(target));
+        assertThat(id).isNotEqualTo(BiconnectivityResult.NO_COMPONENT);
+        return id;
+    }
+
+    private static BiconnectivityResult biconnectivity(Graph graph, int concurrency) {
+        return new Biconnectivity(
+            graph,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
@@ -21,6 +21,8 @@ package org.neo4j.gds.bridges;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.biconnectivity.BiconnectivityMemoryEstimateDefinition;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
 class BridgesMemoryEstimateDefinitionTest {
@@ -33,4 +35,18 @@ class BridgesMemoryEstimateDefinitionTest {
             .memoryRange(100, 6000, new Concurrency(1))
             .hasSameMinAndMaxEqualTo(221056L);
     }
+
+    @Test
+    void shouldEstimateTheParallelBiconnectivity() {
+        var memoryEstimation = new BridgesMemoryEstimateDefinition(true).memoryEstimation();
+
+        var expected = new BiconnectivityMemoryEstimateDefinition().memoryEstimation()
+            .estimate(GraphDimensions.of(100, 6000), new Concurrency(1))
+            .memoryUsage()
+            .max;
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(100, 6000, new Concurrency(1))
+            .hasSameMinAndMaxEqualTo(expected);
+    }
 }
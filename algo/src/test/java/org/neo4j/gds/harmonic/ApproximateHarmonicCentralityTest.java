@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.harmonic;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class ApproximateHarmonicCentralityTest {
+
+    @Test
+    void shouldApproximateExactHarmonicCentrality() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(300)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var exact = new HarmonicCentrality(
+            graph,
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralityScoreProvider();
+
+        var approximate = new ApproximateHarmonicCentrality(
+            graph,
+            12,
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().centralityScoreProvider();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(approximate.applyAsDouble(nodeId))
+                .as("harmonic centrality of node %d", nodeId)
+                .isCloseTo(exact.applyAsDouble(nodeId), withinPercentage(10));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class HyperBallTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (d)-[:TYPE]->(e)";
+
+    @GdlGraph(graphNamePrefix = "directed", indexInverse = true)
+    @GdlGraph(graphNamePrefix = "natural")
+    private static final String DIRECTED_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph directedGraph;
+
+    @Inject
+    private TestGraph naturalGraph;
+
+    @Test
+    void shouldEstimateDistanceSums() {
+        var result = hyperBall(graph, new Concurrency(2)).compute();
+
+        assertThat(result.farness().get(graph.toMappedNodeId("a"))).isEqualTo(3, within(0.05));
+        assertThat(result.farness().get(graph.toMappedNodeId("b"))).isEqualTo(2, within(0.05));
+        assertThat(result.farness().get(graph.toMappedNodeId("c"))).isEqualTo(3, within(0.05));
+        assertThat(result.farness().get(graph.toMappedNodeId("d"))).isEqualTo(1, within(0.05));
+
+        assertThat(result.harmonicSum().get(graph.toMappedNodeId("a"))).isEqualTo(1.5, within(0.05));
+        assertThat(result.harmonicSum().get(graph.toMappedNodeId("b"))).isEqualTo(2, within(0.05));
+        assertThat(result.harmonicSum().get(graph.toMappedNodeId("e"))).isEqualTo(1, within(0.05));
+
+        assertThat(result.reachable().get(graph.toMappedNodeId("a"))).isEqualTo(2, within(0.05));
+        assertThat(result.reachable().get(graph.toMappedNodeId("e"))).isEqualTo(1, within(0.05));
+
+        assertThat(result.neighbourhoodFunction()).containsExactly(new double[]{5, 11, 13}, within(0.1));
+        assertThat(result.ranIterations()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFollowIncomingRelationships() {
+        var result = hyperBall(directedGraph, new Concurrency(1)).compute();
+
+        assertThat(result.farness().get(directedGraph.toMappedNodeId("a"))).isEqualTo(0, within(0.05));
+        assertThat(result.farness().get(directedGraph.toMappedNodeId("b"))).isEqualTo(1, within(0.05));
+        assertThat(result.farness().get(directedGraph.toMappedNodeId("c"))).isEqualTo(3, within(0.05));
+
+        assertThat(result.reachable().get(directedGraph.toMappedNodeId("c"))).isEqualTo(2, within(0.05));
+    }
+
+    @Test
+    void shouldRequireInverseIndexForDirectedGraphs() {
+        assertThatThrownBy(() -> hyperBall(naturalGraph, new Concurrency(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("indexInverse");
+    }
+
+    @Test
+    void shouldEstimateLargeCardinalities() {
+        var counters = new HyperLogLogCounters(2, 12);
+        for (long element = 0; element < 100_000; element++) {
+            counters.add(element % 2, element);
+        }
+
+        var buffer = new byte[counters.registerCount()];
+        counters.read(0, buffer);
+        assertThat(counters.estimate(buffer)).isEqualTo(50_000, within(2_500D));
+        assertThat(counters.unionInto(1, buffer)).isTrue();
+        assertThat(counters.estimate(buffer)).isEqualTo(100_000, within(5_000D));
+        assertThat(counters.unionInto(1, buffer)).isFalse();
+    }
+
+    @Test
+    void shouldRejectInvalidPrecision() {
+        assertThatThrownBy(() -> new HyperLogLogCounters(1, HyperLogLogCounters.MAX_PRECISION + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldEstimateBothRegisterArrays() {
+        long nodeCount = 1_000;
+        int precision = 8;
+        var usage = HyperBall.memoryEstimation(precision)
+            .estimate(GraphDimensions.of(nodeCount), new Concurrency(4))
+            .memoryUsage();
+
+        long registers = 2 * nodeCount * (1L << precision);
+        assertThat(usage.min).isEqualTo(usage.max).isBetween(registers, registers + 50_000);
+    }
+
+    private static HyperBall hyperBall(Graph graph, Concurrency concurrency) {
+        return new HyperBall(
+            graph,
+            12,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+}
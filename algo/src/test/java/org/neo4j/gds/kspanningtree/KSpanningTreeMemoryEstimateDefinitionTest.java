@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kspanningtree;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.spanningtree.SpanningTreeMemoryEstimateDefinition;
+
+class KSpanningTreeMemoryEstimateDefinitionTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldEstimateTheSpanningTreeAndTheGrowth(boolean parallel) {
+        var dimensions = GraphDimensions.of(10_000, 100_000);
+        var concurrency = new Concurrency(4);
+
+        long spanningTree = new SpanningTreeMemoryEstimateDefinition(parallel).memoryEstimation()
+            .estimate(dimensions, concurrency)
+            .memoryUsage()
+            .max;
+        long queue = HugeLongPriorityQueue.memoryEstimation()
+            .estimate(dimensions, concurrency)
+            .memoryUsage()
+            .max;
+        // outDegree, parent and costToParent, both queues as well as the exterior, rootNodeAdjacent and included bitsets
+        long growth = 2 * HugeLongArray.memoryEstimation(10_000)
+            + HugeDoubleArray.memoryEstimation(10_000)
+            + 2 * queue
+            + 3 * Estimate.sizeOfBitset(10_000);
+
+        MemoryEstimationAssert.assertThat(new KSpanningTreeMemoryEstimateDefinition(parallel).memoryEstimation())
+            .memoryRange(dimensions, concurrency)
+            .hasSameMinAndMaxEqualTo(Estimate.sizeOfInstance(KSpanningTree.class) + spanningTree + growth);
+    }
+}
@@ -29,6 +29,7 @@ import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -266,6 +267,24 @@ class KSpanningTreeTest {
 
     }
 
+    @Test
+    void shouldCountOnlyTheGrownTreeWhenParallel() {
+        // the Boruvka forest also spans the isolated node x, but only the tree of a is grown
+        var spanningTree = new KSpanningTree(
+            graph,
+            Prim.MIN_OPERATOR,
+            a,
+            5,
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(spanningTree.effectiveNodeCount()).isEqualTo(4);
+        assertThat(spanningTree.parent(x)).isEqualTo(-1);
+    }
+
     @Test
     void shouldLogProgress() {
         var config = KSpanningTreeBaseConfigImpl.builder().sourceNode(idFunction.of("a")).k(2).build();
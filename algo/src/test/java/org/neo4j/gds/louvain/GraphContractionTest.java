@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.louvain;
+
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class GraphContractionTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:TYPE {w: 1.0}]->(b)" +
+        ", (b)-[:TYPE {w: 2.0}]->(c)" +
+        ", (a)-[:TYPE {w: 3.0}]->(c)" +
+        ", (c)-[:TYPE {w: 4.0}]->(d)" +
+        ", (d)-[:TYPE {w: 5.0}]->(e)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldSumUpRelationshipsBetweenCommunities(int concurrency) {
+        var communities = HugeLongArray.newArray(graph.nodeCount());
+        communities.set(graph.toMappedNodeId("a"), 10);
+        communities.set(graph.toMappedNodeId("b"), 10);
+        communities.set(graph.toMappedNodeId("c"), 20);
+        communities.set(graph.toMappedNodeId("d"), 20);
+        communities.set(graph.toMappedNodeId("e"), 5);
+
+        var contracted = new GraphContraction(
+            graph,
+            communities::get,
+            20,
+            Direction.UNDIRECTED,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        ).run();
+
+        assertThat(contracted.nodeCount()).isEqualTo(3L);
+        assertThat(contracted.relationshipCount()).isEqualTo(6L);
+        assertThat(contracted.schema().isUndirected()).isTrue();
+
+        // node ids are ordered by community id
+        assertThat(contracted.toOriginalNodeId(0)).isEqualTo(5L);
+        assertThat(contracted.toOriginalNodeId(1)).isEqualTo(10L);
+        assertThat(contracted.toOriginalNodeId(2)).isEqualTo(20L);
+        assertThat(contracted.toMappedNodeId(20)).isEqualTo(2L);
+
+        assertThat(relationships(contracted, 5)).isEqualTo(Map.of(20L, 5.0));
+        assertThat(relationships(contracted, 10)).isEqualTo(Map.of(10L, 2.0, 20L, 5.0));
+        assertThat(relationships(contracted, 20)).isEqualTo(Map.of(5L, 5.0, 10L, 5.0, 20L, 8.0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldContractCommunitiesWithMoreRelationshipsThanFitIntoAPage(int concurrency) {
+        // two hubs connected to more leaves than fit into a single adjacency page
+        long leafCount = BumpAllocator.PAGE_SIZE + 10;
+        long firstHub = leafCount;
+        long secondHub = leafCount + 1;
+
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(secondHub)
+            .concurrency(new Concurrency(1))
+            .build();
+        for (long node = 0; node <= secondHub; node++) {
+            nodesBuilder.addNode(node);
+        }
+        var idMap = nodesBuilder.build().idMap();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("TYPE"))
+            .orientation(Orientation.UNDIRECTED)
+            .addPropertyConfig(GraphFactory.PropertyConfig.of("w"))
+            .executorService(DefaultPool.INSTANCE)
+            .build();
+        for (long leaf = 0; leaf < leafCount; leaf++) {
+            relationshipsBuilder.add(firstHub, leaf, 1.0);
+            if (leaf < 10) {
+                relationshipsBuilder.add(secondHub, leaf, 2.0);
+            }
+        }
+        var hugeGraph = GraphFactory.create(idMap, relationshipsBuilder.build());
+
+        // every leaf is a community of its own, the hubs share one
+        var communities = HugeLongArray.newArray(hugeGraph.nodeCount());
+        hugeGraph.forEachNode(node -> {
+            long originalId = hugeGraph.toOriginalNodeId(node);
+            communities.set(node, Math.min(originalId, firstHub));
+            return true;
+        });
+
+        var contracted = new GraphContraction(
+            hugeGraph,
+            communities::get,
+            firstHub,
+            Direction.UNDIRECTED,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        ).run();
+
+        assertThat(contracted.nodeCount()).isEqualTo(leafCount + 1);
+        assertThat(contracted.relationshipCount()).isEqualTo(2 * leafCount);
+
+        var hubRelationships = relationships(contracted, firstHub);
+        assertThat(hubRelationships).hasSize((int) leafCount);
+        assertThat(hubRelationships.get(0L)).isEqualTo(3.0);
+        assertThat(hubRelationships.get(9L)).isEqualTo(3.0);
+        assertThat(hubRelationships.get(10L)).isEqualTo(1.0);
+        assertThat(hubRelationships.get(leafCount - 1)).isEqualTo(1.0);
+
+        // the targets of the hub community are sorted
+        long hub = contracted.toMappedNodeId(firstHub);
+        var previousTarget = new MutableLong(-1);
+        contracted.forEachRelationship(hub, (source, target) -> {
+            assertThat(target).isGreaterThan(previousTarget.longValue());
+            previousTarget.setValue(target);
+            return true;
+        });
+
+        assertThat(relationships(contracted, 0)).isEqualTo(Map.of(firstHub, 3.0));
+        assertThat(relationships(contracted, leafCount - 1)).isEqualTo(Map.of(firstHub, 1.0));
+    }
+
+    private static Map<Long, Double> relationships(Graph contracted, long community) {
+        var relationships = new HashMap<Long, Double>();
+        long node = contracted.toMappedNodeId(community);
+        contracted.forEachRelationship(node, Double.NaN, (source, target, weight) -> {
+            assertThat(relationships.put(contracted.toOriginalNodeId(target), weight)).isNull();
+            return true;
+        });
+        assertThat(contracted.degree(node)).isEqualTo(relationships.size());
+        return relationships;
+    }
+}
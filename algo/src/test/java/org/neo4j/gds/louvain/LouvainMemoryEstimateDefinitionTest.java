@@ -24,9 +24,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.mem.MemoryTree;
 
 import java.util.stream.Stream;
@@ -39,20 +41,20 @@ class LouvainMemoryEstimateDefinitionTest {
     static Stream<Arguments> memoryEstimationTuples() {
         return Stream.of(
 
-            arguments(1, 1, true, 6414145, 23057704),
-            arguments(1, 1, false, 6414145, 23057704),
-            arguments(1, 10, true, 6414145, 30258064),
-            arguments(1, 10, false, 6414145, 23857744),
+            arguments(1, 1, true, 14644841, 31288400),
+            arguments(1, 1, false, 14644841, 31288400),
+            arguments(1, 10, true, 14644841, 38488760),
+            arguments(1, 10, false, 14644841, 32088440),
 
-            arguments(4, 1, true, 6417433, 29057968),
-            arguments(4, 1, false, 6417433, 29057968),
-            arguments(4, 10, true, 6417433, 36258328),
-            arguments(4, 10, false, 6417433, 29858008),
+            arguments(4, 1, true, 15339833, 37980368),
+            arguments(4, 1, false, 15339833, 37980368),
+            arguments(4, 10, true, 15339833, 45180728),
+            arguments(4, 10, false, 15339833, 38780408),
 
-            arguments(42, 1, true, 6459081, 105061312),
-            arguments(42, 1, false, 6459081, 105061312),
-            arguments(42, 10, true, 6459081, 112261672),
-            arguments(42, 10, false, 6459081, 105861352)
+            arguments(42, 1, true, 24143065, 122745296),
+            arguments(42, 1, false, 24143065, 122745296),
+            arguments(42, 10, true, 24143065, 129945656),
+            arguments(42, 10, false, 24143065, 123545336)
 
         );
     }
@@ -115,4 +117,26 @@ class LouvainMemoryEstimateDefinitionTest {
         assertEquals(memoryTreeOneProperty.memoryUsage(), memoryTreeTwoProperties.memoryUsage());
     }
 
+    @Test
+    void testMemoryEstimationWithPruningAndVertexFollowing() {
+        var nodeCount = 100_000L;
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(500_000L)
+            .build();
+        var concurrency = new Concurrency(4);
+
+        var plain = new LouvainMemoryEstimateDefinition(new LouvainMemoryEstimationParameters(10, false))
+            .memoryEstimation()
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        var extended = new LouvainMemoryEstimateDefinition(new LouvainMemoryEstimationParameters(10, false, true, true))
+            .memoryEstimation()
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+
+        long extra = 2 * HugeAtomicBitSet.memoryEstimation(nodeCount) + HugeLongArray.memoryEstimation(nodeCount);
+        assertEquals(plain.min + extra, extended.min);
+        assertEquals(plain.max + extra, extended.max);
+    }
 }
@@ -21,6 +21,8 @@ package org.neo4j.gds.louvain;
 
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.neo4j.gds.CommunityHelper;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.Orientation;
@@ -423,4 +425,90 @@ class LouvainTest {
         double calculatedModularity = modularityCalculator.compute().totalModularity();
         assertThat(result.modularity()).isCloseTo(calculatedModularity, Offset.offset(1e-5));
     }
+
+    @ParameterizedTest
+    @CsvSource({"true, false", "false, true", "true, true"})
+    void shouldFindComparableModularityWithPruningAndVertexFollowing(boolean prunedLocalMoving, boolean vertexFollowing) {
+        var myGraph = RandomGraphGenerator
+            .builder()
+            .nodeCount(1_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .aggregation(Aggregation.SINGLE)
+            .seed(42)
+            .build()
+            .generate();
+
+        var baseline = new Louvain(
+            myGraph,
+            new Concurrency(4),
+            10,
+            TOLERANCE_DEFAULT,
+            10,
+            false,
+            null,
+            ProgressTracker.NULL_TRACKER,
+            DefaultPool.INSTANCE
+        ).compute();
+
+        var result = new Louvain(
+            myGraph,
+            new Concurrency(4),
+            10,
+            TOLERANCE_DEFAULT,
+            10,
+            false,
+            null,
+            prunedLocalMoving,
+            vertexFollowing,
+            ProgressTracker.NULL_TRACKER,
+            DefaultPool.INSTANCE
+        ).compute();
+
+        LongUnaryOperator vToCommunity = v -> result.community(v);
+        var modularityCalculator = ModularityCalculator.create(myGraph, vToCommunity, new Concurrency(4));
+        double calculatedModularity = modularityCalculator.compute().totalModularity();
+        assertThat(result.modularity()).isCloseTo(calculatedModularity, Offset.offset(1e-5));
+        assertThat(result.modularity()).isCloseTo(baseline.modularity(), Offset.offset(0.05));
+    }
+
+    @Test
+    void shouldKeepFollowersWithTheirLeaderOnEveryLevel() {
+        var myGraph = RandomGraphGenerator
+            .builder()
+            .nodeCount(1_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .aggregation(Aggregation.SINGLE)
+            .seed(42)
+            .build()
+            .generate();
+
+        var result = new Louvain(
+            myGraph,
+            new Concurrency(4),
+            10,
+            TOLERANCE_DEFAULT,
+            10,
+            true,
+            null,
+            false,
+            true,
+            ProgressTracker.NULL_TRACKER,
+            DefaultPool.INSTANCE
+        ).compute();
+
+        myGraph.forEachNode(nodeId -> {
+            if (myGraph.degree(nodeId) == 1) {
+                myGraph.forEachRelationship(nodeId, (source, target) -> {
+                    assertThat(result.intermediateCommunities(source))
+                        .containsExactly(result.intermediateCommunities(target));
+                    return false;
+                });
+            }
+            return true;
+        });
+    }
 }
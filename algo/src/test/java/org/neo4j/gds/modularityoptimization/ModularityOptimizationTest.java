@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.modularityoptimization;
 
+import org.assertj.core.data.Offset;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.CommunityHelper;
@@ -79,9 +80,20 @@ class ModularityOptimizationTest {
         ", (c)-[:TYPE_OUT {weight: 0.01}]->(e)" +
         ", (f)-[:TYPE_OUT {weight: 0.01}]->(d)";
 
+    @GdlGraph(graphNamePrefix = "pairs", orientation = Orientation.UNDIRECTED, idOffset = 0)
+    private static final String PAIRS_CYPHER =
+        "CREATE" +
+        "  (a), (b), (c), (d), (e), (f)" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (c)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)";
+
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph pairsGraph;
+
     @Inject
     private GraphStore graphStore;
 
@@ -154,6 +166,24 @@ class ModularityOptimizationTest {
         assertTrue(pmo.ranIterations() <= 3);
     }
 
+    @Test
+    void shouldConvergeInFewerIterationsWhenPruned() {
+        var unpruned = compute(pairsGraph, 10, null, new Concurrency(1), 100, false, new GdsTestLog());
+        var pruned = compute(pairsGraph, 10, null, new Concurrency(1), 100, true, new GdsTestLog());
+
+        // nodes that join their partner activate nobody, so the pruned run stops after the first iteration
+        assertThat(pruned.didConverge()).isTrue();
+        assertThat(pruned.ranIterations()).isEqualTo(1);
+        assertThat(pruned.ranIterations()).isLessThan(unpruned.ranIterations());
+        assertThat(pruned.modularity()).isCloseTo(unpruned.modularity(), Offset.offset(1e-9));
+        CommunityHelper.assertCommunities(
+            getCommunityIds(pairsGraph.nodeCount(), pruned),
+            ids(pairsGraph::toMappedNodeId, "a", "b"),
+            ids(pairsGraph::toMappedNodeId, "c", "d"),
+            ids(pairsGraph::toMappedNodeId, "e", "f")
+        );
+    }
+
     private long[] getCommunityIds(long nodeCount, ModularityOptimizationResult pmo) {
         long[] communityIds = new long[(int) nodeCount];
         for (int i = 0; i < nodeCount; i++) {
@@ -202,6 +232,19 @@ class ModularityOptimizationTest {
         Concurrency concurrency,
         int minBatchSize,
         Log log
+    ) {
+        return compute(graph, maxIterations, properties, concurrency, minBatchSize, false, log);
+    }
+
+    @NotNull
+    private ModularityOptimizationResult compute(
+        Graph graph,
+        int maxIterations,
+        NodePropertyValues properties,
+        Concurrency concurrency,
+        int minBatchSize,
+        boolean pruned,
+        Log log
     ) {
         var task = ModularityOptimizationFactory.progressTask(graph, maxIterations);
         var progressTracker = new TestProgressTracker(task, log, concurrency, EmptyTaskRegistryFactory.INSTANCE);
@@ -212,6 +255,7 @@ class ModularityOptimizationTest {
             properties,
             concurrency,
             minBatchSize,
+            pruned,
             DefaultPool.INSTANCE,
             progressTracker,
             TerminationFlag.RUNNING_TRUE
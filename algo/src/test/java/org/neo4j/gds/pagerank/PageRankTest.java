@@ -52,6 +52,7 @@ import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.within;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -136,6 +137,63 @@ class PageRankTest {
             assertThat(pregelResult.iterations()).isEqualTo(expectedIterations);
         }
 
+        @Test
+        void warmStartFromConvergedScores() {
+            var config = PageRankStreamConfigImpl.builder()
+                .maxIterations(40)
+                .concurrency(1)
+                .tolerance(1E-4)
+                .seedProperty("expectedRank")
+                .build();
+
+            var result = runOnPregel(graph, config);
+
+            var expected = graph.nodeProperties("expectedRank");
+
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(result.centralityScoreProvider().applyAsDouble(nodeId)).isEqualTo(
+                    expected.doubleValue(nodeId),
+                    within(1E-3)
+                );
+            }
+            // the residuals of the first superstep are all below the tolerance
+            assertThat(result.didConverge()).isTrue();
+            assertThat(result.iterations()).isEqualTo(1);
+        }
+
+        @Test
+        void warmStartFromOutdatedScores() {
+            var config = PageRankStreamConfigImpl.builder()
+                .maxIterations(41)
+                .concurrency(1)
+                .tolerance(0)
+                .seedProperty("expectedPersonalizedRank1")
+                .build();
+
+            var rankProvider = runOnPregel(graph, config).centralityScoreProvider();
+
+            var expected = graph.nodeProperties("expectedRank");
+
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(rankProvider.applyAsDouble(nodeId)).isEqualTo(
+                    expected.doubleValue(nodeId),
+                    within(SCORE_PRECISION)
+                );
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = Mode.class, names = {"ARTICLE_RANK", "EIGENVECTOR"})
+        void seedPropertyIsOnlySupportedForPageRank(Mode mode) {
+            var config = PageRankStreamConfigImpl.builder()
+                .seedProperty("expectedRank")
+                .build();
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> runOnPregel(graph, config, mode))
+                .withMessageContaining("`seedProperty` parameter is not supported");
+        }
+
         @ParameterizedTest
         @CsvSource(value = {
             "a;e,expectedPersonalizedRank1",
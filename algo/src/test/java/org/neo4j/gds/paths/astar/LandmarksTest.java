@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.astar;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.logging.GdsTestLog;
+import org.neo4j.gds.nodeproperties.LongTestPropertyValues;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.astar.config.ShortestPathAStarStreamConfigImpl;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.SingleTarget;
+import org.neo4j.gds.termination.TerminatedException;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.assertj.Extractors.removingThreadId;
+import static org.neo4j.gds.compat.TestLog.INFO;
+
+@GdlExtension
+class LandmarksTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE {cost: 4.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 5.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 8.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 10.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 2.0}]->(e)" +
+        ", (e)-[:TYPE {cost: 3.0}]->(f)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(f)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldUseLandmarkDistancesAsHeuristic() {
+        var graph = graphStore.getGraph("cost");
+        var landmarkDistances = landmarks(graph, 2, 1);
+
+        assertThat(landmarkDistances.landmarks()).doesNotHaveDuplicates();
+        for (int i = 0; i < landmarkDistances.landmarks().length; i++) {
+            assertThat(landmarkDistances.distances().get(landmarkDistances.landmarks()[i])[i]).isEqualTo(0.0);
+        }
+
+        graphStore.addNodeProperty(Set.of(NodeLabel.of("Node")), "landmarks", landmarkDistances.nodePropertyValues());
+        var graphWithLandmarks = graphStore.getGraph("cost");
+
+        var config = ShortestPathAStarStreamConfigImpl.builder()
+            .sourceNode(idFunction.of("a"))
+            .targetNode(idFunction.of("f"))
+            .landmarkProperty("landmarks")
+            .concurrency(1)
+            .build();
+
+        var path = AStar
+            .sourceTarget(graphWithLandmarks, config, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE)
+            .compute()
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(path.nodeIds()).containsExactly(
+            graphWithLandmarks.toMappedNodeId(idFunction.of("a")),
+            graphWithLandmarks.toMappedNodeId(idFunction.of("b")),
+            graphWithLandmarks.toMappedNodeId(idFunction.of("d")),
+            graphWithLandmarks.toMappedNodeId(idFunction.of("e")),
+            graphWithLandmarks.toMappedNodeId(idFunction.of("f"))
+        );
+        assertThat(path.totalCost()).isEqualTo(14.0);
+    }
+
+    @Test
+    void shouldRequireAHeuristicProperty() {
+        assertThatThrownBy(() -> ShortestPathAStarStreamConfigImpl.builder()
+            .sourceNode(0)
+            .targetNode(1)
+            .latitudeProperty("latitude")
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("landmarkProperty");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Direction.class)
+    void shouldFindShortestPathsWithLandmarkHeuristic(Direction direction) {
+        var graph = new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(500)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var landmarkDistances = landmarks(graph, 8, 4);
+        var nodeProperty = landmarkDistances.nodePropertyValues();
+
+        var random = new SplittableRandom(1337);
+        for (int i = 0; i < 100; i++) {
+            long source = random.nextLong(graph.nodeCount());
+            long target = random.nextLong(graph.nodeCount());
+            var heuristic = new AStar.LandmarkHeuristic(nodeProperty, target, graph.characteristics().isUndirected());
+
+            var expected = dijkstra(graph, source, target, Optional.empty());
+            var actual = dijkstra(graph, source, target, Optional.of(heuristic));
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            if (expected.isPresent()) {
+                assertThat(actual.get()).isCloseTo(expected.get(), Offset.offset(1e-9));
+                assertThat(heuristic.applyAsDouble(source)).isLessThanOrEqualTo(expected.get() + 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectALandmarkPropertyThatIsNotADoubleArray() {
+        graphStore.addNodeProperty(
+            Set.of(NodeLabel.of("Node")),
+            "notLandmarks",
+            new LongTestPropertyValues(nodeId -> nodeId)
+        );
+
+        var config = ShortestPathAStarStreamConfigImpl.builder()
+            .sourceNode(idFunction.of("a"))
+            .targetNode(idFunction.of("f"))
+            .landmarkProperty("notLandmarks")
+            .build();
+
+        assertThatThrownBy(() -> config.graphStoreValidation(graphStore, config.nodeLabelIdentifiers(graphStore), List.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must hold values of type [List of Float]");
+    }
+
+    @Test
+    void shouldRejectLandmarkDistancesOfDifferentLengths() {
+        graphStore.addNodeProperty(
+            Set.of(NodeLabel.of("Node")),
+            "brokenLandmarks",
+            new DoubleArrayNodePropertyValues() {
+                @Override
+                public long nodeCount() {
+                    return graphStore.nodeCount();
+                }
+
+                @Override
+                public double[] doubleArrayValue(long nodeId) {
+                    return nodeId == 0 ? new double[]{0.0} : new double[]{1.0, 2.0};
+                }
+            }
+        );
+
+        var config = ShortestPathAStarStreamConfigImpl.builder()
+            .sourceNode(idFunction.of("a"))
+            .targetNode(idFunction.of("f"))
+            .landmarkProperty("brokenLandmarks")
+            .build();
+
+        assertThatThrownBy(() -> config.graphStoreValidation(graphStore, config.nodeLabelIdentifiers(graphStore), List.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("the same number of distances for every node");
+    }
+
+    @Test
+    void shouldLogProgress() {
+        var graph = graphStore.getGraph("cost");
+        var testLog = new GdsTestLog();
+        var progressTracker = new TestProgressTracker(
+            Landmarks.progressTask(2),
+            testLog,
+            new Concurrency(1),
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        new Landmarks(
+            graph,
+            2,
+            new Concurrency(1),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        // one search for the first landmark and one per landmark
+        assertThat(testLog.getMessages(INFO))
+            .extracting(removingThreadId())
+            .contains("Landmarks :: Start", "Landmarks :: Finished")
+            .filteredOn(message -> message.equals("Landmarks :: Search :: Start"))
+            .hasSize(3);
+    }
+
+    @Test
+    void shouldStopWhenTerminated() {
+        var graph = graphStore.getGraph("cost");
+
+        assertThatThrownBy(() -> new Landmarks(
+            graph,
+            2,
+            new Concurrency(1),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.STOP_RUNNING
+        ).compute()).isInstanceOf(TerminatedException.class);
+    }
+
+    private static Optional<Double> dijkstra(
+        Graph graph,
+        long source,
+        long target,
+        Optional<Dijkstra.HeuristicFunction> heuristic
+    ) {
+        return new Dijkstra(
+            graph,
+            source,
+            new SingleTarget(target),
+            false,
+            heuristic,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().findFirst().map(PathResult::totalCost);
+    }
+
+    private static LandmarkDistances landmarks(Graph graph, int landmarkCount, int concurrency) {
+        return new Landmarks(
+            graph,
+            landmarkCount,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.SingleTarget;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ContractionHierarchiesTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (b)-[:TYPE {cost: 1.0}]->(c)" +
+        ", (c)-[:TYPE {cost: 1.0}]->(d)" +
+        ", (d)-[:TYPE {cost: 1.0}]->(e)" +
+        ", (a)-[:TYPE {cost: 10.0}]->(e)" +
+        ", (e)-[:TYPE {cost: 2.0}]->(a)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldUnpackShortcuts() {
+        var query = new ContractionHierarchyQuery(contract(graph));
+
+        var path = query.sourceTarget(node("a"), node("e")).findFirst().orElseThrow();
+
+        assertThat(path.nodeIds()).containsExactly(
+            node("a"),
+            node("b"),
+            node("c"),
+            node("d"),
+            node("e")
+        );
+        assertThat(path.costs()).containsExactly(0.0, 1.0, 2.0, 3.0, 4.0);
+        assertThat(path.relationshipIds()).isEmpty();
+    }
+
+    @Test
+    void shouldFollowRelationshipDirection() {
+        var query = new ContractionHierarchyQuery(contract(graph));
+
+        var path = query.sourceTarget(node("d"), node("b")).findFirst().orElseThrow();
+
+        assertThat(path.nodeIds()).containsExactly(
+            node("d"),
+            node("e"),
+            node("a"),
+            node("b")
+        );
+        assertThat(path.totalCost()).isEqualTo(4.0);
+    }
+
+    @Test
+    void shouldReturnNothingForUnreachableTargets() {
+        var query = new ContractionHierarchyQuery(contract(graph));
+
+        assertThat(query.sourceTarget(node("a"), node("f")).findFirst()).isEmpty();
+        assertThat(query.sourceTarget(node("f"), node("a")).findFirst()).isEmpty();
+    }
+
+    @Test
+    void shouldKeyTheResidentHierarchyByTheProjection() {
+        var labels = List.of(NodeLabel.of("Node"));
+        var key = ContractionHierarchy.residentStateKey(
+            labels,
+            List.of(RelationshipType.of("TYPE"), RelationshipType.of("ROAD")),
+            Optional.of("cost")
+        );
+
+        assertThat(key).isEqualTo(ContractionHierarchy.residentStateKey(
+            labels,
+            List.of(RelationshipType.of("ROAD"), RelationshipType.of("TYPE")),
+            Optional.of("cost")
+        ));
+        assertThat(key).isNotEqualTo(ContractionHierarchy.residentStateKey(
+            labels,
+            List.of(RelationshipType.of("ROAD"), RelationshipType.of("TYPE")),
+            Optional.empty()
+        ));
+        assertThat(key).isNotEqualTo(ContractionHierarchy.residentStateKey(
+            List.of(NodeLabel.of("Other")),
+            List.of(RelationshipType.of("ROAD"), RelationshipType.of("TYPE")),
+            Optional.of("cost")
+        ));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchDijkstraOnRandomGraphs(int concurrency) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(500)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var hierarchy = new ContractionHierarchies(
+            randomGraph,
+            ContractionHierarchies.DEFAULT_WITNESS_SEARCH_LIMIT,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        var query = new ContractionHierarchyQuery(hierarchy);
+
+        var random = new SplittableRandom(1337);
+        for (int i = 0; i < 200; i++) {
+            long source = random.nextLong(randomGraph.nodeCount());
+            long target = random.nextLong(randomGraph.nodeCount());
+
+            var expected = new Dijkstra(
+                randomGraph,
+                source,
+                new SingleTarget(target),
+                false,
+                Optional.empty(),
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            ).compute().findFirst();
+            var actual = query.sourceTarget(source, target).findFirst();
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            if (actual.isPresent()) {
+                assertThat(actual.get().totalCost()).isCloseTo(expected.get().totalCost(), Offset.offset(1e-9));
+                assertValidPath(randomGraph, actual.get());
+            }
+        }
+    }
+
+    private static void assertValidPath(Graph graph, PathResult path) {
+        var nodeIds = path.nodeIds();
+        assertThat(nodeIds[0]).isEqualTo(path.sourceNode());
+        assertThat(nodeIds[nodeIds.length - 1]).isEqualTo(path.targetNode());
+        assertThat(path.costs()).hasSize(nodeIds.length);
+        for (int i = 1; i < nodeIds.length; i++) {
+            assertThat(graph.exists(nodeIds[i - 1], nodeIds[i])).isTrue();
+        }
+    }
+
+    private long node(String variable) {
+        return graph.toMappedNodeId(idFunction.of(variable));
+    }
+
+    private static ContractionHierarchy contract(Graph graph) {
+        return new ContractionHierarchies(
+            graph,
+            ContractionHierarchies.DEFAULT_WITNESS_SEARCH_LIMIT,
+            new Concurrency(1),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.Targets;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ManyToManyShortestPathsTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchDijkstra(int concurrency) {
+        var graph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(300)
+            .seed(7L)
+            .build()
+            .generate();
+
+        var hierarchy = new ContractionHierarchies(
+            graph,
+            ContractionHierarchies.DEFAULT_WITNESS_SEARCH_LIMIT,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        var random = new SplittableRandom(42);
+        long[] sources = random.longs(20, 0, graph.nodeCount()).toArray();
+        long[] targets = random.longs(30, 0, graph.nodeCount()).toArray();
+
+        var matrix = new ManyToManyShortestPaths(
+            hierarchy,
+            sources,
+            targets,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(matrix.rows()).hasSize(sources.length);
+
+        for (int sourceIndex = 0; sourceIndex < sources.length; sourceIndex++) {
+            var expected = new double[targets.length];
+            Arrays.fill(expected, Double.POSITIVE_INFINITY);
+
+            var distinctTargets = Arrays.stream(targets).distinct().boxed().toList();
+            var paths = new Dijkstra(
+                graph,
+                sources[sourceIndex],
+                Targets.of(distinctTargets),
+                false,
+                Optional.empty(),
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            ).compute().pathSet();
+            for (var path : paths) {
+                for (int targetIndex = 0; targetIndex < targets.length; targetIndex++) {
+                    if (targets[targetIndex] == path.targetNode()) {
+                        expected[targetIndex] = path.totalCost();
+                    }
+                }
+            }
+
+            var row = matrix.row(sourceIndex);
+            for (int targetIndex = 0; targetIndex < targets.length; targetIndex++) {
+                assertThat(row[targetIndex])
+                    .isCloseTo(expected[targetIndex], Offset.offset(1e-9))
+                    .isEqualTo(matrix.distance(sourceIndex, targetIndex));
+            }
+        }
+    }
+}
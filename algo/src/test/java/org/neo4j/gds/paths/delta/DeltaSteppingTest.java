@@ -27,6 +27,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
@@ -350,8 +351,9 @@ final class DeltaSteppingTest {
 
     private DeltaSteppingTest() {}
 
-    @Test
-    void shouldGiveSameResultsAsDijkstra() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldGiveSameResultsAsDijkstra(boolean adaptiveDelta) {
         int nodeCount = 3_000;
         long seed = 42L;
         long start = 42;
@@ -369,6 +371,7 @@ final class DeltaSteppingTest {
         var config = AllShortestPathsDeltaStreamConfigImpl.builder()
             .concurrency(concurrency)
             .sourceNode(start)
+            .adaptiveDelta(adaptiveDelta)
             .build();
         var deltaStepping = DeltaStepping.of(
             newGraph,
@@ -40,6 +40,7 @@ import org.neo4j.gds.paths.ImmutablePathResult;
 import org.neo4j.gds.paths.PathResult;
 import org.neo4j.gds.paths.dijkstra.config.AllShortestPathsDijkstraStreamConfigImpl;
 import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraStreamConfigImpl;
+import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -144,6 +145,31 @@ final class DijkstraTest {
             assertEquals(expected, path);
         }
 
+        @Test
+        void sourceTargetWithRadixHeap() {
+            var expected = expected(graph::toMappedNodeId, 0, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f");
+
+            for (int run = 0; run < 2; run++) {
+                var path = Dijkstra
+                    .sourceTarget(
+                        graph,
+                        graph.toOriginalNodeId("a"),
+                        List.of(graph.toOriginalNodeId("f")),
+                        false,
+                        Optional.empty(),
+                        SearchQueueType.RADIX_HEAP,
+                        ProgressTracker.NULL_TRACKER,
+                        TerminationFlag.RUNNING_TRUE
+                    )
+                    .compute()
+                    .findFirst()
+                    .get();
+
+                // the second run reuses the search state released by the first one
+                assertEquals(expected, path);
+            }
+        }
+
         @ParameterizedTest
         @MethodSource("predicatesAndPaths")
         void sourceTargetWithRelationshipFilter(Dijkstra.RelationshipFilter relationshipFilter, double[] expectedCosts, List<String> expectedPath) {
@@ -489,6 +515,30 @@ final class DijkstraTest {
             assertEquals(List.of(2L, 1L, 4L, 1L, 3L, 1L, 5L, 1L), heapComparisons);
             assertEquals(expected, path);
         }
+
+        @Test
+        void sourceTargetWithHeuristicAndSparseSearchState() {
+            var expected = expected(graph::toMappedNodeId, 0, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f");
+
+            Dijkstra.HeuristicFunction heuristicFunction = (nodeId) -> graph.nodeProperties("distance").doubleValue(nodeId);
+
+            var path = Dijkstra
+                .sourceTarget(
+                    graph,
+                    graph.toOriginalNodeId("a"),
+                    List.of(graph.toOriginalNodeId("f")),
+                    false,
+                    Optional.of(heuristicFunction),
+                    SearchQueueType.RADIX_HEAP,
+                    ProgressTracker.NULL_TRACKER,
+                    TerminationFlag.RUNNING_TRUE
+                )
+                .compute()
+                .findFirst()
+                .orElseThrow();
+
+            assertEquals(expected, path);
+        }
     }
 
 
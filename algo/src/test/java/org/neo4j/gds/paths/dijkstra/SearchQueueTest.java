@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SearchQueueTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldPopInCostOrder(boolean radixHeap) {
+        SearchQueue queue = radixHeap ? new RadixHeap() : new SparseBinaryHeap();
+        var random = new SplittableRandom(42);
+
+        for (int round = 0; round < 3; round++) {
+            var expectedCosts = new HashMap<Long, Double>();
+            double lastCost = 0;
+            long nextNode = 0;
+
+            queue.add(nextNode, 0);
+            expectedCosts.put(nextNode++, 0.0);
+
+            while (!queue.isEmpty()) {
+                long node = queue.pop();
+                double cost = queue.cost(node);
+                assertThat(cost).isEqualTo(expectedCosts.remove(node)).isGreaterThanOrEqualTo(lastCost);
+                lastCost = cost;
+
+                // relax a few new and a few known nodes, as a Dijkstra traversal would
+                for (int i = 0; i < 3 && nextNode < 10_000; i++) {
+                    double newCost = cost + random.nextInt(100) * 0.25;
+                    queue.add(nextNode, newCost);
+                    expectedCosts.put(nextNode++, newCost);
+                }
+                for (var entry : expectedCosts.entrySet()) {
+                    if (random.nextInt(4) == 0) {
+                        double newCost = cost + (entry.getValue() - cost) * random.nextDouble();
+                        if (newCost < entry.getValue()) {
+                            queue.set(entry.getKey(), newCost);
+                            entry.setValue(newCost);
+                        }
+                    }
+                }
+            }
+
+            assertThat(expectedCosts).isEmpty();
+            assertThat(nextNode).isEqualTo(10_000);
+            queue.clear();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RADIX_HEAP", "radix_heap", "radixHeap", "RadixHeap"})
+    void shouldParseSearchQueueType(String input) {
+        assertThat(SearchQueueType.parse(input)).isEqualTo(SearchQueueType.RADIX_HEAP);
+    }
+
+    @Test
+    void shouldRejectUnknownSearchQueueType() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> SearchQueueType.parse("fibonacciHeap"))
+            .withMessageContaining("Search queue `fibonacciHeap` is not supported");
+    }
+
+    @Test
+    void shouldOrderByCostAndHeuristic() {
+        var queue = new SparseBinaryHeap();
+        queue.heuristic(node -> node == 1 ? 10 : 0);
+
+        queue.add(1, 1);
+        queue.add(2, 5);
+        queue.add(3, 7);
+
+        assertThat(queue.pop()).isEqualTo(2);
+        assertThat(queue.pop()).isEqualTo(3);
+        assertThat(queue.pop()).isEqualTo(1);
+        assertThat(queue.cost(1)).isEqualTo(1);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldReusePooledSearchStates() {
+        var first = SearchState.pooled(Optional.empty());
+        var second = SearchState.pooled(Optional.empty());
+        assertThat(second).isNotSameAs(first);
+
+        first.queue().add(42, 1.0);
+        first.markVisited(42);
+        first.release();
+
+        var reused = SearchState.pooled(Optional.empty());
+        assertThat(reused).isSameAs(first);
+        assertThat(reused.queue().isEmpty()).isTrue();
+        assertThat(reused.queue().containsElement(42)).isFalse();
+        assertThat(reused.isVisited(42)).isFalse();
+
+        reused.release();
+        second.release();
+    }
+
+    @Test
+    void shouldNotPoolDenseSearchStates() {
+        var dense = SearchState.dense(10, Optional.empty());
+        dense.release();
+
+        assertThat(SearchState.pooled(Optional.empty())).isNotSameAs(dense);
+    }
+}
@@ -23,7 +23,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.Estimate;
 
 import java.util.stream.Stream;
 
@@ -59,4 +64,52 @@ class YensMemoryEstimateDefinitionTest {
             .hasSameMinAndMaxEqualTo(expectedBytes);
     }
 
+    @ParameterizedTest
+    @MethodSource("expectedMemoryEstimation")
+    void shouldEstimateTheShortestPathTree(
+        int nodeCount,
+        int numberOfShortestPathsToFind,
+        int concurrency,
+        long expectedBytesWithoutTree
+    ) {
+        var dimensions = GraphDimensions.of(nodeCount);
+        var queue = HugeLongPriorityQueue.memoryEstimation()
+            .estimate(dimensions, new Concurrency(concurrency))
+            .memoryUsage()
+            .max;
+        long shortestPathTree = Estimate.sizeOfInstance(ShortestPathTree.class)
+            + 2 * HugeDoubleArray.memoryEstimation(nodeCount)
+            + HugeLongArray.memoryEstimation(nodeCount)
+            + Estimate.sizeOfBitset(nodeCount)
+            + queue;
+        long rootPathNodes = concurrency * Estimate.sizeOfBitset(nodeCount);
+
+        var memoryEstimation = new YensMemoryEstimateDefinition(numberOfShortestPathsToFind, true)
+            .memoryEstimation();
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(nodeCount, new Concurrency(concurrency))
+            .hasSameMinAndMaxEqualTo(expectedBytesWithoutTree + shortestPathTree + rootPathNodes);
+    }
+
+    @ParameterizedTest
+    @MethodSource("expectedMemoryEstimation")
+    void shouldNotEstimateTheShortestPathTreeForASinglePath(
+        int nodeCount,
+        int ignoredNumberOfShortestPathsToFind,
+        int concurrency,
+        long ignoredExpectedBytes
+    ) {
+        var withTree = new YensMemoryEstimateDefinition(1, true).memoryEstimation();
+        var withoutTree = new YensMemoryEstimateDefinition(1, false).memoryEstimation();
+
+        var expectedBytes = withoutTree
+            .estimate(GraphDimensions.of(nodeCount), new Concurrency(concurrency))
+            .memoryUsage()
+            .max;
+
+        MemoryEstimationAssert.assertThat(withTree)
+            .memoryRange(nodeCount, new Concurrency(concurrency))
+            .hasSameMinAndMaxEqualTo(expectedBytes);
+    }
 }
@@ -20,13 +20,20 @@
 package org.neo4j.gds.paths.yens;
 
 import org.apache.commons.lang3.mutable.MutableInt;
+import org.assertj.core.data.Offset;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.Concurrency;
@@ -40,6 +47,8 @@ import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.logging.GdsTestLog;
 import org.neo4j.gds.paths.ImmutablePathResult;
 import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.SearchQueueType;
+import org.neo4j.gds.paths.yens.config.ShortestPathYensBaseConfig;
 import org.neo4j.gds.paths.yens.config.ShortestPathYensStreamConfigImpl;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.s1ck.gdl.GDLHandler;
@@ -49,6 +58,7 @@ import org.s1ck.gdl.model.Vertex;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -216,6 +226,75 @@ class YensTest {
     }
 
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldFindPathsOfSameCostWhenReusingShortestPathTree(boolean undirected) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(undirected ? Direction.UNDIRECTED : Direction.DIRECTED)
+            .inverseIndex(!undirected)
+            .aggregation(Aggregation.SINGLE)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(300)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var random = new SplittableRandom(42L);
+        for (int i = 0; i < 10; i++) {
+            var configBuilder = defaultSourceTargetConfigBuilder(4)
+                .sourceNode(randomGraph.toOriginalNodeId(random.nextLong(randomGraph.nodeCount())))
+                .targetNode(randomGraph.toOriginalNodeId(random.nextLong(randomGraph.nodeCount())))
+                .k(10);
+
+            var expectedCosts = totalCosts(randomGraph, configBuilder.reuseShortestPathTree(false).build());
+            var actualCosts = totalCosts(randomGraph, configBuilder.reuseShortestPathTree(true).build());
+
+            assertThat(actualCosts).containsExactly(expectedCosts, Offset.offset(1e-9));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldFindPathsOfSameCostWithRadixHeap(boolean reuseShortestPathTree) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.UNDIRECTED)
+            .aggregation(Aggregation.SINGLE)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(300)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var random = new SplittableRandom(42L);
+        for (int i = 0; i < 10; i++) {
+            var configBuilder = defaultSourceTargetConfigBuilder(4)
+                .sourceNode(randomGraph.toOriginalNodeId(random.nextLong(randomGraph.nodeCount())))
+                .targetNode(randomGraph.toOriginalNodeId(random.nextLong(randomGraph.nodeCount())))
+                .reuseShortestPathTree(reuseShortestPathTree)
+                .k(10);
+
+            var expectedCosts = totalCosts(randomGraph, configBuilder.searchQueue(SearchQueueType.BINARY_HEAP).build());
+            var actualCosts = totalCosts(randomGraph, configBuilder.searchQueue(SearchQueueType.RADIX_HEAP).build());
+
+            assertThat(actualCosts).containsExactly(expectedCosts, Offset.offset(1e-9));
+        }
+    }
+
+    private static double[] totalCosts(Graph graph, ShortestPathYensBaseConfig config) {
+        return Yens
+            .sourceTarget(graph, config, config.concurrency(), ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE)
+            .compute()
+            .pathSet()
+            .stream()
+            .mapToDouble(PathResult::totalCost)
+            .sorted()
+            .toArray();
+    }
+
     private static void assertResult(
         TestGraph graph,
         Collection<String> expectedPaths,
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class ParallelSccTest {
+
+    @GdlGraph(indexInverse = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+        ", (k:Node)" +
+        ", (l:Node)" +
+        ", (m:Node)" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(a)" +
+
+        ", (d)-[:TYPE]->(e)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(d)" +
+
+        ", (a)-[:TYPE]->(d)" +
+
+        ", (g)-[:TYPE]->(h)" +
+        ", (h)-[:TYPE]->(i)" +
+        ", (i)-[:TYPE]->(g)" +
+
+        ", (j)-[:TYPE]->(a)" +
+        ", (f)-[:TYPE]->(k)" +
+
+        ", (k)-[:TYPE]->(l)" +
+        ", (l)-[:TYPE]->(k)" +
+        ", (m)-[:TYPE]->(m)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, ParallelScc.DEFAULT_SEQUENTIAL_THRESHOLD})
+    void shouldComputeComponents(long sequentialThreshold) {
+        var components = parallelScc(graph, 4, sequentialThreshold);
+
+        assertSameComponents(graph, components, "a", "b", "c");
+        assertSameComponents(graph, components, "d", "e", "f");
+        assertSameComponents(graph, components, "g", "h", "i");
+        assertSameComponents(graph, components, "k", "l");
+
+        var componentIds = new HashMap<Long, Long>();
+        for (long node = 0; node < components.size(); node++) {
+            componentIds.merge(components.get(node), 1L, Long::sum);
+        }
+        // three triangles, one pair and the singletons j and m
+        assertThat(componentIds).hasSize(6);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 0", "4, 0", "1, 1000", "4, 1000"})
+    void shouldFindSameComponentsAsSequentialScc(int concurrency, long sequentialThreshold) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .inverseIndex(true)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .nodeCount(10_000)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var expected = new Scc(randomGraph, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE).compute();
+        var actual = parallelScc(randomGraph, concurrency, sequentialThreshold);
+
+        // both must induce the same partition of the nodes
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long node = 0; node < randomGraph.nodeCount(); node++) {
+            long expectedId = expected.get(node);
+            long actualId = actual.get(node);
+            assertThat(expectedToActual.computeIfAbsent(expectedId, ignored -> actualId)).isEqualTo(actualId);
+            assertThat(actualToExpected.computeIfAbsent(actualId, ignored -> expectedId)).isEqualTo(expectedId);
+        }
+    }
+
+    @Test
+    void shouldRequireInverseIndex() {
+        var directedGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodeCount(10)
+            .build()
+            .generate();
+
+        assertThatThrownBy(() -> parallelScc(directedGraph, 1, ParallelScc.DEFAULT_SEQUENTIAL_THRESHOLD))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("indexInverse");
+    }
+
+    private static HugeLongArray parallelScc(Graph graph, int concurrency, long sequentialThreshold) {
+        return new ParallelScc(
+            graph,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            sequentialThreshold,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+
+    private static void assertSameComponents(TestGraph graph, HugeLongArray components, String... variables) {
+        long component = components.get(graph.toMappedNodeId(variables[0]));
+        for (var variable : variables) {
+            assertThat(components.get(graph.toMappedNodeId(variable))).isEqualTo(component);
+        }
+        long members = 0;
+        for (long node = 0; node < components.size(); node++) {
+            if (components.get(node) == component) {
+                members++;
+            }
+        }
+        assertThat(members).isEqualTo(variables.length);
+    }
+}
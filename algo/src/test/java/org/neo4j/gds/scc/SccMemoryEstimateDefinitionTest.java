@@ -21,7 +21,11 @@ package org.neo4j.gds.scc;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.Estimate;
 
 class SccMemoryEstimateDefinitionTest {
 
@@ -34,4 +38,17 @@ class SccMemoryEstimateDefinitionTest {
             .hasRange(36348L,69132L);
     }
 
+    @Test
+    void shouldEstimateTheParallelStateOnTopOfTheSequentialFallback() {
+        var memoryEstimation = new SccMemoryEstimateDefinition(true).memoryEstimation();
+
+        long parallelState = Estimate.sizeOfInstance(ParallelScc.class)
+            + 3 * HugeLongArray.memoryEstimation(100)
+            + HugeAtomicLongArray.memoryEstimation(100)
+            + 4 * HugeAtomicBitSet.memoryEstimation(100);
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(100, 6000, new Concurrency(1))
+            .hasRange(36348L + parallelState, 69132L + parallelState);
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HnswIndexTest {
+
+    private static final int NODE_COUNT = 500;
+    private static final int DIMENSION = 8;
+    private static final int K = 10;
+
+    private final double[][] vectors = randomVectors();
+    private final SimilarityComputer similarityComputer = SimilarityComputer.ofDoubleArrayProperty(
+        "vector",
+        new DoubleArrayTestPropertyValues(nodeId -> vectors[(int) nodeId]),
+        SimilarityMetric.EUCLIDEAN
+    );
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldFindMostSimilarNodes(int concurrency) {
+        var index = HnswIndex.build(
+            similarityComputer,
+            NODE_COUNT,
+            HnswParameters.defaults(Optional.of(42L)),
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThat(index.size()).isEqualTo(NODE_COUNT);
+        assertThat(recall(index)).isGreaterThan(0.95);
+    }
+
+    @Test
+    void shouldReturnSortedNeighborsWithoutQueryNode() {
+        var index = HnswIndex.build(
+            similarityComputer,
+            NODE_COUNT,
+            HnswParameters.defaults(Optional.of(42L)),
+            new Concurrency(1),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var neighbors = index.search(7, K, 50);
+
+        assertThat(neighbors)
+            .hasSize(K)
+            .allSatisfy(result -> {
+                assertThat(result.sourceNodeId()).isEqualTo(7);
+                assertThat(result.targetNodeId()).isNotEqualTo(7);
+            })
+            .isSortedAccordingTo(SimilarityResult.DESCENDING);
+    }
+
+    @Test
+    void shouldExtendIndexIncrementally() {
+        var index = new HnswIndex(similarityComputer, NODE_COUNT, HnswParameters.defaults(Optional.of(42L)));
+
+        index.addAll(
+            0,
+            NODE_COUNT / 2,
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        );
+        assertThat(index.size()).isEqualTo(NODE_COUNT / 2);
+        assertThat(index.contains(NODE_COUNT / 2)).isFalse();
+        assertThat(index.search(NODE_COUNT - 1, K, 50))
+            .allSatisfy(result -> assertThat(result.targetNodeId()).isLessThan(NODE_COUNT / 2));
+
+        index.addAll(
+            NODE_COUNT / 2,
+            NODE_COUNT,
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        );
+        assertThat(index.size()).isEqualTo(NODE_COUNT);
+        assertThat(index.add(0)).isFalse();
+        assertThat(recall(index)).isGreaterThan(0.95);
+    }
+
+    @Test
+    void shouldRejectNodesOutsideOfCapacity() {
+        var index = new HnswIndex(similarityComputer, 10, HnswParameters.defaults(Optional.empty()));
+
+        assertThatThrownBy(() -> index.add(10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Node id 10 is outside of the index capacity of 10 nodes");
+    }
+
+    @Test
+    void shouldLeaveRoomForGrowth() {
+        assertThat(HnswIndex.capacityFor(100)).isEqualTo(125);
+        assertThat(HnswIndex.capacityFor(0)).isEqualTo(0);
+    }
+
+    @Test
+    void shouldReturnNothingForEmptyIndex() {
+        var index = new HnswIndex(similarityComputer, 10, HnswParameters.defaults(Optional.empty()));
+
+        assertThat(index.search(0, K, 50)).isEmpty();
+    }
+
+    private double recall(HnswIndex index) {
+        long found = 0;
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            var expected = exactNeighbors(nodeId);
+            found += index.search(nodeId, K, 50)
+                .stream()
+                .filter(result -> expected.contains(result.targetNodeId()))
+                .count();
+        }
+        return (double) found / (NODE_COUNT * K);
+    }
+
+    private Set<Long> exactNeighbors(long nodeId) {
+        return LongStream.range(0, NODE_COUNT)
+            .filter(other -> other != nodeId)
+            .boxed()
+            .sorted(Comparator.comparingDouble((Long other) -> similarityComputer.similarity(nodeId, other)).reversed())
+            .limit(K)
+            .collect(Collectors.toSet());
+    }
+
+    private static double[][] randomVectors() {
+        var random = new Random(1337);
+        var vectors = new double[NODE_COUNT][DIMENSION];
+        for (double[] vector : vectors) {
+            for (int i = 0; i < DIMENSION; i++) {
+                vector[i] = random.nextDouble();
+            }
+        }
+        return vectors;
+    }
+}
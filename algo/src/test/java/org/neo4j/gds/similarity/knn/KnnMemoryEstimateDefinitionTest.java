@@ -31,9 +31,13 @@ import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.mem.MemoryTree;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.mem.Estimate.sizeOfIntArray;
 import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
@@ -92,6 +96,33 @@ class KnnMemoryEstimateDefinitionTest {
         assertEstimation(nodeCount, parameters.build(nodeCount).k(), initialSampler, actual);
     }
 
+    @ParameterizedTest
+    @MethodSource("smallParameters")
+    void memoryEstimationWithHnswIndex(long nodeCount, KnnSampler.SamplerType initialSampler) {
+        var hnswParameters = HnswParameters.defaults(Optional.empty());
+        var parameters = new KnnMemoryEstimationParametersBuilder(
+            0.5,
+            10,
+            initialSampler,
+            KnnEngine.HNSW,
+            hnswParameters
+        );
+        var estimation = new KnnMemoryEstimateDefinition(parameters).memoryEstimation();
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
+        var concurrency = new Concurrency(4);
+        MemoryRange actual = estimation.estimate(dimensions, concurrency).memoryUsage();
+
+        var index = HnswIndex.memoryEstimation(hnswParameters).estimate(dimensions, concurrency).memoryUsage();
+        long minLinks = HugeObjectArray.memoryEstimation(
+            nodeCount,
+            Estimate.sizeOfObjectArray(1) + sizeOfLongArray(hnswParameters.maxConnections())
+        );
+
+        assertThat(index.min).isGreaterThan(minLinks);
+        assertThat(actual.min).isGreaterThan(index.min);
+        assertThat(actual.max).isGreaterThan(index.max);
+    }
+
     private void assertEstimation(
         long nodeCount,
         K k,
@@ -28,11 +28,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.loading.NullPropertyMap;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -47,6 +51,8 @@ import org.neo4j.gds.logging.GdsTestLog;
 import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
 import org.neo4j.gds.nodeproperties.DoubleTestPropertyValues;
 import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 import org.neo4j.gds.termination.TerminationFlag;
 
@@ -135,6 +141,173 @@ class KnnTest {
         assertCorrectNeighborList(result, nodeCId, nodeAId);
     }
 
+    @Test
+    void shouldRunWithHnswEngine() {
+        IdFunction idFunction = graph::toMappedNodeId;
+
+        var parameters = KnnParameters.create(
+            graph.nodeCount(),
+            new Concurrency(1),
+            100,
+            0.0,
+            0.001,
+            0.5,
+            1,
+            0.0,
+            10,
+            1000,
+            KnnSampler.SamplerType.UNIFORM,
+            Optional.of(19L),
+            List.of(new KnnNodePropertySpec("knn"))
+        );
+        var knn = HnswKnn.create(
+            graph,
+            parameters,
+            HnswParameters.defaults(parameters.randomSeed()),
+            SimilarityComputer.ofProperty(graph, new KnnNodePropertySpec("knn")),
+            new KnnNeighborFilterFactory(graph.nodeCount()),
+            KnnContext.empty(),
+            TerminationFlag.RUNNING_TRUE
+        );
+        var result = knn.compute();
+
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.ranIterations()).isEqualTo(1);
+        assertThat(result.didConverge()).isTrue();
+
+        long nodeAId = idFunction.of("a");
+        long nodeBId = idFunction.of("b");
+        long nodeCId = idFunction.of("c");
+
+        assertCorrectNeighborList(result, nodeAId, nodeBId);
+        assertCorrectNeighborList(result, nodeBId, nodeAId);
+        assertCorrectNeighborList(result, nodeCId, nodeAId);
+    }
+
+    @Test
+    void shouldLeaveNodesWithoutThePropertyOutOfTheHnswIndex() {
+        var nodePropertySpecs = List.of(new KnnNodePropertySpec("prop2"));
+        var parameters = hnswKnnParameters(multPropMissingGraph.nodeCount(), 2, nodePropertySpecs);
+        var hnswParameters = HnswParameters.defaults(parameters.randomSeed());
+        var index = new HnswIndex(
+            SimilarityComputer.ofProperties(multPropMissingGraph, nodePropertySpecs),
+            HnswIndex.capacityFor(multPropMissingGraph.nodeCount()),
+            hnswParameters
+        );
+
+        var result = HnswKnn.create(
+            multPropMissingGraph,
+            parameters,
+            hnswParameters,
+            index,
+            Optional.empty(),
+            new KnnNeighborFilterFactory(multPropMissingGraph.nodeCount()),
+            KnnContext.empty(),
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        long nodeD = multPropMissingGraph.toMappedNodeId("d");
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.contains(nodeD)).isFalse();
+        assertThat(result.neighborsOf(nodeD)).isEmpty();
+        for (var variable : List.of("a", "b", "c")) {
+            assertThat(result.neighborsOf(multPropMissingGraph.toMappedNodeId(variable)))
+                .hasSize(2)
+                .doesNotContain(nodeD);
+        }
+    }
+
+    @Test
+    void shouldOnlyQueryTheQueryNodeAndReuseTheHnswIndex() {
+        var nodePropertySpecs = List.of(new KnnNodePropertySpec("knn"));
+        var parameters = hnswKnnParameters(graph.nodeCount(), 1, nodePropertySpecs);
+        var hnswParameters = HnswParameters.defaults(parameters.randomSeed());
+        var index = new HnswIndex(
+            SimilarityComputer.ofProperties(graph, nodePropertySpecs),
+            HnswIndex.capacityFor(graph.nodeCount()),
+            hnswParameters
+        );
+
+        var firstResult = queryHnsw(parameters, hnswParameters, index, graph.toMappedNodeId("a"));
+        var secondResult = queryHnsw(parameters, hnswParameters, index, graph.toMappedNodeId("c"));
+
+        assertThat(firstResult.neighborsOf(graph.toMappedNodeId("a"))).containsExactly(graph.toMappedNodeId("b"));
+        assertThat(firstResult.neighborsOf(graph.toMappedNodeId("c"))).isEmpty();
+        assertThat(firstResult.totalSimilarityPairs()).isEqualTo(1);
+        assertThat(secondResult.neighborsOf(graph.toMappedNodeId("c"))).containsExactly(graph.toMappedNodeId("a"));
+        assertThat(secondResult.totalSimilarityPairs()).isEqualTo(1);
+        // the second run only searches the index, it does not insert any node
+        assertThat(secondResult.nodePairsConsidered()).isLessThan(firstResult.nodePairsConsidered());
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepTheHnswIndexWithTheCatalogGraph() {
+        var graphStore = GdlFactory.of("(a {knn: 1.0}), (b {knn: 2.0}), (c {knn: 5.0})").build();
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName("user", "graph"), graphStore);
+        try {
+            var first = residentIndex(graphStore);
+
+            assertThat(residentIndex(graphStore)).isSameAs(first);
+            assertThat(first.capacity()).isEqualTo(HnswIndex.capacityFor(graphStore.nodeCount()));
+
+            graphStore.addNodeLabel(NodeLabel.of("Modified"));
+            assertThat(residentIndex(graphStore)).isNotSameAs(first);
+        } finally {
+            GraphStoreCatalog.removeAllLoadedGraphs();
+        }
+    }
+
+    private static HnswIndex residentIndex(GraphStore graphStore) {
+        var graph = graphStore.getUnion();
+        var nodePropertySpecs = List.of(new KnnNodePropertySpec("knn"));
+        return HnswKnn.residentIndex(
+            "user",
+            graphStore.databaseInfo().databaseId(),
+            "graph",
+            graph,
+            nodePropertySpecs,
+            SimilarityComputer.ofProperties(graph, nodePropertySpecs),
+            HnswParameters.defaults(Optional.of(42L))
+        );
+    }
+
+    private KnnResult queryHnsw(
+        KnnParameters parameters,
+        HnswParameters hnswParameters,
+        HnswIndex index,
+        long queryNode
+    ) {
+        return HnswKnn.create(
+            graph,
+            parameters,
+            hnswParameters,
+            index,
+            Optional.of(queryNode),
+            new KnnNeighborFilterFactory(graph.nodeCount()),
+            KnnContext.empty(),
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+
+    private static KnnParameters hnswKnnParameters(long nodeCount, int topK, List<KnnNodePropertySpec> nodePropertySpecs) {
+        return KnnParameters.create(
+            nodeCount,
+            new Concurrency(1),
+            100,
+            0.0,
+            0.001,
+            0.5,
+            topK,
+            0.0,
+            10,
+            1000,
+            KnnSampler.SamplerType.UNIFORM,
+            Optional.of(19L),
+            nodePropertySpecs
+        );
+    }
+
     @Test
     void shouldHaveEachNodeConnected() {
         IdFunction idFunction = graph::toMappedNodeId;
@@ -45,4 +45,18 @@ class EuclideanTest {
 
         assertThat(metric).isCloseTo(0.976123304363789d, Offset.offset(1e-5));
     }
+
+    @Test
+    void shortFloatArraysSumStrictlyLeftToRight() {
+        var left = new float[] {0.1f, 0.7f, 0.3f, 0.9f, 0.2f};
+        var right = new float[] {0.4f, 0.1f, 0.8f, 0.6f, 0.5f};
+
+        double expected = 0;
+        for (int i = 0; i < left.length; i++) {
+            double delta = (double) left[i] - right[i];
+            expected += delta * delta;
+        }
+
+        assertThat(Euclidean.floatMetric(left, right)).isEqualTo(1.0 / (1.0 + Math.sqrt(expected)));
+    }
 }
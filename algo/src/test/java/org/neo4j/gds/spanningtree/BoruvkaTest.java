@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Same graph as in {@link PrimTest}, plus a second component x - y.
+ *
+ *         a                  a                  a
+ *     1 /   \ 2            /  \                  \
+ *      /     \            /    \                  \
+ *     b --3-- c          b      c          b       c
+ *     |       |  =min=>  |      |  =max=>  |       |
+ *     4       5          |      |          |       |
+ *     |       |          |      |          |       |
+ *     d --6-- e          d      e          d-------e
+ */
+@GdlExtension
+class BoruvkaTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (x:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)" +
+        ", (x)-[:TYPE {cost: 7.0}]->(y)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldComputeMinimumSpanningForest() {
+        var forest = boruvka(graph, Prim.MIN_OPERATOR, graph.toMappedNodeId("a"), 4);
+
+        assertThat(forest.totalWeight()).isEqualTo(19.0);
+        assertThat(forest.effectiveNodeCount()).isEqualTo(graph.nodeCount());
+        assertThat(forest.parent(graph.toMappedNodeId("a"))).isEqualTo(-1L);
+        assertParent(forest, "b", "a");
+        assertParent(forest, "c", "a");
+        assertParent(forest, "d", "b");
+        assertParent(forest, "e", "c");
+        assertThat(forest.costToParent(graph.toMappedNodeId("x")) + forest.costToParent(graph.toMappedNodeId("y")))
+            .isEqualTo(7.0);
+        assertThat(forest.head(graph.toMappedNodeId("x"))).isEqualTo(forest.head(graph.toMappedNodeId("y")));
+        assertThat(forest.parent(graph.toMappedNodeId("z"))).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldComputeMaximumSpanningForest() {
+        var forest = boruvka(graph, Prim.MAX_OPERATOR, graph.toMappedNodeId("e"), 4);
+
+        assertThat(forest.totalWeight()).isEqualTo(24.0);
+        assertThat(forest.parent(graph.toMappedNodeId("e"))).isEqualTo(-1L);
+        assertParent(forest, "c", "e");
+        assertParent(forest, "d", "e");
+        assertParent(forest, "a", "c");
+        assertParent(forest, "b", "d");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchPrimOnTheTreeOfTheStartNode(int concurrency) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.UNDIRECTED)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 100))
+            .nodeCount(10_000)
+            .seed(42L)
+            .build()
+            .generate();
+
+        for (var objective : new DoubleUnaryOperator[]{Prim.MIN_OPERATOR, Prim.MAX_OPERATOR}) {
+            var tree = new Prim(
+                randomGraph,
+                objective,
+                0,
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            ).compute();
+            var forest = boruvka(randomGraph, objective, 0, concurrency);
+
+            double weightOfStartTree = 0;
+            for (long node = 1; node < randomGraph.nodeCount(); node++) {
+                if (tree.parent(node) != -1) {
+                    assertThat(forest.parent(node)).isNotEqualTo(-1L);
+                    weightOfStartTree += forest.costToParent(node);
+                }
+            }
+            assertThat(weightOfStartTree).isCloseTo(tree.totalWeight(), within(1e-6));
+        }
+    }
+
+    private void assertParent(SpanningTree forest, String node, String parent) {
+        assertThat(forest.parent(graph.toMappedNodeId(node))).isEqualTo(graph.toMappedNodeId(parent));
+    }
+
+    private static SpanningTree boruvka(Graph graph, DoubleUnaryOperator objective, long startNode, int concurrency) {
+        return new Boruvka(
+            graph,
+            objective,
+            startNode,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
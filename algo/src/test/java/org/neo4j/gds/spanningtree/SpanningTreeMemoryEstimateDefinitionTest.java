@@ -21,8 +21,13 @@ package org.neo4j.gds.spanningtree;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.mem.Estimate;
 
 class SpanningTreeMemoryEstimateDefinitionTest {
 
@@ -33,4 +38,33 @@ class SpanningTreeMemoryEstimateDefinitionTest {
             .memoryRange( GraphDimensions.of(10_000, 100_000), new Concurrency(1))
             .hasSameMinAndMaxEqualTo(321544);
     }
+
+    @Test
+    void shouldEstimateBoruvka() {
+        var memoryEstimation = new SpanningTreeMemoryEstimateDefinition(true).memoryEstimation();
+
+        long nodeCount = 10_000;
+        long disjointSets = Estimate.sizeOfInstance(HugeAtomicDisjointSetStruct.class)
+            + HugeAtomicLongArray.memoryEstimation(nodeCount);
+        // component, componentBest, bestTarget and bestWeight
+        long bestRelationships = 2 * HugeLongArray.memoryEstimation(nodeCount)
+            + HugeAtomicLongArray.memoryEstimation(nodeCount)
+            + HugeDoubleArray.memoryEstimation(nodeCount);
+        // sources, targets and weights
+        long forest = 2 * HugeLongArray.memoryEstimation(nodeCount) + HugeDoubleArray.memoryEstimation(nodeCount);
+        // offsets, positions, adjacency, parent, costToParent, visited and queue
+        long rooting = HugeLongArray.memoryEstimation(nodeCount + 1)
+            + HugeLongArray.memoryEstimation(nodeCount)
+            + HugeLongArray.memoryEstimation(2 * nodeCount)
+            + HugeLongArray.memoryEstimation(nodeCount)
+            + HugeDoubleArray.memoryEstimation(nodeCount)
+            + Estimate.sizeOfBitset(nodeCount)
+            + HugeLongArray.memoryEstimation(nodeCount);
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(GraphDimensions.of(nodeCount, 100_000), new Concurrency(4))
+            .hasSameMinAndMaxEqualTo(
+                Estimate.sizeOfInstance(Boruvka.class) + disjointSets + bestRelationships + forest + rooting
+            );
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.core.concurrency.Concurrency;
+
+class DegreeOrderedTriangleCountMemoryEstimateDefinitionTest {
+
+    @Test
+    void memoryEstimation() {
+        var memoryEstimation = new DegreeOrderedTriangleCountMemoryEstimateDefinition().memoryEstimation();
+
+        long instance = 64;
+        long triangleCounts = 24 + 100 * 8 + 16;
+        long offsets = 24 + 101 * 8 + 16;
+        long outDegrees = 24 + 100 * 4 + 16;
+        long targets = 24 + 500 * 8 + 16;
+        long buffers = 2 * (16 * 8 + 16);
+        long bitSet = 2 * 8 + 16 + 24;
+
+        long min = instance + triangleCounts + offsets + outDegrees + targets + 4 * buffers;
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(100, 1000, new Concurrency(4))
+            .hasRange(min, min + 4 * bitSet);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
+
+class DegreeOrderedTriangleCountTest {
+
+    static Stream<Arguments> randomGraphs() {
+        return Stream.of(
+            // dense enough for bitmap probing and galloping
+            Arguments.of(RelationshipDistribution.RANDOM, 400, 300, Long.MAX_VALUE),
+            Arguments.of(RelationshipDistribution.POWER_LAW, 10_000, 20, Long.MAX_VALUE),
+            Arguments.of(RelationshipDistribution.POWER_LAW, 10_000, 20, 50L)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomGraphs")
+    void shouldMatchIntersectingTriangleCount(
+        RelationshipDistribution distribution,
+        int nodeCount,
+        int averageDegree,
+        long maxDegree
+    ) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .seed(42)
+            .relationshipDistribution(distribution)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        var expected = IntersectingTriangleCount.create(
+            graph,
+            new Concurrency(4),
+            maxDegree,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        var actual = compute(graph, maxDegree);
+
+        assertThat(actual.globalTriangles()).isEqualTo(expected.globalTriangles());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.localTriangles().get(nodeId))
+                .as("node %d", nodeId)
+                .isEqualTo(expected.localTriangles().get(nodeId));
+        }
+    }
+
+    @Test
+    void shouldIgnoreParallelRelationshipsAndSelfLoops() {
+        var graph = TestSupport.fromGdl(
+            "CREATE" +
+            "  (a)-[:T]->(b)" +
+            " ,(a)-[:T]->(b)" +
+            " ,(b)-[:T]->(c)" +
+            " ,(c)-[:T]->(a)" +
+            " ,(c)-[:T]->(c)",
+            Orientation.UNDIRECTED
+        ).graph();
+
+        var result = compute(graph, Long.MAX_VALUE);
+
+        assertThat(result.globalTriangles()).isEqualTo(1L);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(result.localTriangles().get(nodeId)).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void shouldCountOnUnionGraphs() {
+        var graph = TestSupport.fromGdl(
+            "CREATE" +
+            "  (a1)-[:T1]->(a2)" +
+            " ,(a1)-[:T2]->(a3)" +
+            " ,(a1)-[:T1]->(a4)" +
+            " ,(a2)-[:T2]->(a3)" +
+            " ,(a2)-[:T1]->(a4)" +
+            " ,(a3)-[:T2]->(a4)",
+            Orientation.UNDIRECTED
+        ).graph();
+
+        var result = compute(graph, Long.MAX_VALUE);
+
+        assertThat(result.globalTriangles()).isEqualTo(4L);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(result.localTriangles().get(nodeId)).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    void shouldExcludeNodesAboveMaxDegree() {
+        var testGraph = TestSupport.fromGdl(
+            "CREATE" +
+            "  (a)-[:T]->(b)" +
+            " ,(a)-[:T]->(c)" +
+            " ,(a)-[:T]->(d)" +
+            " ,(b)-[:T]->(c)" +
+            " ,(c)-[:T]->(d)",
+            Orientation.UNDIRECTED
+        );
+
+        var result = compute(testGraph.graph(), 2);
+
+        assertThat(result.globalTriangles()).isEqualTo(0L);
+        assertThat(result.localTriangles())
+            .returns((long) EXCLUDED_NODE_TRIANGLE_COUNT, t -> t.get(testGraph.toMappedNodeId("a")))
+            .returns(0L, t -> t.get(testGraph.toMappedNodeId("b")))
+            .returns((long) EXCLUDED_NODE_TRIANGLE_COUNT, t -> t.get(testGraph.toMappedNodeId("c")))
+            .returns(0L, t -> t.get(testGraph.toMappedNodeId("d")));
+    }
+
+    private static TriangleCountResult compute(Graph graph, long maxDegree) {
+        return new DegreeOrderedTriangleCount(
+            graph,
+            new Concurrency(4),
+            maxDegree,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
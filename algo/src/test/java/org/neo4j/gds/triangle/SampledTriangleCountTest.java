@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SampledTriangleCountTest {
+
+    @Test
+    void shouldBeExactOnCliques() {
+        var graph = TestSupport.fromGdl(
+            "CREATE " +
+            " (a1)-[:T]->(a2), " +
+            " (a1)-[:T]->(a3), " +
+            " (a1)-[:T]->(a4), " +
+            " (a1)-[:T]->(a5), " +
+            " (a2)-[:T]->(a3), " +
+            " (a2)-[:T]->(a4), " +
+            " (a2)-[:T]->(a5), " +
+            " (a3)-[:T]->(a4), " +
+            " (a3)-[:T]->(a5), " +
+            " (a4)-[:T]->(a5)",
+            Orientation.UNDIRECTED
+        ).graph();
+
+        var result = compute(graph, 100, 0.95, 42L);
+
+        assertThat(result.globalTriangles()).isEqualTo(10, within(1e-9));
+        assertThat(result.globalClusteringCoefficient()).isEqualTo(1, within(1e-9));
+        assertThat(result.averageClusteringCoefficient()).isEqualTo(1, within(1e-9));
+    }
+
+    @Test
+    void shouldEstimateWithinMarginOfError() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(5_000)
+            .averageDegree(30)
+            .seed(42)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .aggregation(Aggregation.SINGLE)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        var exactTriangles = IntersectingTriangleCount.create(
+            graph,
+            new Concurrency(4),
+            Long.MAX_VALUE,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().globalTriangles();
+        var exactAverageCoefficient = new LocalClusteringCoefficient(
+            graph,
+            new Concurrency(4),
+            Long.MAX_VALUE,
+            null,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().averageClusteringCoefficient();
+
+        var result = compute(graph, 100_000, 0.99, 1337L);
+
+        assertThat(result.confidence()).isEqualTo(0.99);
+        assertThat(result.globalTriangles())
+            .isEqualTo(exactTriangles, within(result.globalTrianglesMarginOfError()));
+        assertThat(result.averageClusteringCoefficient())
+            .isEqualTo(exactAverageCoefficient, within(result.averageClusteringCoefficientMarginOfError()));
+        assertThat(result.averageClusteringCoefficientMarginOfError()).isLessThan(0.01);
+    }
+
+    @Test
+    void shouldNarrowMarginWithMoreSamples() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(10)
+            .seed(42)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .aggregation(Aggregation.SINGLE)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        var small = compute(graph, 1_000, 0.95, 42L);
+        var large = compute(graph, 100_000, 0.95, 42L);
+
+        assertThat(large.globalTrianglesMarginOfError()).isLessThan(small.globalTrianglesMarginOfError());
+        assertThat(large.averageClusteringCoefficientMarginOfError())
+            .isLessThan(small.averageClusteringCoefficientMarginOfError());
+    }
+
+    @Test
+    void shouldBeDeterministicWithSeed() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(10)
+            .seed(42)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .aggregation(Aggregation.SINGLE)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        assertThat(compute(graph, 10_000, 0.95, 7L)).isEqualTo(compute(graph, 10_000, 0.95, 7L));
+    }
+
+    private static SampledTriangleCountResult compute(Graph graph, long sampleSize, double confidence, long seed) {
+        return new SampledTriangleCount(
+            graph,
+            new SampledTriangleCountParameters(new Concurrency(4), sampleSize, confidence, Optional.of(seed)),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
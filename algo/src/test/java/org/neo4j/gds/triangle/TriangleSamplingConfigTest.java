@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TriangleSamplingConfigTest {
+
+    @Test
+    void shouldCountExactlyWithoutSampleSize() {
+        var config = TriangleCountStatsConfig.of(CypherMapWrapper.create(Map.of()));
+
+        assertThat(config.toSampledParameters()).isEmpty();
+    }
+
+    @Test
+    void shouldCreateSampledParameters() {
+        var config = TriangleCountStatsConfig.of(CypherMapWrapper.create(Map.of(
+            "sampleSize", 1_000L,
+            "confidence", 0.99,
+            "randomSeed", 42L
+        )));
+
+        assertThat(config.toSampledParameters()).hasValueSatisfying(parameters -> {
+            assertThat(parameters.sampleSize()).isEqualTo(1_000L);
+            assertThat(parameters.confidence()).isEqualTo(0.99);
+            assertThat(parameters.randomSeed()).isEqualTo(Optional.of(42L));
+        });
+    }
+
+    @Test
+    void shouldRejectNonPositiveSampleSize() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> TriangleCountStatsConfig.of(CypherMapWrapper.create(Map.of("sampleSize", 0L))))
+            .withMessageContaining("sampleSize");
+    }
+
+    @Test
+    void shouldDefaultTheConfidence() {
+        var config = TriangleCountStatsConfig.of(CypherMapWrapper.create(Map.of("sampleSize", 1_000L)));
+
+        assertThat(config.toSampledParameters())
+            .hasValueSatisfying(parameters -> assertThat(parameters.confidence()).isEqualTo(0.95));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 1.0, 1.5})
+    void shouldRejectConfidenceOutsideOfTheOpenUnitInterval(double confidence) {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> LocalClusteringCoefficientStatsConfig.of(CypherMapWrapper.create(Map.of(
+                "sampleSize", 1_000L,
+                "confidence", confidence
+            ))))
+            .withMessageContaining("confidence");
+    }
+
+    @Test
+    void shouldRejectSamplingWithMaxDegree() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> TriangleCountStatsConfig.of(CypherMapWrapper.create(Map.of(
+                "sampleSize", 1_000L,
+                "maxDegree", 10L
+            ))))
+            .withMessageContaining("maxDegree");
+    }
+
+    @Test
+    void shouldRejectSamplingWithSeedProperty() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> LocalClusteringCoefficientStatsConfig.of(CypherMapWrapper.create(Map.of(
+                "sampleSize", 1_000L,
+                "triangleCountProperty", "triangles"
+            ))))
+            .withMessageContaining("triangleCountProperty");
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.delta.IncrementalGraphStoreUpdater;
+import org.neo4j.gds.core.loading.delta.RelationshipUpdates;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class StreamingWccTest {
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+
+    private static final String GDL =
+        "  (a)-[:REL {w: 1.0}]->(b)" +
+        ", (c)-[:REL {w: 1.0}]->(d)" +
+        ", (e)";
+
+    @Test
+    void shouldUnionInsertedRelationships() {
+        var graph = fromGdl(GDL);
+        var wcc = initialize(graph, new WccParameters(0D, new Concurrency(4)));
+
+        assertThat(componentOf(wcc, graph, "a")).isEqualTo(componentOf(wcc, graph, "b"));
+        assertThat(componentOf(wcc, graph, "a")).isNotEqualTo(componentOf(wcc, graph, "c"));
+
+        wcc.apply(RelationshipUpdates.of(REL)
+            .insert(graph.toOriginalNodeId("b"), graph.toOriginalNodeId("c")));
+
+        assertThat(componentOf(wcc, graph, "a"))
+            .isEqualTo(componentOf(wcc, graph, "d"))
+            .isNotEqualTo(componentOf(wcc, graph, "e"));
+
+        var components = wcc.components();
+        assertThat(components.longValue(graph.toMappedNodeId("a")))
+            .isEqualTo(components.longValue(graph.toMappedNodeId("d")));
+    }
+
+    @Test
+    void shouldRespectThreshold() {
+        var graph = fromGdl(GDL);
+        var wcc = initialize(graph, new WccParameters(0.5, Optional.empty(), new Concurrency(1)));
+
+        wcc.apply(RelationshipUpdates.of(REL, "w")
+            .insert(graph.toOriginalNodeId("b"), graph.toOriginalNodeId("c"), 0.2)
+            .insert(graph.toOriginalNodeId("d"), graph.toOriginalNodeId("e"), 0.8));
+
+        assertThat(componentOf(wcc, graph, "a")).isNotEqualTo(componentOf(wcc, graph, "c"));
+        assertThat(componentOf(wcc, graph, "c")).isEqualTo(componentOf(wcc, graph, "e"));
+    }
+
+    @Test
+    void shouldRejectDeletions() {
+        var graph = fromGdl(GDL);
+        var wcc = initialize(graph, new WccParameters(0D, new Concurrency(1)));
+
+        var updates = RelationshipUpdates.of(REL)
+            .delete(graph.toOriginalNodeId("a"), graph.toOriginalNodeId("b"));
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> wcc.apply(updates))
+            .withMessageContaining("components need to be recomputed");
+    }
+
+    @Test
+    void shouldRejectUnknownNodes() {
+        var graph = fromGdl(GDL);
+        var wcc = initialize(graph, new WccParameters(0D, new Concurrency(1)));
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> wcc.union(graph.toOriginalNodeId("a"), 1337))
+            .withMessage("Node with id 1337 does not exist in the graph");
+    }
+
+    @Test
+    void shouldKeepResidentComponentsUntilTheGraphStoreIsModified() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build();
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName("user", "graph"), graphStore);
+        try {
+            var parameters = new WccParameters(0D, new Concurrency(1));
+            var first = resident(graphStore, parameters);
+
+            assertThat(resident(graphStore, parameters)).isSameAs(first);
+
+            new IncrementalGraphStoreUpdater(graphStore, new Concurrency(1), DefaultPool.INSTANCE, 1.0)
+                .apply(RelationshipUpdates.of(REL, "w").insert(gdlFactory.nodeId("b"), gdlFactory.nodeId("c"), 1.0));
+            var recomputed = resident(graphStore, parameters);
+
+            assertThat(recomputed).isNotSameAs(first);
+            assertThat(recomputed.componentOf(gdlFactory.nodeId("a")))
+                .isEqualTo(recomputed.componentOf(gdlFactory.nodeId("d")));
+        } finally {
+            GraphStoreCatalog.removeAllLoadedGraphs();
+        }
+    }
+
+    private static StreamingWcc resident(GraphStore graphStore, WccParameters parameters) {
+        return StreamingWcc.resident(
+            "user",
+            graphStore.databaseInfo().databaseId(),
+            "graph",
+            graphStore.getUnion(),
+            parameters,
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+
+    private static StreamingWcc initialize(TestGraph graph, WccParameters parameters) {
+        return StreamingWcc.initialize(graph, parameters, DefaultPool.INSTANCE, TerminationFlag.RUNNING_TRUE);
+    }
+
+    private static long componentOf(StreamingWcc wcc, TestGraph graph, String variable) {
+        return wcc.componentOf(graph.toOriginalNodeId(variable));
+    }
+}
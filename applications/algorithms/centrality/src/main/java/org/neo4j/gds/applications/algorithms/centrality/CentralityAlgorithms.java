@@ -27,18 +27,24 @@ import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
 import org.neo4j.gds.applications.algorithms.machinery.ProgressTrackerCreator;
 import org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking;
 import org.neo4j.gds.articulationpoints.ArticulationPoints;
+import org.neo4j.gds.articulationpoints.ArticulationPointsBaseConfig;
 import org.neo4j.gds.articulationpoints.ArticulationPointsProgressTaskCreator;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelComputation;
 import org.neo4j.gds.betweenness.BetweennessCentrality;
 import org.neo4j.gds.betweenness.BetweennessCentralityBaseConfig;
 import org.neo4j.gds.betweenness.BetwennessCentralityResult;
-import org.neo4j.gds.betweenness.ForwardTraverser;
+import org.neo4j.gds.betweenness.BrandesStrategy;
 import org.neo4j.gds.betweenness.FullSelectionStrategy;
 import org.neo4j.gds.betweenness.RandomDegreeSelectionStrategy;
+import org.neo4j.gds.biconnectivity.BiconnectedComponentsBaseConfig;
+import org.neo4j.gds.biconnectivity.Biconnectivity;
+import org.neo4j.gds.biconnectivity.BiconnectivityResult;
 import org.neo4j.gds.bridges.BridgeProgressTaskCreator;
 import org.neo4j.gds.bridges.BridgeResult;
 import org.neo4j.gds.bridges.Bridges;
+import org.neo4j.gds.bridges.BridgesBaseConfig;
+import org.neo4j.gds.closeness.ApproximateClosenessCentrality;
 import org.neo4j.gds.closeness.ClosenessCentrality;
 import org.neo4j.gds.closeness.ClosenessCentralityBaseConfig;
 import org.neo4j.gds.closeness.ClosenessCentralityResult;
@@ -53,9 +59,11 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.degree.DegreeCentrality;
 import org.neo4j.gds.degree.DegreeCentralityConfig;
 import org.neo4j.gds.degree.DegreeCentralityResult;
+import org.neo4j.gds.harmonic.ApproximateHarmonicCentrality;
 import org.neo4j.gds.harmonic.HarmonicCentrality;
 import org.neo4j.gds.harmonic.HarmonicCentralityBaseConfig;
 import org.neo4j.gds.harmonic.HarmonicResult;
+import org.neo4j.gds.hyperball.HyperBall;
 import org.neo4j.gds.influenceMaximization.CELF;
 import org.neo4j.gds.influenceMaximization.CELFResult;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationBaseConfig;
@@ -100,9 +108,9 @@ public class CentralityAlgorithms {
             ? new RandomDegreeSelectionStrategy(samplingSize.get(), samplingSeed)
             : new FullSelectionStrategy();
 
-        var traverserFactory = parameters.hasRelationshipWeightProperty()
-            ? ForwardTraverser.Factory.weighted()
-            : ForwardTraverser.Factory.unweighted();
+        var brandesStrategy = parameters.hasRelationshipWeightProperty()
+            ? BrandesStrategy.weighted()
+            : BrandesStrategy.unweighted();
 
         var task = Tasks.leaf(
             LabelForProgressTracking.BetweennessCentrality.value,
@@ -113,7 +121,7 @@ public class CentralityAlgorithms {
         var algorithm = new BetweennessCentrality(
             graph,
             selectionStrategy,
-            traverserFactory,
+            brandesStrategy,
             DefaultPool.INSTANCE,
             parameters.concurrency(),
             progressTracker,
@@ -143,6 +151,26 @@ public class CentralityAlgorithms {
             ? new WassermanFaustCentralityComputer(graph.nodeCount())
             : new DefaultCentralityComputer();
 
+        if (configuration.approximate()) {
+            var progressTracker = progressTrackerCreator.createProgressTracker(configuration, Tasks.task(
+                LabelForProgressTracking.ClosenessCentrality.value,
+                HyperBall.progressTask("HyperBall", graph.nodeCount()),
+                Tasks.leaf("Closeness computation", graph.nodeCount())
+            ));
+
+            var algorithm = new ApproximateClosenessCentrality(
+                graph,
+                configuration.hyperLogLogPrecision(),
+                parameters.concurrency(),
+                centralityComputer,
+                DefaultPool.INSTANCE,
+                progressTracker,
+                terminationFlag
+            );
+
+            return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+        }
+
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, Tasks.task(
             LabelForProgressTracking.ClosenessCentrality.value,
             Tasks.leaf("Farness computation", graph.nodeCount() * graph.nodeCount()),
@@ -180,7 +208,10 @@ public class CentralityAlgorithms {
     }
 
 
-    BitSet articulationPoints(Graph graph, AlgoBaseConfig configuration) {
+    BitSet articulationPoints(Graph graph, ArticulationPointsBaseConfig configuration) {
+        if (configuration.parallel()) {
+            return biconnectivity(graph, configuration, ArticulationPointsProgressTaskCreator.TASK_NAME).articulationPoints();
+        }
 
         var task = ArticulationPointsProgressTaskCreator.progressTask(graph.nodeCount());
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
@@ -190,7 +221,14 @@ public class CentralityAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
-    BridgeResult bridges(Graph graph, AlgoBaseConfig configuration) {
+    BiconnectivityResult biconnectedComponents(Graph graph, BiconnectedComponentsBaseConfig configuration) {
+        return biconnectivity(graph, configuration, LabelForProgressTracking.BiconnectedComponents.value);
+    }
+
+    BridgeResult bridges(Graph graph, BridgesBaseConfig configuration) {
+        if (configuration.parallel()) {
+            return biconnectivity(graph, configuration, BridgeProgressTaskCreator.TASK_NAME).bridges();
+        }
 
         var task = BridgeProgressTaskCreator.progressTask(graph.nodeCount());
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
@@ -200,11 +238,45 @@ public class CentralityAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
+    private BiconnectivityResult biconnectivity(Graph graph, AlgoBaseConfig configuration, String taskName) {
+        var task = Biconnectivity.progressTask(taskName, graph.nodeCount());
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new Biconnectivity(
+            graph,
+            configuration.concurrency(),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+    }
+
     PageRankResult eigenVector(Graph graph, PageRankConfig configuration) {
         return pagerank(graph, configuration, LabelForProgressTracking.EigenVector, EIGENVECTOR);
     }
 
     HarmonicResult harmonicCentrality(Graph graph, HarmonicCentralityBaseConfig configuration) {
+        if (configuration.approximate()) {
+            var task = Tasks.task(
+                LabelForProgressTracking.HarmonicCentrality.value,
+                HyperBall.progressTask("HyperBall", graph.nodeCount())
+            );
+            var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+            var algorithm = new ApproximateHarmonicCentrality(
+                graph,
+                configuration.hyperLogLogPrecision(),
+                configuration.concurrency(),
+                DefaultPool.INSTANCE,
+                progressTracker,
+                terminationFlag
+            );
+
+            return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+        }
+
         var task = Tasks.leaf(LabelForProgressTracking.HarmonicCentrality.value);
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
 
@@ -279,6 +351,8 @@ public class CentralityAlgorithms {
         Graph graph, PageRankConfig configuration,
         PageRankAlgorithmFactory.Mode mode
     ) {
+        var seedValues = PageRankAlgorithmFactory.seedValues(graph, configuration, mode);
+
         var degreeFunction = degreeFunction(
             graph,
             configuration
@@ -305,7 +379,7 @@ public class CentralityAlgorithms {
 
             return new EigenvectorComputation(graph.nodeCount(), configuration, mappedSourceNodes, degreeFunction);
         } else {
-            return new PageRankComputation(configuration, mappedSourceNodes, degreeFunction);
+            return new PageRankComputation(configuration, mappedSourceNodes, degreeFunction, seedValues);
         }
     }
 }
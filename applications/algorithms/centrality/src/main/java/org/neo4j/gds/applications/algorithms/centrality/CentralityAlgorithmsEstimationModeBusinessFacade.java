@@ -25,13 +25,18 @@ import org.neo4j.gds.articulationpoints.ArticulationPointsBaseConfig;
 import org.neo4j.gds.articulationpoints.ArticulationPointsMemoryEstimateDefinition;
 import org.neo4j.gds.betweenness.BetweennessCentralityBaseConfig;
 import org.neo4j.gds.betweenness.BetweennessCentralityMemoryEstimateDefinition;
+import org.neo4j.gds.biconnectivity.BiconnectedComponentsBaseConfig;
+import org.neo4j.gds.biconnectivity.BiconnectivityMemoryEstimateDefinition;
 import org.neo4j.gds.bridges.BridgesBaseConfig;
 import org.neo4j.gds.bridges.BridgesMemoryEstimateDefinition;
+import org.neo4j.gds.closeness.ApproximateClosenessCentrality;
 import org.neo4j.gds.closeness.ClosenessCentralityBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.degree.DegreeCentralityAlgorithmEstimateDefinition;
 import org.neo4j.gds.degree.DegreeCentralityConfig;
 import org.neo4j.gds.exceptions.MemoryEstimationNotImplementedException;
+import org.neo4j.gds.harmonic.ApproximateHarmonicCentrality;
+import org.neo4j.gds.harmonic.HarmonicCentralityBaseConfig;
 import org.neo4j.gds.influenceMaximization.CELFMemoryEstimateDefinition;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationBaseConfig;
 import org.neo4j.gds.mem.MemoryEstimation;
@@ -45,15 +50,15 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         this.algorithmEstimationTemplate = algorithmEstimationTemplate;
     }
 
-    public MemoryEstimation articulationPoints() {
-        return new ArticulationPointsMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation articulationPoints(ArticulationPointsBaseConfig configuration) {
+        return new ArticulationPointsMemoryEstimateDefinition(configuration.parallel()).memoryEstimation();
     }
 
     public MemoryEstimateResult articulationPoints(
         ArticulationPointsBaseConfig configuration,
         Object graphNameOrConfiguration
     ) {
-        var memoryEstimation = articulationPoints();
+        var memoryEstimation = articulationPoints(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -79,12 +84,30 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
             memoryEstimation
         );
     }
-     MemoryEstimation bridges() {
-        return new BridgesMemoryEstimateDefinition().memoryEstimation();
+
+    MemoryEstimation biconnectedComponents() {
+        return new BiconnectivityMemoryEstimateDefinition().memoryEstimation();
+    }
+
+    public MemoryEstimateResult biconnectedComponents(
+        BiconnectedComponentsBaseConfig configuration,
+        Object graphNameOrConfiguration
+    ) {
+        var memoryEstimation = biconnectedComponents();
+
+        return algorithmEstimationTemplate.estimate(
+            configuration,
+            graphNameOrConfiguration,
+            memoryEstimation
+        );
+    }
+
+    MemoryEstimation bridges(BridgesBaseConfig configuration) {
+        return new BridgesMemoryEstimateDefinition(configuration.parallel()).memoryEstimation();
     }
 
     public MemoryEstimateResult bridges(BridgesBaseConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = bridges();
+        var memoryEstimation = bridges(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -107,7 +130,10 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation closenessCentrality(ClosenessCentralityBaseConfig ignored) {
+    public MemoryEstimation closenessCentrality(ClosenessCentralityBaseConfig configuration) {
+        if (configuration.approximate()) {
+            return ApproximateClosenessCentrality.memoryEstimation(configuration.hyperLogLogPrecision());
+        }
         throw new MemoryEstimationNotImplementedException();
     }
 
@@ -128,7 +154,10 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation harmonicCentrality() {
+    public MemoryEstimation harmonicCentrality(HarmonicCentralityBaseConfig configuration) {
+        if (configuration.approximate()) {
+            return ApproximateHarmonicCentrality.memoryEstimation(configuration.hyperLogLogPrecision());
+        }
         throw new MemoryEstimationNotImplementedException();
     }
 
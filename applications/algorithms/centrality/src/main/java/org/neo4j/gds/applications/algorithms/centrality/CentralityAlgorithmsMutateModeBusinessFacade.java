@@ -96,7 +96,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             ArticulationPoints,
-            estimation::articulationPoints,
+            () -> estimation.articulationPoints(configuration),
             (graph, __) -> algorithms.articulationPoints(graph, configuration),
             mutateStep,
             resultBuilder
@@ -205,7 +205,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             HarmonicCentrality,
-            estimation::harmonicCentrality,
+            () -> estimation.harmonicCentrality(configuration),
             (graph, __) -> algorithms.harmonicCentrality(graph, configuration),
             mutateStep,
             resultBuilder
@@ -83,7 +83,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             ArticulationPoints,
-            estimationFacade::articulationPoints,
+            () -> estimationFacade.articulationPoints(configuration),
             (graph, __) -> centralityAlgorithms.articulationPoints(graph, configuration),
             resultBuilder
         );
@@ -173,7 +173,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             HarmonicCentrality,
-            estimationFacade::harmonicCentrality,
+            () -> estimationFacade.harmonicCentrality(configuration),
             (graph, __) -> centralityAlgorithms.harmonicCentrality(graph, configuration),
             resultBuilder
         );
@@ -26,6 +26,8 @@ import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTempla
 import org.neo4j.gds.applications.algorithms.machinery.StreamResultBuilder;
 import org.neo4j.gds.articulationpoints.ArticulationPointsStreamConfig;
 import org.neo4j.gds.betweenness.BetweennessCentralityStreamConfig;
+import org.neo4j.gds.biconnectivity.BiconnectedComponentsStreamConfig;
+import org.neo4j.gds.biconnectivity.BiconnectivityResult;
 import org.neo4j.gds.bridges.BridgeResult;
 import org.neo4j.gds.bridges.BridgesStreamConfig;
 import org.neo4j.gds.closeness.ClosenessCentralityStreamConfig;
@@ -43,6 +45,7 @@ import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTra
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.ArticulationPoints;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.BRIDGES;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.BetweennessCentrality;
+import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.BiconnectedComponents;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.CELF;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.ClosenessCentrality;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.DegreeCentrality;
@@ -103,11 +106,26 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             ArticulationPoints,
-            estimationFacade::articulationPoints,
+            () -> estimationFacade.articulationPoints(configuration),
             (graph, __) -> centralityAlgorithms.articulationPoints(graph, configuration),
             streamResultBuilder
         );
     }
+    public <RESULT> Stream<RESULT> biconnectedComponents(
+        GraphName graphName,
+        BiconnectedComponentsStreamConfig configuration,
+        StreamResultBuilder<BiconnectedComponentsStreamConfig, BiconnectivityResult, RESULT> streamResultBuilder
+    ) {
+        return algorithmProcessingTemplateConvenience.processRegularAlgorithmInStreamMode(
+            graphName,
+            configuration,
+            BiconnectedComponents,
+            estimationFacade::biconnectedComponents,
+            (graph, __) -> centralityAlgorithms.biconnectedComponents(graph, configuration),
+            streamResultBuilder
+        );
+    }
+
     public <RESULT> Stream<RESULT> bridges(
         GraphName graphName,
         BridgesStreamConfig configuration,
@@ -117,7 +135,7 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             BRIDGES,
-            estimationFacade::bridges,
+            () -> estimationFacade.bridges(configuration),
             (graph, __) -> centralityAlgorithms.bridges(graph, configuration),
             streamResultBuilder
         );
@@ -192,7 +210,7 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             HarmonicCentrality,
-            estimationFacade::harmonicCentrality,
+            () -> estimationFacade.harmonicCentrality(configuration),
             (graph, __) -> centralityAlgorithms.harmonicCentrality(graph, configuration),
             streamResultBuilder
         );
@@ -131,7 +131,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             ArticulationPoints,
-            estimationFacade::articulationPoints,
+            () -> estimationFacade.articulationPoints(configuration),
             (graph, __) -> centralityAlgorithms.articulationPoints(graph, configuration),
             new ArticulationPointsWriteStep(configuration, writeToDatabase),
             resultBuilder
@@ -221,7 +221,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             HarmonicCentrality,
-            estimationFacade::harmonicCentrality,
+            () -> estimationFacade.harmonicCentrality(configuration),
             (graph, __) -> centralityAlgorithms.harmonicCentrality(graph, configuration),
             writeStep,
             resultBuilder
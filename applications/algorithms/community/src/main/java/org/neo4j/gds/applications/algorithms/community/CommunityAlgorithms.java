@@ -27,7 +27,9 @@ import org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking;
 import org.neo4j.gds.approxmaxkcut.ApproxMaxKCut;
 import org.neo4j.gds.approxmaxkcut.ApproxMaxKCutResult;
 import org.neo4j.gds.approxmaxkcut.config.ApproxMaxKCutBaseConfig;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.conductance.Conductance;
 import org.neo4j.gds.conductance.ConductanceBaseConfig;
 import org.neo4j.gds.conductance.ConductanceResult;
@@ -35,6 +37,7 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -65,16 +68,23 @@ import org.neo4j.gds.modularityoptimization.ModularityOptimization;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationBaseConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationFactory;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationResult;
+import org.neo4j.gds.scc.ParallelScc;
 import org.neo4j.gds.scc.Scc;
 import org.neo4j.gds.scc.SccCommonBaseConfig;
 import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.triangle.DegreeOrderedTriangleCount;
 import org.neo4j.gds.triangle.IntersectingTriangleCount;
 import org.neo4j.gds.triangle.IntersectingTriangleCountFactory;
 import org.neo4j.gds.triangle.LocalClusteringCoefficient;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientBaseConfig;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientResult;
+import org.neo4j.gds.triangle.LocalClusteringCoefficientStatsConfig;
+import org.neo4j.gds.triangle.SampledTriangleCount;
+import org.neo4j.gds.triangle.SampledTriangleCountResult;
 import org.neo4j.gds.triangle.TriangleCountBaseConfig;
 import org.neo4j.gds.triangle.TriangleCountResult;
+import org.neo4j.gds.triangle.TriangleCountStatsConfig;
+import org.neo4j.gds.triangle.TriangleSamplingConfig;
 import org.neo4j.gds.triangle.TriangleStream;
 import org.neo4j.gds.triangle.TriangleStreamResult;
 import org.neo4j.gds.wcc.Wcc;
@@ -246,6 +256,20 @@ public class CommunityAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
+    /**
+     * Stats mode only reports the average coefficient and its margin of error,
+     * the sampled result carries no local coefficients.
+     */
+    LocalClusteringCoefficientResult sampledLcc(Graph graph, LocalClusteringCoefficientStatsConfig configuration) {
+        var result = sampledTriangleCount(graph, configuration, LabelForProgressTracking.LCC);
+
+        return new LocalClusteringCoefficientResult(
+            HugeDoubleArray.newArray(0),
+            result.averageClusteringCoefficient(),
+            Optional.of(result)
+        );
+    }
+
     LeidenResult leiden(Graph graph, LeidenBaseConfig configuration) {
         if (!graph.schema().isUndirected()) {
             throw new IllegalArgumentException(
@@ -307,6 +331,8 @@ public class CommunityAlgorithms {
             parameters.maxLevels(),
             parameters.includeIntermediateCommunities(),
             parameters.seedProperty(),
+            parameters.prunedLocalMoving(),
+            parameters.vertexFollowing(),
             progressTracker,
             DefaultPool.INSTANCE
         );
@@ -363,6 +389,23 @@ public class CommunityAlgorithms {
     }
 
     HugeLongArray scc(Graph graph, SccCommonBaseConfig configuration) {
+        if (configuration.parallel()) {
+            var progressTracker = progressTrackerCreator.createProgressTracker(
+                configuration,
+                ParallelScc.progressTask(LabelForProgressTracking.SCC.value, graph.nodeCount())
+            );
+
+            var algorithm = new ParallelScc(
+                graph,
+                configuration.concurrency(),
+                DefaultPool.INSTANCE,
+                progressTracker,
+                terminationFlag
+            );
+
+            return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+        }
+
         var progressTracker = progressTrackerCreator.createProgressTracker(
             configuration,
             Tasks.leaf(LabelForProgressTracking.SCC.value, graph.nodeCount())
@@ -374,11 +417,30 @@ public class CommunityAlgorithms {
     }
 
     TriangleCountResult triangleCount(Graph graph, TriangleCountBaseConfig configuration) {
+        var parameters = configuration.toParameters();
+
+        if (parameters.degreeOrdered()) {
+            var task = DegreeOrderedTriangleCount.progressTask(
+                LabelForProgressTracking.TriangleCount.value,
+                graph.nodeCount()
+            );
+            var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+            var algorithm = new DegreeOrderedTriangleCount(
+                graph,
+                parameters.concurrency(),
+                parameters.maxDegree(),
+                DefaultPool.INSTANCE,
+                progressTracker,
+                terminationFlag
+            );
+
+            return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+        }
+
         var task = Tasks.leaf(LabelForProgressTracking.TriangleCount.value, graph.nodeCount());
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
 
-        var parameters = configuration.toParameters();
-
         var algorithm = IntersectingTriangleCount.create(
             graph,
             parameters.concurrency(),
@@ -391,6 +453,41 @@ public class CommunityAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
+    /**
+     * Stats mode only reports the global values and their margins of error,
+     * the sampled result carries no local triangle counts.
+     */
+    TriangleCountResult sampledTriangleCount(Graph graph, TriangleCountStatsConfig configuration) {
+        var result = sampledTriangleCount(graph, configuration, LabelForProgressTracking.TriangleCount);
+
+        return new TriangleCountResult(
+            HugeAtomicLongArray.of(0, ParalleLongPageCreator.passThrough(configuration.concurrency())),
+            Math.round(result.globalTriangles()),
+            Optional.of(result)
+        );
+    }
+
+    private SampledTriangleCountResult sampledTriangleCount(
+        Graph graph,
+        TriangleSamplingConfig configuration,
+        LabelForProgressTracking label
+    ) {
+        var parameters = configuration.toSampledParameters().orElseThrow();
+
+        var task = SampledTriangleCount.progressTask(label.value, graph.nodeCount(), parameters.sampleSize());
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new SampledTriangleCount(
+            graph,
+            parameters,
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+    }
+
     Stream<TriangleStreamResult> triangles(Graph graph, ConcurrencyConfig configuration) {
         var algorithm = TriangleStream.create(
             graph,
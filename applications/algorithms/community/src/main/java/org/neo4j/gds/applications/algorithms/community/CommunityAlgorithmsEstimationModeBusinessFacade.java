@@ -43,11 +43,17 @@ import org.neo4j.gds.modularity.ModularityCalculatorMemoryEstimateDefinition;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationBaseConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationMemoryEstimateDefinition;
 import org.neo4j.gds.scc.SccBaseConfig;
+import org.neo4j.gds.scc.SccCommonBaseConfig;
 import org.neo4j.gds.scc.SccMemoryEstimateDefinition;
+import org.neo4j.gds.triangle.DegreeOrderedTriangleCountMemoryEstimateDefinition;
 import org.neo4j.gds.triangle.IntersectingTriangleCountMemoryEstimateDefinition;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientBaseConfig;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientMemoryEstimateDefinition;
+import org.neo4j.gds.triangle.LocalClusteringCoefficientStatsConfig;
+import org.neo4j.gds.triangle.SampledTriangleCountMemoryEstimateDefinition;
 import org.neo4j.gds.triangle.TriangleCountBaseConfig;
+import org.neo4j.gds.triangle.TriangleCountStatsConfig;
+import org.neo4j.gds.triangle.TriangleSamplingConfig;
 import org.neo4j.gds.wcc.WccBaseConfig;
 import org.neo4j.gds.wcc.WccMemoryEstimateDefinition;
 
@@ -142,6 +148,13 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         return new LocalClusteringCoefficientMemoryEstimateDefinition(configuration.seedProperty()).memoryEstimation();
     }
 
+    public MemoryEstimation lcc(LocalClusteringCoefficientStatsConfig configuration) {
+        if (isSampled(configuration)) {
+            return new SampledTriangleCountMemoryEstimateDefinition().memoryEstimation();
+        }
+        return lcc((LocalClusteringCoefficientBaseConfig) configuration);
+    }
+
     public MemoryEstimateResult lcc(
         LocalClusteringCoefficientBaseConfig configuration,
         Object graphNameOrConfiguration
@@ -155,6 +168,19 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
+    public MemoryEstimateResult lcc(
+        LocalClusteringCoefficientStatsConfig configuration,
+        Object graphNameOrConfiguration
+    ) {
+        var memoryEstimation = lcc(configuration);
+
+        return algorithmEstimationTemplate.estimate(
+            configuration,
+            graphNameOrConfiguration,
+            memoryEstimation
+        );
+    }
+
     public MemoryEstimation leiden(LeidenBaseConfig configuration) {
         return new LeidenMemoryEstimateDefinition(configuration.toMemoryEstimationParameters()).memoryEstimation();
     }
@@ -214,12 +240,12 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation scc() {
-        return new SccMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation scc(SccCommonBaseConfig configuration) {
+        return new SccMemoryEstimateDefinition(configuration.parallel()).memoryEstimation();
     }
 
     public MemoryEstimateResult scc(SccBaseConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = scc();
+        var memoryEstimation = scc(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -228,12 +254,32 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation triangleCount() {
+    public MemoryEstimation triangleCount(TriangleCountBaseConfig configuration) {
+        if (configuration.degreeOrdered()) {
+            return new DegreeOrderedTriangleCountMemoryEstimateDefinition().memoryEstimation();
+        }
         return new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation();
     }
 
+    public MemoryEstimation triangleCount(TriangleCountStatsConfig configuration) {
+        if (isSampled(configuration)) {
+            return new SampledTriangleCountMemoryEstimateDefinition().memoryEstimation();
+        }
+        return triangleCount((TriangleCountBaseConfig) configuration);
+    }
+
     public MemoryEstimateResult triangleCount(TriangleCountBaseConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = triangleCount();
+        var memoryEstimation = triangleCount(configuration);
+
+        return algorithmEstimationTemplate.estimate(
+            configuration,
+            graphNameOrConfiguration,
+            memoryEstimation
+        );
+    }
+
+    public MemoryEstimateResult triangleCount(TriangleCountStatsConfig configuration, Object graphNameOrConfiguration) {
+        var memoryEstimation = triangleCount(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -259,4 +305,8 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
             memoryEstimation
         );
     }
+
+    private static boolean isSampled(TriangleSamplingConfig configuration) {
+        return configuration.sampleSize().isPresent();
+    }
 }
@@ -273,7 +273,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             TriangleCount,
-            estimation::triangleCount,
+            () -> estimation.triangleCount(configuration),
             (graph, __) -> algorithms.triangleCount(graph, configuration),
             mutateStep,
             resultBuilder
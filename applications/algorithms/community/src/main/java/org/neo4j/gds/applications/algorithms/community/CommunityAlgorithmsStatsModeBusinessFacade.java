@@ -145,7 +145,9 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             configuration,
             LCC,
             () -> estimationFacade.lcc(configuration),
-            (graph, __) -> communityAlgorithms.lcc(graph, configuration),
+            (graph, __) -> configuration.sampleSize().isPresent()
+                ? communityAlgorithms.sampledLcc(graph, configuration)
+                : communityAlgorithms.lcc(graph, configuration),
             resultBuilder
         );
     }
@@ -234,8 +236,10 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             TriangleCount,
-            estimationFacade::triangleCount,
-            (graph, __) -> communityAlgorithms.triangleCount(graph, configuration),
+            () -> estimationFacade.triangleCount(configuration),
+            (graph, __) -> configuration.sampleSize().isPresent()
+                ? communityAlgorithms.sampledTriangleCount(graph, configuration)
+                : communityAlgorithms.triangleCount(graph, configuration),
             resultBuilder
         );
     }
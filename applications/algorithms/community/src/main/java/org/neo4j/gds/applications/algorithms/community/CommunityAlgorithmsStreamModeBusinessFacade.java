@@ -275,7 +275,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             TriangleCount,
-            estimationFacade::triangleCount,
+            () -> estimationFacade.triangleCount(configuration),
             (graph, __) -> algorithms.triangleCount(graph, configuration),
             streamResultBuilder
         );
@@ -292,7 +292,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             TriangleCount,
-            estimationFacade::triangleCount,
+            () -> estimationFacade.triangleCount(configuration),
             (graph, __) -> algorithms.triangleCount(graph, configuration),
             writeStep,
             resultBuilder
@@ -58,6 +58,7 @@ public enum Algorithm {
     KNN,
     KSpanningTree,
     LabelPropagation,
+    Landmarks,
     LCC,
     Leiden,
     Louvain,
@@ -70,6 +71,7 @@ public enum Algorithm {
     RandomWalk,
     ScaleProperties,
     SCC,
+    ShortestPathMatrix,
     SingleSourceDijkstra,
     SpanningTree,
     SteinerTree,
@@ -29,6 +29,7 @@ public enum LabelForProgressTracking {
     BetaClosenessCentrality("Closeness Centrality (beta)"),
     BetweennessCentrality("Betweenness Centrality"),
     BFS("BFS"),
+    BiconnectedComponents("Biconnected Components"),
     BRIDGES("Bridges"),
     CELF("CELF"),
     ClosenessCentrality("Closeness Centrality"),
@@ -52,6 +53,7 @@ public enum LabelForProgressTracking {
     KNN("K-Nearest Neighbours"),
     KSpanningTree("K Spanning Tree"),
     LabelPropagation("Label Propagation"),
+    Landmarks("Landmarks"),
     LCC("LocalClusteringCoefficient"),
     Leiden("Leiden"),
     Louvain("Louvain"),
@@ -64,6 +66,7 @@ public enum LabelForProgressTracking {
     RandomWalk("RandomWalk"),
     ScaleProperties("ScaleProperties"),
     SCC("SCC"),
+    ShortestPathMatrix("ShortestPathMatrix"),
     SingleSourceDijkstra("All Shortest Paths"),
     SpanningTree("SpanningTree"),
     SteinerTree("SteinerTree"),
@@ -110,6 +113,7 @@ public enum LabelForProgressTracking {
             case KNN -> KNN;
             case KSpanningTree -> KSpanningTree;
             case LabelPropagation -> LabelPropagation;
+            case Landmarks -> Landmarks;
             case LCC -> LCC;
             case Leiden -> Leiden;
             case Louvain -> Louvain;
@@ -122,6 +126,7 @@ public enum LabelForProgressTracking {
             case RandomWalk -> RandomWalk;
             case ScaleProperties -> ScaleProperties;
             case SCC -> SCC;
+            case ShortestPathMatrix -> ShortestPathMatrix;
             case SingleSourceDijkstra -> SingleSourceDijkstra;
             case SpanningTree -> SpanningTree;
             case SteinerTree -> SteinerTree;
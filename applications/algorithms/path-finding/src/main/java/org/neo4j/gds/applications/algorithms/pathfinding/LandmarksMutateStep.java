@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.applications.algorithms.pathfinding;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.ResultStore;
+import org.neo4j.gds.applications.algorithms.machinery.MutateNodeProperty;
+import org.neo4j.gds.applications.algorithms.machinery.MutateOrWriteStep;
+import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.paths.astar.LandmarkDistances;
+import org.neo4j.gds.paths.astar.config.LandmarksMutateConfig;
+
+class LandmarksMutateStep implements MutateOrWriteStep<LandmarkDistances, NodePropertiesWritten> {
+    private final MutateNodeProperty mutateNodeProperty;
+    private final LandmarksMutateConfig configuration;
+
+    LandmarksMutateStep(MutateNodeProperty mutateNodeProperty, LandmarksMutateConfig configuration) {
+        this.mutateNodeProperty = mutateNodeProperty;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public NodePropertiesWritten execute(
+        Graph graph,
+        GraphStore graphStore,
+        ResultStore resultStore,
+        LandmarkDistances result,
+        JobId jobId
+    ) {
+        return mutateNodeProperty.mutateNodeProperties(
+            graph,
+            graphStore,
+            configuration,
+            result.nodePropertyValues()
+        );
+    }
+}
@@ -25,6 +25,8 @@ import org.neo4j.gds.allshortestpaths.MSBFSASPAlgorithm;
 import org.neo4j.gds.allshortestpaths.MSBFSAllShortestPaths;
 import org.neo4j.gds.allshortestpaths.WeightedAllShortestPaths;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphName;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
 import org.neo4j.gds.applications.algorithms.machinery.ProgressTrackerCreator;
 import org.neo4j.gds.applications.algorithms.machinery.RequestScopedDependencies;
@@ -33,7 +35,9 @@ import org.neo4j.gds.applications.algorithms.pathfinding.traverse.BreadthFirstSe
 import org.neo4j.gds.applications.algorithms.pathfinding.traverse.DepthFirstSearch;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -44,11 +48,23 @@ import org.neo4j.gds.dag.topologicalsort.TopologicalSortResult;
 import org.neo4j.gds.degree.DegreeCentralityFactory;
 import org.neo4j.gds.kspanningtree.KSpanningTree;
 import org.neo4j.gds.kspanningtree.KSpanningTreeBaseConfig;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
 import org.neo4j.gds.paths.astar.AStar;
+import org.neo4j.gds.paths.astar.LandmarkDistances;
+import org.neo4j.gds.paths.astar.Landmarks;
+import org.neo4j.gds.paths.astar.config.LandmarksMutateConfig;
 import org.neo4j.gds.paths.astar.config.ShortestPathAStarBaseConfig;
 import org.neo4j.gds.paths.bellmanford.AllShortestPathsBellmanFordBaseConfig;
 import org.neo4j.gds.paths.bellmanford.BellmanFord;
 import org.neo4j.gds.paths.bellmanford.BellmanFordResult;
+import org.neo4j.gds.paths.contraction.ContractionHierarchies;
+import org.neo4j.gds.paths.contraction.ContractionHierarchy;
+import org.neo4j.gds.paths.contraction.ContractionHierarchyConfig;
+import org.neo4j.gds.paths.contraction.ContractionHierarchyQuery;
+import org.neo4j.gds.paths.contraction.DistanceMatrix;
+import org.neo4j.gds.paths.contraction.ManyToManyShortestPaths;
+import org.neo4j.gds.paths.contraction.ShortestPathMatrixStreamConfig;
 import org.neo4j.gds.paths.delta.DeltaStepping;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaBaseConfig;
 import org.neo4j.gds.paths.dijkstra.Dijkstra;
@@ -59,6 +75,7 @@ import org.neo4j.gds.paths.traverse.BfsBaseConfig;
 import org.neo4j.gds.paths.traverse.DfsBaseConfig;
 import org.neo4j.gds.paths.yens.Yens;
 import org.neo4j.gds.paths.yens.config.ShortestPathYensBaseConfig;
+import org.neo4j.gds.spanningtree.Boruvka;
 import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeBaseConfig;
@@ -69,8 +86,10 @@ import org.neo4j.gds.traversal.RandomWalk;
 import org.neo4j.gds.traversal.RandomWalkBaseConfig;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -189,11 +208,40 @@ public class PathFindingAlgorithms {
             Tasks.leaf("Remove relationships")
         ));
 
-        var algorithm = new KSpanningTree(
+        var algorithm = configuration.parallel()
+            ? new KSpanningTree(
+                graph,
+                parameters.objective(),
+                graph.toMappedNodeId(parameters.sourceNode()),
+                parameters.k(),
+                configuration.concurrency(),
+                DefaultPool.INSTANCE,
+                progressTracker,
+                requestScopedDependencies.getTerminationFlag()
+            )
+            : new KSpanningTree(
+                graph,
+                parameters.objective(),
+                graph.toMappedNodeId(parameters.sourceNode()),
+                parameters.k(),
+                progressTracker,
+                requestScopedDependencies.getTerminationFlag()
+            );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+    }
+
+    LandmarkDistances landmarks(Graph graph, LandmarksMutateConfig configuration) {
+        var progressTracker = createProgressTracker(
+            configuration,
+            Landmarks.progressTask(configuration.landmarkCount())
+        );
+
+        var algorithm = new Landmarks(
             graph,
-            parameters.objective(),
-            graph.toMappedNodeId(parameters.sourceNode()),
-            parameters.k(),
+            configuration.landmarkCount(),
+            configuration.concurrency(),
+            DefaultPool.INSTANCE,
             progressTracker,
             requestScopedDependencies.getTerminationFlag()
         );
@@ -241,7 +289,57 @@ public class PathFindingAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, false);
     }
 
-    PathFindingResult singlePairShortestPathAStar(Graph graph, ShortestPathAStarBaseConfig configuration) {
+    /**
+     * Computes the distances between all sources and targets with bucket based many-to-many searches
+     * on the contraction hierarchy of the projected graph, which is computed on first use like for
+     * Dijkstra and A* with {@code useContractionHierarchy}.
+     */
+    DistanceMatrix shortestPathMatrix(
+        Graph graph,
+        GraphStore graphStore,
+        GraphName graphName,
+        ShortestPathMatrixStreamConfig configuration
+    ) {
+        var hierarchy = contractionHierarchy(graph, graphStore, graphName, configuration);
+
+        var sourceNodes = configuration.sourceNodes().stream().mapToLong(graph::toMappedNodeId).toArray();
+        var targetNodes = configuration.targetNodes().stream().mapToLong(graph::toMappedNodeId).toArray();
+
+        var progressTracker = createProgressTracker(
+            configuration,
+            ManyToManyShortestPaths.progressTask(sourceNodes.length, targetNodes.length)
+        );
+
+        var algorithm = new ManyToManyShortestPaths(
+            hierarchy,
+            sourceNodes,
+            targetNodes,
+            configuration.concurrency(),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            requestScopedDependencies.getTerminationFlag()
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, false);
+    }
+
+    PathFindingResult singlePairShortestPathAStar(
+        Graph graph,
+        GraphStore graphStore,
+        GraphName graphName,
+        ShortestPathAStarBaseConfig configuration
+    ) {
+        if (configuration.useContractionHierarchy()) {
+            return contractionHierarchyQuery(
+                graph,
+                graphStore,
+                graphName,
+                configuration,
+                configuration.sourceNode(),
+                List.of(configuration.targetNode())
+            );
+        }
+
         var progressTracker = createProgressTracker(
             configuration,
             Tasks.leaf(LabelForProgressTracking.AStar.value, graph.relationshipCount())
@@ -263,7 +361,23 @@ public class PathFindingAlgorithms {
      * And they also get to do result rendering, using details of user request and GraphStore state.
      * Down here though it is just the algorithm.
      */
-    PathFindingResult singlePairShortestPathDijkstra(Graph graph, DijkstraSourceTargetsBaseConfig configuration) {
+    PathFindingResult singlePairShortestPathDijkstra(
+        Graph graph,
+        GraphStore graphStore,
+        GraphName graphName,
+        DijkstraSourceTargetsBaseConfig configuration
+    ) {
+        if (configuration.useContractionHierarchy()) {
+            return contractionHierarchyQuery(
+                graph,
+                graphStore,
+                graphName,
+                configuration,
+                configuration.sourceNode(),
+                configuration.targetsList()
+            );
+        }
+
         var progressTracker = createProgressTracker(
             configuration,
             Tasks.leaf(LabelForProgressTracking.Dijkstra.value, graph.relationshipCount())
@@ -275,6 +389,7 @@ public class PathFindingAlgorithms {
             configuration.targetsList(),
             false,
             Optional.empty(),
+            configuration.searchQueue(),
             progressTracker,
             requestScopedDependencies.getTerminationFlag()
         );
@@ -333,6 +448,20 @@ public class PathFindingAlgorithms {
             Tasks.leaf(LabelForProgressTracking.SpanningTree.value)
         );
 
+        if (configuration.parallel()) {
+            var algorithm = new Boruvka(
+                graph,
+                parameters.objective(),
+                graph.toMappedNodeId(parameters.sourceNode()),
+                configuration.concurrency(),
+                DefaultPool.INSTANCE,
+                progressTracker,
+                requestScopedDependencies.getTerminationFlag()
+            );
+
+            return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+        }
+
         var algorithm = new Prim(
             graph,
             parameters.objective(),
@@ -414,6 +543,87 @@ public class PathFindingAlgorithms {
         }
     }
 
+    /**
+     * Answers the queries on the contraction hierarchy of the projected graph. The hierarchy is computed on
+     * first use and kept with the catalog graph, so that later queries with the same projection reuse it.
+     * Like {@link Dijkstra}, paths are ordered by total cost.
+     */
+    private <CONFIG extends AlgoBaseConfig & RelationshipWeightConfig & ContractionHierarchyConfig>
+    PathFindingResult contractionHierarchyQuery(
+        Graph graph,
+        GraphStore graphStore,
+        GraphName graphName,
+        CONFIG configuration,
+        long sourceNode,
+        List<Long> targetNodes
+    ) {
+        var hierarchy = contractionHierarchy(graph, graphStore, graphName, configuration);
+        var query = new ContractionHierarchyQuery(hierarchy);
+
+        long mappedSourceNode = graph.toMappedNodeId(sourceNode);
+        var paths = new ArrayList<PathResult>(targetNodes.size());
+        for (long targetNode : targetNodes) {
+            requestScopedDependencies.getTerminationFlag().assertRunning();
+            query.sourceTarget(mappedSourceNode, graph.toMappedNodeId(targetNode)).forEachPath(paths::add);
+        }
+        paths.sort(Comparator.comparingDouble(PathResult::totalCost));
+
+        var indexedPaths = new ArrayList<PathResult>(paths.size());
+        for (int index = 0; index < paths.size(); index++) {
+            indexedPaths.add(ImmutablePathResult.builder().from(paths.get(index)).index(index).build());
+        }
+        return new PathFindingResult(indexedPaths.stream());
+    }
+
+    /**
+     * The hierarchy is kept as resident state of the catalog graph, keyed by the projection it was computed on.
+     * It is never part of the graph store schema and it is computed anew once the graph store is modified.
+     * Graphs outside the catalog of the requesting user get a hierarchy that is not kept.
+     */
+    private <CONFIG extends AlgoBaseConfig & RelationshipWeightConfig> ContractionHierarchy contractionHierarchy(
+        Graph graph,
+        GraphStore graphStore,
+        GraphName graphName,
+        CONFIG configuration
+    ) {
+        Supplier<ContractionHierarchy> computeHierarchy = () -> {
+            var progressTracker = createProgressTracker(
+                configuration,
+                ContractionHierarchies.progressTask(graph.nodeCount())
+            );
+            var algorithm = new ContractionHierarchies(
+                graph,
+                ContractionHierarchies.DEFAULT_WITNESS_SEARCH_LIMIT,
+                configuration.concurrency(),
+                DefaultPool.INSTANCE,
+                progressTracker,
+                requestScopedDependencies.getTerminationFlag()
+            );
+            return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, false);
+        };
+
+        var username = requestScopedDependencies.getUser().getUsername();
+        var databaseId = requestScopedDependencies.getDatabaseId();
+        if (!GraphStoreCatalog.exists(username, databaseId, graphName.getValue())) {
+            return computeHierarchy.get();
+        }
+
+        var key = ContractionHierarchy.residentStateKey(
+            configuration.nodeLabelIdentifiers(graphStore),
+            configuration.internalRelationshipTypes(graphStore),
+            configuration.relationshipWeightProperty()
+        );
+        // concurrent queries on the same projection compute the hierarchy only once, other keys are not blocked
+        return GraphStoreCatalog.residentState(
+            username,
+            databaseId,
+            graphName.getValue(),
+            key,
+            ContractionHierarchy.class,
+            computeHierarchy
+        );
+    }
+
     private ProgressTracker createProgressTracker(
         AlgoBaseConfig configuration,
         Task task
@@ -23,8 +23,12 @@ import org.neo4j.gds.applications.algorithms.machinery.AlgorithmEstimationTempla
 import org.neo4j.gds.applications.algorithms.machinery.MemoryEstimateResult;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.exceptions.MemoryEstimationNotImplementedException;
+import org.neo4j.gds.kspanningtree.KSpanningTreeBaseConfig;
+import org.neo4j.gds.kspanningtree.KSpanningTreeMemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.paths.astar.AStarMemoryEstimateDefinition;
+import org.neo4j.gds.paths.astar.LandmarksMemoryEstimateDefinition;
+import org.neo4j.gds.paths.astar.config.LandmarksMutateConfig;
 import org.neo4j.gds.paths.astar.config.ShortestPathAStarBaseConfig;
 import org.neo4j.gds.paths.bellmanford.AllShortestPathsBellmanFordBaseConfig;
 import org.neo4j.gds.paths.bellmanford.BellmanFordMemoryEstimateDefinition;
@@ -110,8 +114,18 @@ public class PathFindingAlgorithmsEstimationModeBusinessFacade {
         return new DfsMemoryEstimateDefinition().memoryEstimation();
     }
 
-    MemoryEstimation kSpanningTree() {
-        throw new MemoryEstimationNotImplementedException();
+    MemoryEstimation kSpanningTree(KSpanningTreeBaseConfig configuration) {
+        return new KSpanningTreeMemoryEstimateDefinition(configuration.parallel()).memoryEstimation();
+    }
+
+    public MemoryEstimateResult landmarks(LandmarksMutateConfig configuration, Object graphNameOrConfiguration) {
+        var memoryEstimation = landmarks(configuration);
+
+        return runEstimation(configuration, graphNameOrConfiguration, memoryEstimation);
+    }
+
+    public MemoryEstimation landmarks(LandmarksMutateConfig configuration) {
+        return new LandmarksMemoryEstimateDefinition(configuration.landmarkCount()).memoryEstimation();
     }
 
     MemoryEstimation longestPath() {
@@ -131,6 +145,10 @@ public class PathFindingAlgorithmsEstimationModeBusinessFacade {
         return new RandomWalkMemoryEstimateDefinition(configuration.toMemoryEstimateParameters()).memoryEstimation();
     }
 
+    MemoryEstimation shortestPathMatrix() {
+        throw new MemoryEstimationNotImplementedException();
+    }
+
     public MemoryEstimateResult singlePairShortestPathAStar(
         ShortestPathAStarBaseConfig configuration,
         Object graphNameOrConfiguration
@@ -171,7 +189,10 @@ public class PathFindingAlgorithmsEstimationModeBusinessFacade {
     }
 
     public MemoryEstimation singlePairShortestPathYens(ShortestPathYensBaseConfig configuration) {
-        var memoryEstimateDefinition = new YensMemoryEstimateDefinition(configuration.k());
+        var memoryEstimateDefinition = new YensMemoryEstimateDefinition(
+            configuration.k(),
+            configuration.reuseShortestPathTree()
+        );
 
         return memoryEstimateDefinition.memoryEstimation();
     }
@@ -195,13 +216,13 @@ public class PathFindingAlgorithmsEstimationModeBusinessFacade {
         SpanningTreeBaseConfig configuration,
         Object graphNameOrConfiguration
     ) {
-        var memoryEstimation = spanningTree();
+        var memoryEstimation = spanningTree(configuration);
 
         return runEstimation(configuration, graphNameOrConfiguration, memoryEstimation);
     }
 
-    public MemoryEstimation spanningTree() {
-        return new SpanningTreeMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation spanningTree(SpanningTreeBaseConfig configuration) {
+        return new SpanningTreeMemoryEstimateDefinition(configuration.parallel()).memoryEstimation();
     }
 
     public MemoryEstimateResult steinerTree(
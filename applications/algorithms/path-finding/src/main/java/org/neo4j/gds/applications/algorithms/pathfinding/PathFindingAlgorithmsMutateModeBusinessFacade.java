@@ -22,10 +22,14 @@ package org.neo4j.gds.applications.algorithms.pathfinding;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTemplateConvenience;
+import org.neo4j.gds.applications.algorithms.machinery.MutateNodeProperty;
 import org.neo4j.gds.applications.algorithms.machinery.ResultBuilder;
 import org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking;
+import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
 import org.neo4j.gds.applications.algorithms.metadata.RelationshipsWritten;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.paths.astar.LandmarkDistances;
+import org.neo4j.gds.paths.astar.config.LandmarksMutateConfig;
 import org.neo4j.gds.paths.astar.config.ShortestPathAStarMutateConfig;
 import org.neo4j.gds.paths.bellmanford.AllShortestPathsBellmanFordMutateConfig;
 import org.neo4j.gds.paths.bellmanford.BellmanFordResult;
@@ -47,6 +51,7 @@ import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTra
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.DFS;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.DeltaStepping;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.Dijkstra;
+import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.Landmarks;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.SingleSourceDijkstra;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.SteinerTree;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.Yens;
@@ -59,15 +64,18 @@ public class PathFindingAlgorithmsMutateModeBusinessFacade {
     private final PathFindingAlgorithmsEstimationModeBusinessFacade estimationFacade;
     private final PathFindingAlgorithms pathFindingAlgorithms;
     private final AlgorithmProcessingTemplateConvenience algorithmProcessingTemplateConvenience;
+    private final MutateNodeProperty mutateNodeProperty;
 
     public PathFindingAlgorithmsMutateModeBusinessFacade(
         PathFindingAlgorithmsEstimationModeBusinessFacade estimationFacade,
         PathFindingAlgorithms pathFindingAlgorithms,
-        AlgorithmProcessingTemplateConvenience algorithmProcessingTemplateConvenience
+        AlgorithmProcessingTemplateConvenience algorithmProcessingTemplateConvenience,
+        MutateNodeProperty mutateNodeProperty
     ) {
         this.pathFindingAlgorithms = pathFindingAlgorithms;
         this.estimationFacade = estimationFacade;
         this.algorithmProcessingTemplateConvenience = algorithmProcessingTemplateConvenience;
+        this.mutateNodeProperty = mutateNodeProperty;
     }
 
     public <RESULT> RESULT bellmanFord(
@@ -144,6 +152,24 @@ public class PathFindingAlgorithmsMutateModeBusinessFacade {
         );
     }
 
+    public <RESULT> RESULT landmarks(
+        GraphName graphName,
+        LandmarksMutateConfig configuration,
+        ResultBuilder<LandmarksMutateConfig, LandmarkDistances, RESULT, NodePropertiesWritten> resultBuilder
+    ) {
+        var mutateStep = new LandmarksMutateStep(mutateNodeProperty, configuration);
+
+        return algorithmProcessingTemplateConvenience.processRegularAlgorithmInMutateOrWriteMode(
+            graphName,
+            configuration,
+            Landmarks,
+            () -> estimationFacade.landmarks(configuration),
+            (graph, __) -> pathFindingAlgorithms.landmarks(graph, configuration),
+            mutateStep,
+            resultBuilder
+        );
+    }
+
     public <RESULT> RESULT singlePairShortestPathAStar(
         GraphName graphName,
         ShortestPathAStarMutateConfig configuration,
@@ -156,7 +182,7 @@ public class PathFindingAlgorithmsMutateModeBusinessFacade {
             configuration,
             AStar,
             estimationFacade::singlePairShortestPathAStar,
-            (graph, __) -> pathFindingAlgorithms.singlePairShortestPathAStar(graph, configuration),
+            (graph, graphStore) -> pathFindingAlgorithms.singlePairShortestPathAStar(graph, graphStore, graphName, configuration),
             mutateStep,
             resultBuilder
         );
@@ -174,7 +200,7 @@ public class PathFindingAlgorithmsMutateModeBusinessFacade {
             configuration,
             Dijkstra,
             () -> estimationFacade.singlePairShortestPathDijkstra(configuration),
-            (graph, __) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, configuration),
+            (graph, graphStore) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, graphStore, graphName, configuration),
             mutateStep,
             resultBuilder
         );
@@ -227,7 +253,7 @@ public class PathFindingAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             LabelForProgressTracking.SpanningTree,
-            estimationFacade::spanningTree,
+            () -> estimationFacade.spanningTree(configuration),
             (graph, __) -> pathFindingAlgorithms.spanningTree(graph, configuration),
             mutateStep,
             resultBuilder
@@ -128,7 +128,7 @@ public class PathFindingAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             LabelForProgressTracking.SpanningTree,
-            estimationFacade::spanningTree,
+            () -> estimationFacade.spanningTree(configuration),
             (graph, __) -> pathFindingAlgorithms.spanningTree(graph, configuration),
             resultBuilder
         );
@@ -32,6 +32,8 @@ import org.neo4j.gds.dag.topologicalsort.TopologicalSortStreamConfig;
 import org.neo4j.gds.paths.astar.config.ShortestPathAStarStreamConfig;
 import org.neo4j.gds.paths.bellmanford.AllShortestPathsBellmanFordStreamConfig;
 import org.neo4j.gds.paths.bellmanford.BellmanFordResult;
+import org.neo4j.gds.paths.contraction.DistanceMatrix;
+import org.neo4j.gds.paths.contraction.ShortestPathMatrixStreamConfig;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaStreamConfig;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
 import org.neo4j.gds.paths.dijkstra.config.AllShortestPathsDijkstraStreamConfig;
@@ -56,6 +58,7 @@ import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTra
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.Dijkstra;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.LongestPath;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.RandomWalk;
+import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.ShortestPathMatrix;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.SingleSourceDijkstra;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.SteinerTree;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.TopologicalSort;
@@ -186,6 +189,21 @@ public class PathFindingAlgorithmsStreamModeBusinessFacade {
         );
     }
 
+    public <RESULT> Stream<RESULT> shortestPathMatrix(
+        GraphName graphName,
+        ShortestPathMatrixStreamConfig configuration,
+        StreamResultBuilder<ShortestPathMatrixStreamConfig, DistanceMatrix, RESULT> resultBuilder
+    ) {
+        return algorithmProcessingTemplateConvenience.processRegularAlgorithmInStreamMode(
+            graphName,
+            configuration,
+            ShortestPathMatrix,
+            estimationFacade::shortestPathMatrix,
+            (graph, graphStore) -> pathFindingAlgorithms.shortestPathMatrix(graph, graphStore, graphName, configuration),
+            resultBuilder
+        );
+    }
+
     public <RESULT> Stream<RESULT> singlePairShortestPathAStar(
         GraphName graphName,
         ShortestPathAStarStreamConfig configuration,
@@ -196,7 +214,7 @@ public class PathFindingAlgorithmsStreamModeBusinessFacade {
             configuration,
             AStar,
             estimationFacade::singlePairShortestPathAStar,
-            (graph, __) -> pathFindingAlgorithms.singlePairShortestPathAStar(graph, configuration),
+            (graph, graphStore) -> pathFindingAlgorithms.singlePairShortestPathAStar(graph, graphStore, graphName, configuration),
             resultBuilder
         );
     }
@@ -211,7 +229,7 @@ public class PathFindingAlgorithmsStreamModeBusinessFacade {
             configuration,
             Dijkstra,
             () -> estimationFacade.singlePairShortestPathDijkstra(configuration),
-            (graph, __) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, configuration),
+            (graph, graphStore) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, graphStore, graphName, configuration),
             resultBuilder
         );
     }
@@ -256,7 +274,7 @@ public class PathFindingAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             LabelForProgressTracking.SpanningTree,
-            estimationFacade::spanningTree,
+            () -> estimationFacade.spanningTree(configuration),
             (graph, __) -> pathFindingAlgorithms.spanningTree(graph, configuration),
             resultBuilder
         );
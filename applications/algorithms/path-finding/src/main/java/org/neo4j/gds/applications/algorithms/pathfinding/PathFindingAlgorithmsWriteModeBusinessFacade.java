@@ -142,7 +142,7 @@ public class PathFindingAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             KSpanningTree,
-            estimationFacade::kSpanningTree,
+            () -> estimationFacade.kSpanningTree(configuration),
             (graph, __) -> pathFindingAlgorithms.kSpanningTree(graph, configuration),
             writeStep,
             resultBuilder
@@ -159,7 +159,7 @@ public class PathFindingAlgorithmsWriteModeBusinessFacade {
             configuration,
             AStar,
             estimationFacade::singlePairShortestPathAStar,
-            (graph, __) -> pathFindingAlgorithms.singlePairShortestPathAStar(graph, configuration),
+            (graph, graphStore) -> pathFindingAlgorithms.singlePairShortestPathAStar(graph, graphStore, graphName, configuration),
             resultBuilder
         );
     }
@@ -174,7 +174,7 @@ public class PathFindingAlgorithmsWriteModeBusinessFacade {
             configuration,
             Dijkstra,
             () -> estimationFacade.singlePairShortestPathDijkstra(configuration),
-            (graph, __) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, configuration),
+            (graph, graphStore) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, graphStore, graphName, configuration),
             resultBuilder
         );
     }
@@ -225,7 +225,7 @@ public class PathFindingAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             LabelForProgressTracking.SpanningTree,
-            estimationFacade::spanningTree,
+            () -> estimationFacade.spanningTree(configuration),
             (graph, __) -> pathFindingAlgorithms.spanningTree(graph, configuration),
             writeStep,
             resultBuilder
@@ -20,11 +20,13 @@
 package org.neo4j.gds.applications.algorithms.similarity;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
 import org.neo4j.gds.applications.algorithms.machinery.ProgressTrackerCreator;
 import org.neo4j.gds.applications.algorithms.machinery.RequestScopedDependencies;
 import org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnn;
@@ -32,10 +34,13 @@ import org.neo4j.gds.similarity.filteredknn.FilteredKnnBaseConfig;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnResult;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityBaseConfig;
 import org.neo4j.gds.similarity.filtering.NodeFilter;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.knn.HnswKnn;
 import org.neo4j.gds.similarity.knn.ImmutableKnnContext;
 import org.neo4j.gds.similarity.knn.Knn;
 import org.neo4j.gds.similarity.knn.KnnBaseConfig;
 import org.neo4j.gds.similarity.knn.KnnContext;
+import org.neo4j.gds.similarity.knn.KnnEngine;
 import org.neo4j.gds.similarity.knn.KnnFactory;
 import org.neo4j.gds.similarity.knn.KnnNeighborFilterFactory;
 import org.neo4j.gds.similarity.knn.KnnResult;
@@ -46,6 +51,7 @@ import org.neo4j.gds.similarity.nodesim.NodeSimilarityResult;
 import org.neo4j.gds.wcc.WccAlgorithmFactory;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.FilteredNodeSimilarity;
 import static org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking.KNN;
@@ -107,7 +113,18 @@ public class SimilarityAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
-    KnnResult knn(Graph graph, KnnBaseConfig configuration) {
+    KnnResult knn(Graph graph, GraphName graphName, KnnBaseConfig configuration) {
+        return knn(graph, graphName, configuration, Optional.empty());
+    }
+
+    /**
+     * @param queryNode an original node id, if present only its neighbours are computed, which requires the HNSW engine
+     */
+    KnnResult knn(Graph graph, GraphName graphName, KnnBaseConfig configuration, Optional<Long> queryNode) {
+        if (configuration.engine() == KnnEngine.HNSW) {
+            return hnswKnn(graph, graphName, configuration, queryNode.map(graph::toMappedNodeId));
+        }
+
         var parameters = configuration.toParameters().finalize(graph.nodeCount());
 
         long nodeCount = graph.nodeCount();
@@ -145,6 +162,52 @@ public class SimilarityAlgorithms {
         return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
     }
 
+    private KnnResult hnswKnn(
+        Graph graph,
+        GraphName graphName,
+        KnnBaseConfig configuration,
+        Optional<Long> mappedQueryNode
+    ) {
+        var parameters = configuration.toParameters().finalize(graph.nodeCount());
+        var hnswParameters = configuration.toHnswParameters();
+        var similarityComputer = SimilarityComputer.ofProperties(graph, parameters.nodePropertySpecs());
+
+        var username = requestScopedDependencies.getUser().getUsername();
+        var databaseId = requestScopedDependencies.getDatabaseId();
+        // graphs of other users, e.g. read by an admin, get an index that only lives for this call
+        var index = GraphStoreCatalog.exists(username, databaseId, graphName.getValue())
+            ? HnswKnn.residentIndex(
+                username,
+                databaseId,
+                graphName.getValue(),
+                graph,
+                parameters.nodePropertySpecs(),
+                similarityComputer,
+                hnswParameters
+            )
+            : new HnswIndex(similarityComputer, HnswIndex.capacityFor(graph.nodeCount()), hnswParameters);
+
+        var task = HnswKnn.progressTask(KNN.value, graph.nodeCount(), mappedQueryNode.isPresent() ? 1 : graph.nodeCount());
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = HnswKnn.create(
+            graph,
+            parameters,
+            hnswParameters,
+            index,
+            mappedQueryNode,
+            new KnnNeighborFilterFactory(graph.nodeCount()),
+            ImmutableKnnContext
+                .builder()
+                .progressTracker(progressTracker)
+                .executor(DefaultPool.INSTANCE)
+                .build(),
+            requestScopedDependencies.getTerminationFlag()
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(algorithm, progressTracker, true);
+    }
+
     NodeSimilarityResult nodeSimilarity(Graph graph, NodeSimilarityBaseConfig configuration) {
         Task task = Tasks.task(
             LabelForProgressTracking.NodeSimilarity.value,
@@ -112,7 +112,7 @@ public class SimilarityAlgorithmsMutateModeBusinessFacade {
             configuration,
             KNN,
             () -> estimationFacade.knn(configuration),
-            (graph, __) -> similarityAlgorithms.knn(graph, configuration),
+            (graph, __) -> similarityAlgorithms.knn(graph, graphName, configuration),
             mutateStep,
             resultBuilder
         );
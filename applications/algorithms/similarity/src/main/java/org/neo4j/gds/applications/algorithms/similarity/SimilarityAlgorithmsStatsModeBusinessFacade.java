@@ -90,7 +90,7 @@ public class SimilarityAlgorithmsStatsModeBusinessFacade {
             configuration,
             KNN,
             () -> estimationFacade.knn(configuration),
-            (graph, __) -> similarityAlgorithms.knn(graph, configuration),
+            (graph, __) -> similarityAlgorithms.knn(graph, graphName, configuration),
             resultBuilder
         );
     }
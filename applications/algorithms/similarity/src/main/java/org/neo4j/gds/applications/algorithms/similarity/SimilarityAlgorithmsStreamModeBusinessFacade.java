@@ -92,7 +92,7 @@ public class SimilarityAlgorithmsStreamModeBusinessFacade {
             configuration,
             KNN,
             () -> estimationFacade.knn(configuration),
-            (graph, __) -> similarityAlgorithms.knn(graph, configuration),
+            (graph, __) -> similarityAlgorithms.knn(graph, graphName, configuration, configuration.queryNode()),
             resultBuilder
         );
     }
@@ -121,7 +121,7 @@ public class SimilarityAlgorithmsWriteModeBusinessFacade {
             configuration,
             KNN,
             () -> estimationFacade.knn(configuration),
-            (graph, __) -> similarityAlgorithms.knn(graph, configuration),
+            (graph, __) -> similarityAlgorithms.knn(graph, graphName, configuration),
             writeStep,
             resultBuilder
         );
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding throughput of the different {@link AdjacencyList} implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AdjacencyCursorBenchmark {
+
+    @Param({"VAR_LONG", "PACKED", "UNCOMPRESSED"})
+    public BenchmarkGraphs.Compression compression;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"1000000"})
+    public long nodeCount;
+
+    @Param({"10"})
+    public long averageDegree;
+
+    private AdjacencyList adjacencyList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var graph = BenchmarkGraphs.generate(nodeCount, averageDegree, distribution, compression);
+        this.adjacencyList = graph.relationshipTopology().adjacencyList();
+    }
+
+    @Benchmark
+    public long decodeAllWithReuse() {
+        long sum = 0L;
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            while (cursor.hasNextVLong()) {
+                sum += cursor.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decodeAllWithoutReuse() {
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            var cursor = adjacencyList.adjacencyCursor(node);
+            while (cursor.hasNextVLong()) {
+                sum += cursor.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void skipUntilMidpoint(Blackhole blackhole) {
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        long midpoint = nodeCount / 2;
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            blackhole.consume(cursor.skipUntil(midpoint));
+        }
+    }
+
+    @Benchmark
+    public long degrees() {
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            sum += adjacencyList.degree(node);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.louvain.Louvain;
+import org.neo4j.gds.pagerank.PageRankAlgorithmFactory;
+import org.neo4j.gds.pagerank.PageRankStreamConfig;
+import org.neo4j.gds.pagerank.PageRankStreamConfigImpl;
+import org.neo4j.gds.similarity.nodesim.JaccardSimilarityComputer;
+import org.neo4j.gds.similarity.nodesim.NodeSimilarity;
+import org.neo4j.gds.similarity.nodesim.NodeSimilarityParameters;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.wcc.Wcc;
+import org.neo4j.gds.wcc.WccParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.gds.core.ProcedureConstants.TOLERANCE_DEFAULT;
+
+/**
+ * End-to-end runs of selected algorithms on generated graphs.
+ * These are intentionally coarse and are meant to catch regressions across releases,
+ * the micro benchmarks in this module should be used to investigate them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AlgorithmBenchmark {
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"10"})
+    public long averageDegree;
+
+    @Param({"POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"VAR_LONG"})
+    public BenchmarkGraphs.Compression compression;
+
+    @Param({"4"})
+    public int concurrency;
+
+    private Graph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.graph = BenchmarkGraphs.generate(nodeCount, averageDegree, distribution, compression);
+    }
+
+    @Benchmark
+    public void pageRank(Blackhole blackhole) {
+        PageRankStreamConfig config = PageRankStreamConfigImpl.builder()
+            .concurrency(concurrency)
+            .maxIterations(20)
+            .build();
+
+        var result = new PageRankAlgorithmFactory<PageRankStreamConfig>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        blackhole.consume(result.iterations());
+    }
+
+    @Benchmark
+    public void wcc(Blackhole blackhole) {
+        var wcc = new Wcc(
+            graph,
+            DefaultPool.INSTANCE,
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            new WccParameters(0D, new Concurrency(concurrency)),
+            ProgressTracker.NULL_TRACKER
+        );
+
+        blackhole.consume(wcc.compute());
+    }
+
+    @Benchmark
+    public void louvain(Blackhole blackhole) {
+        var louvain = new Louvain(
+            graph,
+            new Concurrency(concurrency),
+            10,
+            TOLERANCE_DEFAULT,
+            10,
+            false,
+            null,
+            ProgressTracker.NULL_TRACKER,
+            DefaultPool.INSTANCE
+        );
+        louvain.setTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        blackhole.consume(louvain.compute().modularity());
+    }
+
+    @Benchmark
+    public void nodeSimilarity(Blackhole blackhole) {
+        var parameters = new NodeSimilarityParameters(
+            new JaccardSimilarityComputer(0.0),
+            1,
+            Integer.MAX_VALUE,
+            10,
+            0,
+            true,
+            false,
+            false,
+            null
+        );
+
+        var nodeSimilarity = new NodeSimilarity(
+            graph,
+            parameters,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        blackhole.consume(nodeSimilarity.compute().streamResult().count());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.function.Supplier;
+
+/**
+ * Shared graph fixtures for the JMH benchmarks.
+ * All graphs are generated with a fixed seed, so results are comparable between runs and releases.
+ */
+final class BenchmarkGraphs {
+
+    static final long SEED = 42L;
+
+    /**
+     * The adjacency list implementations that can be selected via {@link GdsFeatureToggles}.
+     */
+    enum Compression {
+        VAR_LONG(false, false),
+        PACKED(true, false),
+        UNCOMPRESSED(false, true);
+
+        private final boolean packed;
+        private final boolean uncompressed;
+
+        Compression(boolean packed, boolean uncompressed) {
+            this.packed = packed;
+            this.uncompressed = uncompressed;
+        }
+
+        <T> T apply(Supplier<T> supplier) {
+            boolean packedBefore = GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packed);
+            boolean uncompressedBefore = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressed);
+            try {
+                return supplier.get();
+            } finally {
+                GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packedBefore);
+                GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressedBefore);
+            }
+        }
+    }
+
+    private BenchmarkGraphs() {}
+
+    static HugeGraph generate(
+        long nodeCount,
+        long averageDegree,
+        RelationshipDistribution distribution,
+        Compression compression
+    ) {
+        return compression.apply(() -> RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .seed(SEED)
+            .allowSelfLoops(RandomGraphGeneratorConfig.AllowSelfLoops.NO)
+            .build()
+            .generate());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the common access patterns on {@link HugeLongArray} and {@link HugeAtomicLongArray}.
+ * The sizes cover an array that fits into the CPU caches and one that is much larger than them.
+ * Both arrays of the larger size together take about 1.6 GB, which stays within the benchmark heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HugeArrayBenchmark {
+
+    private static final int RANDOM_ACCESSES = 1 << 20;
+
+    @Param({"100000", "100000000"})
+    public long size;
+
+    private HugeLongArray array;
+    private HugeAtomicLongArray atomicArray;
+    private long[] randomIndices;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.array = HugeLongArray.newArray(size);
+        this.array.setAll(index -> index);
+        this.atomicArray = HugeAtomicLongArray.of(size, ParalleLongPageCreator.passThrough(new Concurrency(4)));
+
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        this.randomIndices = random.longs(RANDOM_ACCESSES, 0, size).toArray();
+    }
+
+    @Benchmark
+    public long sequentialGet() {
+        long sum = 0L;
+        for (long i = 0; i < size; i++) {
+            sum += array.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long cursorGet() {
+        long sum = 0L;
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                var page = cursor.array;
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    sum += page[i];
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long randomGet() {
+        long sum = 0L;
+        for (long index : randomIndices) {
+            sum += array.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void sequentialSet() {
+        for (long i = 0; i < size; i++) {
+            array.set(i, i);
+        }
+    }
+
+    @Benchmark
+    public long atomicRandomGetAndAdd() {
+        long sum = 0L;
+        for (long index : randomIndices) {
+            sum += atomicArray.getAndAdd(index, 1L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public boolean atomicRandomCompareAndSet() {
+        boolean result = false;
+        for (long index : randomIndices) {
+            long current = atomicArray.get(index);
+            result ^= atomicArray.compareAndSet(index, current, current + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #atomicRandomGetAndAdd()} but with several threads contending on the same array.
+     */
+    @Benchmark
+    @Threads(8)
+    public long atomicRandomGetAndAddContended() {
+        return atomicRandomGetAndAdd();
+    }
+}
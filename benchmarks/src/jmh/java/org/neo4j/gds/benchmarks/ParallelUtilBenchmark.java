@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the overhead of fanning out tasks through {@link ParallelUtil}.
+ * The individual tasks are kept small, so that scheduling dominates the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParallelUtilBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int concurrency;
+
+    @Param({"64", "4096"})
+    public int taskCount;
+
+    @Param({"1000"})
+    public int workPerTask;
+
+    private List<Runnable> tasks;
+    private LongAdder sink;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.sink = new LongAdder();
+        this.tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            int offset = i;
+            tasks.add(() -> {
+                long sum = 0L;
+                for (int j = 0; j < workPerTask; j++) {
+                    sum += (long) j * offset;
+                }
+                sink.add(sum);
+            });
+        }
+    }
+
+    @Benchmark
+    public long runWithConcurrency() {
+        RunWithConcurrency.builder()
+            .concurrency(new Concurrency(concurrency))
+            .tasks(tasks)
+            .executor(DefaultPool.INSTANCE)
+            .run();
+        return sink.sum();
+    }
+
+    @Benchmark
+    public long parallelForEachNode() {
+        ParallelUtil.parallelForEachNode(
+            (long) taskCount * workPerTask,
+            new Concurrency(concurrency),
+            TerminationFlag.RUNNING_TRUE,
+            sink::add
+        );
+        return sink.sum();
+    }
+}
@@ -32,6 +32,7 @@ public enum GdsFeatureToggles {
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
     USE_PACKED_ADJACENCY_LIST(false),
     USE_MIXED_ADJACENCY_LIST(false),
+    USE_MEMORY_MAPPED_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false),
     ENABLE_ARROW_DATABASE_IMPORT(true),
     // Makes sure end users algorithms don't fail due to errors in log tracking,
@@ -114,6 +115,16 @@ public enum GdsFeatureToggles {
     public static final AtomicReference<AdjacencyPackingStrategy> ADJACENCY_PACKING_STRATEGY =
         new AtomicReference<>(ADJACENCY_PACKING_STRATEGY_DEFAULT_SETTING);
 
+    // Directory for the backing files of memory mapped adjacency lists.
+    // Defaults to the temporary directory of the JVM.
+    public static final String MEMORY_MAPPED_ADJACENCY_DIRECTORY_DEFAULT_SETTING = System.getProperty("java.io.tmpdir");
+    private static final String MEMORY_MAPPED_ADJACENCY_DIRECTORY_FLAG = System.getProperty(
+        name(GdsFeatureToggles.class, "memoryMappedAdjacencyDirectory"),
+        MEMORY_MAPPED_ADJACENCY_DIRECTORY_DEFAULT_SETTING
+    );
+    public static final AtomicReference<String> MEMORY_MAPPED_ADJACENCY_DIRECTORY =
+        new AtomicReference<>(MEMORY_MAPPED_ADJACENCY_DIRECTORY_FLAG);
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
@@ -39,7 +39,7 @@ public final class ConfigNodesValidations {
      * @param nodes collection of nodes to validate
      * @param parameterKey the parameter key under which the user submitted these nodes
      */
-    static void nodesNotNegative(Collection<Long> nodes, String parameterKey) {
+    public static void nodesNotNegative(Collection<Long> nodes, String parameterKey) {
         var negativeNodes = nodes.stream().filter(n -> n < 0).collect(Collectors.toList());
         if (negativeNodes.isEmpty()) return;
         throw new IllegalArgumentException(formatWithLocale(
@@ -55,7 +55,7 @@ public final class ConfigNodesValidations {
      * @param filteredNodeLabels
      * @param parameterKey the parameter key under which the user submitted these nodes
      */
-    static void nodesExistInGraph(
+    public static void nodesExistInGraph(
         GraphStore graphStore,
         Collection<NodeLabel> filteredNodeLabels,
         Collection<Long> nodes,
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.mixed;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+
+/**
+ * Keeps a reusable cursor for both the packed and the var-long encoded part of a {@link MixedAdjacencyList},
+ * so that iterating over nodes of both kinds does not create new cursors.
+ */
+final class MixedAdjacencyCursor implements AdjacencyCursor {
+
+    private final AdjacencyList packedAdjacencyList;
+    private final AdjacencyList vlongAdjacencyList;
+
+    private @Nullable AdjacencyCursor packedCursor;
+    private @Nullable AdjacencyCursor vlongCursor;
+    private AdjacencyCursor currentCursor;
+
+    MixedAdjacencyCursor(AdjacencyList packedAdjacencyList, AdjacencyList vlongAdjacencyList) {
+        this.packedAdjacencyList = packedAdjacencyList;
+        this.vlongAdjacencyList = vlongAdjacencyList;
+        this.currentCursor = AdjacencyCursor.empty();
+    }
+
+    boolean belongsTo(AdjacencyList packedAdjacencyList, AdjacencyList vlongAdjacencyList) {
+        return this.packedAdjacencyList == packedAdjacencyList && this.vlongAdjacencyList == vlongAdjacencyList;
+    }
+
+    /**
+     * @param node the node id, not an offset into the adjacency list
+     */
+    @Override
+    public void init(long node, int degree) {
+        init(node, degree, Double.NaN);
+    }
+
+    void init(long node, int degree, double fallbackValue) {
+        if (MixedCompressor.usePacking(degree)) {
+            currentCursor = packedAdjacencyList.adjacencyCursor(packedCursor, node, fallbackValue);
+            if (currentCursor != AdjacencyCursor.empty()) {
+                packedCursor = currentCursor;
+            }
+        } else {
+            currentCursor = vlongAdjacencyList.adjacencyCursor(vlongCursor, node, fallbackValue);
+            if (currentCursor != AdjacencyCursor.empty()) {
+                vlongCursor = currentCursor;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return currentCursor.size();
+    }
+
+    @Override
+    public boolean hasNextVLong() {
+        return currentCursor.hasNextVLong();
+    }
+
+    @Override
+    public long nextVLong() {
+        return currentCursor.nextVLong();
+    }
+
+    @Override
+    public long peekVLong() {
+        return currentCursor.peekVLong();
+    }
+
+    @Override
+    public int remaining() {
+        return currentCursor.remaining();
+    }
+
+    @Override
+    public long skipUntil(long nodeId) {
+        return currentCursor.skipUntil(nodeId);
+    }
+
+    @Override
+    public long advance(long nodeId) {
+        return currentCursor.advance(nodeId);
+    }
+
+    @Override
+    public long advanceBy(int n) {
+        return currentCursor.advanceBy(n);
+    }
+}
@@ -52,15 +52,19 @@ public class MixedAdjacencyList implements AdjacencyList {
 
     @Override
     public AdjacencyCursor rawAdjacencyCursor() {
-        return vlongAdjacencyList.rawAdjacencyCursor();
+        return new MixedAdjacencyCursor(packedAdjacencyList, vlongAdjacencyList);
     }
 
     @Override
     public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
-        if (MixedCompressor.usePacking(degree(node))) {
-            return this.packedAdjacencyList.adjacencyCursor(node, fallbackValue);
+        if (reuse instanceof MixedAdjacencyCursor) {
+            var mixedCursor = (MixedAdjacencyCursor) reuse;
+            if (mixedCursor.belongsTo(packedAdjacencyList, vlongAdjacencyList)) {
+                mixedCursor.init(node, degree(node), fallbackValue);
+                return mixedCursor;
+            }
         }
-        return vlongAdjacencyList.adjacencyCursor(reuse, node, fallbackValue);
+        return adjacencyCursor(node, fallbackValue);
     }
 
     @Override
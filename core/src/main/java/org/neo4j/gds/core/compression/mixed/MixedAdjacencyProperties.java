@@ -50,14 +50,18 @@ public class MixedAdjacencyProperties implements AdjacencyProperties {
 
     @Override
     public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
-        if (MixedCompressor.usePacking(this.adjacencyList.degree(node))) {
-            return this.packedAdjacencyProperties.propertyCursor(node, fallbackValue);
+        if (reuse instanceof MixedPropertyCursor) {
+            var mixedCursor = (MixedPropertyCursor) reuse;
+            if (mixedCursor.belongsTo(packedAdjacencyProperties, vlongAdjacencyProperties)) {
+                mixedCursor.init(node, this.adjacencyList.degree(node), fallbackValue);
+                return mixedCursor;
+            }
         }
-        return this.vlongAdjacencyProperties.propertyCursor(reuse, node, fallbackValue);
+        return propertyCursor(node, fallbackValue);
     }
 
     @Override
     public PropertyCursor rawPropertyCursor() {
-        return this.vlongAdjacencyProperties.rawPropertyCursor();
+        return new MixedPropertyCursor(packedAdjacencyProperties, vlongAdjacencyProperties);
     }
 }
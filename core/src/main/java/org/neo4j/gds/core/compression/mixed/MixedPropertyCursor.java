@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.mixed;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+
+/**
+ * Property counterpart of {@link MixedAdjacencyCursor}.
+ */
+final class MixedPropertyCursor implements PropertyCursor {
+
+    private final AdjacencyProperties packedAdjacencyProperties;
+    private final AdjacencyProperties vlongAdjacencyProperties;
+
+    private @Nullable PropertyCursor packedCursor;
+    private @Nullable PropertyCursor vlongCursor;
+    private PropertyCursor currentCursor;
+
+    MixedPropertyCursor(AdjacencyProperties packedAdjacencyProperties, AdjacencyProperties vlongAdjacencyProperties) {
+        this.packedAdjacencyProperties = packedAdjacencyProperties;
+        this.vlongAdjacencyProperties = vlongAdjacencyProperties;
+        this.currentCursor = PropertyCursor.empty();
+    }
+
+    boolean belongsTo(AdjacencyProperties packedAdjacencyProperties, AdjacencyProperties vlongAdjacencyProperties) {
+        return this.packedAdjacencyProperties == packedAdjacencyProperties
+               && this.vlongAdjacencyProperties == vlongAdjacencyProperties;
+    }
+
+    /**
+     * @param node the node id, not an offset into the property list
+     */
+    @Override
+    public void init(long node, int degree) {
+        init(node, degree, Double.NaN);
+    }
+
+    void init(long node, int degree, double fallbackValue) {
+        if (MixedCompressor.usePacking(degree)) {
+            currentCursor = packedCursor == null
+                ? packedAdjacencyProperties.propertyCursor(node, fallbackValue)
+                : packedAdjacencyProperties.propertyCursor(packedCursor, node, fallbackValue);
+            if (currentCursor != PropertyCursor.empty()) {
+                packedCursor = currentCursor;
+            }
+        } else {
+            currentCursor = vlongCursor == null
+                ? vlongAdjacencyProperties.propertyCursor(node, fallbackValue)
+                : vlongAdjacencyProperties.propertyCursor(vlongCursor, node, fallbackValue);
+            if (currentCursor != PropertyCursor.empty()) {
+                vlongCursor = currentCursor;
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNextLong() {
+        return currentCursor.hasNextLong();
+    }
+
+    @Override
+    public long nextLong() {
+        return currentCursor.nextLong();
+    }
+
+    @Override
+    public void close() {
+        if (packedCursor != null) {
+            packedCursor.close();
+        }
+        if (vlongCursor != null) {
+            vlongCursor.close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.neo4j.gds.api.compress.AdjacencyListBuilderFactory;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyListBuilder;
+
+import java.nio.file.Path;
+
+/**
+ * Builds packed adjacency lists whose pages live in memory mapped files instead of
+ * native memory allocated from the process. The resulting lists are read through
+ * the same cursors as {@link PackedAdjacencyList}.
+ * <p>
+ * Every adjacency list is backed by its own file inside {@code directory},
+ * which is deleted once the adjacency list is garbage collected.
+ */
+public final class MemoryMappedAdjacencyListBuilderFactory implements AdjacencyListBuilderFactory<Address, PackedAdjacencyList, long[], UncompressedAdjacencyList> {
+
+    private final Path directory;
+
+    public static MemoryMappedAdjacencyListBuilderFactory of(Path directory) {
+        return new MemoryMappedAdjacencyListBuilderFactory(directory);
+    }
+
+    private MemoryMappedAdjacencyListBuilderFactory(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public PackedAdjacencyListBuilder newAdjacencyListBuilder(MemoryTracker memoryTracker) {
+        return new PackedAdjacencyListBuilder(memoryTracker, MemoryMappedPages.create(directory));
+    }
+
+    @Override
+    public UncompressedAdjacencyListBuilder newAdjacencyPropertiesBuilder(MemoryTracker memoryTracker) {
+        return new UncompressedAdjacencyListBuilder(memoryTracker);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.agrona.BufferUtil;
+import org.agrona.IoUtil;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Allocates adjacency pages from memory mapped regions of a backing file.
+ * <p>
+ * The file is mapped in large chunks to keep the number of mappings per process low,
+ * pages are then carved out of the current chunk by bumping an offset.
+ * Since the pages are backed by the OS page cache, the adjacency list can exceed
+ * the available heap and, if the OS decides to evict pages, the available memory.
+ * <p>
+ * The pages must not be freed individually, instead {@link #release()} unmaps all
+ * chunks and deletes the backing file.
+ */
+final class MemoryMappedPages implements BumpAllocator.Factory<Address> {
+
+    static final long DEFAULT_CHUNK_SIZE = 1L << 30;
+
+    private final Path file;
+    private final long chunkSize;
+    private final List<MappedByteBuffer> chunks;
+
+    private FileChannel channel;
+    private long fileOffset;
+    private long chunkAddress;
+    private long chunkOffset;
+    private long chunkCapacity;
+    private boolean released;
+
+    static MemoryMappedPages create(Path directory) {
+        return create(directory, DEFAULT_CHUNK_SIZE);
+    }
+
+    static MemoryMappedPages create(Path directory, long chunkSize) {
+        try {
+            Files.createDirectories(directory);
+            var file = Files.createTempFile(directory, "gds-adjacency-", ".pages");
+            var channel = FileChannel.open(
+                file,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            );
+            return new MemoryMappedPages(file, channel, chunkSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale(
+                "Could not create memory mapped adjacency file in `%s`",
+                directory
+            ), e);
+        }
+    }
+
+    private MemoryMappedPages(Path file, FileChannel channel, long chunkSize) {
+        this.file = file;
+        this.channel = channel;
+        this.chunkSize = chunkSize;
+        this.chunks = new ArrayList<>();
+    }
+
+    @Override
+    public Address[] newEmptyPages() {
+        return new Address[0];
+    }
+
+    @Override
+    public synchronized Address newPage(int length) {
+        if (released) {
+            throw new IllegalStateException("The memory mapped pages have already been released.");
+        }
+        // keep all pages 8 byte aligned, the cursors read in units of longs
+        long alignedLength = (length + Long.BYTES - 1) & -Long.BYTES;
+        if (chunkOffset + alignedLength > chunkCapacity) {
+            mapChunk(Math.max(chunkSize, alignedLength));
+        }
+        long address = chunkAddress + chunkOffset;
+        chunkOffset += alignedLength;
+        return Address.createAddress(address, length);
+    }
+
+    private void mapChunk(long capacity) {
+        try {
+            var chunk = channel.map(FileChannel.MapMode.READ_WRITE, fileOffset, capacity);
+            chunks.add(chunk);
+            fileOffset += capacity;
+            chunkAddress = BufferUtil.address(chunk);
+            chunkOffset = 0;
+            chunkCapacity = capacity;
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale(
+                "Could not map %d bytes at offset %d of `%s`",
+                capacity,
+                fileOffset,
+                file
+            ), e);
+        }
+    }
+
+    /**
+     * @return the number of bytes that are currently mapped.
+     */
+    synchronized long mappedBytes() {
+        return fileOffset;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /**
+     * Unmap all chunks and delete the backing file.
+     * After this call, all addresses handed out by this instance are invalid.
+     * Calling this method more than once has no effect.
+     */
+    synchronized void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        chunks.forEach(IoUtil::unmap);
+        chunks.clear();
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            channel = null;
+        }
+    }
+}
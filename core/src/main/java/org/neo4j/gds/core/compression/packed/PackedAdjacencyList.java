@@ -186,12 +186,26 @@ public class PackedAdjacencyList implements AdjacencyList {
         HugeIntArray degrees,
         HugeLongArray offsets,
         MemoryInfo memoryInfo
+    ) {
+        this(pages, degrees, offsets, memoryInfo, new AdjacencyListCleaner(pages, allocationSizes));
+    }
+
+    /**
+     * @param cleaner releases the memory behind {@code pages} once this list is unreachable,
+     *                must not hold a reference to this list.
+     */
+    PackedAdjacencyList(
+        long[] pages,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        MemoryInfo memoryInfo,
+        Runnable cleaner
     ) {
         this.pages = pages;
         this.degrees = degrees;
         this.offsets = offsets;
         this.memoryInfo = memoryInfo;
-        this.cleanable = CLEANER.register(this, new AdjacencyListCleaner(pages, allocationSizes));
+        this.cleanable = CLEANER.register(this, cleaner);
 
         var adjacencyPackingStrategy = GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get();
 
@@ -39,10 +39,18 @@ public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<Ad
 
     private final BumpAllocator<Address> builder;
     private final MemoryTracker memoryTracker;
+    private final Optional<MemoryMappedPages> mappedPages;
 
     PackedAdjacencyListBuilder(MemoryTracker memoryTracker) {
         this.builder = new BumpAllocator<>(Factory.INSTANCE);
         this.memoryTracker = memoryTracker;
+        this.mappedPages = Optional.empty();
+    }
+
+    PackedAdjacencyListBuilder(MemoryTracker memoryTracker, MemoryMappedPages mappedPages) {
+        this.builder = new BumpAllocator<>(mappedPages);
+        this.memoryTracker = memoryTracker;
+        this.mappedPages = Optional.of(mappedPages);
     }
 
     @Override
@@ -72,6 +80,14 @@ public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<Ad
 
         var memoryInfo = memoryInfo(allocationSizes, degrees, offsets);
 
+        if (this.mappedPages.isPresent()) {
+            var mappedPages = this.mappedPages.get();
+            return new PackedAdjacencyList(pages, degrees, offsets, memoryInfo, () -> {
+                // cursors check for zeroed pages to prevent reading from unmapped memory
+                Arrays.fill(pages, 0L);
+                mappedPages.release();
+            });
+        }
         return new PackedAdjacencyList(pages, allocationSizes, degrees, offsets, memoryInfo);
     }
 
@@ -26,6 +26,7 @@ import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.api.AdjacencyProperties;
 import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.api.PropertyCursor;
 import org.neo4j.gds.collections.ArrayUtil;
 import org.neo4j.gds.collections.PageUtil;
@@ -122,6 +123,27 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         this.memoryInfo = memoryInfo;
     }
 
+    /**
+     * Re-creates an adjacency list from the raw pages of another list,
+     * e.g. when loading it from a snapshot. The pages are used as is.
+     */
+    public static UncompressedAdjacencyList of(long[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        var memoryInfo = UncompressedAdjacencyListBuilder.memoryInfo(MemoryTracker.create(), pages, degrees, offsets);
+        return new UncompressedAdjacencyList(pages, degrees, offsets, memoryInfo);
+    }
+
+    public long[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
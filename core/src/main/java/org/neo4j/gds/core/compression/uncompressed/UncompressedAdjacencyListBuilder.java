@@ -59,14 +59,14 @@ public final class UncompressedAdjacencyListBuilder implements AdjacencyListBuil
         if (allowReordering) {
             reorder(intoPages, offsets, degrees);
         }
-        var memoryInfo = memoryInfo(intoPages, degrees, offsets);
+        var memoryInfo = memoryInfo(this.memoryTracker, intoPages, degrees, offsets);
 
         return new UncompressedAdjacencyList(intoPages, degrees, offsets, memoryInfo);
     }
 
-    private MemoryInfo memoryInfo(long[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+    static MemoryInfo memoryInfo(MemoryTracker memoryTracker, long[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
         for (long[] page : pages) {
-            this.memoryTracker.recordPageSize(page.length * Long.BYTES);
+            memoryTracker.recordPageSize(page.length * Long.BYTES);
         }
 
         var memoryInfoBuilder = MemoryInfoUtil
@@ -25,6 +25,7 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
 import org.neo4j.gds.core.loading.MutableIntValue;
@@ -111,6 +112,27 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         this.memoryInfo = memoryInfo;
     }
 
+    /**
+     * Re-creates an adjacency list from the raw pages of another list,
+     * e.g. when loading it from a snapshot. The pages are used as is.
+     */
+    public static CompressedAdjacencyList of(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        var memoryInfo = CompressedAdjacencyListBuilder.memoryInfo(MemoryTracker.create(), pages, degrees, offsets);
+        return new CompressedAdjacencyList(pages, degrees, offsets, memoryInfo);
+    }
+
+    public byte[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
@@ -58,14 +58,14 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
         if (allowReordering) {
             reorder(intoPages, offsets, degrees);
         }
-        var memoryInfo = memoryInfo(intoPages, degrees, offsets);
+        var memoryInfo = memoryInfo(this.memoryTracker, intoPages, degrees, offsets);
 
         return new CompressedAdjacencyList(intoPages, degrees, offsets, memoryInfo);
     }
 
-    private MemoryInfo memoryInfo(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+    static MemoryInfo memoryInfo(MemoryTracker memoryTracker, byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
         for (byte[] page : pages) {
-            this.memoryTracker.recordPageSize(page.length * Byte.BYTES);
+            memoryTracker.recordPageSize(page.length * Byte.BYTES);
         }
 
         var memoryInfoBuilder = MemoryInfoUtil
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * A stack of reusable cursors, one per nesting level of traversals.
+ * <p>
+ * A traversal {@link #acquire(long) acquires} the cursor of the current level and {@link #release() releases} it
+ * when it is done, so that a traversal started from within a consumer of another traversal gets its own cursor.
+ * After warm-up, traversals do not allocate any cursors.
+ * <p>
+ * Like the graph that owns it, a pool must be confined to a single thread.
+ * <p>
+ * Only {@link HugeGraph} owns pools. Traversals such as BFS, DFS and Dijkstra iterate through
+ * {@link HugeGraph#forEachRelationship} on their own (concurrent copy of the) graph, so they use the pools
+ * without further changes. Triangle intersection does not go through the graph. It keeps a fixed set
+ * of cursors per intersect instance and reuses them through {@link org.neo4j.gds.api.AdjacencyList#adjacencyCursor(
+ * org.neo4j.gds.api.AdjacencyCursor, long)}, which needs no pool.
+ */
+final class CursorPool<CURSOR> {
+
+    private static final int INITIAL_DEPTH = 4;
+
+    @FunctionalInterface
+    interface CursorInitializer<CURSOR> {
+        /**
+         * Positions a cursor at the given node, preferably by reusing the given cursor.
+         */
+        CURSOR initialize(CURSOR reuse, long node);
+    }
+
+    private final Supplier<CURSOR> rawCursorSupplier;
+    private final CursorInitializer<CURSOR> initializer;
+    private final CURSOR emptyCursor;
+
+    private Object[] cursors;
+    private int depth;
+
+    CursorPool(Supplier<CURSOR> rawCursorSupplier, CursorInitializer<CURSOR> initializer, CURSOR emptyCursor) {
+        this.rawCursorSupplier = rawCursorSupplier;
+        this.initializer = initializer;
+        this.emptyCursor = emptyCursor;
+        this.cursors = new Object[INITIAL_DEPTH];
+    }
+
+    /**
+     * Returns a cursor positioned at the given node, which must be released with {@link #release()}.
+     */
+    @SuppressWarnings("unchecked")
+    CURSOR acquire(long node) {
+        if (depth == cursors.length) {
+            cursors = Arrays.copyOf(cursors, depth * 2);
+        }
+
+        var reuse = (CURSOR) cursors[depth];
+        if (reuse == null) {
+            reuse = rawCursorSupplier.get();
+            cursors[depth] = reuse;
+        }
+
+        var cursor = initializer.initialize(reuse, node);
+        // the adjacency list could not reuse our cursor, adopt the one it created for the next acquisition
+        if (cursor != reuse && cursor != emptyCursor) {
+            cursors[depth] = cursor;
+        }
+
+        depth++;
+        return cursor;
+    }
+
+    void release() {
+        depth--;
+    }
+}
@@ -115,10 +115,10 @@ public class HugeGraph implements CSRGraph {
     protected @Nullable AdjacencyProperties properties;
     protected @Nullable AdjacencyProperties inverseProperties;
 
-    private AdjacencyCursor adjacencyCursorCache;
-    private @Nullable AdjacencyCursor inverseAdjacencyCursorCache;
-    private @Nullable PropertyCursor propertyCursorCache;
-    private @Nullable PropertyCursor inversePropertyCursorCache;
+    private final CursorPool<AdjacencyCursor> adjacencyCursors;
+    private final @Nullable CursorPool<AdjacencyCursor> inverseAdjacencyCursors;
+    private final @Nullable CursorPool<PropertyCursor> propertyCursors;
+    private final @Nullable CursorPool<PropertyCursor> inversePropertyCursors;
 
     protected final boolean hasRelationshipProperty;
     protected final boolean isMultiGraph;
@@ -177,10 +177,33 @@ public class HugeGraph implements CSRGraph {
         this.inverseProperties = inverseRelationshipProperty;
         this.hasRelationshipProperty = hasRelationshipProperty;
 
-        this.adjacencyCursorCache = adjacency.rawAdjacencyCursor();
-        this.inverseAdjacencyCursorCache = inverseAdjacency != null ? inverseAdjacency.rawAdjacencyCursor() : null;
-        this.propertyCursorCache = relationshipProperty != null ? relationshipProperty.rawPropertyCursor() : null;
-        this.inversePropertyCursorCache = inverseRelationshipProperty != null ? inverseRelationshipProperty.rawPropertyCursor() : null;
+        this.adjacencyCursors = adjacencyCursorPool(adjacency);
+        this.inverseAdjacencyCursors = inverseAdjacency != null ? adjacencyCursorPool(inverseAdjacency) : null;
+        this.propertyCursors = relationshipProperty != null
+            ? propertyCursorPool(relationshipProperty, defaultRelationshipPropertyValue)
+            : null;
+        this.inversePropertyCursors = inverseRelationshipProperty != null
+            ? propertyCursorPool(inverseRelationshipProperty, defaultRelationshipPropertyValue)
+            : null;
+    }
+
+    private static CursorPool<AdjacencyCursor> adjacencyCursorPool(AdjacencyList adjacencyList) {
+        return new CursorPool<>(
+            adjacencyList::rawAdjacencyCursor,
+            adjacencyList::adjacencyCursor,
+            AdjacencyCursor.empty()
+        );
+    }
+
+    private static CursorPool<PropertyCursor> propertyCursorPool(
+        AdjacencyProperties adjacencyProperties,
+        double fallbackValue
+    ) {
+        return new CursorPool<>(
+            adjacencyProperties::rawPropertyCursor,
+            (reuse, node) -> adjacencyProperties.propertyCursor(reuse, node, fallbackValue),
+            PropertyCursor.empty()
+        );
     }
 
     @Override
@@ -273,25 +296,32 @@ public class HugeGraph implements CSRGraph {
     }
 
     private double findPropertyValue(long fromId, long toId) {
-        var properties = Objects.requireNonNull(this.properties);
+        var propertyCursorPool = Objects.requireNonNull(this.propertyCursors);
 
-        var adjacencyCursor = adjacency.adjacencyCursor(fromId);
-        if (!adjacencyCursor.hasNextVLong()) {
-            return NO_PROPERTY_VALUE;
-        }
+        var adjacencyCursor = adjacencyCursors.acquire(fromId);
+        try {
+            if (!adjacencyCursor.hasNextVLong()) {
+                return NO_PROPERTY_VALUE;
+            }
 
-        var propertyCursor = properties.propertyCursor(fromId, defaultPropertyValue);
+            var propertyCursor = propertyCursorPool.acquire(fromId);
+            try {
+                while (adjacencyCursor.hasNextVLong() && propertyCursor.hasNextLong() && adjacencyCursor.nextVLong() != toId) {
+                    propertyCursor.nextLong();
+                }
 
-        while (adjacencyCursor.hasNextVLong() && propertyCursor.hasNextLong() && adjacencyCursor.nextVLong() != toId) {
-            propertyCursor.nextLong();
-        }
+                if (!propertyCursor.hasNextLong()) {
+                    return NO_PROPERTY_VALUE;
+                }
 
-        if (!propertyCursor.hasNextLong()) {
-            return NO_PROPERTY_VALUE;
+                long doubleBits = propertyCursor.nextLong();
+                return Double.longBitsToDouble(doubleBits);
+            } finally {
+                propertyCursorPool.release();
+            }
+        } finally {
+            adjacencyCursors.release();
         }
-
-        long doubleBits = propertyCursor.nextLong();
-        return Double.longBitsToDouble(doubleBits);
     }
 
     @Override
@@ -330,10 +360,15 @@ public class HugeGraph implements CSRGraph {
 
     @Override
     public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
-        var adjacencyCursor = adjacencyCursorForIteration(nodeId);
+        // the stream is consumed lazily, so it cannot borrow pooled cursors
+        var adjacencyCursor = adjacency.adjacencyCursor(nodeId);
         var spliterator = !hasRelationshipProperty()
             ? AdjacencySpliterator.of(adjacencyCursor, nodeId, fallbackValue)
-            : AdjacencySpliterator.of(adjacencyCursor, propertyCursorForIteration(nodeId), nodeId);
+            : AdjacencySpliterator.of(
+                adjacencyCursor,
+                Objects.requireNonNull(properties).propertyCursor(nodeId, defaultPropertyValue),
+                nodeId
+            );
 
         return StreamSupport.stream(spliterator, false);
     }
@@ -442,8 +477,12 @@ public class HugeGraph implements CSRGraph {
      */
     @Override
     public boolean exists(long sourceNodeId, long targetNodeId) {
-        var cursor = adjacencyCursorForIteration(sourceNodeId);
-        return cursor.advance(targetNodeId) == targetNodeId;
+        var cursor = adjacencyCursors.acquire(sourceNodeId);
+        try {
+            return cursor.advance(targetNodeId) == targetNodeId;
+        } finally {
+            adjacencyCursors.release();
+        }
     }
 
     @Override
@@ -452,72 +491,104 @@ public class HugeGraph implements CSRGraph {
             return NOT_FOUND;
         }
 
-        var cursor = adjacencyCursorForIteration(nodeId);
-        return cursor.advanceBy(offset);
+        var cursor = adjacencyCursors.acquire(nodeId);
+        try {
+            return cursor.advanceBy(offset);
+        } finally {
+            adjacencyCursors.release();
+        }
     }
 
     private void runForEach(long sourceId, RelationshipConsumer consumer) {
-        var adjacencyCursor = adjacencyCursorForIteration(sourceId);
-        consumeAdjacentNodes(sourceId, adjacencyCursor, consumer);
+        var adjacencyCursor = adjacencyCursors.acquire(sourceId);
+        try {
+            consumeAdjacentNodes(sourceId, adjacencyCursor, consumer);
+        } finally {
+            adjacencyCursors.release();
+        }
     }
 
     private void runForEach(long sourceId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
-        if (!hasRelationshipProperty()) {
-            runForEach(sourceId, (s, t) -> consumer.accept(s, t, fallbackValue));
-        } else {
-            var adjacencyCursor = adjacencyCursorForIteration(sourceId);
-            var propertyCursor = propertyCursorForIteration(sourceId);
-            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, consumer);
+        var adjacencyCursor = adjacencyCursors.acquire(sourceId);
+        try {
+            if (!hasRelationshipProperty()) {
+                consumeAdjacentNodes(sourceId, adjacencyCursor, fallbackValue, consumer);
+            } else {
+                var propertyCursor = propertyCursorForIteration(sourceId);
+                try {
+                    consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, consumer);
+                } finally {
+                    propertyCursors.release();
+                }
+            }
+        } finally {
+            adjacencyCursors.release();
         }
     }
 
     private void runForEachInverse(long sourceId, RelationshipConsumer consumer) {
-        var adjacencyCursor = inverseAdjacencyCursorForIteration(sourceId);
-        consumeAdjacentNodes(sourceId, adjacencyCursor, consumer);
+        var inverseCursors = inverseAdjacencyCursors();
+        var adjacencyCursor = inverseCursors.acquire(sourceId);
+        try {
+            consumeAdjacentNodes(sourceId, adjacencyCursor, consumer);
+        } finally {
+            inverseCursors.release();
+        }
     }
 
     private void runForEachInverse(long sourceId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
-        if (!hasRelationshipProperty()) {
-            runForEachInverse(sourceId, (s, t) -> consumer.accept(s, t, fallbackValue));
-        } else {
-            var adjacencyCursor = inverseAdjacencyCursorForIteration(sourceId);
-            var propertyCursor = inversePropertyCursorForIteration(sourceId);
-            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, consumer);
+        var inverseCursors = inverseAdjacencyCursors();
+        var adjacencyCursor = inverseCursors.acquire(sourceId);
+        try {
+            if (!hasRelationshipProperty()) {
+                consumeAdjacentNodes(sourceId, adjacencyCursor, fallbackValue, consumer);
+            } else {
+                var propertyCursor = inversePropertyCursorForIteration(sourceId);
+                try {
+                    consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, consumer);
+                } finally {
+                    inversePropertyCursors.release();
+                }
+            }
+        } finally {
+            inverseCursors.release();
         }
     }
 
-    private AdjacencyCursor adjacencyCursorForIteration(long sourceNodeId) {
-        return adjacency.adjacencyCursor(adjacencyCursorCache, sourceNodeId);
-    }
-
+    /**
+     * The returned cursor must be released to {@link #propertyCursors}.
+     */
     private PropertyCursor propertyCursorForIteration(long sourceNodeId) {
-        if (!hasRelationshipProperty() || properties == null) {
+        if (!hasRelationshipProperty() || propertyCursors == null) {
             throw new UnsupportedOperationException(
                 "Cannot create property cursor on a graph without relationship property"
             );
         }
 
-        return properties.propertyCursor(propertyCursorCache, sourceNodeId, defaultPropertyValue);
+        return propertyCursors.acquire(sourceNodeId);
     }
 
-    private AdjacencyCursor inverseAdjacencyCursorForIteration(long sourceNodeId) {
-        if (inverseAdjacency == null) {
+    private CursorPool<AdjacencyCursor> inverseAdjacencyCursors() {
+        if (inverseAdjacencyCursors == null) {
             throw new UnsupportedOperationException(
                 "Cannot create adjacency cursor on a graph without inverse indexed relationships"
             );
         }
 
-        return inverseAdjacency.adjacencyCursor(inverseAdjacencyCursorCache, sourceNodeId);
+        return inverseAdjacencyCursors;
     }
 
+    /**
+     * The returned cursor must be released to {@link #inversePropertyCursors}.
+     */
     private PropertyCursor inversePropertyCursorForIteration(long sourceNodeId) {
-        if (!hasRelationshipProperty() || inverseProperties == null) {
+        if (!hasRelationshipProperty() || inversePropertyCursors == null) {
             throw new UnsupportedOperationException(
                 "Cannot create property cursor on a graph without relationship property"
             );
         }
 
-        return inverseProperties.propertyCursor(inversePropertyCursorCache, sourceNodeId, defaultPropertyValue);
+        return inversePropertyCursors.acquire(sourceNodeId);
     }
 
 
@@ -541,7 +612,7 @@ public class HugeGraph implements CSRGraph {
 
     public Optional<Topology> inverseRelationshipTopology() {
         return Optional.ofNullable(inverseAdjacency).map(adjacencyList -> ImmutableTopology.of(
-            adjacency,
+            adjacencyList,
             relationshipCount,
             isMultiGraph()
         ));
@@ -571,6 +642,19 @@ public class HugeGraph implements CSRGraph {
         }
     }
 
+    private void consumeAdjacentNodes(
+        long sourceId,
+        AdjacencyCursor adjacencyCursor,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        while (adjacencyCursor.hasNextVLong()) {
+            if (!consumer.accept(sourceId, adjacencyCursor.nextVLong(), fallbackValue)) {
+                break;
+            }
+        }
+    }
+
     private void consumeAdjacentNodesWithProperty(
         long sourceId,
         AdjacencyCursor adjacencyCursor,
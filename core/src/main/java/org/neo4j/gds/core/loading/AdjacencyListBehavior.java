@@ -25,6 +25,7 @@ import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.compression.mixed.MixedCompressor;
+import org.neo4j.gds.core.compression.packed.MemoryMappedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.compression.packed.PackedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.compression.packed.PackedCompressor;
 import org.neo4j.gds.core.compression.uncompressed.RawCompressor;
@@ -37,6 +38,7 @@ import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.BiFunction;
 import java.util.function.LongSupplier;
@@ -57,13 +59,15 @@ public interface AdjacencyListBehavior {
         var resolvedAggregations = Arrays.stream(aggregations).map(Aggregation::resolve).toArray(Aggregation[]::new);
         var noAggregation = Arrays.stream(aggregations).map(Aggregation::resolve).allMatch(Aggregation::equivalentToNone);
 
-        return GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()
-            ? packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-            : GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.isEnabled()
-                ? mixed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-                : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-                    ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-                    : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        return GdsFeatureToggles.USE_MEMORY_MAPPED_ADJACENCY_LIST.isEnabled()
+            ? memoryMapped(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+            : GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()
+                ? packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                : GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.isEnabled()
+                    ? mixed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                    : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
+                        ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                        : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -114,6 +118,22 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    static AdjacencyCompressorFactory memoryMapped(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return PackedCompressor.factory(
+            nodeCountSupplier,
+            MemoryMappedAdjacencyListBuilderFactory.of(Path.of(GdsFeatureToggles.MEMORY_MAPPED_ADJACENCY_DIRECTORY.get())),
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            MemoryTracker.create()
+        );
+    }
+
     static AdjacencyCompressorFactory mixed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
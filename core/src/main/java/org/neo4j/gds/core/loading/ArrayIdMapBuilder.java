@@ -41,6 +41,25 @@ public final class ArrayIdMapBuilder implements IdMapBuilder {
         return new ArrayIdMapBuilder(array, capacity);
     }
 
+    /**
+     * Builds an id map from an already populated mapped-to-original id array,
+     * e.g. one that has been read back from a snapshot.
+     */
+    public static IdMap fromOriginalIds(
+        HugeLongArray internalToOriginalIds,
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNodeId,
+        Concurrency concurrency
+    ) {
+        return ArrayIdMapBuilderOps.build(
+            internalToOriginalIds,
+            internalToOriginalIds.size(),
+            labelInformationBuilder,
+            highestNodeId,
+            concurrency
+        );
+    }
+
     private ArrayIdMapBuilder(HugeLongArray array, final long capacity) {
         this.array = array;
         this.capacity = capacity;
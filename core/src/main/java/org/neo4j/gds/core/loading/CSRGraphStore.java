@@ -429,6 +429,35 @@ public final class CSRGraphStore implements GraphStore {
         });
     }
 
+    /**
+     * Returns the relationships of the given type as they are held by this graph store.
+     */
+    public SingleTypeRelationships relationships(RelationshipType relationshipType) {
+        return Optional.ofNullable(relationships.get(relationshipType)).orElseThrow(
+            () -> new IllegalArgumentException(
+                formatWithLocale("No relationships have been loaded for relationship type '%s'", relationshipType)
+            )
+        );
+    }
+
+    /**
+     * Replaces the relationships of an already existing relationship type,
+     * e.g. after they have been updated incrementally.
+     * The schema entry of the type is replaced as well.
+     */
+    public void replaceRelationships(SingleTypeRelationships relationships) {
+        var relationshipType = relationships.relationshipSchemaEntry().identifier();
+        updateGraphStore(graphStore -> {
+            if (!graphStore.relationships.containsKey(relationshipType)) {
+                throw new IllegalArgumentException(
+                    formatWithLocale("No relationships have been loaded for relationship type '%s'", relationshipType)
+                );
+            }
+            graphStore.relationships.put(relationshipType, relationships);
+            schema.relationshipSchema().set(relationships.relationshipSchemaEntry());
+        });
+    }
+
     @Override
     public void addInverseIndex(
         RelationshipType relationshipType,
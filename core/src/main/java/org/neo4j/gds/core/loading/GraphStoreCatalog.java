@@ -30,8 +30,11 @@ import org.neo4j.gds.logging.Log;
 import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StringJoining;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -39,6 +42,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -121,6 +125,12 @@ public final class GraphStoreCatalog {
         var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
         var ownCatalog = getUserCatalog(request.username());
 
+        removedGraphConsumer = removedGraphConsumer.andThen(removedGraph -> notifyDrop(
+            removedGraph.config().username(),
+            request.databaseName(),
+            graphName
+        ));
+
         var didRemove = ownCatalog.remove(
             userCatalogKey,
             removedGraphConsumer,
@@ -203,6 +213,21 @@ public final class GraphStoreCatalog {
         );
     }
 
+    private static void notifyDrop(String username, String databaseName, String graphName) {
+        listeners.forEach(
+            listener -> ExceptionUtil.safeRunWithLogException(
+                () -> String.format(
+                    Locale.US,
+                    "Could not call listener %s on dropping the graph %s",
+                    listener,
+                    graphName
+                ),
+                () -> listener.onDrop(username, databaseName, graphName),
+                log.orElseGet(Log::noOpLog)::warn
+            )
+        );
+    }
+
     public static boolean exists(String username, String databaseName, String graphName) {
         return getUserCatalog(username).exists(UserCatalog.UserCatalogKey.of(databaseName, graphName));
     }
@@ -251,12 +276,42 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Returns the state stored under the given key for the graph, computing and storing it first if absent.
+     * Resident states live as long as the graph is in the catalog and are dropped together with it.
+     * A state is recomputed once the modification time of the graph store differs from the one it was computed at.
+     * The supplier does not run under a lock of the catalog, only concurrent callers for the same key wait for it.
+     */
+    public static <T> T residentState(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String key,
+        Class<T> type,
+        Supplier<T> supplier
+    ) {
+        return getUserCatalog(username).residentState(
+            UserCatalog.UserCatalogKey.of(databaseId, graphName),
+            key,
+            type,
+            supplier
+        );
+    }
+
     public static void removeAllLoadedGraphs() {
+        var droppedGraphs = getAllGraphStores().toList();
         userCatalogs.clear();
+        droppedGraphs.forEach(dropped -> notifyDrop(
+            dropped.username(),
+            dropped.catalogEntry().graphStore().databaseInfo().databaseId().databaseName(),
+            dropped.catalogEntry().config().graphName()
+        ));
     }
 
     public static void removeAllLoadedGraphs(DatabaseId databaseId) {
-        userCatalogs.forEach((user, userCatalog) -> userCatalog.remove(databaseId.databaseName()));
+        userCatalogs.forEach((user, userCatalog) -> userCatalog
+            .remove(databaseId.databaseName())
+            .forEach(graphName -> notifyDrop(user, databaseId.databaseName(), graphName)));
     }
 
     public static Collection<GraphStoreCatalogEntry> getGraphStores(String username) {
@@ -307,6 +362,8 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, Map<String, ResidentState>> residentStatesByName = new ConcurrentHashMap<>();
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -349,6 +406,39 @@ public final class GraphStoreCatalog {
             degreeDistributionByName.remove(userCatalogKey);
         }
 
+        private <T> T residentState(UserCatalogKey userCatalogKey, String key, Class<T> type, Supplier<T> supplier) {
+            var graphStore = get(userCatalogKey, true).graphStore();
+            var residentState = residentStatesByName
+                .computeIfAbsent(userCatalogKey, ignore -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, ignore -> new ResidentState());
+            var state = residentState.get(graphStore, supplier);
+            if (!type.isInstance(state)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The resident state `%s` of graph %s is not a %s",
+                    key,
+                    userCatalogKey.graphName(),
+                    type.getSimpleName()
+                ));
+            }
+            return type.cast(state);
+        }
+
+        private static final class ResidentState {
+
+            private @Nullable ZonedDateTime modificationTime;
+            private @Nullable Object state;
+
+            synchronized Object get(GraphStore graphStore, Supplier<?> supplier) {
+                // read before computing, a modification during the computation makes the state stale right away
+                var currentModificationTime = graphStore.modificationTime();
+                if (state == null || !currentModificationTime.equals(modificationTime)) {
+                    state = supplier.get();
+                    modificationTime = currentModificationTime;
+                }
+                return state;
+            }
+        }
+
         private @Nullable GraphStoreCatalogEntry get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
@@ -391,14 +481,24 @@ public final class GraphStoreCatalog {
                 .map(graphStoreWithConfig -> {
                     removedGraphConsumer.accept(graphStoreWithConfig);
                     removeDegreeDistribution(userCatalogKey);
+                    residentStatesByName.remove(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
                     return Boolean.TRUE;
                 })
                 .orElse(Boolean.FALSE);
         }
 
-        private void remove(String databaseName) {
-            graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+        private List<String> remove(String databaseName) {
+            var removedGraphNames = new ArrayList<String>();
+            graphsByName.keySet().removeIf(userCatalogKey -> {
+                if (userCatalogKey.databaseName().equals(databaseName)) {
+                    removedGraphNames.add(userCatalogKey.graphName());
+                    residentStatesByName.remove(userCatalogKey);
+                    return true;
+                }
+                return false;
+            });
+            return removedGraphNames;
         }
 
         private Stream<GraphStoreCatalogEntryWithUsername> streamGraphStores(String userName) {
@@ -22,4 +22,6 @@ package org.neo4j.gds.core.loading;
 public interface GraphStoreCatalogListener {
 
     void onProject(String user, String database, String graphName);
+
+    default void onDrop(String user, String database, String graphName) {}
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+
+final class DeltaAdjacencyCursor implements AdjacencyCursor {
+
+    private final AdjacencyList base;
+    private final LongObjectHashMap<long[]> overlay;
+    private final double fallbackValue;
+
+    private AdjacencyCursor baseCursor;
+    private AdjacencyCursor reusableBaseCursor;
+
+    private long[] targets;
+    private int offset;
+
+    DeltaAdjacencyCursor(AdjacencyList base, LongObjectHashMap<long[]> overlay, double fallbackValue) {
+        this.base = base;
+        this.overlay = overlay;
+        this.fallbackValue = fallbackValue;
+    }
+
+    boolean belongsTo(LongObjectHashMap<long[]> overlay) {
+        return this.overlay == overlay;
+    }
+
+    /**
+     * @param node the node id, not an offset into the adjacency list
+     */
+    @Override
+    public void init(long node, int degree) {
+        var overlayTargets = overlay.get(node);
+        if (overlayTargets != null) {
+            this.targets = overlayTargets;
+            this.offset = 0;
+            this.baseCursor = null;
+        } else {
+            this.targets = null;
+            this.baseCursor = base.adjacencyCursor(reusableBaseCursor, node, fallbackValue);
+            if (baseCursor != AdjacencyCursor.empty()) {
+                this.reusableBaseCursor = baseCursor;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return baseCursor != null ? baseCursor.size() : targets.length;
+    }
+
+    @Override
+    public boolean hasNextVLong() {
+        return baseCursor != null ? baseCursor.hasNextVLong() : offset < targets.length;
+    }
+
+    @Override
+    public long nextVLong() {
+        return baseCursor != null ? baseCursor.nextVLong() : targets[offset++];
+    }
+
+    @Override
+    public long peekVLong() {
+        return baseCursor != null ? baseCursor.peekVLong() : targets[offset];
+    }
+
+    @Override
+    public int remaining() {
+        return baseCursor != null ? baseCursor.remaining() : targets.length - offset;
+    }
+
+    @Override
+    public long skipUntil(long nodeId) {
+        if (baseCursor != null) {
+            return baseCursor.skipUntil(nodeId);
+        }
+        while (offset < targets.length) {
+            long target = targets[offset++];
+            if (target > nodeId) {
+                return target;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public long advance(long nodeId) {
+        if (baseCursor != null) {
+            return baseCursor.advance(nodeId);
+        }
+        while (offset < targets.length) {
+            long target = targets[offset++];
+            if (target >= nodeId) {
+                return target;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public long advanceBy(int n) {
+        if (baseCursor != null) {
+            return baseCursor.advanceBy(n);
+        }
+        offset += n;
+        if (offset >= targets.length) {
+            offset = targets.length;
+            return NOT_FOUND;
+        }
+        return targets[offset++];
+    }
+}
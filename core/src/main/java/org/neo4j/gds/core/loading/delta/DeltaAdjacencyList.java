@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.compression.ImmutableMemoryInfo;
+import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.mem.Estimate;
+
+import java.util.OptionalLong;
+
+/**
+ * An adjacency list that overlays the adjacencies of a few nodes on top of an
+ * immutable base adjacency list. Nodes that are part of the overlay are served
+ * from their sorted target arrays, all other nodes are served by the base list.
+ * <p>
+ * Instances are never mutated, applying another delta creates a new overlay.
+ */
+public final class DeltaAdjacencyList implements AdjacencyList {
+
+    private final AdjacencyList base;
+    private final LongObjectHashMap<long[]> overlay;
+
+    DeltaAdjacencyList(AdjacencyList base, LongObjectHashMap<long[]> overlay) {
+        this.base = base;
+        this.overlay = overlay;
+    }
+
+    AdjacencyList base() {
+        return base;
+    }
+
+    LongObjectHashMap<long[]> overlay() {
+        return overlay;
+    }
+
+    /**
+     * Returns the number of nodes whose adjacency is served by the overlay.
+     */
+    public int overlayNodeCount() {
+        return overlay.size();
+    }
+
+    @Override
+    public int degree(long node) {
+        var targets = overlay.get(node);
+        return targets != null ? targets.length : base.degree(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var cursor = new DeltaAdjacencyCursor(base, overlay, fallbackValue);
+        cursor.init(node, degree(node));
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof DeltaAdjacencyCursor && ((DeltaAdjacencyCursor) reuse).belongsTo(overlay)) {
+            reuse.init(node, degree(node));
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    /**
+     * Returns a cursor that needs to be initialized with the node id, not with an offset.
+     */
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new DeltaAdjacencyCursor(base, overlay, Double.NaN);
+    }
+
+    @Override
+    public MemoryInfo memoryInfo() {
+        var baseInfo = base.memoryInfo();
+        long overlayBytes = overlayBytes();
+        return ImmutableMemoryInfo.builder()
+            .from(baseInfo)
+            .bytesOnHeap(OptionalLong.of(baseInfo.bytesOnHeap().orElse(0L) + overlayBytes))
+            .build();
+    }
+
+    private long overlayBytes() {
+        long bytes = Estimate.sizeOfLongArray(overlay.keys.length) + Estimate.sizeOfObjectArray(overlay.values.length);
+        for (var cursor : overlay) {
+            bytes += Estimate.sizeOfLongArray(cursor.value.length);
+        }
+        return bytes;
+    }
+}
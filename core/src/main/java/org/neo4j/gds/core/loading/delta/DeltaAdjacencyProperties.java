@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+
+/**
+ * Property counterpart of {@link DeltaAdjacencyList}.
+ * The overlay holds the property values of a node in the same order as the
+ * targets of the corresponding adjacency overlay.
+ */
+public final class DeltaAdjacencyProperties implements AdjacencyProperties {
+
+    private final AdjacencyProperties base;
+    private final LongObjectHashMap<long[]> overlay;
+
+    DeltaAdjacencyProperties(AdjacencyProperties base, LongObjectHashMap<long[]> overlay) {
+        this.base = base;
+        this.overlay = overlay;
+    }
+
+    AdjacencyProperties base() {
+        return base;
+    }
+
+    LongObjectHashMap<long[]> overlay() {
+        return overlay;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var cursor = new DeltaPropertyCursor(base, overlay, fallbackValue);
+        cursor.init(node, 0);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof DeltaPropertyCursor && ((DeltaPropertyCursor) reuse).belongsTo(overlay)) {
+            reuse.init(node, 0);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    /**
+     * Returns a cursor that needs to be initialized with the node id, not with an offset.
+     */
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new DeltaPropertyCursor(base, overlay, Double.NaN);
+    }
+}
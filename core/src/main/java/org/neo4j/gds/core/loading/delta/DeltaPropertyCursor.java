@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+
+final class DeltaPropertyCursor implements PropertyCursor {
+
+    private final AdjacencyProperties base;
+    private final LongObjectHashMap<long[]> overlay;
+    private final double fallbackValue;
+
+    private PropertyCursor baseCursor;
+    private PropertyCursor reusableBaseCursor;
+
+    private long[] values;
+    private int offset;
+
+    DeltaPropertyCursor(AdjacencyProperties base, LongObjectHashMap<long[]> overlay, double fallbackValue) {
+        this.base = base;
+        this.overlay = overlay;
+        this.fallbackValue = fallbackValue;
+    }
+
+    boolean belongsTo(LongObjectHashMap<long[]> overlay) {
+        return this.overlay == overlay;
+    }
+
+    /**
+     * @param node   the node id, not an offset into the property list
+     * @param degree ignored, the degree is known to the overlay or the base list
+     */
+    @Override
+    public void init(long node, int degree) {
+        var overlayValues = overlay.get(node);
+        if (overlayValues != null) {
+            this.values = overlayValues;
+            this.offset = 0;
+            this.baseCursor = null;
+        } else {
+            this.values = null;
+            this.baseCursor = reusableBaseCursor == null
+                ? base.propertyCursor(node, fallbackValue)
+                : base.propertyCursor(reusableBaseCursor, node, fallbackValue);
+            if (baseCursor != PropertyCursor.empty()) {
+                this.reusableBaseCursor = baseCursor;
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNextLong() {
+        return baseCursor != null ? baseCursor.hasNextLong() : offset < values.length;
+    }
+
+    @Override
+    public long nextLong() {
+        return baseCursor != null ? baseCursor.nextLong() : values[offset++];
+    }
+
+    @Override
+    public void close() {
+        if (reusableBaseCursor != null) {
+            reusableBaseCursor.close();
+        }
+    }
+}
@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ExecutorServiceUtil;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies batches of relationship insertions and deletions to the relationships of a {@link CSRGraphStore}
+ * without re-projecting the graph.
+ * <p>
+ * The adjacency of every node that is touched by an update is materialized into a small overlay on top
+ * of the compressed adjacency list (see {@link DeltaAdjacencyList}), all other nodes are still served
+ * from the original pages. Once the overlay of a relationship type covers more than the configured
+ * fraction of nodes, the relationships are compacted into fresh CSR pages in the background.
+ * The background compaction runs on its own thread and uses the given executor only for the parallel rewrite.
+ */
+public final class IncrementalGraphStoreUpdater {
+
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.05;
+
+    // Compactions fan out onto the given executor, so they must not occupy one of its threads while waiting.
+    private static final ExecutorService COMPACTION_POOL = ExecutorServiceUtil.createSingleThreadPool("compaction");
+
+    private final CSRGraphStore graphStore;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final double compactionThreshold;
+    private final Map<RelationshipType, Future<?>> compactions;
+
+    public IncrementalGraphStoreUpdater(
+        CSRGraphStore graphStore,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        double compactionThreshold
+    ) {
+        this.graphStore = graphStore;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.compactionThreshold = compactionThreshold;
+        this.compactions = new HashMap<>();
+    }
+
+    public synchronized UpdateResult apply(RelationshipUpdates updates) {
+        if (updates.isEmpty()) {
+            return new UpdateResult(0, 0);
+        }
+
+        var relationships = graphStore.relationships(updates.relationshipType());
+        var schemaEntry = relationships.relationshipSchemaEntry();
+        var propertyIndices = propertyIndices(schemaEntry, updates);
+        var idMap = graphStore.nodes();
+
+        var forward = AdjacencyUpdate.collect(updates, idMap, false, schemaEntry.direction() == Direction.UNDIRECTED);
+        var forwardResult = forward.apply(
+            relationships.topology(),
+            relationships.properties(),
+            schemaEntry,
+            updates,
+            propertyIndices
+        );
+
+        var builder = SingleTypeRelationships.builder()
+            .from(relationships)
+            .topology(forwardResult.topology())
+            .properties(forwardResult.properties());
+
+        if (relationships.inverseTopology().isPresent()) {
+            var inverse = AdjacencyUpdate.collect(updates, idMap, true, false);
+            var inverseResult = inverse.apply(
+                relationships.inverseTopology().get(),
+                relationships.inverseProperties(),
+                schemaEntry,
+                updates,
+                propertyIndices
+            );
+            builder.inverseTopology(inverseResult.topology()).inverseProperties(inverseResult.properties());
+        }
+
+        graphStore.replaceRelationships(builder.build());
+        maybeCompactInBackground(updates.relationshipType(), forwardResult.topology());
+
+        return new UpdateResult(forwardResult.inserted(), forwardResult.deleted());
+    }
+
+    /**
+     * Rewrites the relationships of the given type into fresh CSR pages, dropping the overlay.
+     * If the relationships are updated while the compaction is running, the compacted result is discarded.
+     *
+     * @return true iff the compacted relationships have been installed into the graph store
+     */
+    public boolean compact(RelationshipType relationshipType) {
+        SingleTypeRelationships relationships;
+        synchronized (this) {
+            relationships = graphStore.relationships(relationshipType);
+        }
+        if (!(relationships.topology().adjacencyList() instanceof DeltaAdjacencyList)) {
+            return false;
+        }
+
+        var compacted = compacted(relationships);
+
+        synchronized (this) {
+            if (graphStore.relationships(relationshipType) != relationships) {
+                return false;
+            }
+            graphStore.replaceRelationships(compacted);
+            return true;
+        }
+    }
+
+    private void maybeCompactInBackground(RelationshipType relationshipType, Topology topology) {
+        var adjacencyList = (DeltaAdjacencyList) topology.adjacencyList();
+        if (adjacencyList.overlayNodeCount() <= compactionThreshold * graphStore.nodeCount()) {
+            return;
+        }
+        var running = compactions.get(relationshipType);
+        if (running != null && !running.isDone()) {
+            return;
+        }
+        compactions.put(relationshipType, COMPACTION_POOL.submit(() -> compact(relationshipType)));
+    }
+
+    private SingleTypeRelationships compacted(SingleTypeRelationships relationships) {
+        var schemaEntry = relationships.relationshipSchemaEntry();
+        var propertySchemas = new ArrayList<>(schemaEntry.properties().values());
+        var isMultiGraph = relationships.topology().isMultiGraph();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(graphStore.nodes())
+            .relationshipType(schemaEntry.identifier())
+            // the adjacency lists already contain both directions of undirected relationships
+            .orientation(Orientation.NATURAL)
+            .aggregation(Aggregation.NONE)
+            .addAllPropertyConfigs(propertySchemas
+                .stream()
+                .map(schema -> GraphFactory.PropertyConfig.of(schema.key(), Aggregation.NONE, schema.defaultValue()))
+                .collect(Collectors.toList()))
+            .indexInverse(relationships.inverseTopology().isPresent())
+            .concurrency(concurrency)
+            .executorService(executorService)
+            .build();
+
+        var adjacencyList = relationships.topology().adjacencyList();
+        var propertyLists = propertySchemas
+            .stream()
+            .map(schema -> relationships.properties().orElseThrow().get(schema.key()).values().propertiesList())
+            .toArray(AdjacencyProperties[]::new);
+
+        ParallelUtil.readParallel(concurrency, graphStore.nodeCount(), executorService, (start, end) -> {
+            var values = new double[propertyLists.length];
+            AdjacencyCursor adjacencyCursor = null;
+            var propertyCursors = new PropertyCursor[propertyLists.length];
+            for (long node = start; node < end; node++) {
+                adjacencyCursor = adjacencyList.adjacencyCursor(adjacencyCursor, node);
+                for (int i = 0; i < propertyLists.length; i++) {
+                    propertyCursors[i] = propertyCursors[i] == null
+                        ? propertyLists[i].propertyCursor(node)
+                        : propertyLists[i].propertyCursor(propertyCursors[i], node);
+                }
+                while (adjacencyCursor.hasNextVLong()) {
+                    long target = adjacencyCursor.nextVLong();
+                    if (values.length == 0) {
+                        relationshipsBuilder.addFromInternal(node, target);
+                    } else {
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = Double.longBitsToDouble(propertyCursors[i].nextLong());
+                        }
+                        relationshipsBuilder.addFromInternal(node, target, values);
+                    }
+                }
+            }
+        });
+
+        var built = relationshipsBuilder.build();
+
+        return SingleTypeRelationships.builder()
+            .relationshipSchemaEntry(schemaEntry)
+            .topology(withMultiGraph(built.topology(), isMultiGraph))
+            .inverseTopology(built.inverseTopology().map(topology -> withMultiGraph(topology, isMultiGraph)))
+            .properties(built.properties().map(properties -> withSchema(properties, schemaEntry)))
+            .inverseProperties(built.inverseProperties().map(properties -> withSchema(properties, schemaEntry)))
+            .build();
+    }
+
+    private static Topology withMultiGraph(Topology topology, boolean isMultiGraph) {
+        return ImmutableTopology.of(topology.adjacencyList(), topology.elementCount(), isMultiGraph);
+    }
+
+    private static RelationshipPropertyStore withSchema(
+        RelationshipPropertyStore properties,
+        MutableRelationshipSchemaEntry schemaEntry
+    ) {
+        var builder = RelationshipPropertyStore.builder();
+        properties.relationshipProperties().forEach((key, property) -> builder.putRelationshipProperty(
+            key,
+            ImmutableRelationshipProperty.of(property.values(), schemaEntry.properties().get(key))
+        ));
+        return builder.build();
+    }
+
+    /**
+     * Maps every property of the schema entry to its index in the update values,
+     * or -1 if the updates do not provide a value for it.
+     */
+    private static int[] propertyIndices(MutableRelationshipSchemaEntry schemaEntry, RelationshipUpdates updates) {
+        for (var propertyKey : updates.propertyKeys()) {
+            if (!schemaEntry.properties().containsKey(propertyKey)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Relationship type `%s` does not have a property `%s`",
+                    schemaEntry.identifier().name(),
+                    propertyKey
+                ));
+            }
+        }
+        return schemaEntry
+            .properties()
+            .keySet()
+            .stream()
+            .mapToInt(key -> updates.propertyKeys().indexOf(key))
+            .toArray();
+    }
+
+    public record UpdateResult(long insertedRelationships, long deletedRelationships) {}
+
+    private static final class AdjacencyUpdate {
+
+        private final LongObjectHashMap<LongHashSet> deletedTargets;
+        private final LongObjectHashMap<LongArrayList> insertedTargets;
+        private final LongObjectHashMap<LongArrayList> insertIndices;
+
+        private AdjacencyUpdate() {
+            this.deletedTargets = new LongObjectHashMap<>();
+            this.insertedTargets = new LongObjectHashMap<>();
+            this.insertIndices = new LongObjectHashMap<>();
+        }
+
+        static AdjacencyUpdate collect(RelationshipUpdates updates, IdMap idMap, boolean inverse, boolean undirected) {
+            var update = new AdjacencyUpdate();
+            for (int i = 0; i < updates.deleteCount(); i++) {
+                long source = mappedId(idMap, updates.deletedSource(i));
+                long target = mappedId(idMap, updates.deletedTarget(i));
+                if (inverse) {
+                    update.delete(target, source);
+                } else {
+                    update.delete(source, target);
+                }
+                if (undirected) {
+                    update.delete(target, source);
+                }
+            }
+            for (int i = 0; i < updates.insertCount(); i++) {
+                long source = mappedId(idMap, updates.insertedSource(i));
+                long target = mappedId(idMap, updates.insertedTarget(i));
+                if (inverse) {
+                    update.insert(target, source, i);
+                } else {
+                    update.insert(source, target, i);
+                }
+                if (undirected) {
+                    update.insert(target, source, i);
+                }
+            }
+            return update;
+        }
+
+        private static long mappedId(IdMap idMap, long originalId) {
+            long mappedId = idMap.safeToMappedNodeId(originalId);
+            if (mappedId == IdMap.NOT_FOUND) {
+                throw new IllegalArgumentException(formatWithLocale("Node with id %d does not exist", originalId));
+            }
+            return mappedId;
+        }
+
+        private void delete(long source, long target) {
+            var targets = deletedTargets.get(source);
+            if (targets == null) {
+                targets = new LongHashSet();
+                deletedTargets.put(source, targets);
+            }
+            targets.add(target);
+        }
+
+        private void insert(long source, long target, int updateIndex) {
+            var targets = insertedTargets.get(source);
+            if (targets == null) {
+                targets = new LongArrayList();
+                insertedTargets.put(source, targets);
+                insertIndices.put(source, new LongArrayList());
+            }
+            targets.add(target);
+            insertIndices.get(source).add(updateIndex);
+        }
+
+        private LongHashSet touchedNodes() {
+            var nodes = new LongHashSet();
+            nodes.addAll(deletedTargets.keys());
+            nodes.addAll(insertedTargets.keys());
+            return nodes;
+        }
+
+        AdjacencyUpdateResult apply(
+            Topology topology,
+            Optional<RelationshipPropertyStore> properties,
+            MutableRelationshipSchemaEntry schemaEntry,
+            RelationshipUpdates updates,
+            int[] propertyIndices
+        ) {
+            var propertySchemas = new ArrayList<>(schemaEntry.properties().values());
+            var adjacencyList = topology.adjacencyList();
+            var targetOverlay = copyOverlay(adjacencyList);
+            var propertyLists = new ArrayList<AdjacencyProperties>(propertySchemas.size());
+            var propertyOverlays = new ArrayList<LongObjectHashMap<long[]>>(propertySchemas.size());
+            for (var propertySchema : propertySchemas) {
+                var propertyList = properties.orElseThrow().get(propertySchema.key()).values().propertiesList();
+                propertyLists.add(propertyList);
+                propertyOverlays.add(copyOverlay(propertyList));
+            }
+
+            long inserted = 0;
+            long deleted = 0;
+
+            for (var cursor : touchedNodes()) {
+                long node = cursor.value;
+
+                var oldTargets = readTargets(adjacencyList, node);
+                var oldValues = new long[propertyLists.size()][];
+                for (int p = 0; p < oldValues.length; p++) {
+                    oldValues[p] = readValues(propertyLists.get(p), node, oldTargets.length);
+                }
+
+                var deletes = deletedTargets.get(node);
+                var inserts = insertedTargets.get(node);
+                var insertCount = inserts == null ? 0 : inserts.size();
+
+                var targets = new long[oldTargets.length + insertCount];
+                var values = new long[oldValues.length][targets.length];
+                int length = 0;
+                for (int i = 0; i < oldTargets.length; i++) {
+                    if (deletes != null && deletes.contains(oldTargets[i])) {
+                        deleted++;
+                        continue;
+                    }
+                    targets[length] = oldTargets[i];
+                    for (int p = 0; p < values.length; p++) {
+                        values[p][length] = oldValues[p][i];
+                    }
+                    length++;
+                }
+                for (int i = 0; i < insertCount; i++) {
+                    int updateIndex = (int) insertIndices.get(node).get(i);
+                    targets[length] = inserts.get(i);
+                    for (int p = 0; p < values.length; p++) {
+                        var value = propertyIndices[p] < 0
+                            ? propertySchemas.get(p).defaultValue().doubleValue()
+                            : updates.insertedProperty(updateIndex, propertyIndices[p]);
+                        values[p][length] = Double.doubleToLongBits(value);
+                    }
+                    length++;
+                }
+                inserted += insertCount;
+
+                int[] order = IndirectSort.mergesort(0, length, new AscendingLongComparator(targets));
+                targetOverlay.put(node, reorder(targets, order));
+                for (int p = 0; p < values.length; p++) {
+                    propertyOverlays.get(p).put(node, reorder(values[p], order));
+                }
+            }
+
+            long elementCount = topology.elementCount() + inserted - deleted;
+            var newTopology = ImmutableTopology.of(
+                new DeltaAdjacencyList(baseOf(adjacencyList), targetOverlay),
+                elementCount,
+                topology.isMultiGraph()
+            );
+
+            var newProperties = properties.map(propertyStore -> {
+                var builder = RelationshipPropertyStore.builder();
+                for (int p = 0; p < propertySchemas.size(); p++) {
+                    RelationshipPropertySchema propertySchema = propertySchemas.get(p);
+                    var property = propertyStore.get(propertySchema.key());
+                    var values = ImmutableProperties.of(
+                        new DeltaAdjacencyProperties(baseOf(propertyLists.get(p)), propertyOverlays.get(p)),
+                        elementCount,
+                        property.values().defaultPropertyValue()
+                    );
+                    builder.putRelationshipProperty(
+                        propertySchema.key(),
+                        ImmutableRelationshipProperty.of(values, property.propertySchema())
+                    );
+                }
+                return builder.build();
+            });
+
+            return new AdjacencyUpdateResult(newTopology, newProperties, inserted, deleted);
+        }
+
+        private static long[] reorder(long[] values, int[] order) {
+            var sorted = new long[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sorted[i] = values[order[i]];
+            }
+            return sorted;
+        }
+
+        private static long[] readTargets(AdjacencyList adjacencyList, long node) {
+            var targets = new long[adjacencyList.degree(node)];
+            var cursor = adjacencyList.adjacencyCursor(node);
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = cursor.nextVLong();
+            }
+            return targets;
+        }
+
+        private static long[] readValues(AdjacencyProperties propertyList, long node, int degree) {
+            var values = new long[degree];
+            try (var cursor = propertyList.propertyCursor(node)) {
+                for (int i = 0; i < degree; i++) {
+                    values[i] = cursor.nextLong();
+                }
+            }
+            return values;
+        }
+
+        private static LongObjectHashMap<long[]> copyOverlay(AdjacencyList adjacencyList) {
+            return adjacencyList instanceof DeltaAdjacencyList
+                ? new LongObjectHashMap<>(((DeltaAdjacencyList) adjacencyList).overlay())
+                : new LongObjectHashMap<>();
+        }
+
+        private static LongObjectHashMap<long[]> copyOverlay(AdjacencyProperties propertyList) {
+            return propertyList instanceof DeltaAdjacencyProperties
+                ? new LongObjectHashMap<>(((DeltaAdjacencyProperties) propertyList).overlay())
+                : new LongObjectHashMap<>();
+        }
+
+        private static AdjacencyList baseOf(AdjacencyList adjacencyList) {
+            return adjacencyList instanceof DeltaAdjacencyList
+                ? ((DeltaAdjacencyList) adjacencyList).base()
+                : adjacencyList;
+        }
+
+        private static AdjacencyProperties baseOf(AdjacencyProperties propertyList) {
+            return propertyList instanceof DeltaAdjacencyProperties
+                ? ((DeltaAdjacencyProperties) propertyList).base()
+                : propertyList;
+        }
+    }
+
+    private record AdjacencyUpdateResult(
+        Topology topology,
+        Optional<RelationshipPropertyStore> properties,
+        long inserted,
+        long deleted
+    ) {}
+}
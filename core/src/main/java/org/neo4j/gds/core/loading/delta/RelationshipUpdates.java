@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.RelationshipType;
+
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A batch of relationship insertions and deletions for a single relationship type.
+ * Node ids are original node ids, both end nodes need to exist in the graph.
+ * <p>
+ * A deletion removes all relationships between the given source and target node.
+ * Deletions of a batch are applied before its insertions.
+ */
+public final class RelationshipUpdates {
+
+    private final RelationshipType relationshipType;
+    private final List<String> propertyKeys;
+
+    private final LongArrayList insertedSources;
+    private final LongArrayList insertedTargets;
+    private final DoubleArrayList insertedProperties;
+
+    private final LongArrayList deletedSources;
+    private final LongArrayList deletedTargets;
+
+    public static RelationshipUpdates of(RelationshipType relationshipType, String... propertyKeys) {
+        return new RelationshipUpdates(relationshipType, List.of(propertyKeys));
+    }
+
+    private RelationshipUpdates(RelationshipType relationshipType, List<String> propertyKeys) {
+        this.relationshipType = relationshipType;
+        this.propertyKeys = propertyKeys;
+        this.insertedSources = new LongArrayList();
+        this.insertedTargets = new LongArrayList();
+        this.insertedProperties = new DoubleArrayList();
+        this.deletedSources = new LongArrayList();
+        this.deletedTargets = new LongArrayList();
+    }
+
+    /**
+     * @param propertyValues one value per property key given on construction, in the same order
+     */
+    public RelationshipUpdates insert(long sourceNodeId, long targetNodeId, double... propertyValues) {
+        if (propertyValues.length != propertyKeys.size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected %d property values for relationship (%d)-[:%s]->(%d), but got %d",
+                propertyKeys.size(),
+                sourceNodeId,
+                relationshipType.name(),
+                targetNodeId,
+                propertyValues.length
+            ));
+        }
+        insertedSources.add(sourceNodeId);
+        insertedTargets.add(targetNodeId);
+        insertedProperties.add(propertyValues);
+        return this;
+    }
+
+    public RelationshipUpdates delete(long sourceNodeId, long targetNodeId) {
+        deletedSources.add(sourceNodeId);
+        deletedTargets.add(targetNodeId);
+        return this;
+    }
+
+    public RelationshipType relationshipType() {
+        return relationshipType;
+    }
+
+    public List<String> propertyKeys() {
+        return propertyKeys;
+    }
+
+    public boolean isEmpty() {
+        return insertedSources.isEmpty() && deletedSources.isEmpty();
+    }
+
+    public int insertCount() {
+        return insertedSources.size();
+    }
+
+    public long insertedSource(int index) {
+        return insertedSources.get(index);
+    }
+
+    public long insertedTarget(int index) {
+        return insertedTargets.get(index);
+    }
+
+    public double insertedProperty(int index, int propertyIndex) {
+        return insertedProperties.get(index * propertyKeys.size() + propertyIndex);
+    }
+
+    public int deleteCount() {
+        return deletedSources.size();
+    }
+
+    public long deletedSource(int index) {
+        return deletedSources.get(index);
+    }
+
+    public long deletedTarget(int index) {
+        return deletedTargets.get(index);
+    }
+}
@@ -23,6 +23,22 @@ import com.carrotsearch.hppc.LongHashSet;
 
 public final class Intersections {
 
+    /**
+     * The dense vector kernels keep this many independent accumulators, which breaks the dependency
+     * chain of the floating point additions and lets the JIT issue the lanes in parallel.
+     */
+    private static final int LANES = 4;
+
+    /**
+     * Shorter vectors are summed up strictly left to right, as the unrolled loops do not pay off.
+     */
+    public static final int UNROLL_THRESHOLD = 16;
+
+    /**
+     * Exponential search is used once one array is this many times longer than the other.
+     */
+    private static final int GALLOPING_RATIO = 32;
+
     public static long intersection(LongHashSet targets1, LongHashSet targets2) {
         LongHashSet intersectionSet = new LongHashSet(targets1);
         intersectionSet.retainAll(targets2);
@@ -104,22 +120,129 @@ public final class Intersections {
         return intersection;
     }
 
+    /**
+     * Counts the common elements of two sorted arrays.
+     * If one array is much longer than the other, the elements of the shorter one are located
+     * by exponential search, otherwise both arrays are merged without data dependent branches.
+     */
+    public static long sortedIntersection(long[] targets1, long[] targets2) {
+        if (targets1.length > targets2.length) {
+            var tmp = targets1;
+            targets1 = targets2;
+            targets2 = tmp;
+        }
+        if (targets1.length == 0) return 0;
+        if ((long) targets1.length * GALLOPING_RATIO < targets2.length) {
+            return gallopingIntersection(targets1, targets2);
+        }
+        return mergingIntersection(targets1, targets2);
+    }
+
+    private static long mergingIntersection(long[] targets1, long[] targets2) {
+        int len1 = targets1.length;
+        int len2 = targets2.length;
+        int off1 = 0;
+        int off2 = 0;
+        long intersection = 0;
+        while (off1 < len1 && off2 < len2) {
+            long value1 = targets1[off1];
+            long value2 = targets2[off2];
+            // compiled to conditional moves
+            intersection += value1 == value2 ? 1 : 0;
+            off1 += value1 <= value2 ? 1 : 0;
+            off2 += value1 >= value2 ? 1 : 0;
+        }
+        return intersection;
+    }
+
+    private static long gallopingIntersection(long[] shorter, long[] longer) {
+        int len = longer.length;
+        int offset = 0;
+        long intersection = 0;
+        for (long value : shorter) {
+            // find the range that contains the first element not smaller than value
+            int step = 1;
+            int high = offset;
+            while (high < len && longer[high] < value) {
+                offset = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            high = Math.min(high, len);
+            // binary search in [offset, high)
+            while (offset < high) {
+                int mid = (offset + high) >>> 1;
+                if (longer[mid] < value) {
+                    offset = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            if (offset == len) return intersection;
+            if (longer[offset] == value) {
+                intersection++;
+                offset++;
+            }
+        }
+        return intersection;
+    }
+
     public static double sumSquareDelta(double[] vector1, double[] vector2, int len) {
-        double result = 0;
-        for (int i = 0; i < len; i++) {
+        if (len < UNROLL_THRESHOLD) {
+            double result = 0;
+            for (int i = 0; i < len; i++) {
+                double delta = vector1[i] - vector2[i];
+                result += delta * delta;
+            }
+            return result;
+        }
+
+        double result0 = 0, result1 = 0, result2 = 0, result3 = 0;
+        int bound = len & ~(LANES - 1);
+        for (int i = 0; i < bound; i += LANES) {
+            double delta0 = vector1[i] - vector2[i];
+            double delta1 = vector1[i + 1] - vector2[i + 1];
+            double delta2 = vector1[i + 2] - vector2[i + 2];
+            double delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (int i = bound; i < len; i++) {
             double delta = vector1[i] - vector2[i];
-            result += delta * delta;
+            result0 += delta * delta;
         }
-        return result;
+        return (result0 + result1) + (result2 + result3);
     }
 
     public static float sumSquareDelta(float[] vector1, float[] vector2, int len) {
-        float result = 0;
-        for (int i = 0; i < len; i++) {
+        if (len < UNROLL_THRESHOLD) {
+            float result = 0;
+            for (int i = 0; i < len; i++) {
+                float delta = vector1[i] - vector2[i];
+                result += delta * delta;
+            }
+            return result;
+        }
+
+        float result0 = 0, result1 = 0, result2 = 0, result3 = 0;
+        int bound = len & ~(LANES - 1);
+        for (int i = 0; i < bound; i += LANES) {
+            float delta0 = vector1[i] - vector2[i];
+            float delta1 = vector1[i + 1] - vector2[i + 1];
+            float delta2 = vector1[i + 2] - vector2[i + 2];
+            float delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (int i = bound; i < len; i++) {
             float delta = vector1[i] - vector2[i];
-            result += delta * delta;
+            result0 += delta * delta;
         }
-        return result;
+        return (result0 + result1) + (result2 + result3);
     }
 
     public static double[] sumSquareDeltas(double[] vector1, double[][] vector2, int len) {
@@ -162,6 +285,8 @@ public final class Intersections {
     }
 
     public static double cosine(double[] vector1, double[] vector2, int len) {
+        if (len >= UNROLL_THRESHOLD) return unrolledCosine(vector1, vector2, len);
+
         double dotProduct = 0D;
         double xLength = 0D;
         double yLength = 0D;
@@ -180,6 +305,8 @@ public final class Intersections {
     }
 
     public static float cosine(float[] vector1, float[] vector2, int len) {
+        if (len >= UNROLL_THRESHOLD) return unrolledCosine(vector1, vector2, len);
+
         float dotProduct = 0F;
         float xLength = 0F;
         float yLength = 0F;
@@ -197,5 +324,73 @@ public final class Intersections {
         return (float) (dotProduct / Math.sqrt(xLength * yLength));
     }
 
+    private static double unrolledCosine(double[] vector1, double[] vector2, int len) {
+        double dot0 = 0, dot1 = 0, dot2 = 0, dot3 = 0;
+        double x0 = 0, x1 = 0, x2 = 0, x3 = 0;
+        double y0 = 0, y1 = 0, y2 = 0, y3 = 0;
+        int bound = len & ~(LANES - 1);
+        for (int i = 0; i < bound; i += LANES) {
+            double a0 = vector1[i], a1 = vector1[i + 1], a2 = vector1[i + 2], a3 = vector1[i + 3];
+            double b0 = vector2[i], b1 = vector2[i + 1], b2 = vector2[i + 2], b3 = vector2[i + 3];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        for (int i = bound; i < len; i++) {
+            double a = vector1[i];
+            double b = vector2[i];
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        double dotProduct = (dot0 + dot1) + (dot2 + dot3);
+        double xLength = (x0 + x1) + (x2 + x3);
+        double yLength = (y0 + y1) + (y2 + y3);
+        return dotProduct / Math.sqrt(xLength * yLength);
+    }
+
+    private static float unrolledCosine(float[] vector1, float[] vector2, int len) {
+        float dot0 = 0, dot1 = 0, dot2 = 0, dot3 = 0;
+        float x0 = 0, x1 = 0, x2 = 0, x3 = 0;
+        float y0 = 0, y1 = 0, y2 = 0, y3 = 0;
+        int bound = len & ~(LANES - 1);
+        for (int i = 0; i < bound; i += LANES) {
+            float a0 = vector1[i], a1 = vector1[i + 1], a2 = vector1[i + 2], a3 = vector1[i + 3];
+            float b0 = vector2[i], b1 = vector2[i + 1], b2 = vector2[i + 2], b3 = vector2[i + 3];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        for (int i = bound; i < len; i++) {
+            float a = vector1[i];
+            float b = vector2[i];
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        float dotProduct = (dot0 + dot1) + (dot2 + dot3);
+        float xLength = (x0 + x1) + (x2 + x3);
+        float yLength = (y0 + y1) + (y2 + y3);
+        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+    }
+
     private Intersections() {}
 }
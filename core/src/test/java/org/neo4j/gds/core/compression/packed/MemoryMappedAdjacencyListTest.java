@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryMappedAdjacencyListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldAlignPagesAndMapNewChunks() {
+        var pages = MemoryMappedPages.create(tempDir, 64);
+        try {
+            var first = pages.newPage(13);
+            var second = pages.newPage(8);
+            assertThat(second.address() - first.address()).isEqualTo(16);
+            assertThat(pages.mappedBytes()).isEqualTo(64);
+
+            // does not fit into the remaining 40 bytes of the current chunk
+            pages.newPage(48);
+            assertThat(pages.mappedBytes()).isEqualTo(128);
+
+            // larger than a chunk
+            pages.newPage(100);
+            assertThat(pages.mappedBytes()).isEqualTo(232);
+        } finally {
+            pages.release();
+        }
+    }
+
+    @Test
+    void shouldDeleteFileOnRelease() {
+        var pages = MemoryMappedPages.create(tempDir, 64);
+        pages.newPage(8);
+        assertThat(pages.file()).exists();
+
+        pages.release();
+        assertThat(pages.file()).doesNotExist();
+        assertThatThrownBy(() -> pages.newPage(8))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("The memory mapped pages have already been released.");
+    }
+
+    @Test
+    void shouldReadBackAdjacencyFromMappedPages() throws Exception {
+        GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.set(GdsFeatureToggles.AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL);
+        try {
+            var builder = MemoryMappedAdjacencyListBuilderFactory.of(tempDir).newAdjacencyListBuilder(MemoryTracker.empty());
+
+            int nodeCount = 3;
+            var degrees = HugeIntArray.newArray(nodeCount);
+            var offsets = HugeLongArray.newArray(nodeCount);
+            long[][] targets = new long[nodeCount][];
+
+            try (var allocator = builder.newAllocator()) {
+                for (int node = 0; node < nodeCount; node++) {
+                    targets[node] = LongStream.range(0, 100L * (node + 1)).map(i -> i * 3 + node).toArray();
+                    var slice = ModifiableSlice.<Address>create();
+                    var degree = new MutableInt();
+                    long offset = InlinedHeadPackedTailPacker.compress(
+                        allocator,
+                        slice,
+                        targets[node].clone(),
+                        targets[node].length,
+                        Aggregation.NONE,
+                        degree,
+                        MemoryTracker.empty()
+                    );
+                    degrees.set(node, degree.intValue());
+                    offsets.set(node, offset);
+                }
+            }
+
+            var adjacencyList = builder.build(degrees, offsets, false);
+            assertThat(Files.list(tempDir)).hasSize(1);
+
+            for (int node = 0; node < nodeCount; node++) {
+                var cursor = adjacencyList.adjacencyCursor(node);
+                var actual = new long[cursor.size()];
+                for (int i = 0; i < actual.length; i++) {
+                    actual[i] = cursor.nextVLong();
+                }
+                assertThat(actual).containsExactly(targets[node]);
+            }
+
+            adjacencyList.free();
+            assertThat(Files.list(tempDir)).isEmpty();
+        } finally {
+            GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.set(GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY_DEFAULT_SETTING);
+        }
+    }
+}
@@ -69,6 +69,35 @@ class HugeGraphCursorReuseTest {
         assertThat(adjacencyList.cursorInstanceCount()).isEqualTo(1L);
     }
 
+    @Test
+    void shouldSupportNestedTraversals() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(100)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .direction(Direction.DIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        graph.forEachNode(nodeId -> {
+            var outerCount = new LongAdder();
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                outerCount.increment();
+                var innerCount = new LongAdder();
+                graph.forEachRelationship(target, (innerSource, innerTarget) -> {
+                    innerCount.increment();
+                    return true;
+                });
+                assertThat(innerCount.longValue()).isEqualTo(graph.degree(target));
+                assertThat(graph.exists(source, target)).isTrue();
+                return true;
+            });
+            assertThat(outerCount.longValue()).isEqualTo(graph.degree(nodeId));
+            return true;
+        });
+    }
+
 
     private static final class TestAdjacencyList implements AdjacencyList {
         private final LongAdder cursorInstanceCounter;
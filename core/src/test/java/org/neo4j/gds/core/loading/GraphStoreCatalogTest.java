@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.GraphProjectConfig;
@@ -32,6 +33,9 @@ import org.neo4j.gds.gdl.GdlFactory;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -188,6 +192,73 @@ class GraphStoreCatalogTest {
         assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
     }
 
+    @Test
+    void shouldKeepResidentStateUntilTheGraphIsDropped() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var computations = new MutableInt();
+
+        var first = GraphStoreCatalog.residentState(USER_NAME, DATABASE_ID, GRAPH_NAME, "state", Object.class, () -> {
+            computations.increment();
+            return new Object();
+        });
+        var second = GraphStoreCatalog.residentState(USER_NAME, DATABASE_ID, GRAPH_NAME, "state", Object.class, () -> {
+            computations.increment();
+            return new Object();
+        });
+        assertThat(second).isSameAs(first);
+        assertThat(computations.intValue()).isEqualTo(1);
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), GRAPH_NAME, graphStoreWithConfig -> {}, true);
+        GraphStoreCatalog.set(CONFIG, graphStore);
+
+        var third = GraphStoreCatalog.residentState(USER_NAME, DATABASE_ID, GRAPH_NAME, "state", Object.class, Object::new);
+        assertThat(third).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldRecomputeResidentStateAfterTheGraphIsModified() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+
+        var first = GraphStoreCatalog.residentState(USER_NAME, DATABASE_ID, GRAPH_NAME, "state", Object.class, Object::new);
+        graphStore.addNodeLabel(NodeLabel.of("Modified"));
+        var second = GraphStoreCatalog.residentState(USER_NAME, DATABASE_ID, GRAPH_NAME, "state", Object.class, Object::new);
+        var third = GraphStoreCatalog.residentState(USER_NAME, DATABASE_ID, GRAPH_NAME, "state", Object.class, Object::new);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(third).isSameAs(second);
+    }
+
+    @Test
+    void shouldNotHoldTheCatalogWhileComputingResidentState() throws Exception {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var slow = CompletableFuture.supplyAsync(() -> GraphStoreCatalog.residentState(
+            USER_NAME,
+            DATABASE_ID,
+            GRAPH_NAME,
+            "slow",
+            Object.class,
+            () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new Object();
+            }
+        ));
+        started.await();
+
+        var other = GraphStoreCatalog.residentState(USER_NAME, DATABASE_ID, GRAPH_NAME, "other", Object.class, Object::new);
+        assertThat(other).isNotNull();
+
+        release.countDown();
+        assertThat(slow.get(10, TimeUnit.SECONDS)).isNotNull();
+    }
+
     @Test
     void removeAsAdmin() {
         GraphStoreCatalog.set(CONFIG, graphStore);
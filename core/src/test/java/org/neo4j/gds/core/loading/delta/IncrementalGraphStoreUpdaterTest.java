@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class IncrementalGraphStoreUpdaterTest {
+
+    private static final RelationshipType TYPE = RelationshipType.of("T");
+
+    private static GdlFactory gdlFactory(String gdl, Orientation orientation, boolean indexInverse) {
+        return GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph(gdl)
+                .graphName("test")
+                .orientation(orientation)
+                .indexInverse(indexInverse)
+                .build()
+        ).build();
+    }
+
+    @Test
+    void shouldInsertAndDeleteRelationships() {
+        var gdlFactory = gdlFactory(
+            "(a)-[:T {w: 1.0}]->(b), (a)-[:T {w: 2.0}]->(c), (b)-[:T {w: 3.0}]->(c), (d)",
+            Orientation.NATURAL,
+            true
+        );
+        var graphStore = gdlFactory.build();
+        var updater = new IncrementalGraphStoreUpdater(graphStore, new Concurrency(1), DefaultPool.INSTANCE, 1.0);
+
+        var result = updater.apply(RelationshipUpdates.of(TYPE, "w")
+            .delete(gdlFactory.nodeId("a"), gdlFactory.nodeId("b"))
+            .insert(gdlFactory.nodeId("c"), gdlFactory.nodeId("d"), 4.0)
+            .insert(gdlFactory.nodeId("a"), gdlFactory.nodeId("d"), 5.0));
+
+        assertThat(result.insertedRelationships()).isEqualTo(2);
+        assertThat(result.deletedRelationships()).isEqualTo(1);
+        assertThat(graphStore.relationshipCount()).isEqualTo(4);
+
+        var expected = fromGdl(
+            "(a)-[:T {w: 2.0}]->(c), (a)-[:T {w: 5.0}]->(d), (b)-[:T {w: 3.0}]->(c), (c)-[:T {w: 4.0}]->(d)"
+        );
+        var actual = graphStore.getGraph(TYPE, Optional.of("w"));
+        assertGraphEquals(expected, actual);
+
+        var d = graphStore.nodes().toMappedNodeId(gdlFactory.nodeId("d"));
+        var a = graphStore.nodes().toMappedNodeId(gdlFactory.nodeId("a"));
+        var b = graphStore.nodes().toMappedNodeId(gdlFactory.nodeId("b"));
+        assertThat(actual.degreeInverse(d)).isEqualTo(2);
+        assertThat(actual.degreeInverse(b)).isEqualTo(0);
+        assertThat(actual.degree(a)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldUpdateBothDirectionsOfUndirectedRelationships() {
+        var gdlFactory = gdlFactory("(a)-[:T]->(b), (c)", Orientation.UNDIRECTED, false);
+        var graphStore = gdlFactory.build();
+        var updater = new IncrementalGraphStoreUpdater(graphStore, new Concurrency(1), DefaultPool.INSTANCE, 1.0);
+
+        updater.apply(RelationshipUpdates.of(TYPE).insert(gdlFactory.nodeId("b"), gdlFactory.nodeId("c")));
+
+        assertThat(graphStore.relationshipCount()).isEqualTo(4);
+        assertGraphEquals(
+            fromGdl("(a)-[:T]->(b), (b)-[:T]->(c)", Orientation.UNDIRECTED),
+            graphStore.getGraph(TYPE)
+        );
+    }
+
+    @Test
+    void shouldCompactIntoFreshAdjacencyList() {
+        var gdlFactory = gdlFactory("(a)-[:T {w: 1.0}]->(b), (b)-[:T {w: 2.0}]->(c)", Orientation.NATURAL, false);
+        var graphStore = gdlFactory.build();
+        var updater = new IncrementalGraphStoreUpdater(graphStore, new Concurrency(2), DefaultPool.INSTANCE, 1.0);
+
+        var baseBytes = graphStore.relationships(TYPE).topology().adjacencyList().memoryInfo().bytesOnHeap();
+        updater.apply(RelationshipUpdates.of(TYPE, "w").insert(gdlFactory.nodeId("c"), gdlFactory.nodeId("a"), 3.0));
+        var adjacencyList = graphStore.relationships(TYPE).topology().adjacencyList();
+        assertThat(adjacencyList).isInstanceOf(DeltaAdjacencyList.class);
+        assertThat(adjacencyList.memoryInfo().bytesOnHeap().orElseThrow()).isGreaterThan(baseBytes.orElse(0L));
+
+        assertThat(updater.compact(TYPE)).isTrue();
+
+        assertThat(graphStore.relationships(TYPE).topology().adjacencyList()).isNotInstanceOf(DeltaAdjacencyList.class);
+        assertGraphEquals(
+            fromGdl("(a)-[:T {w: 1.0}]->(b), (b)-[:T {w: 2.0}]->(c), (c)-[:T {w: 3.0}]->(a)"),
+            graphStore.getGraph(TYPE, Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldFailOnUnknownNodes() {
+        var gdlFactory = gdlFactory("(a)-[:T]->(b)", Orientation.NATURAL, false);
+        var graphStore = gdlFactory.build();
+        var updater = new IncrementalGraphStoreUpdater(graphStore, new Concurrency(1), DefaultPool.INSTANCE, 1.0);
+
+        assertThatThrownBy(() -> updater.apply(RelationshipUpdates.of(TYPE).insert(gdlFactory.nodeId("a"), 4242L)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Node with id 4242 does not exist");
+    }
+}
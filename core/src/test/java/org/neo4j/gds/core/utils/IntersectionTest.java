@@ -22,9 +22,14 @@ package org.neo4j.gds.core.utils;
 import com.carrotsearch.hppc.LongHashSet;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
+import java.util.Random;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class IntersectionTest {
@@ -76,4 +81,48 @@ class IntersectionTest {
             assertEquals(row[2][0], Intersections.intersection4(row[0],row[1]), Arrays.toString(row));
         }
     }
+
+    @Test
+    void sortedIntersection() {
+        for (long[][] row : data) {
+            assertEquals(row[2][0], Intersections.sortedIntersection(row[0], row[1]), Arrays.toString(row));
+            assertEquals(row[2][0], Intersections.sortedIntersection(row[1], row[0]), Arrays.toString(row));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void sortedIntersectionOfSkewedArrays(int longerLength) {
+        var random = new Random(42);
+        var shorter = random.longs(8, 0, 2 * longerLength).sorted().toArray();
+        var longer = random.longs(longerLength, 0, 2 * longerLength).sorted().toArray();
+
+        assertEquals(Intersections.intersection3(shorter, longer), Intersections.sortedIntersection(shorter, longer));
+        assertEquals(Intersections.intersection3(shorter, longer), Intersections.sortedIntersection(longer, shorter));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 16, 17, 256})
+    void cosine(int length) {
+        var random = new Random(42);
+        var doubles1 = random.doubles(length).toArray();
+        var doubles2 = random.doubles(length).toArray();
+        var floats1 = new float[length];
+        var floats2 = new float[length];
+        double dotProduct = 0, length1 = 0, length2 = 0, sumSquareDelta = 0;
+        for (int i = 0; i < length; i++) {
+            floats1[i] = (float) doubles1[i];
+            floats2[i] = (float) doubles2[i];
+            dotProduct += doubles1[i] * doubles2[i];
+            length1 += doubles1[i] * doubles1[i];
+            length2 += doubles2[i] * doubles2[i];
+            sumSquareDelta += (doubles1[i] - doubles2[i]) * (doubles1[i] - doubles2[i]);
+        }
+        var expectedCosine = dotProduct / Math.sqrt(length1 * length2);
+
+        assertThat(Intersections.cosine(doubles1, doubles2, length)).isCloseTo(expectedCosine, within(1e-12));
+        assertThat((double) Intersections.cosine(floats1, floats2, length)).isCloseTo(expectedCosine, within(1e-5));
+        assertThat(Intersections.sumSquareDelta(doubles1, doubles2, length)).isCloseTo(sumSquareDelta, within(1e-12));
+        assertThat((double) Intersections.sumSquareDelta(floats1, floats2, length)).isCloseTo(sumSquareDelta, within(1e-3));
+    }
 }
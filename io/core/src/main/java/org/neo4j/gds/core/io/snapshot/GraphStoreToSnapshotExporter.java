@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.Properties;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.HugeGraph;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a {@link GraphStore} into a single binary snapshot file.
+ * <p>
+ * In contrast to the CSV export, the compressed adjacency pages, the id map and
+ * the node property values are written as they are held in memory.
+ * {@link SnapshotToGraphStoreImporter} reads them back without re-encoding.
+ * <p>
+ * Graph properties, string valued node properties and adjacency lists that are
+ * not held on heap (e.g. packed adjacency lists) are not supported.
+ */
+public final class GraphStoreToSnapshotExporter {
+
+    private static final int NODE_BATCH_SIZE = 1 << 12;
+
+    private final GraphStore graphStore;
+    private final Path snapshotFile;
+
+    public GraphStoreToSnapshotExporter(GraphStore graphStore, Path snapshotFile) {
+        this.graphStore = graphStore;
+        this.snapshotFile = snapshotFile;
+    }
+
+    public void run() {
+        if (!graphStore.graphPropertyKeys().isEmpty()) {
+            throw new IllegalArgumentException("Graph properties can not be written to a snapshot");
+        }
+
+        try (var output = SnapshotOutput.open(snapshotFile)) {
+            output.writeInt(SnapshotFormat.MAGIC);
+            output.writeInt(SnapshotFormat.VERSION);
+
+            writeMetaData(output);
+            writeNodes(output);
+            writeNodeProperties(output);
+            writeRelationships(output);
+        }
+    }
+
+    private void writeMetaData(SnapshotOutput output) {
+        var databaseInfo = graphStore.databaseInfo();
+        output.writeString(databaseInfo.databaseId().databaseName());
+        output.writeString(databaseInfo.databaseLocation().name());
+        output.writeBoolean(databaseInfo.remoteDatabaseId().isPresent());
+        databaseInfo.remoteDatabaseId().ifPresent(remoteId -> output.writeString(remoteId.databaseName()));
+        output.writeString(graphStore.capabilities().writeMode().name());
+    }
+
+    private void writeNodes(SnapshotOutput output) {
+        var idMap = graphStore.nodes();
+        var nodeCount = idMap.nodeCount();
+
+        output.writeLong(nodeCount);
+        output.writeLong(idMap.highestOriginalId());
+
+        var originalIds = new long[NODE_BATCH_SIZE];
+        for (long start = 0; start < nodeCount; start += NODE_BATCH_SIZE) {
+            int length = (int) Math.min(NODE_BATCH_SIZE, nodeCount - start);
+            for (int i = 0; i < length; i++) {
+                originalIds[i] = idMap.toOriginalNodeId(start + i);
+            }
+            output.writeLongs(originalIds, 0, length);
+        }
+
+        var nodeSchema = graphStore.schema().nodeSchema();
+        output.writeInt(nodeSchema.entries().size());
+        for (var entry : nodeSchema.entries()) {
+            output.writeString(entry.identifier().name());
+            output.writeInt(entry.properties().size());
+            entry.properties().values().forEach(propertySchema -> writePropertySchema(output, propertySchema));
+        }
+
+        var labels = idMap.availableNodeLabels();
+        if (labels.equals(Set.of(NodeLabel.ALL_NODES))) {
+            output.writeInt(0);
+            return;
+        }
+
+        output.writeInt(labels.size());
+        for (var label : labels) {
+            output.writeString(label.name());
+            writeLabelBits(output, idMap, label);
+        }
+    }
+
+    private static void writeLabelBits(SnapshotOutput output, IdMap idMap, NodeLabel label) {
+        var nodeCount = idMap.nodeCount();
+        var words = new long[NODE_BATCH_SIZE];
+        int wordCount = 0;
+        for (long start = 0; start < nodeCount; start += Long.SIZE) {
+            long word = 0L;
+            long end = Math.min(start + Long.SIZE, nodeCount);
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                if (idMap.hasLabel(nodeId, label)) {
+                    word |= 1L << (nodeId - start);
+                }
+            }
+            words[wordCount++] = word;
+            if (wordCount == words.length) {
+                output.writeLongs(words, 0, wordCount);
+                wordCount = 0;
+            }
+        }
+        output.writeLongs(words, 0, wordCount);
+    }
+
+    private void writeNodeProperties(SnapshotOutput output) {
+        var propertyKeys = graphStore.nodePropertyKeys();
+        output.writeInt(propertyKeys.size());
+        for (var propertyKey : propertyKeys) {
+            var nodeProperty = graphStore.nodeProperty(propertyKey);
+            writePropertySchema(output, nodeProperty.propertySchema());
+            writeNodePropertyValues(output, nodeProperty.values(), graphStore.nodeCount());
+        }
+    }
+
+    private static void writeNodePropertyValues(SnapshotOutput output, NodePropertyValues values, long nodeCount) {
+        switch (values.valueType()) {
+            case LONG:
+                var longs = new long[NODE_BATCH_SIZE];
+                for (long start = 0; start < nodeCount; start += NODE_BATCH_SIZE) {
+                    int length = (int) Math.min(NODE_BATCH_SIZE, nodeCount - start);
+                    for (int i = 0; i < length; i++) {
+                        longs[i] = values.longValue(start + i);
+                    }
+                    output.writeLongs(longs, 0, length);
+                }
+                break;
+            case DOUBLE:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    output.writeDouble(values.doubleValue(nodeId));
+                }
+                break;
+            case LONG_ARRAY:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writeLongArray(output, values.longArrayValue(nodeId));
+                }
+                break;
+            case FLOAT_ARRAY:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writeFloatArray(output, values.floatArrayValue(nodeId));
+                }
+                break;
+            case DOUBLE_ARRAY:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writeDoubleArray(output, values.doubleArrayValue(nodeId));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node properties of type `%s` can not be written to a snapshot",
+                    values.valueType()
+                ));
+        }
+    }
+
+    private void writeRelationships(SnapshotOutput output) {
+        var relationshipSchema = graphStore.schema().relationshipSchema();
+        var relationshipTypes = graphStore.relationshipTypes();
+
+        output.writeInt(relationshipTypes.size());
+        for (var relationshipType : relationshipTypes) {
+            var schemaEntry = relationshipSchema.get(relationshipType);
+            output.writeString(relationshipType.name());
+            output.writeString(schemaEntry.direction().name());
+
+            var topologyGraph = hugeGraph(relationshipType, Optional.empty());
+            writeTopology(output, topologyGraph.relationshipTopology());
+            output.writeBoolean(topologyGraph.inverseRelationshipTopology().isPresent());
+            topologyGraph.inverseRelationshipTopology().ifPresent(topology -> writeTopology(output, topology));
+
+            output.writeInt(schemaEntry.properties().size());
+            for (var propertySchema : schemaEntry.properties().values()) {
+                writeRelationshipPropertySchema(output, propertySchema);
+
+                var propertyGraph = hugeGraph(relationshipType, Optional.of(propertySchema.key()));
+                writeProperties(output, propertyGraph.relationshipProperties().orElseThrow());
+                output.writeBoolean(propertyGraph.inverseRelationshipProperties().isPresent());
+                propertyGraph.inverseRelationshipProperties().ifPresent(properties -> writeProperties(output, properties));
+            }
+        }
+    }
+
+    private HugeGraph hugeGraph(RelationshipType relationshipType, Optional<String> relationshipProperty) {
+        var graph = graphStore.getGraph(relationshipType, relationshipProperty);
+        if (!(graph instanceof HugeGraph)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationships of type `%s` are not backed by a CSR and can not be written to a snapshot",
+                relationshipType.name()
+            ));
+        }
+        return (HugeGraph) graph;
+    }
+
+    private static void writeTopology(SnapshotOutput output, Topology topology) {
+        output.writeLong(topology.elementCount());
+        output.writeBoolean(topology.isMultiGraph());
+        writeAdjacencyList(output, topology.adjacencyList());
+    }
+
+    private static void writeProperties(SnapshotOutput output, Properties properties) {
+        output.writeLong(properties.elementCount());
+        output.writeDouble(properties.defaultPropertyValue());
+        writeAdjacencyProperties(output, properties.propertiesList());
+    }
+
+    private static void writeAdjacencyList(SnapshotOutput output, AdjacencyList adjacencyList) {
+        if (adjacencyList instanceof CompressedAdjacencyList) {
+            var compressed = (CompressedAdjacencyList) adjacencyList;
+            output.writeByte(SnapshotFormat.TOPOLOGY_VAR_LONG);
+            output.writeHugeIntArray(compressed.degrees());
+            output.writeHugeLongArray(compressed.offsets());
+            output.writeInt(compressed.pages().length);
+            for (byte[] page : compressed.pages()) {
+                output.writeInt(page.length);
+                output.writeBytes(page);
+            }
+        } else if (adjacencyList instanceof UncompressedAdjacencyList) {
+            output.writeByte(SnapshotFormat.TOPOLOGY_UNCOMPRESSED);
+            writeUncompressed(output, (UncompressedAdjacencyList) adjacencyList);
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Adjacency lists of type `%s` can not be written to a snapshot",
+                adjacencyList.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    private static void writeAdjacencyProperties(SnapshotOutput output, AdjacencyProperties adjacencyProperties) {
+        if (!(adjacencyProperties instanceof UncompressedAdjacencyList)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Adjacency properties of type `%s` can not be written to a snapshot",
+                adjacencyProperties.getClass().getSimpleName()
+            ));
+        }
+        writeUncompressed(output, (UncompressedAdjacencyList) adjacencyProperties);
+    }
+
+    private static void writeUncompressed(SnapshotOutput output, UncompressedAdjacencyList adjacencyList) {
+        output.writeHugeIntArray(adjacencyList.degrees());
+        output.writeHugeLongArray(adjacencyList.offsets());
+        output.writeInt(adjacencyList.pages().length);
+        for (long[] page : adjacencyList.pages()) {
+            output.writeInt(page.length);
+            output.writeLongs(page, 0, page.length);
+        }
+    }
+
+    private static void writePropertySchema(SnapshotOutput output, PropertySchema propertySchema) {
+        output.writeString(propertySchema.key());
+        output.writeString(propertySchema.valueType().name());
+        output.writeString(propertySchema.state().name());
+        writeDefaultValue(output, propertySchema.defaultValue());
+    }
+
+    private static void writeRelationshipPropertySchema(
+        SnapshotOutput output,
+        RelationshipPropertySchema propertySchema
+    ) {
+        writePropertySchema(output, propertySchema);
+        output.writeString(propertySchema.aggregation().name());
+    }
+
+    private static void writeDefaultValue(SnapshotOutput output, DefaultValue defaultValue) {
+        output.writeBoolean(defaultValue.isUserDefined());
+        var value = defaultValue.getObject();
+        if (value == null) {
+            output.writeByte(SnapshotFormat.VALUE_NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(SnapshotFormat.VALUE_INT);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(SnapshotFormat.VALUE_LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(SnapshotFormat.VALUE_FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(SnapshotFormat.VALUE_DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof long[]) {
+            output.writeByte(SnapshotFormat.VALUE_LONG_ARRAY);
+            writeLongArray(output, (long[]) value);
+        } else if (value instanceof float[]) {
+            output.writeByte(SnapshotFormat.VALUE_FLOAT_ARRAY);
+            writeFloatArray(output, (float[]) value);
+        } else if (value instanceof double[]) {
+            output.writeByte(SnapshotFormat.VALUE_DOUBLE_ARRAY);
+            writeDoubleArray(output, (double[]) value);
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Default values of type `%s` can not be written to a snapshot",
+                value.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    private static void writeLongArray(SnapshotOutput output, long[] values) {
+        if (values == null) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(values.length);
+        output.writeLongs(values, 0, values.length);
+    }
+
+    private static void writeFloatArray(SnapshotOutput output, float[] values) {
+        if (values == null) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(values.length);
+        for (float value : values) {
+            output.writeFloat(value);
+        }
+    }
+
+    private static void writeDoubleArray(SnapshotOutput output, double[] values) {
+        if (values == null) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(values.length);
+        for (double value : values) {
+            output.writeDouble(value);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+final class SnapshotFormat {
+
+    /**
+     * "GDSS" in ASCII.
+     */
+    static final int MAGIC = 0x47445353;
+    static final int VERSION = 1;
+
+    static final byte TOPOLOGY_VAR_LONG = 0;
+    static final byte TOPOLOGY_UNCOMPRESSED = 1;
+
+    static final byte VALUE_NULL = 0;
+    static final byte VALUE_INT = 1;
+    static final byte VALUE_LONG = 2;
+    static final byte VALUE_FLOAT = 3;
+    static final byte VALUE_DOUBLE = 4;
+    static final byte VALUE_LONG_ARRAY = 5;
+    static final byte VALUE_FLOAT_ARRAY = 6;
+    static final byte VALUE_DOUBLE_ARRAY = 7;
+
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private SnapshotFormat() {}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Counterpart of {@link SnapshotOutput}.
+ * Byte pages are read from the channel straight into their target arrays.
+ */
+final class SnapshotInput implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    static SnapshotInput open(Path file) {
+        try {
+            return new SnapshotInput(FileChannel.open(file, StandardOpenOption.READ));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SnapshotInput(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(SnapshotFormat.BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.limit(0);
+    }
+
+    byte readByte() {
+        require(Byte.BYTES);
+        return buffer.get();
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    int readInt() {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    long readLong() {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    float readFloat() {
+        require(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    double readDouble() {
+        require(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    String readString() {
+        var bytes = new byte[readInt()];
+        readBytes(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void readBytes(byte[] bytes) {
+        var target = ByteBuffer.wrap(bytes);
+        int buffered = Math.min(buffer.remaining(), bytes.length);
+        target.put(target.position(), buffer, buffer.position(), buffered);
+        buffer.position(buffer.position() + buffered);
+        target.position(buffered);
+        try {
+            while (target.hasRemaining()) {
+                if (channel.read(target) < 0) {
+                    throw new EOFException("Unexpected end of snapshot");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void readLongs(long[] values, int offset, int length) {
+        while (length > 0) {
+            require(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void readInts(int[] values, int offset, int length) {
+        while (length > 0) {
+            require(Integer.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    HugeLongArray readHugeLongArray() {
+        var array = HugeLongArray.newArray(readLong());
+        try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                readLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return array;
+    }
+
+    HugeIntArray readHugeIntArray() {
+        var array = HugeIntArray.newArray(readLong());
+        try (HugeCursor<int[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                readInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return array;
+    }
+
+    private void require(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Unexpected end of snapshot");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.flip();
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
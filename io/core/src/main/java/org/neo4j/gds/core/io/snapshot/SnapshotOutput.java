@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Little endian, buffered writer on top of a {@link FileChannel}.
+ * Large primitive arrays are copied into the staging buffer in bulk,
+ * byte pages are handed to the channel directly.
+ */
+final class SnapshotOutput implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    static SnapshotOutput open(Path file) {
+        try {
+            var channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            );
+            return new SnapshotOutput(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SnapshotOutput(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(SnapshotFormat.BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    void writeByte(byte value) {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    void writeBoolean(boolean value) {
+        writeByte(value ? (byte) 1 : (byte) 0);
+    }
+
+    void writeInt(int value) {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void writeFloat(float value) {
+        ensure(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    void writeDouble(double value) {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void writeString(String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    void writeBytes(byte[] bytes) {
+        flush();
+        var source = ByteBuffer.wrap(bytes);
+        try {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void writeLongs(long[] values, int offset, int length) {
+        while (length > 0) {
+            ensure(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void writeInts(int[] values, int offset, int length) {
+        while (length > 0) {
+            ensure(Integer.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void writeHugeLongArray(HugeLongArray array) {
+        writeLong(array.size());
+        try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                writeLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+    }
+
+    void writeHugeIntArray(HugeIntArray array) {
+        writeLong(array.size());
+        try (HugeCursor<int[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                writeInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.DatabaseInfo;
+import org.neo4j.gds.api.DatabaseInfo.DatabaseLocation;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.Properties;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
+import org.neo4j.gds.core.loading.Capabilities.WriteMode;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Loads a snapshot written by {@link GraphStoreToSnapshotExporter} into a {@link GraphStore}.
+ * <p>
+ * Adjacency pages, degrees and offsets are read into their target arrays and handed
+ * to the adjacency lists as they are; no relationship is decoded or compressed again.
+ */
+public final class SnapshotToGraphStoreImporter {
+
+    private final Path snapshotFile;
+    private final Concurrency concurrency;
+
+    public SnapshotToGraphStoreImporter(Path snapshotFile, Concurrency concurrency) {
+        this.snapshotFile = snapshotFile;
+        this.concurrency = concurrency;
+    }
+
+    public GraphStore run() {
+        try (var input = SnapshotInput.open(snapshotFile)) {
+            readHeader(input);
+
+            var databaseInfo = readDatabaseInfo(input);
+            var writeMode = WriteMode.valueOf(input.readString());
+
+            var nodeSchema = MutableNodeSchema.empty();
+            var idMap = readNodes(input, nodeSchema);
+            var nodeProperties = readNodeProperties(input, idMap.nodeCount());
+
+            var relationshipSchema = MutableRelationshipSchema.empty();
+            var relationshipImportResult = readRelationships(input, relationshipSchema);
+
+            return new GraphStoreBuilder()
+                .databaseInfo(databaseInfo)
+                .capabilities(ImmutableStaticCapabilities.of(writeMode))
+                .schema(MutableGraphSchema.of(nodeSchema, relationshipSchema, Map.of()))
+                .nodes(ImmutableNodes.of(nodeSchema, idMap, nodeProperties))
+                .relationshipImportResult(relationshipImportResult)
+                .concurrency(concurrency)
+                .build();
+        }
+    }
+
+    private void readHeader(SnapshotInput input) {
+        if (input.readInt() != SnapshotFormat.MAGIC) {
+            throw new IllegalArgumentException(formatWithLocale("'%s' is not a graph snapshot", snapshotFile));
+        }
+        var version = input.readInt();
+        if (version != SnapshotFormat.VERSION) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unsupported snapshot version %d in '%s', expected %d",
+                version,
+                snapshotFile,
+                SnapshotFormat.VERSION
+            ));
+        }
+    }
+
+    private static DatabaseInfo readDatabaseInfo(SnapshotInput input) {
+        var databaseId = DatabaseId.of(input.readString());
+        var databaseLocation = DatabaseLocation.valueOf(input.readString());
+        if (input.readBoolean()) {
+            return DatabaseInfo.of(databaseId, databaseLocation, DatabaseId.of(input.readString()));
+        }
+        return DatabaseInfo.of(databaseId, databaseLocation);
+    }
+
+    private IdMap readNodes(SnapshotInput input, MutableNodeSchema nodeSchema) {
+        var nodeCount = input.readLong();
+        var highestOriginalId = input.readLong();
+
+        var originalIds = HugeLongArray.newArray(nodeCount);
+        try (HugeCursor<long[]> cursor = originalIds.initCursor(originalIds.newCursor())) {
+            while (cursor.next()) {
+                input.readLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+
+        int schemaEntryCount = input.readInt();
+        for (int i = 0; i < schemaEntryCount; i++) {
+            var label = NodeLabel.of(input.readString());
+            int propertyCount = input.readInt();
+            var properties = new LinkedHashMap<String, PropertySchema>();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema(input);
+                properties.put(propertySchema.key(), propertySchema);
+            }
+            nodeSchema.addLabel(label, properties);
+        }
+
+        int labelCount = input.readInt();
+        LabelInformation.Builder labelInformationBuilder;
+        if (labelCount == 0) {
+            labelInformationBuilder = LabelInformationBuilders.allNodes();
+        } else {
+            var labels = new ArrayList<NodeLabel>(labelCount);
+            var labelBits = new ArrayList<long[]>(labelCount);
+            int wordCount = (int) ((nodeCount + Long.SIZE - 1) / Long.SIZE);
+            for (int i = 0; i < labelCount; i++) {
+                labels.add(NodeLabel.of(input.readString()));
+                var words = new long[wordCount];
+                input.readLongs(words, 0, wordCount);
+                labelBits.add(words);
+            }
+
+            labelInformationBuilder = LabelInformationBuilders.multiLabelWithCapacityAndLabelInformation(
+                highestOriginalId + 1,
+                labels,
+                List.of()
+            );
+            for (int i = 0; i < labelCount; i++) {
+                addLabel(labelInformationBuilder, labels.get(i), labelBits.get(i), originalIds);
+            }
+        }
+
+        return ArrayIdMapBuilder.fromOriginalIds(
+            originalIds,
+            labelInformationBuilder,
+            highestOriginalId,
+            concurrency
+        );
+    }
+
+    private static void addLabel(
+        LabelInformation.Builder labelInformationBuilder,
+        NodeLabel label,
+        long[] words,
+        HugeLongArray originalIds
+    ) {
+        for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+            long word = words[wordIndex];
+            while (word != 0) {
+                long nodeId = (long) wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+                labelInformationBuilder.addNodeIdToLabel(label, originalIds.get(nodeId));
+                word &= word - 1;
+            }
+        }
+    }
+
+    private static NodePropertyStore readNodeProperties(SnapshotInput input, long nodeCount) {
+        var nodePropertyStoreBuilder = NodePropertyStore.builder();
+        int propertyCount = input.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            var propertySchema = readPropertySchema(input);
+            var values = readNodePropertyValues(input, propertySchema.valueType(), nodeCount);
+            nodePropertyStoreBuilder.putIfAbsent(
+                propertySchema.key(),
+                NodeProperty.of(propertySchema.key(), propertySchema.state(), values, propertySchema.defaultValue())
+            );
+        }
+        return nodePropertyStoreBuilder.build();
+    }
+
+    private static NodePropertyValues readNodePropertyValues(
+        SnapshotInput input,
+        ValueType valueType,
+        long nodeCount
+    ) {
+        switch (valueType) {
+            case LONG: {
+                var values = HugeLongArray.newArray(nodeCount);
+                try (HugeCursor<long[]> cursor = values.initCursor(values.newCursor())) {
+                    while (cursor.next()) {
+                        input.readLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                    }
+                }
+                return NodePropertyValuesAdapter.adapt(values);
+            }
+            case DOUBLE: {
+                var values = HugeDoubleArray.newArray(nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, input.readDouble());
+                }
+                return NodePropertyValuesAdapter.adapt(values);
+            }
+            case LONG_ARRAY: {
+                var values = HugeObjectArray.newArray(long[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, readLongArray(input));
+                }
+                return NodePropertyValuesAdapter.adapt(values);
+            }
+            case FLOAT_ARRAY: {
+                var values = HugeObjectArray.newArray(float[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, readFloatArray(input));
+                }
+                return NodePropertyValuesAdapter.adapt(values);
+            }
+            case DOUBLE_ARRAY: {
+                var values = HugeObjectArray.newArray(double[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, readDoubleArray(input));
+                }
+                return NodePropertyValuesAdapter.adapt(values);
+            }
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported node property type `%s` in snapshot",
+                    valueType
+                ));
+        }
+    }
+
+    private static RelationshipImportResult readRelationships(
+        SnapshotInput input,
+        MutableRelationshipSchema relationshipSchema
+    ) {
+        var relationshipImportResultBuilder = RelationshipImportResult.builder();
+        int typeCount = input.readInt();
+        for (int i = 0; i < typeCount; i++) {
+            var relationshipType = RelationshipType.of(input.readString());
+            var direction = Direction.valueOf(input.readString());
+            var schemaEntry = new MutableRelationshipSchemaEntry(relationshipType, direction);
+
+            var topology = readTopology(input);
+            var inverseTopology = input.readBoolean() ? Optional.of(readTopology(input)) : Optional.<Topology>empty();
+
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            var inversePropertyStoreBuilder = RelationshipPropertyStore.builder();
+            int propertyCount = input.readInt();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readRelationshipPropertySchema(input);
+                schemaEntry.addProperty(propertySchema.key(), propertySchema);
+
+                propertyStoreBuilder.putRelationshipProperty(
+                    propertySchema.key(),
+                    RelationshipProperty.of(
+                        propertySchema.key(),
+                        propertySchema.valueType(),
+                        propertySchema.state(),
+                        readProperties(input),
+                        propertySchema.defaultValue(),
+                        propertySchema.aggregation()
+                    )
+                );
+                if (input.readBoolean()) {
+                    inversePropertyStoreBuilder.putRelationshipProperty(
+                        propertySchema.key(),
+                        RelationshipProperty.of(
+                            propertySchema.key(),
+                            propertySchema.valueType(),
+                            propertySchema.state(),
+                            readProperties(input),
+                            propertySchema.defaultValue(),
+                            propertySchema.aggregation()
+                        )
+                    );
+                }
+            }
+
+            relationshipSchema.set(schemaEntry);
+            relationshipImportResultBuilder.putImportResult(
+                relationshipType,
+                SingleTypeRelationships.builder()
+                    .relationshipSchemaEntry(schemaEntry)
+                    .topology(topology)
+                    .inverseTopology(inverseTopology)
+                    .properties(propertyStoreBuilder.build())
+                    .inverseProperties(inversePropertyStoreBuilder.build())
+                    .build()
+            );
+        }
+        return relationshipImportResultBuilder.build();
+    }
+
+    private static Topology readTopology(SnapshotInput input) {
+        var elementCount = input.readLong();
+        var isMultiGraph = input.readBoolean();
+        return ImmutableTopology.of(readAdjacencyList(input), elementCount, isMultiGraph);
+    }
+
+    private static Properties readProperties(SnapshotInput input) {
+        var elementCount = input.readLong();
+        var defaultPropertyValue = input.readDouble();
+        return ImmutableProperties.of(readUncompressed(input), elementCount, defaultPropertyValue);
+    }
+
+    private static AdjacencyList readAdjacencyList(SnapshotInput input) {
+        byte type = input.readByte();
+        switch (type) {
+            case SnapshotFormat.TOPOLOGY_VAR_LONG: {
+                var degrees = input.readHugeIntArray();
+                var offsets = input.readHugeLongArray();
+                var pages = new byte[input.readInt()][];
+                for (int i = 0; i < pages.length; i++) {
+                    pages[i] = new byte[input.readInt()];
+                    input.readBytes(pages[i]);
+                }
+                return CompressedAdjacencyList.of(pages, degrees, offsets);
+            }
+            case SnapshotFormat.TOPOLOGY_UNCOMPRESSED:
+                return readUncompressed(input);
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unknown adjacency list type %d in snapshot", type));
+        }
+    }
+
+    private static UncompressedAdjacencyList readUncompressed(SnapshotInput input) {
+        var degrees = input.readHugeIntArray();
+        var offsets = input.readHugeLongArray();
+        var pages = new long[input.readInt()][];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = new long[input.readInt()];
+            input.readLongs(pages[i], 0, pages[i].length);
+        }
+        return UncompressedAdjacencyList.of(pages, degrees, offsets);
+    }
+
+    private static PropertySchema readPropertySchema(SnapshotInput input) {
+        var key = input.readString();
+        var valueType = ValueType.valueOf(input.readString());
+        var state = PropertyState.valueOf(input.readString());
+        var defaultValue = readDefaultValue(input);
+        return PropertySchema.of(key, valueType, defaultValue, state);
+    }
+
+    private static RelationshipPropertySchema readRelationshipPropertySchema(SnapshotInput input) {
+        var propertySchema = readPropertySchema(input);
+        var aggregation = Aggregation.valueOf(input.readString());
+        return RelationshipPropertySchema.of(
+            propertySchema.key(),
+            propertySchema.valueType(),
+            propertySchema.defaultValue(),
+            propertySchema.state(),
+            aggregation
+        );
+    }
+
+    private static DefaultValue readDefaultValue(SnapshotInput input) {
+        var isUserDefined = input.readBoolean();
+        byte type = input.readByte();
+        switch (type) {
+            case SnapshotFormat.VALUE_NULL:
+                return DefaultValue.of(null, isUserDefined);
+            case SnapshotFormat.VALUE_INT:
+                return DefaultValue.of(input.readInt(), isUserDefined);
+            case SnapshotFormat.VALUE_LONG:
+                return DefaultValue.of(input.readLong(), isUserDefined);
+            case SnapshotFormat.VALUE_FLOAT:
+                return DefaultValue.of(input.readFloat(), isUserDefined);
+            case SnapshotFormat.VALUE_DOUBLE:
+                return DefaultValue.of(input.readDouble(), isUserDefined);
+            case SnapshotFormat.VALUE_LONG_ARRAY:
+                return DefaultValue.of(readLongArray(input), isUserDefined);
+            case SnapshotFormat.VALUE_FLOAT_ARRAY:
+                return DefaultValue.of(readFloatArray(input), isUserDefined);
+            case SnapshotFormat.VALUE_DOUBLE_ARRAY:
+                return DefaultValue.of(readDoubleArray(input), isUserDefined);
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unknown default value type %d in snapshot", type));
+        }
+    }
+
+    private static long[] readLongArray(SnapshotInput input) {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        var values = new long[length];
+        input.readLongs(values, 0, length);
+        return values;
+    }
+
+    private static float[] readFloatArray(SnapshotInput input) {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        var values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = input.readFloat();
+        }
+        return values;
+    }
+
+    private static double[] readDoubleArray(SnapshotInput input) {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        var values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = input.readDouble();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class GraphStoreToSnapshotExporterTest {
+
+    @GdlGraph(indexInverse = true)
+    static String DB_CYPHER = "CREATE" +
+                              "  (a:A {prop1: 42L, prop2: [1.0, 2.0]})" +
+                              ", (b:A {prop1: 43L, prop2: [3.0, 4.0]})" +
+                              ", (c:B {prop3: 13.37D})" +
+                              ", (d:A:B {prop1: 44L, prop2: [5.0, 6.0], prop3: 42.0D})" +
+                              ", (a)-[:REL1 {weight: 0.5}]->(b)" +
+                              ", (a)-[:REL1 {weight: 1.5}]->(c)" +
+                              ", (d)-[:REL1 {weight: 2.5}]->(a)" +
+                              ", (b)-[:REL2]->(c)" +
+                              ", (c)-[:REL2]->(d)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRoundTripGraphStore() {
+        var snapshotFile = tempDir.resolve("graph.snapshot");
+
+        new GraphStoreToSnapshotExporter(graphStore, snapshotFile).run();
+        var loadedGraphStore = new SnapshotToGraphStoreImporter(snapshotFile, new Concurrency(4)).run();
+
+        assertThat(loadedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertThat(loadedGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(loadedGraphStore.nodes().nodeCount(NodeLabel.of("B")))
+            .isEqualTo(graphStore.nodes().nodeCount(NodeLabel.of("B")));
+        assertThat(loadedGraphStore.inverseIndexedRelationshipTypes())
+            .isEqualTo(graphStore.inverseIndexedRelationshipTypes());
+        assertThat(loadedGraphStore.databaseInfo()).isEqualTo(graphStore.databaseInfo());
+
+        assertGraphEquals(graphStore.getUnion(), loadedGraphStore.getUnion());
+
+        var rel1 = RelationshipType.of("REL1");
+        var expectedInverse = graphStore.getGraph(rel1, Optional.of("weight"));
+        var actualInverse = loadedGraphStore.getGraph(rel1, Optional.of("weight"));
+        expectedInverse.forEachNode(nodeId -> {
+            assertThat(actualInverse.degreeInverse(nodeId)).isEqualTo(expectedInverse.degreeInverse(nodeId));
+            return true;
+        });
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNoSnapshot() throws IOException {
+        var file = tempDir.resolve("not-a.snapshot");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> new SnapshotToGraphStoreImporter(file, new Concurrency(1)).run())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is not a graph snapshot");
+    }
+}
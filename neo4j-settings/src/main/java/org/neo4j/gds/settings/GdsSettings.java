@@ -31,6 +31,10 @@ public final class GdsSettings {
         return GraphStoreExportSettings.export_location_setting;
     }
 
+    public static Setting<Long> algorithmResultCacheMaxSize() {
+        return AlgorithmResultCacheSettings.algorithm_result_cache_max_size;
+    }
+
     public static Setting<Boolean> validateUsingMaxMemoryEstimation() {
         return MemoryEstimationSettings.validate_using_max_memory_estimation;
     }
@@ -72,6 +72,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.bellmanFord.write",
         "gds.bellmanFord.write.estimate",
 
+        "gds.biconnectedComponents.stream",
+        "gds.biconnectedComponents.stream.estimate",
+
         "gds.bridges.stream",
         "gds.bridges.stream.estimate",
 
@@ -462,6 +465,11 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.shortestPath.astar.write",
         "gds.shortestPath.astar.write.estimate",
 
+        "gds.shortestPath.landmarks.mutate",
+        "gds.shortestPath.landmarks.mutate.estimate",
+
+        "gds.shortestPath.matrix.stream",
+
         "gds.shortestPath.dijkstra.stream",
         "gds.shortestPath.dijkstra.stream.estimate",
         "gds.shortestPath.dijkstra.mutate",
@@ -585,7 +593,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 428;
+        int expectedCount = 433;
         assertEquals(
             expectedCount,
             returnedRows,
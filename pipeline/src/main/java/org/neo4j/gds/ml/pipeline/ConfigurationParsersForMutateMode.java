@@ -105,6 +105,7 @@ public class ConfigurationParsersForMutateMode {
             case KNN -> KnnMutateConfig::of;
             case KSpanningTree -> null;
             case LabelPropagation -> LabelPropagationMutateConfig::of;
+            case Landmarks -> null;
             case LCC -> LocalClusteringCoefficientMutateConfig::of;
             case Leiden -> LeidenMutateConfig::of;
             case Louvain -> LouvainMutateConfig::of;
@@ -117,6 +118,7 @@ public class ConfigurationParsersForMutateMode {
             case RandomWalk -> null;
             case ScaleProperties -> ScalePropertiesMutateConfig::of;
             case SCC -> SccMutateConfig::of;
+            case ShortestPathMatrix -> null;
             case SingleSourceDijkstra -> AllShortestPathsDijkstraMutateConfig::of;
             case SpanningTree -> SpanningTreeMutateConfig::of;
             case SteinerTree -> SteinerTreeMutateConfig::of;
@@ -89,6 +89,7 @@ final class MutateModeAlgorithmLibrary {
             case KNN -> CanonicalProcedureName.parse("gds.knn");
             case KSpanningTree -> null;
             case LabelPropagation -> CanonicalProcedureName.parse("gds.labelPropagation");
+            case Landmarks -> null;
             case LCC -> CanonicalProcedureName.parse("gds.localClusteringCoefficient");
             case Leiden -> CanonicalProcedureName.parse("gds.leiden");
             case Louvain -> CanonicalProcedureName.parse("gds.louvain");
@@ -101,6 +102,7 @@ final class MutateModeAlgorithmLibrary {
             case RandomWalk -> null;
             case ScaleProperties -> CanonicalProcedureName.parse("gds.scaleProperties");
             case SCC -> CanonicalProcedureName.parse("gds.scc");
+            case ShortestPathMatrix -> null;
             case SingleSourceDijkstra -> CanonicalProcedureName.parse("gds.allShortestPaths.dijkstra");
             case SpanningTree -> CanonicalProcedureName.parse("gds.spanningTree");
             case SteinerTree -> CanonicalProcedureName.parse("gds.steinerTree");
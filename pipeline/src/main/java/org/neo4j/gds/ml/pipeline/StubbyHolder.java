@@ -105,6 +105,7 @@ class StubbyHolder {
             case KNN -> new KnnStub();
             case KSpanningTree -> null;
             case LabelPropagation -> new LabelPropagationStub();
+            case Landmarks -> null;
             case LCC -> new LccStub();
             case Leiden -> new LeidenStub();
             case Louvain -> new LouvainStub();
@@ -117,6 +118,7 @@ class StubbyHolder {
             case RandomWalk -> null;
             case ScaleProperties -> new ScalePropertiesStub();
             case SCC -> new SccStub();
+            case ShortestPathMatrix -> null;
             case SingleSourceDijkstra -> new SingleSourceShortestPathDijkstraStub();
             case SpanningTree -> new SpanningTreeStub();
             case SteinerTree -> new SteinerTreeStub();
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.biconnectivity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BiconnectedComponentsStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+            "  (a:Node {name: 'a'})" +
+            ", (b:Node {name: 'b'})" +
+            ", (c:Node {name: 'c'})" +
+            ", (d:Node {name: 'd'})" +
+            ", (e:Node {name: 'e'})" +
+            ", (f:Node {name: 'f'})" +
+            ", (a)-[:REL]->(b)" +
+            ", (b)-[:REL]->(c)" +
+            ", (c)-[:REL]->(a)" +
+            ", (c)-[:REL]->(d)" +
+            ", (d)-[:REL]->(e)" +
+            ", (e)-[:REL]->(f)" +
+            ", (f)-[:REL]->(d)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            BiconnectedComponentsStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(
+            GdsCypher.call(DEFAULT_GRAPH_NAME)
+                .graphProject()
+                .loadEverything(Orientation.UNDIRECTED)
+                .yields()
+        );
+    }
+
+    @Test
+    void shouldStreamTheComponentOfEveryRelationship() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.biconnectedComponents")
+            .streamMode()
+            .yields();
+
+        var componentsByRelationship = new HashMap<Set<Long>, Long>();
+        var rowCount = runQueryWithRowConsumer(query, resultRow -> componentsByRelationship.put(
+            Set.of(resultRow.getNumber("sourceNodeId").longValue(), resultRow.getNumber("targetNodeId").longValue()),
+            resultRow.getNumber("componentId").longValue()
+        ));
+
+        assertThat(rowCount).isEqualTo(7L);
+        assertThat(componentsByRelationship).hasSize(7);
+
+        var firstTriangle = component(componentsByRelationship, List.of("a", "b"), List.of("b", "c"), List.of("c", "a"));
+        var bridge = component(componentsByRelationship, List.of("c", "d"));
+        var secondTriangle = component(componentsByRelationship, List.of("d", "e"), List.of("e", "f"), List.of("f", "d"));
+
+        assertThat(Set.of(firstTriangle, bridge, secondTriangle)).hasSize(3);
+    }
+
+    @SafeVarargs
+    private long component(Map<Set<Long>, Long> componentsByRelationship, List<String>... relationships) {
+        var components = new HashMap<List<String>, Long>();
+        for (var relationship : relationships) {
+            var key = Set.of(idFunction.of(relationship.get(0)), idFunction.of(relationship.get(1)));
+            assertThat(componentsByRelationship).containsKey(key);
+            components.put(relationship, componentsByRelationship.get(key));
+        }
+        assertThat(Set.copyOf(components.values())).hasSize(1);
+        return components.values().iterator().next();
+    }
+}
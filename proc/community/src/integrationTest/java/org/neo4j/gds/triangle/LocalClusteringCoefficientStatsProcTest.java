@@ -21,6 +21,7 @@ package org.neo4j.gds.triangle;
 
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -104,4 +105,23 @@ class LocalClusteringCoefficientStatsProcTest extends BaseProcTest {
         assertThat(rowCount).isEqualTo(1);
     }
 
+    @Test
+    void shouldReportTheMarginOfErrorWhenSampling() {
+        var query = "CALL gds.localClusteringCoefficient.stats('graph', {sampleSize: 1000, confidence: 0.99, randomSeed: 42}) " +
+                    "YIELD averageClusteringCoefficient, averageClusteringCoefficientMarginOfError, confidence";
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            var margin = row.getNumber("averageClusteringCoefficientMarginOfError").doubleValue();
+
+            assertThat(margin).isBetween(0.0, 1.0);
+            assertThat(row.getNumber("averageClusteringCoefficient"))
+                .asInstanceOf(DOUBLE)
+                .isCloseTo(13.0 / 15.0, Offset.offset(margin));
+            assertThat(row.getNumber("confidence"))
+                .asInstanceOf(DOUBLE)
+                .isEqualTo(0.99);
+        });
+
+        assertThat(rowCount).isEqualTo(1);
+    }
 }
@@ -31,6 +31,7 @@ import org.neo4j.gds.extension.Neo4jGraph;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
 
 class TriangleCountStatsProcTest extends BaseProcTest {
@@ -81,12 +82,53 @@ class TriangleCountStatsProcTest extends BaseProcTest {
 
             assertThat(row.get("configuration"))
                 .isInstanceOf(Map.class);
+
+            assertThat(row.get("globalTriangleCountMarginOfError")).isNull();
+            assertThat(row.get("confidence")).isNull();
         });
 
         assertThat(rowCount).isEqualTo(1L);
 
     }
 
+    @Test
+    void shouldReportTheMarginsOfErrorWhenSampling() {
+        var query = GdsCypher.call("graph")
+            .algo("triangleCount")
+            .statsMode()
+            .addParameter("sampleSize", 100)
+            .addParameter("confidence", 0.9)
+            .addParameter("randomSeed", 42)
+            .yields(
+                "globalTriangleCount",
+                "globalTriangleCountMarginOfError",
+                "globalClusteringCoefficient",
+                "globalClusteringCoefficientMarginOfError",
+                "confidence"
+            );
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            // every wedge of the triangle is closed, so the estimates are exact
+            assertThat(row.getNumber("globalTriangleCount"))
+                .asInstanceOf(LONG)
+                .isEqualTo(1L);
+            assertThat(row.getNumber("globalClusteringCoefficient"))
+                .asInstanceOf(DOUBLE)
+                .isEqualTo(1.0);
+            assertThat(row.getNumber("globalTriangleCountMarginOfError"))
+                .asInstanceOf(DOUBLE)
+                .isGreaterThanOrEqualTo(0.0);
+            assertThat(row.getNumber("globalClusteringCoefficientMarginOfError"))
+                .asInstanceOf(DOUBLE)
+                .isBetween(0.0, 1.0);
+            assertThat(row.getNumber("confidence"))
+                .asInstanceOf(DOUBLE)
+                .isEqualTo(0.9);
+        });
+
+        assertThat(rowCount).isEqualTo(1L);
+    }
+
     @Test
     void testStatsWithMaxDegree() {
         // Add a single node and connect it to the triangle
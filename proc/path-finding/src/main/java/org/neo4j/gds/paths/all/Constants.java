@@ -22,5 +22,7 @@ package org.neo4j.gds.paths.all;
 final class Constants {
     static final String ALL_PAIRS_SHORTEST_PATH_DESCRIPTION = "The All Pairs Shortest Path (APSP) calculates the shortest (weighted) path between all pairs of nodes.";
 
+    static final String SHORTEST_PATH_MATRIX_DESCRIPTION = "The Shortest Path Matrix calculates the shortest path distances between all pairs of the given source and target nodes.";
+
     private Constants() {}
 }
@@ -25,6 +25,10 @@ interface SinglePairShortestPathConstants {
             "It uses the relationship weight property to compare path lengths. " +
             "In addition, this implementation uses the haversine distance as a heuristic to converge faster.";
 
+    String LANDMARKS_DESCRIPTION =
+        "Selects landmarks and stores the distances from each landmark to every node as a node property, " +
+            "to be used as the A* heuristic on graphs without coordinates.";
+
     String DIJKSTRA_DESCRIPTION = "The Dijkstra shortest path algorithm computes the shortest (weighted) path between a pair of nodes.";
 
     String YENS_DESCRIPTION = "The Yen's shortest path algorithm computes the k shortest (weighted) paths between a pair of nodes.";
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.all;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraStreamProc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShortestPathMatrixStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (b)-[:TYPE {cost: 1.0}]->(c)" +
+        ", (c)-[:TYPE {cost: 1.0}]->(d)" +
+        ", (d)-[:TYPE {cost: 1.0}]->(e)" +
+        ", (a)-[:TYPE {cost: 10.0}]->(e)" +
+        ", (e)-[:TYPE {cost: 2.0}]->(a)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(ShortestPathMatrixStreamProc.class, GraphProjectProc.class);
+        runQuery("CALL gds.graph.project('graph', 'Node', {TYPE: {properties: 'cost'}})");
+    }
+
+    @Test
+    void shouldStreamTheDistancesBetweenSourcesAndTargets() {
+        var distances = new HashMap<List<Long>, Double>();
+        runQueryWithRowConsumer(
+            "CALL gds.shortestPath.matrix.stream('graph', {" +
+            "  sourceNodes: $sources," +
+            "  targetNodes: $targets," +
+            "  relationshipWeightProperty: 'cost'" +
+            "}) YIELD sourceNode, targetNode, distance",
+            Map.of(
+                "sources", List.of(idFunction.of("a"), idFunction.of("d")),
+                "targets", List.of(idFunction.of("b"), idFunction.of("e"), idFunction.of("f"))
+            ),
+            row -> distances.put(
+                List.of(row.getNumber("sourceNode").longValue(), row.getNumber("targetNode").longValue()),
+                row.getNumber("distance").doubleValue()
+            )
+        );
+
+        // f is not reachable
+        assertThat(distances).containsOnly(
+            Map.entry(List.of(idFunction.of("a"), idFunction.of("b")), 1.0),
+            Map.entry(List.of(idFunction.of("a"), idFunction.of("e")), 4.0),
+            Map.entry(List.of(idFunction.of("d"), idFunction.of("b")), 4.0),
+            Map.entry(List.of(idFunction.of("d"), idFunction.of("e")), 1.0)
+        );
+    }
+
+    @Test
+    void shouldReuseTheHierarchyWithoutAffectingOtherQueries() throws Exception {
+        registerProcedures(ShortestPathDijkstraStreamProc.class);
+
+        var matrixQuery = "CALL gds.shortestPath.matrix.stream('graph', {" +
+                          "  sourceNodes: [$source]," +
+                          "  targetNodes: [$target]," +
+                          "  relationshipWeightProperty: 'cost'" +
+                          "}) YIELD distance";
+        var parameters = Map.<String, Object>of("source", idFunction.of("a"), "target", idFunction.of("e"));
+
+        // the second call reuses the hierarchy computed by the first one
+        for (int call = 0; call < 2; call++) {
+            var distance = runQuery(matrixQuery, parameters, result -> result.<Number>columnAs("distance").next());
+            assertThat(distance.doubleValue()).isEqualTo(4.0);
+        }
+
+        var totalCost = runQuery(
+            "CALL gds.shortestPath.dijkstra.stream('graph', {" +
+            "  sourceNode: $source," +
+            "  targetNode: $target," +
+            "  relationshipWeightProperty: 'cost'" +
+            "}) YIELD totalCost",
+            parameters,
+            result -> result.<Number>columnAs("totalCost").next()
+        );
+        assertThat(totalCost.doubleValue()).isEqualTo(4.0);
+    }
+}
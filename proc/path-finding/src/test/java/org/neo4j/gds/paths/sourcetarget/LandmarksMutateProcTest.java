@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.sourcetarget;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LandmarksMutateProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE {cost: 4.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 5.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 8.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 10.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 2.0}]->(e)" +
+        ", (e)-[:TYPE {cost: 3.0}]->(f)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(f)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(LandmarksMutateProc.class, ShortestPathAStarStreamProc.class, GraphProjectProc.class);
+        runQuery("CALL gds.graph.project('graph', 'Node', {TYPE: {properties: 'cost'}})");
+    }
+
+    @Test
+    void shouldMutateLandmarkDistancesUsableByAStar() {
+        runQueryWithRowConsumer(
+            "CALL gds.shortestPath.landmarks.mutate('graph', {" +
+            "  landmarkCount: 2," +
+            "  relationshipWeightProperty: 'cost'," +
+            "  mutateProperty: 'landmarks'" +
+            "}) YIELD landmarks, nodePropertiesWritten",
+            row -> {
+                assertThat((List<?>) row.get("landmarks")).hasSize(2);
+                assertThat(row.getNumber("nodePropertiesWritten").longValue()).isEqualTo(6L);
+            }
+        );
+
+        var totalCost = runQuery(
+            "CALL gds.shortestPath.astar.stream('graph', {" +
+            "  sourceNode: $source," +
+            "  targetNode: $target," +
+            "  landmarkProperty: 'landmarks'," +
+            "  relationshipWeightProperty: 'cost'" +
+            "}) YIELD totalCost RETURN totalCost",
+            Map.of("source", idFunction.of("a"), "target", idFunction.of("f")),
+            result -> result.<Double>columnAs("totalCost").next()
+        );
+
+        assertThat(totalCost).isEqualTo(14.0);
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        runQueryWithRowConsumer(
+            "CALL gds.shortestPath.landmarks.mutate.estimate('graph', {" +
+            "  landmarkCount: 2," +
+            "  mutateProperty: 'landmarks'" +
+            "}) YIELD bytesMin, bytesMax",
+            row -> assertThat(row.getNumber("bytesMin").longValue()).isPositive()
+        );
+    }
+}
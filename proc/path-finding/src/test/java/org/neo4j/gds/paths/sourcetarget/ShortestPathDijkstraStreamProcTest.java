@@ -22,15 +22,19 @@ package org.neo4j.gds.paths.sourcetarget;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.ElementIdentifier;
 import org.neo4j.gds.GdsCypher;
 import org.neo4j.gds.TestLogProvider;
+import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.catalog.GraphProjectProc;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.Neo4jGraph;
 import org.neo4j.gds.paths.PathFactory;
+import org.neo4j.gds.paths.traverse.BfsStreamProc;
 import org.neo4j.gds.procedures.algorithms.pathfinding.PathFindingStreamResult;
 import org.neo4j.graphdb.RelationshipType;
 import org.neo4j.test.TestDatabaseManagementServiceBuilder;
@@ -158,4 +162,50 @@ class ShortestPathDijkstraStreamProcTest extends BaseProcTest {
         assertThat(messages.get(messages.size() - 1)).contains(":: Finished");
     }
 
+    @Test
+    void shouldKeepTheContractionHierarchyOutOfTheGraph() throws Exception {
+        registerProcedures(BfsStreamProc.class);
+
+        var hierarchyQuery = GdsCypher.call("graph")
+            .algo("gds.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("useContractionHierarchy", true)
+            .yields("totalCost");
+
+        // the first query builds the hierarchy, the second one reuses it
+        assertCypherResult(hierarchyQuery, List.of(Map.of("totalCost", 20.0D)));
+        assertCypherResult(hierarchyQuery, List.of(Map.of("totalCost", 20.0D)));
+
+        var weightedQuery = GdsCypher.call("graph")
+            .algo("gds.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("totalCost");
+        assertCypherResult(weightedQuery, List.of(Map.of("totalCost", 20.0D)));
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db.databaseName()), "graph").graphStore();
+        assertThat(graphStore.relationshipTypes())
+            .extracting(ElementIdentifier::name)
+            .containsExactly("TYPE");
+
+        // shortcuts would let the traversal skip levels
+        var nodeIds = runQuery(
+            "CALL gds.bfs.stream('graph', {sourceNode: $sourceNode}) YIELD nodeIds RETURN nodeIds",
+            Map.of("sourceNode", idFunction.of("a")),
+            result -> result.<List<Long>>columnAs("nodeIds").next()
+        );
+        assertThat(nodeIds).containsExactly(
+            idFunction.of("a"),
+            idFunction.of("b"),
+            idFunction.of("c"),
+            idFunction.of("d"),
+            idFunction.of("e"),
+            idFunction.of("f")
+        );
+    }
 }
@@ -73,6 +73,37 @@ class KnnStreamProcTest extends BaseProcTest {
         );
     }
 
+    @Test
+    void shouldStreamTheNeighborsOfTheQueryNodeFromTheResidentIndex() {
+        runQuery("CALL gds.graph.project('myGraph', {__ALL__: {label: '*', properties: 'knn'}}, 'IGNORE')");
+
+        var query = "CALL gds.knn.stream('myGraph', {nodeProperties: ['knn'], topK: 1, engine: 'HNSW', queryNode: $node})" +
+            " YIELD node1, node2, similarity" +
+            " RETURN node1, node2, similarity";
+        for (var node : List.of("a", "c")) {
+            assertCypherResult(
+                query,
+                Map.of("node", idFunction.of(node)),
+                List.of(Map.of(
+                    "node1", idFunction.of(node),
+                    "node2", idFunction.of("b"),
+                    "similarity", node.equals("a") ? 0.5 : 0.25
+                ))
+            );
+        }
+    }
+
+    @Test
+    void shouldRequireTheHnswEngineForAQueryNode() {
+        runQuery("CALL gds.graph.project('myGraph', {__ALL__: {label: '*', properties: 'knn'}}, 'IGNORE')");
+
+        assertError(
+            "CALL gds.knn.stream('myGraph', {nodeProperties: ['knn'], queryNode: $node})",
+            Map.of("node", idFunction.of("a")),
+            "The `queryNode` parameter requires the `HNSW` engine."
+        );
+    }
+
     @Test
     void shouldStreamWithFilteredNodes() {
         clearDb();
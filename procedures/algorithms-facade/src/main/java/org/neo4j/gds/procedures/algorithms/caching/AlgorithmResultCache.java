@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.caching;
+
+import org.neo4j.gds.algorithms.centrality.CentralityAlgorithmResult;
+import org.neo4j.gds.api.GraphName;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.core.loading.GraphStoreCatalogListener;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.mem.MemoryGauge;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Keeps algorithm results around so that repeated requests on an unchanged graph do not recompute them.
+ * <p>
+ * Results are keyed on the graph, its modification time, the algorithm and the normalised configuration.
+ * Mutating a graph bumps its modification time, so results computed before the mutation are never served
+ * and are evicted once a newer result for the same graph is cached. Dropping or re-projecting a graph
+ * invalidates all results for it.
+ * <p>
+ * Only node property shaped results are cached: centrality scores and component ids. These are immutable
+ * once computed and their size is known. The cache is bounded by a fixed number of bytes and by a fraction
+ * of the currently available heap, least recently used results are evicted first.
+ */
+public final class AlgorithmResultCache implements GraphStoreCatalogListener {
+
+    /**
+     * The cache never holds more than this fraction of the heap that was free after the last garbage collection.
+     */
+    static final double AVAILABLE_MEMORY_FRACTION = 0.1;
+
+    /**
+     * Configuration keys that do not influence the result of a computation.
+     */
+    private static final Set<String> IGNORED_CONFIGURATION_KEYS = Set.of(
+        "jobId",
+        "username",
+        BaseConfig.LOG_PROGRESS_KEY,
+        BaseConfig.SUDO_KEY
+    );
+
+    private final MemoryGauge memoryGauge;
+    private final long maximumSizeInBytes;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes = 0;
+
+    public AlgorithmResultCache(MemoryGauge memoryGauge, long maximumSizeInBytes) {
+        this.memoryGauge = memoryGauge;
+        this.maximumSizeInBytes = maximumSizeInBytes;
+    }
+
+    static Key key(
+        GraphStore graphStore,
+        GraphName graphName,
+        LabelForProgressTracking label,
+        AlgoBaseConfig configuration
+    ) {
+        var normalizedConfiguration = new HashMap<>(configuration.toMap());
+        normalizedConfiguration.keySet().removeAll(IGNORED_CONFIGURATION_KEYS);
+
+        return new Key(
+            graphStore.databaseInfo().databaseId().databaseName(),
+            graphName.getValue(),
+            graphStore.modificationTime(),
+            label,
+            normalizedConfiguration
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized <RESULT> Optional<RESULT> get(Key key, GraphStore graphStore) {
+        var entry = entries.get(key);
+        // graphs of different users may share a name, only serve results computed on this very graph store
+        if (entry == null || entry.graphStore() != graphStore) {
+            return Optional.empty();
+        }
+        return Optional.of((RESULT) entry.result());
+    }
+
+    synchronized void put(Key key, GraphStore graphStore, Object result) {
+        var resultSize = sizeOf(result);
+        if (resultSize.isEmpty() || resultSize.getAsLong() > capacity()) {
+            return;
+        }
+
+        // results of earlier versions of the graph can never be served again
+        entries.entrySet().removeIf(entry -> {
+            var cachedKey = entry.getKey();
+            if (cachedKey.isSameGraph(key.databaseName(), key.graphName())
+                && !cachedKey.modificationTime().equals(key.modificationTime())) {
+                sizeInBytes -= entry.getValue().sizeInBytes();
+                return true;
+            }
+            return false;
+        });
+
+        var previous = entries.put(key, new Entry(graphStore, result, resultSize.getAsLong()));
+        if (previous != null) {
+            sizeInBytes -= previous.sizeInBytes();
+        }
+        sizeInBytes += resultSize.getAsLong();
+
+        evict();
+    }
+
+    @Override
+    public void onProject(String user, String database, String graphName) {
+        invalidate(database, graphName);
+    }
+
+    @Override
+    public void onDrop(String user, String database, String graphName) {
+        invalidate(database, graphName);
+    }
+
+    synchronized void invalidate(String databaseName, String graphName) {
+        entries.entrySet().removeIf(entry -> {
+            if (entry.getKey().isSameGraph(databaseName, graphName)) {
+                sizeInBytes -= entry.getValue().sizeInBytes();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    private void evict() {
+        var capacity = capacity();
+        var iterator = entries.values().iterator();
+        while (sizeInBytes > capacity && iterator.hasNext()) {
+            sizeInBytes -= iterator.next().sizeInBytes();
+            iterator.remove();
+        }
+    }
+
+    private long capacity() {
+        var availableMemory = (long) (memoryGauge.availableMemory() * AVAILABLE_MEMORY_FRACTION);
+        return Math.min(maximumSizeInBytes, availableMemory);
+    }
+
+    private static OptionalLong sizeOf(Object result) {
+        if (result instanceof CentralityAlgorithmResult centralityResult) {
+            return OptionalLong.of(centralityResult.nodePropertyValues().nodeCount() * Double.BYTES);
+        }
+        if (result instanceof DisjointSetStruct disjointSetStruct) {
+            return OptionalLong.of(disjointSetStruct.size() * Long.BYTES);
+        }
+        return OptionalLong.empty();
+    }
+
+    record Key(
+        String databaseName,
+        String graphName,
+        ZonedDateTime modificationTime,
+        LabelForProgressTracking label,
+        Map<String, Object> configuration
+    ) {
+        boolean isSameGraph(String databaseName, String graphName) {
+            return this.databaseName.equals(databaseName) && this.graphName.equals(graphName);
+        }
+    }
+
+    private record Entry(GraphStore graphStore, Object result, long sizeInBytes) {}
+}
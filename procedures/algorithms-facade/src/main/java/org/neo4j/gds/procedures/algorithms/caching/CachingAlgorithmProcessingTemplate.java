@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.caching;
+
+import org.neo4j.gds.api.GraphName;
+import org.neo4j.gds.applications.algorithms.machinery.AlgorithmComputation;
+import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTemplate;
+import org.neo4j.gds.applications.algorithms.machinery.MutateOrWriteStep;
+import org.neo4j.gds.applications.algorithms.machinery.ResultBuilder;
+import org.neo4j.gds.applications.algorithms.machinery.StatsResultBuilder;
+import org.neo4j.gds.applications.algorithms.machinery.StreamResultBuilder;
+import org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.loading.PostLoadValidationHook;
+import org.neo4j.gds.mem.MemoryEstimation;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Serves repeated algorithm computations from an {@link AlgorithmResultCache}.
+ * Graph loading, validation, side effects and result rendering still happen on every request,
+ * only the computation itself is skipped when a result for the same graph version and configuration exists.
+ */
+public class CachingAlgorithmProcessingTemplate implements AlgorithmProcessingTemplate {
+    private final AlgorithmProcessingTemplate delegate;
+    private final AlgorithmResultCache cache;
+
+    public CachingAlgorithmProcessingTemplate(AlgorithmProcessingTemplate delegate, AlgorithmResultCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public <CONFIGURATION extends AlgoBaseConfig, RESULT_TO_CALLER, RESULT_FROM_ALGORITHM, MUTATE_OR_WRITE_METADATA> RESULT_TO_CALLER processAlgorithm(
+        Optional<String> relationshipWeightOverride,
+        GraphName graphName,
+        CONFIGURATION configuration,
+        Optional<Iterable<PostLoadValidationHook>> postGraphStoreLoadValidationHooks,
+        LabelForProgressTracking label,
+        Supplier<MemoryEstimation> estimationFactory,
+        AlgorithmComputation<RESULT_FROM_ALGORITHM> algorithmComputation,
+        MutateOrWriteStep<RESULT_FROM_ALGORITHM, MUTATE_OR_WRITE_METADATA> mutateOrWriteStep,
+        ResultBuilder<CONFIGURATION, RESULT_FROM_ALGORITHM, RESULT_TO_CALLER, MUTATE_OR_WRITE_METADATA> resultBuilder
+    ) {
+        return delegate.processAlgorithm(
+            relationshipWeightOverride,
+            graphName,
+            configuration,
+            postGraphStoreLoadValidationHooks,
+            label,
+            estimationFactory,
+            cachingComputation(graphName, configuration, label, algorithmComputation),
+            mutateOrWriteStep,
+            resultBuilder
+        );
+    }
+
+    @Override
+    public <CONFIGURATION extends AlgoBaseConfig, RESULT_TO_CALLER, RESULT_FROM_ALGORITHM> Stream<RESULT_TO_CALLER> processAlgorithmForStream(
+        Optional<String> relationshipWeightOverride,
+        GraphName graphName,
+        CONFIGURATION configuration,
+        Optional<Iterable<PostLoadValidationHook>> postGraphStoreLoadValidationHooks,
+        LabelForProgressTracking label,
+        Supplier<MemoryEstimation> estimationFactory,
+        AlgorithmComputation<RESULT_FROM_ALGORITHM> algorithmComputation,
+        StreamResultBuilder<CONFIGURATION, RESULT_FROM_ALGORITHM, RESULT_TO_CALLER> resultBuilder
+    ) {
+        return delegate.processAlgorithmForStream(
+            relationshipWeightOverride,
+            graphName,
+            configuration,
+            postGraphStoreLoadValidationHooks,
+            label,
+            estimationFactory,
+            cachingComputation(graphName, configuration, label, algorithmComputation),
+            resultBuilder
+        );
+    }
+
+    @Override
+    public <CONFIGURATION extends AlgoBaseConfig, RESULT_TO_CALLER, RESULT_FROM_ALGORITHM> RESULT_TO_CALLER processAlgorithmForStats(
+        Optional<String> relationshipWeightOverride,
+        GraphName graphName,
+        CONFIGURATION configuration,
+        Optional<Iterable<PostLoadValidationHook>> postGraphStoreLoadValidationHooks,
+        LabelForProgressTracking label,
+        Supplier<MemoryEstimation> estimationFactory,
+        AlgorithmComputation<RESULT_FROM_ALGORITHM> algorithmComputation,
+        StatsResultBuilder<CONFIGURATION, RESULT_FROM_ALGORITHM, RESULT_TO_CALLER> resultBuilder
+    ) {
+        return delegate.processAlgorithmForStats(
+            relationshipWeightOverride,
+            graphName,
+            configuration,
+            postGraphStoreLoadValidationHooks,
+            label,
+            estimationFactory,
+            cachingComputation(graphName, configuration, label, algorithmComputation),
+            resultBuilder
+        );
+    }
+
+    private <RESULT_FROM_ALGORITHM> AlgorithmComputation<RESULT_FROM_ALGORITHM> cachingComputation(
+        GraphName graphName,
+        AlgoBaseConfig configuration,
+        LabelForProgressTracking label,
+        AlgorithmComputation<RESULT_FROM_ALGORITHM> algorithmComputation
+    ) {
+        return (graph, graphStore) -> {
+            var key = AlgorithmResultCache.key(graphStore, graphName, label, configuration);
+
+            Optional<RESULT_FROM_ALGORITHM> cachedResult = cache.get(key, graphStore);
+            if (cachedResult.isPresent()) return cachedResult.get();
+
+            var result = algorithmComputation.compute(graph, graphStore);
+            if (result != null) cache.put(key, graphStore, result);
+            return result;
+        };
+    }
+}
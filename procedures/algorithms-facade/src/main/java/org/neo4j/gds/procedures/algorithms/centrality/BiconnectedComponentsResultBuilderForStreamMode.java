@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.centrality;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.applications.algorithms.machinery.StreamResultBuilder;
+import org.neo4j.gds.biconnectivity.BiconnectedComponentsStreamConfig;
+import org.neo4j.gds.biconnectivity.BiconnectivityResult;
+
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+class BiconnectedComponentsResultBuilderForStreamMode implements StreamResultBuilder<BiconnectedComponentsStreamConfig, BiconnectivityResult, BiconnectedComponent> {
+
+    @Override
+    public Stream<BiconnectedComponent> build(
+        Graph graph,
+        GraphStore graphStore,
+        BiconnectedComponentsStreamConfig configuration,
+        Optional<BiconnectivityResult> result
+    ) {
+        if (result.isEmpty()) return Stream.empty();
+
+        var biconnectivity = result.get();
+
+        // undirected relationships are stored in both directions, so each is streamed from its smaller node,
+        // which also leaves out self-loops as they do not belong to any component
+        return LongStream.range(0, graph.nodeCount()).boxed().flatMap(node -> {
+            var components = Stream.<BiconnectedComponent>builder();
+            graph.forEachRelationship(node, (source, target) -> {
+                if (source < target) {
+                    components.add(new BiconnectedComponent(
+                        graph.toOriginalNodeId(source),
+                        graph.toOriginalNodeId(target),
+                        biconnectivity.componentId(source, target)
+                    ));
+                }
+                return true;
+            });
+            return components.build();
+        });
+    }
+}
@@ -33,6 +33,7 @@ import org.neo4j.gds.articulationpoints.ArticulationPointsWriteConfig;
 import org.neo4j.gds.betweenness.BetweennessCentralityStatsConfig;
 import org.neo4j.gds.betweenness.BetweennessCentralityStreamConfig;
 import org.neo4j.gds.betweenness.BetweennessCentralityWriteConfig;
+import org.neo4j.gds.biconnectivity.BiconnectedComponentsStreamConfig;
 import org.neo4j.gds.bridges.Bridge;
 import org.neo4j.gds.bridges.BridgesStreamConfig;
 import org.neo4j.gds.closeness.ClosenessCentralityStatsConfig;
@@ -539,6 +540,37 @@ public final class CentralityProcedureFacade {
     }
 
 
+    public Stream<BiconnectedComponent> biconnectedComponentsStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        var resultBuilder = new BiconnectedComponentsResultBuilderForStreamMode();
+
+        return algorithmExecutionScaffolding.runStreamAlgorithm(
+            graphName,
+            configuration,
+            BiconnectedComponentsStreamConfig::of,
+            streamMode()::biconnectedComponents,
+            resultBuilder
+        );
+    }
+
+    public Stream<MemoryEstimateResult> biconnectedComponentsStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    ) {
+        var result = estimationMode.runEstimation(
+            algorithmConfiguration,
+            BiconnectedComponentsStreamConfig::of,
+            configuration -> estimationMode().biconnectedComponents(
+                configuration,
+                graphNameOrConfiguration
+            )
+        );
+
+        return Stream.of(result);
+    }
+
     public Stream<Bridge> bridgesStream(
         String graphName,
         Map<String, Object> configuration
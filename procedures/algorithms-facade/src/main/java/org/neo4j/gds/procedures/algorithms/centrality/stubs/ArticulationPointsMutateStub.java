@@ -54,7 +54,7 @@ public class ArticulationPointsMutateStub implements MutateStub<ArticulationPoin
             username,
             configuration,
             ArticulationPointsMutateConfig::of,
-            (config) -> estimationMode().articulationPoints()
+            estimationMode()::articulationPoints
         );
     }
 
@@ -64,7 +64,7 @@ public class ArticulationPointsMutateStub implements MutateStub<ArticulationPoin
             graphName,
             configuration,
             ArticulationPointsMutateConfig::of,
-            (config) -> estimationMode().articulationPoints()
+            estimationMode()::articulationPoints
         );
     }
 
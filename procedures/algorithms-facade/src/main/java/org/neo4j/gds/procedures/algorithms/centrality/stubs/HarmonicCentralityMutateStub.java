@@ -58,7 +58,7 @@ public class HarmonicCentralityMutateStub implements MutateStub<HarmonicCentrali
             username,
             configuration,
             HarmonicCentralityMutateConfig::of,
-            __ -> estimationMode().harmonicCentrality()
+            estimationMode()::harmonicCentrality
         );
     }
 
@@ -68,7 +68,7 @@ public class HarmonicCentralityMutateStub implements MutateStub<HarmonicCentrali
             graphName,
             configuration,
             HarmonicCentralityMutateConfig::of,
-            __ -> estimationMode().harmonicCentrality()
+            estimationMode()::harmonicCentrality
         );
     }
 
@@ -24,6 +24,7 @@ import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTiming
 import org.neo4j.gds.applications.algorithms.machinery.StatsResultBuilder;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientResult;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientStatsConfig;
+import org.neo4j.gds.triangle.SampledTriangleCountResult;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -43,9 +44,13 @@ class LccResultBuilderForStatsMode implements StatsResultBuilder<LocalClustering
 
         var localClusteringCoefficientResult = result.get();
 
+        var sampled = localClusteringCoefficientResult.sampled();
+
         var localClusteringCoefficientStatsResult = new LocalClusteringCoefficientStatsResult(
             localClusteringCoefficientResult.averageClusteringCoefficient(),
-            localClusteringCoefficientResult.localClusteringCoefficients().size(),
+            sampled.map(SampledTriangleCountResult::averageClusteringCoefficientMarginOfError).orElse(null),
+            sampled.map(SampledTriangleCountResult::confidence).orElse(null),
+            graph.nodeCount(),
             timings.preProcessingMillis,
             timings.computeMillis,
             configuration.toMap()
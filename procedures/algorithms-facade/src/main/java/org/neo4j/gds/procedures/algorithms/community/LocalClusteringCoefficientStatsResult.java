@@ -25,8 +25,14 @@ import org.neo4j.gds.procedures.algorithms.results.StandardStatsResult;
 
 import java.util.Map;
 
+/**
+ * The margin of error and the confidence are only reported if the coefficient was sampled,
+ * they are {@code null} otherwise.
+ */
 public class LocalClusteringCoefficientStatsResult extends StandardStatsResult {
     public final double averageClusteringCoefficient;
+    public final Double averageClusteringCoefficientMarginOfError;
+    public final Double confidence;
     public final long nodeCount;
 
     public LocalClusteringCoefficientStatsResult(
@@ -35,10 +41,24 @@ public class LocalClusteringCoefficientStatsResult extends StandardStatsResult {
         long preProcessingMillis,
         long computeMillis,
         Map<String, Object> configuration
+    ) {
+        this(averageClusteringCoefficient, null, null, nodeCount, preProcessingMillis, computeMillis, configuration);
+    }
+
+    public LocalClusteringCoefficientStatsResult(
+        double averageClusteringCoefficient,
+        Double averageClusteringCoefficientMarginOfError,
+        Double confidence,
+        long nodeCount,
+        long preProcessingMillis,
+        long computeMillis,
+        Map<String, Object> configuration
     ) {
         // post-processing is instant for TC
         super(preProcessingMillis, computeMillis, 0L, configuration);
         this.averageClusteringCoefficient = averageClusteringCoefficient;
+        this.averageClusteringCoefficientMarginOfError = averageClusteringCoefficientMarginOfError;
+        this.confidence = confidence;
         this.nodeCount = nodeCount;
     }
 
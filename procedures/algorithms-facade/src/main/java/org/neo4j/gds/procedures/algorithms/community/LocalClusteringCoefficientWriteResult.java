@@ -20,11 +20,14 @@
 package org.neo4j.gds.procedures.algorithms.community;
 
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
+import org.neo4j.gds.procedures.algorithms.results.StandardStatsResult;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
 import java.util.Map;
 
-public final class LocalClusteringCoefficientWriteResult extends LocalClusteringCoefficientStatsResult {
+public final class LocalClusteringCoefficientWriteResult extends StandardStatsResult {
+    public final double averageClusteringCoefficient;
+    public final long nodeCount;
     public long writeMillis;
     public long nodePropertiesWritten;
 
@@ -37,13 +40,10 @@ public final class LocalClusteringCoefficientWriteResult extends LocalClustering
         long nodePropertiesWritten,
         Map<String, Object> configuration
     ) {
-        super(
-            averageClusteringCoefficient,
-            nodeCount,
-            preProcessingMillis,
-            computeMillis,
-            configuration
-        );
+        // post-processing is instant for TC
+        super(preProcessingMillis, computeMillis, 0L, configuration);
+        this.averageClusteringCoefficient = averageClusteringCoefficient;
+        this.nodeCount = nodeCount;
         this.writeMillis = writeMillis;
         this.nodePropertiesWritten = nodePropertiesWritten;
     }
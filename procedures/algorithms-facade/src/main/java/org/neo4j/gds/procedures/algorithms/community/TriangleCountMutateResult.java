@@ -20,11 +20,14 @@
 package org.neo4j.gds.procedures.algorithms.community;
 
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
+import org.neo4j.gds.procedures.algorithms.results.StandardStatsResult;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
 import java.util.Map;
 
-public class TriangleCountMutateResult extends TriangleCountStatsResult {
+public class TriangleCountMutateResult extends StandardStatsResult {
+    public final long globalTriangleCount;
+    public final long nodeCount;
     public long mutateMillis;
     public long nodePropertiesWritten;
 
@@ -37,13 +40,10 @@ public class TriangleCountMutateResult extends TriangleCountStatsResult {
         long nodePropertiesWritten,
         Map<String, Object> configuration
     ) {
-        super(
-            globalTriangleCount,
-            nodeCount,
-            preProcessingMillis,
-            computeMillis,
-            configuration
-        );
+        // post-processing is instant for TC
+        super(preProcessingMillis, computeMillis, 0L, configuration);
+        this.globalTriangleCount = globalTriangleCount;
+        this.nodeCount = nodeCount;
         this.mutateMillis = mutateMillis;
         this.nodePropertiesWritten = nodePropertiesWritten;
     }
@@ -22,6 +22,7 @@ package org.neo4j.gds.procedures.algorithms.community;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
 import org.neo4j.gds.applications.algorithms.machinery.StatsResultBuilder;
+import org.neo4j.gds.triangle.SampledTriangleCountResult;
 import org.neo4j.gds.triangle.TriangleCountResult;
 import org.neo4j.gds.triangle.TriangleCountStatsConfig;
 
@@ -40,8 +41,14 @@ class TriangleCountResultBuilderForStatsMode implements StatsResultBuilder<Trian
 
         var triangleCountResult = result.get();
 
+        var sampled = triangleCountResult.sampled();
+
         var triangleCountStatsResult = new TriangleCountStatsResult(
             triangleCountResult.globalTriangles(),
+            sampled.map(SampledTriangleCountResult::globalTrianglesMarginOfError).orElse(null),
+            sampled.map(SampledTriangleCountResult::globalClusteringCoefficient).orElse(null),
+            sampled.map(SampledTriangleCountResult::globalClusteringCoefficientMarginOfError).orElse(null),
+            sampled.map(SampledTriangleCountResult::confidence).orElse(null),
             graph.nodeCount(),
             timings.preProcessingMillis,
             timings.computeMillis,
@@ -25,8 +25,16 @@ import org.neo4j.gds.result.AbstractResultBuilder;
 
 import java.util.Map;
 
+/**
+ * The margins of error, the global clustering coefficient and the confidence are only reported
+ * if the triangles were sampled, they are {@code null} otherwise.
+ */
 public class TriangleCountStatsResult extends StandardStatsResult {
     public final long globalTriangleCount;
+    public final Double globalTriangleCountMarginOfError;
+    public final Double globalClusteringCoefficient;
+    public final Double globalClusteringCoefficientMarginOfError;
+    public final Double confidence;
     public final long nodeCount;
 
     public TriangleCountStatsResult(
@@ -35,10 +43,28 @@ public class TriangleCountStatsResult extends StandardStatsResult {
         long preProcessingMillis,
         long computeMillis,
         Map<String, Object> configuration
+    ) {
+        this(globalTriangleCount, null, null, null, null, nodeCount, preProcessingMillis, computeMillis, configuration);
+    }
+
+    public TriangleCountStatsResult(
+        long globalTriangleCount,
+        Double globalTriangleCountMarginOfError,
+        Double globalClusteringCoefficient,
+        Double globalClusteringCoefficientMarginOfError,
+        Double confidence,
+        long nodeCount,
+        long preProcessingMillis,
+        long computeMillis,
+        Map<String, Object> configuration
     ) {
         // post-processing is instant for TC
         super(preProcessingMillis, computeMillis, 0L, configuration);
         this.globalTriangleCount = globalTriangleCount;
+        this.globalTriangleCountMarginOfError = globalTriangleCountMarginOfError;
+        this.globalClusteringCoefficient = globalClusteringCoefficient;
+        this.globalClusteringCoefficientMarginOfError = globalClusteringCoefficientMarginOfError;
+        this.confidence = confidence;
         this.nodeCount = nodeCount;
     }
 
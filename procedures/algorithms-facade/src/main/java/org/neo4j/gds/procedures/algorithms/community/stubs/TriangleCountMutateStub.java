@@ -54,7 +54,7 @@ public class TriangleCountMutateStub implements MutateStub<TriangleCountMutateCo
             username,
             configuration,
             TriangleCountMutateConfig::of,
-            __ -> estimationMode().triangleCount()
+            estimationMode()::triangleCount
         );
     }
 
@@ -64,7 +64,7 @@ public class TriangleCountMutateStub implements MutateStub<TriangleCountMutateCo
             graphName,
             configuration,
             TriangleCountMutateConfig::of,
-            __ -> estimationMode().triangleCount()
+            estimationMode()::triangleCount
         );
     }
 
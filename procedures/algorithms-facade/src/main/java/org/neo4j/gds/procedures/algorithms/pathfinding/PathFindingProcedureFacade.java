@@ -42,6 +42,7 @@ import org.neo4j.gds.paths.astar.config.ShortestPathAStarWriteConfig;
 import org.neo4j.gds.paths.bellmanford.AllShortestPathsBellmanFordStatsConfig;
 import org.neo4j.gds.paths.bellmanford.AllShortestPathsBellmanFordStreamConfig;
 import org.neo4j.gds.paths.bellmanford.AllShortestPathsBellmanFordWriteConfig;
+import org.neo4j.gds.paths.contraction.ShortestPathMatrixStreamConfig;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaStatsConfig;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaStreamConfig;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaWriteConfig;
@@ -61,6 +62,7 @@ import org.neo4j.gds.procedures.algorithms.pathfinding.stubs.BellmanFordMutateSt
 import org.neo4j.gds.procedures.algorithms.pathfinding.stubs.BreadthFirstSearchMutateStub;
 import org.neo4j.gds.procedures.algorithms.pathfinding.stubs.DeltaSteppingMutateStub;
 import org.neo4j.gds.procedures.algorithms.pathfinding.stubs.DepthFirstSearchMutateStub;
+import org.neo4j.gds.procedures.algorithms.pathfinding.stubs.LandmarksMutateStub;
 import org.neo4j.gds.procedures.algorithms.pathfinding.stubs.SinglePairShortestPathAStarMutateStub;
 import org.neo4j.gds.procedures.algorithms.pathfinding.stubs.SinglePairShortestPathDijkstraMutateStub;
 import org.neo4j.gds.procedures.algorithms.pathfinding.stubs.SinglePairShortestPathYensMutateStub;
@@ -107,6 +109,7 @@ public final class PathFindingProcedureFacade {
     private final BreadthFirstSearchMutateStub breadthFirstSearchMutateStub;
     private final DeltaSteppingMutateStub deltaSteppingMutateStub;
     private final DepthFirstSearchMutateStub depthFirstSearchMutateStub;
+    private final LandmarksMutateStub landmarksMutateStub;
     private final SinglePairShortestPathAStarMutateStub singlePairShortestPathAStarMutateStub;
     private final SinglePairShortestPathDijkstraMutateStub singlePairShortestPathDijkstraMutateStub;
     private final SinglePairShortestPathYensMutateStub singlePairShortestPathYensMutateStub;
@@ -127,6 +130,7 @@ public final class PathFindingProcedureFacade {
         BreadthFirstSearchMutateStub breadthFirstSearchMutateStub,
         DeltaSteppingMutateStub deltaSteppingMutateStub,
         DepthFirstSearchMutateStub depthFirstSearchMutateStub,
+        LandmarksMutateStub landmarksMutateStub,
         SinglePairShortestPathAStarMutateStub singlePairShortestPathAStarMutateStub,
         SinglePairShortestPathDijkstraMutateStub singlePairShortestPathDijkstraMutateStub,
         SinglePairShortestPathYensMutateStub singlePairShortestPathYensMutateStub,
@@ -146,6 +150,7 @@ public final class PathFindingProcedureFacade {
         this.breadthFirstSearchMutateStub = breadthFirstSearchMutateStub;
         this.deltaSteppingMutateStub = deltaSteppingMutateStub;
         this.depthFirstSearchMutateStub = depthFirstSearchMutateStub;
+        this.landmarksMutateStub = landmarksMutateStub;
         this.singlePairShortestPathAStarMutateStub = singlePairShortestPathAStarMutateStub;
         this.singlePairShortestPathDijkstraMutateStub = singlePairShortestPathDijkstraMutateStub;
         this.singlePairShortestPathYensMutateStub = singlePairShortestPathYensMutateStub;
@@ -193,6 +198,11 @@ public final class PathFindingProcedureFacade {
             applicationsFacade
         );
 
+        var landmarksMutateStub = new LandmarksMutateStub(
+            genericStub,
+            applicationsFacade
+        );
+
         var singlePairDijkstraStub = new SinglePairShortestPathDijkstraMutateStub(
             genericStub,
             applicationsFacade
@@ -227,6 +237,7 @@ public final class PathFindingProcedureFacade {
             breadthFirstSearchMutateStub,
             deltaSteppingMutateStub,
             depthFirstSearchMutateStub,
+            landmarksMutateStub,
             aStarStub,
             singlePairDijkstraStub,
             yensStub,
@@ -545,6 +556,10 @@ public final class PathFindingProcedureFacade {
         );
     }
 
+    public LandmarksMutateStub landmarksMutateStub() {
+        return landmarksMutateStub;
+    }
+
     public Stream<PathFindingStreamResult> longestPathStream(String graphName, Map<String, Object> configuration) {
         return runPathOrientedAlgorithmInStreamMode(
             graphName,
@@ -614,6 +629,21 @@ public final class PathFindingProcedureFacade {
         return Stream.of(result);
     }
 
+    public Stream<ShortestPathMatrixStreamResult> shortestPathMatrixStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        var resultBuilder = new ShortestPathMatrixResultBuilderForStreamMode();
+
+        return algorithmExecutionScaffolding.runStreamAlgorithm(
+            graphName,
+            configuration,
+            ShortestPathMatrixStreamConfig::of,
+            streamMode()::shortestPathMatrix,
+            resultBuilder
+        );
+    }
+
     public SinglePairShortestPathAStarMutateStub singlePairShortestPathAStarMutateStub() {
         return singlePairShortestPathAStarMutateStub;
     }
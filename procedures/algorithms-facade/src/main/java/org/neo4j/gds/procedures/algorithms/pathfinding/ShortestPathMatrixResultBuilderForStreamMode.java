@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.pathfinding;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.applications.algorithms.machinery.StreamResultBuilder;
+import org.neo4j.gds.paths.contraction.DistanceMatrix;
+import org.neo4j.gds.paths.contraction.ShortestPathMatrixStreamConfig;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ShortestPathMatrixResultBuilderForStreamMode implements StreamResultBuilder<ShortestPathMatrixStreamConfig, DistanceMatrix, ShortestPathMatrixStreamResult> {
+    @Override
+    public Stream<ShortestPathMatrixStreamResult> build(
+        Graph graph,
+        GraphStore graphStore,
+        ShortestPathMatrixStreamConfig configuration,
+        Optional<DistanceMatrix> result
+    ) {
+        if (result.isEmpty()) return Stream.empty();
+
+        var distanceMatrix = result.get();
+
+        // node ids in the configuration are original ids already, unreachable targets are left out
+        var sourceNodes = configuration.sourceNodes();
+        var targetNodes = configuration.targetNodes();
+        return IntStream.range(0, distanceMatrix.sourceCount())
+            .boxed()
+            .flatMap(sourceIndex -> IntStream.range(0, distanceMatrix.targetCount())
+                .filter(targetIndex -> distanceMatrix.distance(sourceIndex, targetIndex) < Double.POSITIVE_INFINITY)
+                .mapToObj(targetIndex -> new ShortestPathMatrixStreamResult(
+                    sourceNodes.get(sourceIndex),
+                    targetNodes.get(targetIndex),
+                    distanceMatrix.distance(sourceIndex, targetIndex)
+                )));
+    }
+}
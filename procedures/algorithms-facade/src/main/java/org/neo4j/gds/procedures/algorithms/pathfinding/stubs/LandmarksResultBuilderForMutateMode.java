@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.pathfinding.stubs;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
+import org.neo4j.gds.applications.algorithms.machinery.ResultBuilder;
+import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
+import org.neo4j.gds.paths.astar.LandmarkDistances;
+import org.neo4j.gds.paths.astar.config.LandmarksMutateConfig;
+import org.neo4j.gds.procedures.algorithms.pathfinding.LandmarksMutateResult;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class LandmarksResultBuilderForMutateMode implements ResultBuilder<LandmarksMutateConfig, LandmarkDistances, LandmarksMutateResult, NodePropertiesWritten> {
+
+    @Override
+    public LandmarksMutateResult build(
+        Graph graph,
+        GraphStore graphStore,
+        LandmarksMutateConfig configuration,
+        Optional<LandmarkDistances> result,
+        AlgorithmProcessingTimings timings,
+        Optional<NodePropertiesWritten> metadata
+    ) {
+        if (result.isEmpty()) return LandmarksMutateResult.EMPTY;
+
+        var landmarks = Arrays
+            .stream(result.get().landmarks())
+            .map(graph::toOriginalNodeId)
+            .boxed()
+            .collect(Collectors.toList());
+
+        return new LandmarksMutateResult(
+            landmarks,
+            metadata.map(NodePropertiesWritten::value).orElseThrow(),
+            timings.mutateOrWriteMillis,
+            timings.computeMillis,
+            configuration.toMap()
+        );
+    }
+}
@@ -54,7 +54,7 @@ public class SpanningTreeMutateStub implements MutateStub<SpanningTreeMutateConf
             username,
             configuration,
             SpanningTreeMutateConfig::of,
-            __ -> estimationMode().spanningTree()
+            estimationMode()::spanningTree
         );
     }
 
@@ -64,7 +64,7 @@ public class SpanningTreeMutateStub implements MutateStub<SpanningTreeMutateConf
             graphName,
             configuration,
             SpanningTreeMutateConfig::of,
-            __ -> estimationMode().spanningTree()
+            estimationMode()::spanningTree
         );
     }
 
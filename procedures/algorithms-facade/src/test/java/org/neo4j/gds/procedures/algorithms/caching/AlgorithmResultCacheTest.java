@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.caching;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.GraphName;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.applications.algorithms.metadata.LabelForProgressTracking;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.mem.MemoryGauge;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AlgorithmResultCacheTest {
+
+    private static final GraphName GRAPH_NAME = GraphName.parse("g");
+    private static final ZonedDateTime CREATION_TIME = ZonedDateTime.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void shouldServeResultsForTheSameGraphAndConfiguration() {
+        var cache = new AlgorithmResultCache(gauge(Long.MAX_VALUE), 1_000);
+        var graphStore = graphStore(CREATION_TIME);
+        var result = result(10);
+
+        var key = AlgorithmResultCache.key(
+            graphStore,
+            GRAPH_NAME,
+            LabelForProgressTracking.WCC,
+            configuration(Map.of("concurrency", 4, "jobId", "a"))
+        );
+        cache.put(key, graphStore, result);
+
+        var sameComputation = AlgorithmResultCache.key(
+            graphStore,
+            GRAPH_NAME,
+            LabelForProgressTracking.WCC,
+            configuration(Map.of("concurrency", 4, "jobId", "b"))
+        );
+        var otherConfiguration = AlgorithmResultCache.key(
+            graphStore,
+            GRAPH_NAME,
+            LabelForProgressTracking.WCC,
+            configuration(Map.of("concurrency", 2, "jobId", "a"))
+        );
+
+        assertThat(cache.get(sameComputation, graphStore)).containsSame(result);
+        assertThat(cache.get(otherConfiguration, graphStore)).isEmpty();
+        assertThat(cache.get(key, graphStore(CREATION_TIME))).isEmpty();
+        assertThat(cache.sizeInBytes()).isEqualTo(10 * Long.BYTES);
+    }
+
+    @Test
+    void shouldEvictResultsOfEarlierGraphVersions() {
+        var cache = new AlgorithmResultCache(gauge(Long.MAX_VALUE), 1_000);
+        var graphStore = graphStore(CREATION_TIME);
+        var configuration = configuration(Map.of());
+
+        var oldKey = AlgorithmResultCache.key(graphStore, GRAPH_NAME, LabelForProgressTracking.WCC, configuration);
+        cache.put(oldKey, graphStore, result(10));
+
+        // a mutation bumps the modification time
+        when(graphStore.modificationTime()).thenReturn(CREATION_TIME.plusMinutes(1));
+        var newKey = AlgorithmResultCache.key(graphStore, GRAPH_NAME, LabelForProgressTracking.WCC, configuration);
+
+        assertThat(cache.get(newKey, graphStore)).isEmpty();
+
+        cache.put(newKey, graphStore, result(5));
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.sizeInBytes()).isEqualTo(5 * Long.BYTES);
+    }
+
+    @Test
+    void shouldInvalidateDroppedGraphs() {
+        var cache = new AlgorithmResultCache(gauge(Long.MAX_VALUE), 1_000);
+        var graphStore = graphStore(CREATION_TIME);
+
+        var key = AlgorithmResultCache.key(graphStore, GRAPH_NAME, LabelForProgressTracking.WCC, configuration(Map.of()));
+        cache.put(key, graphStore, result(10));
+
+        cache.onDrop("alice", "other-database", GRAPH_NAME.getValue());
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.onDrop("alice", "neo4j", GRAPH_NAME.getValue());
+        assertThat(cache.size()).isZero();
+        assertThat(cache.sizeInBytes()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedResults() {
+        var cache = new AlgorithmResultCache(gauge(Long.MAX_VALUE), 20 * Long.BYTES);
+        var graphStore = graphStore(CREATION_TIME);
+
+        var first = AlgorithmResultCache.key(graphStore, GRAPH_NAME, LabelForProgressTracking.WCC, configuration(Map.of()));
+        var second = AlgorithmResultCache.key(graphStore, GRAPH_NAME, LabelForProgressTracking.PageRank, configuration(Map.of()));
+        var third = AlgorithmResultCache.key(graphStore, GRAPH_NAME, LabelForProgressTracking.ArticleRank, configuration(Map.of()));
+
+        cache.put(first, graphStore, result(10));
+        cache.put(second, graphStore, result(10));
+        cache.get(first, graphStore);
+        cache.put(third, graphStore, result(10));
+
+        assertThat(cache.get(first, graphStore)).isPresent();
+        assertThat(cache.get(second, graphStore)).isEmpty();
+        assertThat(cache.get(third, graphStore)).isPresent();
+    }
+
+    @Test
+    void shouldRespectAvailableMemory() {
+        var availableMemory = (long) (10 * Long.BYTES / AlgorithmResultCache.AVAILABLE_MEMORY_FRACTION);
+        var cache = new AlgorithmResultCache(gauge(availableMemory), Long.MAX_VALUE);
+        var graphStore = graphStore(CREATION_TIME);
+
+        var key = AlgorithmResultCache.key(graphStore, GRAPH_NAME, LabelForProgressTracking.WCC, configuration(Map.of()));
+        cache.put(key, graphStore, result(11));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldIgnoreResultsThatAreNotNodeProperties() {
+        var cache = new AlgorithmResultCache(gauge(Long.MAX_VALUE), 1_000);
+        var graphStore = graphStore(CREATION_TIME);
+
+        var key = AlgorithmResultCache.key(graphStore, GRAPH_NAME, LabelForProgressTracking.WCC, configuration(Map.of()));
+        cache.put(key, graphStore, "not a node property");
+
+        assertThat(cache.get(key, graphStore)).isEmpty();
+    }
+
+    private static MemoryGauge gauge(long availableMemory) {
+        return new MemoryGauge(new AtomicLong(availableMemory));
+    }
+
+    private static GraphStore graphStore(ZonedDateTime modificationTime) {
+        var graphStore = mock(GraphStore.class, RETURNS_DEEP_STUBS);
+        when(graphStore.databaseInfo().databaseId().databaseName()).thenReturn("neo4j");
+        when(graphStore.modificationTime()).thenReturn(modificationTime);
+        return graphStore;
+    }
+
+    private static AlgoBaseConfig configuration(Map<String, Object> configuration) {
+        var algoBaseConfig = mock(AlgoBaseConfig.class);
+        when(algoBaseConfig.toMap()).thenReturn(configuration);
+        return algoBaseConfig;
+    }
+
+    private static DisjointSetStruct result(long nodeCount) {
+        var disjointSetStruct = mock(DisjointSetStruct.class);
+        when(disjointSetStruct.size()).thenReturn(nodeCount);
+        return disjointSetStruct;
+    }
+}
@@ -26,6 +26,7 @@ import org.neo4j.gds.applications.graphstorecatalog.GraphCatalogApplications;
 import org.neo4j.gds.applications.modelcatalog.ModelCatalogApplications;
 import org.neo4j.gds.applications.modelcatalog.ModelRepository;
 import org.neo4j.gds.applications.operations.FeatureTogglesRepository;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.model.ModelCatalog;
 import org.neo4j.gds.core.utils.mem.GcListenerExtension;
 import org.neo4j.gds.core.utils.progress.ProgressFeatureSettings;
@@ -40,6 +41,8 @@ import org.neo4j.gds.procedures.ExporterBuildersProviderService;
 import org.neo4j.gds.procedures.GraphDataScienceProcedures;
 import org.neo4j.gds.procedures.TaskRegistryFactoryService;
 import org.neo4j.gds.procedures.UserLogServices;
+import org.neo4j.gds.procedures.algorithms.caching.AlgorithmResultCache;
+import org.neo4j.gds.procedures.algorithms.caching.CachingAlgorithmProcessingTemplate;
 import org.neo4j.gds.settings.GdsSettings;
 import org.neo4j.graphdb.config.Configuration;
 import org.neo4j.kernel.api.procedure.GlobalProcedures;
@@ -148,6 +151,15 @@ public final class OpenGraphDataScienceExtensionBuilder {
             freeMemoryAfterLastGc
         );
 
+        // Algorithm results can be served from a cache, bounded in size and by the memory gauge
+        var algorithmResultCacheMaxSize = neo4jConfiguration.get(GdsSettings.algorithmResultCacheMaxSize());
+        log.info("Algorithm result cache: " + (algorithmResultCacheMaxSize > 0 ? algorithmResultCacheMaxSize + " bytes" : "disabled"));
+        var algorithmProcessingTemplateDecoratorWithCache = decorateWithResultCache(
+            algorithmProcessingTemplateDecorator,
+            memoryGauge,
+            algorithmResultCacheMaxSize
+        );
+
         var componentRegistration = new ComponentRegistration(log, globalProcedures);
 
         var graphDataScienceProviderFactory = new GraphDataScienceProceduresProviderFactory(
@@ -160,7 +172,7 @@ public final class OpenGraphDataScienceExtensionBuilder {
             metricsFacade,
             modelCatalog,
             modelRepository,
-            algorithmProcessingTemplateDecorator,
+            algorithmProcessingTemplateDecoratorWithCache,
             graphCatalogApplicationsDecorator,
             modelCatalogApplicationsDecorator
         );
@@ -181,6 +193,27 @@ public final class OpenGraphDataScienceExtensionBuilder {
         return Triple.of(graphDataScienceExtensionBuilder, taskRegistryFactoryService, taskStoreService);
     }
 
+    /**
+     * The cache sits closest to the default template, so that edition specific decorations still apply to cache hits.
+     */
+    private static Optional<Function<AlgorithmProcessingTemplate, AlgorithmProcessingTemplate>> decorateWithResultCache(
+        Optional<Function<AlgorithmProcessingTemplate, AlgorithmProcessingTemplate>> algorithmProcessingTemplateDecorator,
+        MemoryGauge memoryGauge,
+        long algorithmResultCacheMaxSize
+    ) {
+        if (algorithmResultCacheMaxSize <= 0) return algorithmProcessingTemplateDecorator;
+
+        var algorithmResultCache = new AlgorithmResultCache(memoryGauge, algorithmResultCacheMaxSize);
+        GraphStoreCatalog.registerListener(algorithmResultCache);
+
+        Function<AlgorithmProcessingTemplate, AlgorithmProcessingTemplate> cachingDecorator =
+            template -> new CachingAlgorithmProcessingTemplate(template, algorithmResultCache);
+
+        return Optional.of(algorithmProcessingTemplateDecorator
+            .map(cachingDecorator::andThen)
+            .orElse(cachingDecorator));
+    }
+
     /**
      * At this point we have all the bits ready, so we assemble and register them with Neo4j.
      * There are some legacy bits that are still part of the contract, they will disappear gradually,